@@ -0,0 +1,19 @@
+#!/bin/bash
+# Usage:
+#   benchmarks/scripts/run.sh [JMH options...]
+#   e.g. run the benchmarks of allResultsOf only:
+#   benchmarks/scripts/run.sh AllResultsOfBenchmark
+#
+# NOTE: install the cffu artifacts to the local maven repo first(`./mvnw install -DskipTests` at the project root)
+set -eEuo pipefail
+# adjust current dir to script dir
+cd "$(dirname "$(readlink -f "$0")")"/..
+
+readonly BABY_ROOT="$PWD/../scripts/bash-buddy"
+source "$BABY_ROOT"/lib/trap_error_info.sh
+source "$BABY_ROOT"/lib/common_utils.sh
+source "$BABY_ROOT"/lib/maven_utils.sh
+
+mvu::mvn_cmd clean package
+
+cu::log_then_run java -jar target/benchmarks.jar "$@"
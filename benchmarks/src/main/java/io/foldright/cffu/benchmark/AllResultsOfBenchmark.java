@@ -0,0 +1,78 @@
+package io.foldright.cffu.benchmark;
+
+import io.foldright.cffu.CompletableFutureUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Compares {@link CompletableFutureUtils#allResultsOf} with the implementation based on
+ * {@link CompletableFuture#allOf}(the tree of relay cfs and a final {@code thenApply} hop).
+ * <p>
+ * The input cfs are incomplete when {@code allResultsOf} is called, then are completed one by one;
+ * so the cost of dependent registration, completion propagation and result collection are all measured.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class AllResultsOfBenchmark {
+    @Param({"2", "16", "256", "4096"})
+    public int size;
+
+    private CompletableFuture<Integer>[] cfs;
+
+    @Setup(Level.Invocation)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        cfs = new CompletableFuture[size];
+        for (int i = 0; i < size; i++) {
+            cfs[i] = new CompletableFuture<>();
+        }
+    }
+
+    @Benchmark
+    public void allResultsOf(Blackhole bh) {
+        final CompletableFuture<List<Integer>> result = CompletableFutureUtils.allResultsOf(cfs);
+        completeInputs();
+        bh.consume(result.join());
+    }
+
+    @Benchmark
+    public void allOfThenApply(Blackhole bh) {
+        final CompletableFuture<List<Integer>> result = allOfThenApply(cfs);
+        completeInputs();
+        bh.consume(result.join());
+    }
+
+    private void completeInputs() {
+        for (int i = 0; i < size; i++) {
+            cfs[i].complete(i);
+        }
+    }
+
+    /**
+     * the implementation of {@code allResultsOf} before the dedicated completer.
+     */
+    @SafeVarargs
+    @SuppressWarnings("unchecked")
+    static <T> CompletableFuture<List<T>> allOfThenApply(CompletableFuture<? extends T>... cfs) {
+        final int len = cfs.length;
+        final Object[] result = new Object[len];
+        final CompletableFuture<?>[] resultSetterCfs = new CompletableFuture[len];
+        for (int i = 0; i < len; i++) {
+            final int index = i;
+            resultSetterCfs[i] = cfs[i].thenAccept(v -> result[index] = v);
+        }
+        return CompletableFuture.allOf(resultSetterCfs)
+                .thenApply(unused -> (List<T>) new ArrayList<>(Arrays.asList(result)));
+    }
+}
@@ -0,0 +1,65 @@
+package io.foldright.cffu.benchmark;
+
+import io.foldright.cffu.CompletableFutureUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the cost of the per-input gate relay which the combinators decided early(fast-fail/any-success)
+ * listen the incomplete inputs through, so that their dependents on the losing inputs are released:
+ * each input is listened via {@code anyOf(input, gate)} with its own gate cf, and all gates are completed
+ * once the result cf is decided.
+ * <p>
+ * {@link CompletableFutureUtils#allResultsFastFailOf} and {@link CompletableFutureUtils#allResultsOf} both go through
+ * the same counting completer; since the input cfs are incomplete when the combinator is called(then are completed
+ * one by one), neither takes the fast path of the pre-completed inputs. So the two methods compare the gate relay
+ * (a gate cf and an {@code anyOf} relay per input, plus completing the gates when decided) against
+ * a plain {@code whenComplete} dependent per input; the fast-fail completer additionally checks
+ * whether the result cf is decided on each input completion.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class ListenUntilDecidedBenchmark {
+    @Param({"2", "16", "256"})
+    public int size;
+
+    private CompletableFuture<Integer>[] cfs;
+
+    @Setup(Level.Invocation)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        cfs = new CompletableFuture[size];
+        for (int i = 0; i < size; i++) {
+            cfs[i] = new CompletableFuture<>();
+        }
+    }
+
+    @Benchmark
+    public void allResultsFastFailOf_relay(Blackhole bh) {
+        final CompletableFuture<List<Integer>> result = CompletableFutureUtils.allResultsFastFailOf(cfs);
+        completeInputs();
+        bh.consume(result.join());
+    }
+
+    @Benchmark
+    public void allResultsOf_plainDependent(Blackhole bh) {
+        final CompletableFuture<List<Integer>> result = CompletableFutureUtils.allResultsOf(cfs);
+        completeInputs();
+        bh.consume(result.join());
+    }
+
+    private void completeInputs() {
+        for (int i = 0; i < size; i++) {
+            cfs[i].complete(i);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package io.foldright.cffu.benchmark;
+
+import io.foldright.cffu.CompletableFutureUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the multi-cf combinators when all input cfs are already completed(e.g. the results come from a cache),
+ * the fast path reads the results directly instead of registering dependents on the inputs.
+ * <p>
+ * Run with the gc profiler to compare the allocations per operation, e.g.
+ * {@code benchmarks/scripts/run.sh PreCompletedInputsBenchmark -prof gc};
+ * {@code allOfThenApply} is the baseline which registers a dependent on each input.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class PreCompletedInputsBenchmark {
+    @Param({"2", "16", "256"})
+    public int size;
+
+    private CompletableFuture<Integer>[] cfs;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        cfs = new CompletableFuture[size];
+        for (int i = 0; i < size; i++) {
+            cfs[i] = CompletableFuture.completedFuture(i);
+        }
+    }
+
+    @Benchmark
+    public void allResultsOf(Blackhole bh) {
+        bh.consume(CompletableFutureUtils.allResultsOf(cfs).join());
+    }
+
+    @Benchmark
+    public void allResultsFastFailOf(Blackhole bh) {
+        bh.consume(CompletableFutureUtils.allResultsFastFailOf(cfs).join());
+    }
+
+    @Benchmark
+    public void allTupleOf(Blackhole bh) {
+        bh.consume(CompletableFutureUtils.allTupleOf(cfs[0], cfs[1]).join());
+    }
+
+    @Benchmark
+    public void anySuccessOf(Blackhole bh) {
+        bh.consume(CompletableFutureUtils.anySuccessOf(cfs).join());
+    }
+
+    @Benchmark
+    public void mostSuccessResultsOf(Blackhole bh) {
+        bh.consume(CompletableFutureUtils.mostSuccessResultsOf(null, 1, TimeUnit.SECONDS, cfs).join());
+    }
+
+    @Benchmark
+    public void allOfThenApply(Blackhole bh) {
+        bh.consume(AllResultsOfBenchmark.allOfThenApply(cfs).join());
+    }
+}
@@ -0,0 +1,79 @@
+package io.foldright.cffu.benchmark;
+
+import io.foldright.cffu.Cffu;
+import io.foldright.cffu.CffuFactory;
+import io.foldright.cffu.spi.DelayTimer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the timeouts that fire(the timeout-heavy workloads) of the safe {@code orTimeout}: the timeout fires
+ * in the timer thread, then the result hops off the timer thread to the executor.
+ * <p>
+ * To measure the hop itself, the timer is a manual timer that fires the timeout in the benchmark thread
+ * (detected as the timer thread), and the executor runs the tasks in the calling thread;
+ * so the hop costs only the work and the allocations of the hop, plus any task put on the delayer thread.
+ * {@code unsafeOrTimeout} is the baseline without the hop.
+ * Run with the gc profiler to compare the allocations per timeout, e.g.
+ * {@code benchmarks/scripts/run.sh TimeoutHopBenchmark -prof gc}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TimeoutHopBenchmark {
+    private final ManualTimer timer = new ManualTimer();
+    private final Executor directExecutor = Runnable::run;
+    private final CffuFactory factory = CffuFactory.builder(directExecutor).timer(timer).build();
+
+    @Benchmark
+    public void orTimeout(Blackhole bh) {
+        final Cffu<Integer> cf = factory.<Integer>newIncompleteCffu().orTimeout(1, TimeUnit.SECONDS);
+        timer.fire();
+        bh.consume(cf.handle((v, ex) -> ex).join());
+    }
+
+    @Benchmark
+    public void unsafeOrTimeout(Blackhole bh) {
+        final Cffu<Integer> cf = factory.<Integer>newIncompleteCffu().unsafeOrTimeout(1, TimeUnit.SECONDS);
+        timer.fire();
+        bh.consume(cf.handle((v, ex) -> ex).join());
+    }
+
+    /**
+     * Holds the last scheduled task, and runs it in the calling thread as the timer thread.
+     */
+    private static final class ManualTimer implements DelayTimer {
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private Runnable task;
+        private boolean firing;
+
+        @Override
+        public Future<?> schedule(Runnable task, long delay, TimeUnit unit) {
+            this.task = task;
+            return future;
+        }
+
+        @Override
+        public boolean atTimerThread() {
+            return firing;
+        }
+
+        void fire() {
+            firing = true;
+            try {
+                task.run();
+            } finally {
+                firing = false;
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.foldright.cffu.benchmark;
+
+import io.foldright.cffu.Cffu;
+import io.foldright.cffu.CffuFactory;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Measures the timeouts that are mostly cancelled(the calls succeed before the timeout):
+ * each operation schedules a timeout then completes the cf, so the timeout is cancelled.
+ * <p>
+ * The factory uses the default timer(the single lock {@code ScheduledThreadPoolExecutor} of CompletableFuture).
+ * Run with multiple threads on multiple cores to see the contention of the timer, e.g.
+ * {@code benchmarks/scripts/run.sh TimeoutTimerBenchmark -t 4};
+ * append {@code -jvmArgsAppend -Dcffu.delayer.shards=4} to measure the sharded cffu delayer,
+ * or {@code -jvmArgsAppend -Dcffu.experimental.hashedWheelTimer=true} to measure the experimental hashed timing wheel.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimeoutTimerBenchmark {
+    private ExecutorService executor;
+    private CffuFactory factory;
+
+    @Setup
+    public void setup() {
+        executor = Executors.newCachedThreadPool();
+        factory = CffuFactory.builder(executor).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void orTimeoutThenComplete(Blackhole bh) {
+        final Cffu<Integer> cf = factory.newIncompleteCffu();
+        final Cffu<Integer> timeout = cf.orTimeout(1, TimeUnit.SECONDS);
+        cf.complete(42);
+        bh.consume(timeout.join());
+    }
+
+    @Benchmark
+    public void unsafeOrTimeoutThenComplete(Blackhole bh) {
+        final Cffu<Integer> cf = factory.<Integer>newIncompleteCffu().unsafeOrTimeout(1, TimeUnit.SECONDS);
+        cf.complete(42);
+        bh.consume(cf.join());
+    }
+}
@@ -0,0 +1,86 @@
+package io.foldright.cffu.benchmark;
+
+import io.foldright.cffu.CompletableFutureUtils;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+
+/**
+ * Measures the two-input combinators({@code thenCombineFastFail}/{@code applyToEitherSuccess}) on the path
+ * that listens the inputs: the inputs are incomplete when combined, then completed by the benchmark thread.
+ * <p>
+ * Run with the gc profiler to compare the allocations per operation, e.g.
+ * {@code benchmarks/scripts/run.sh TwoInputCombinatorsBenchmark -prof gc};
+ * {@code allTupleFastFailOf}/{@code anySuccessOf} are the general multi-cf completers on the same two inputs,
+ * {@code thenCombine}/{@code applyToEither} of CompletableFuture are the baselines without fast-fail/either-success.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class TwoInputCombinatorsBenchmark {
+    @Benchmark
+    public void thenCombineFastFail(Blackhole bh) {
+        final CompletableFuture<Integer> cf1 = new CompletableFuture<>();
+        final CompletableFuture<Integer> cf2 = new CompletableFuture<>();
+        final CompletableFuture<Integer> combined = CompletableFutureUtils.thenCombineFastFail(cf1, cf2, Integer::sum);
+        cf1.complete(1);
+        cf2.complete(2);
+        bh.consume(combined.join());
+    }
+
+    @Benchmark
+    public void allTupleFastFailOf(Blackhole bh) {
+        final CompletableFuture<Integer> cf1 = new CompletableFuture<>();
+        final CompletableFuture<Integer> cf2 = new CompletableFuture<>();
+        final CompletableFuture<Integer> combined = CompletableFutureUtils.allTupleFastFailOf(cf1, cf2)
+                .thenApply(t -> t._1 + t._2);
+        cf1.complete(1);
+        cf2.complete(2);
+        bh.consume(combined.join());
+    }
+
+    @Benchmark
+    public void thenCombine(Blackhole bh) {
+        final CompletableFuture<Integer> cf1 = new CompletableFuture<>();
+        final CompletableFuture<Integer> cf2 = new CompletableFuture<>();
+        final CompletableFuture<Integer> combined = cf1.thenCombine(cf2, Integer::sum);
+        cf1.complete(1);
+        cf2.complete(2);
+        bh.consume(combined.join());
+    }
+
+    @Benchmark
+    public void applyToEitherSuccess(Blackhole bh) {
+        final CompletableFuture<Integer> cf1 = new CompletableFuture<>();
+        final CompletableFuture<Integer> cf2 = new CompletableFuture<>();
+        final CompletableFuture<Integer> either = CompletableFutureUtils.applyToEitherSuccess(cf1, cf2, Function.identity());
+        cf2.complete(2);
+        bh.consume(either.join());
+    }
+
+    @Benchmark
+    public void anySuccessOf(Blackhole bh) {
+        final CompletableFuture<Integer> cf1 = new CompletableFuture<>();
+        final CompletableFuture<Integer> cf2 = new CompletableFuture<>();
+        final CompletableFuture<Integer> either = CompletableFutureUtils.anySuccessOf(cf1, cf2)
+                .thenApply(Function.identity());
+        cf2.complete(2);
+        bh.consume(either.join());
+    }
+
+    @Benchmark
+    public void applyToEither(Blackhole bh) {
+        final CompletableFuture<Integer> cf1 = new CompletableFuture<>();
+        final CompletableFuture<Integer> cf2 = new CompletableFuture<>();
+        final CompletableFuture<Integer> either = cf1.applyToEither(cf2, Function.identity());
+        cf2.complete(2);
+        bh.consume(either.join());
+    }
+}
@@ -7,6 +7,9 @@ import io.foldright.cffu.tuple.Tuple2;
 import io.foldright.cffu.tuple.Tuple3;
 import io.foldright.cffu.tuple.Tuple4;
 import io.foldright.cffu.tuple.Tuple5;
+import io.foldright.cffu.tuple.Tuple6;
+import io.foldright.cffu.tuple.Tuple7;
+import io.foldright.cffu.tuple.Tuple8;
 import org.jetbrains.annotations.Blocking;
 import org.jetbrains.annotations.Contract;
 
@@ -15,6 +18,7 @@ import java.util.concurrent.*;
 import java.util.function.*;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 
 /**
@@ -225,7 +229,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     @SafeVarargs
     public final <U> Cffu<List<U>> thenMApplyFastFailAsync(Function<? super T, ? extends U>... fns) {
-        return thenMApplyFastFailAsync(fac.defaultExecutor(), fns);
+        return thenMApplyFastFailAsync(fac.multiActionsExecutor(), fns);
     }
 
     /**
@@ -261,7 +265,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     @SafeVarargs
     public final <U> Cffu<List<U>> thenMApplyAllSuccessAsync(
             @Nullable U valueIfFailed, Function<? super T, ? extends U>... fns) {
-        return thenMApplyAllSuccessAsync(valueIfFailed, fac.defaultExecutor(), fns);
+        return thenMApplyAllSuccessAsync(valueIfFailed, fac.multiActionsExecutor(), fns);
     }
 
     /**
@@ -304,7 +308,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     @SafeVarargs
     public final <U> Cffu<List<U>> thenMApplyMostSuccessAsync(
             @Nullable U valueIfNotSuccess, long timeout, TimeUnit unit, Function<? super T, ? extends U>... fns) {
-        return thenMApplyMostSuccessAsync(valueIfNotSuccess, fac.defaultExecutor(), timeout, unit, fns);
+        return thenMApplyMostSuccessAsync(valueIfNotSuccess, fac.multiActionsExecutor(), timeout, unit, fns);
     }
 
     /**
@@ -329,7 +333,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     public final <U> Cffu<List<U>> thenMApplyMostSuccessAsync(
             @Nullable U valueIfNotSuccess, Executor executor, long timeout, TimeUnit unit,
             Function<? super T, ? extends U>... fns) {
-        return reset0(CompletableFutureUtils.thenMApplyMostSuccessAsync(cf, valueIfNotSuccess, executor, timeout, unit, fns));
+        return reset0(CompletableFutureUtils.thenMApplyMostSuccessAsync(
+                fac.timer(), cf, valueIfNotSuccess, executor, fac.budgetNanos(timeout, unit), NANOSECONDS, fns));
     }
 
     /**
@@ -345,7 +350,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     @SafeVarargs
     public final <U> Cffu<List<U>> thenMApplyAsync(Function<? super T, ? extends U>... fns) {
-        return thenMApplyAsync(fac.defaultExecutor(), fns);
+        return thenMApplyAsync(fac.multiActionsExecutor(), fns);
     }
 
     /**
@@ -364,6 +369,66 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
         return reset0(CompletableFutureUtils.thenMApplyAsync(cf, executor, fns));
     }
 
+    /**
+     * Returns a new Cffu that, when the given stage completes normally,
+     * is executed using {@link #defaultExecutor()},
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments;
+     * the functions are grouped into chunks, and each chunk runs as one task.
+     * <p>
+     * This method is the same as {@link #thenMApplyAsync(Function[])}, except that the functions are submitted
+     * by chunks, with the chunk size sized automatically from the parallelism of the executor.
+     *
+     * @param fns the functions to use to compute the values of the returned Cffu
+     * @param <U> the functions' return type
+     * @return the new Cffu
+     * @see CompletableFutureUtils#thenMApplyChunkedAsync(CompletableFuture, Executor, Function[])
+     */
+    @SafeVarargs
+    public final <U> Cffu<List<U>> thenMApplyChunkedAsync(Function<? super T, ? extends U>... fns) {
+        return thenMApplyChunkedAsync(fac.defaultExecutor(), fns);
+    }
+
+    /**
+     * Returns a new Cffu that, when the given stage completes normally,
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments;
+     * the functions are grouped into chunks, and each chunk runs as one task.
+     * <p>
+     * The chunk size is sized automatically from the parallelism of the executor.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param fns      the functions to use to compute the values of the returned Cffu
+     * @param <U>      the functions' return type
+     * @return the new Cffu
+     */
+    @SafeVarargs
+    public final <U> Cffu<List<U>> thenMApplyChunkedAsync(Executor executor, Function<? super T, ? extends U>... fns) {
+        return reset0(CompletableFutureUtils.thenMApplyChunkedAsync(cf, executor, fns));
+    }
+
+    /**
+     * Returns a new Cffu that, when the given stage completes normally,
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments;
+     * the functions are grouped into chunks of the given size, and each chunk runs as one task.
+     *
+     * @param executor  the executor to use for asynchronous execution
+     * @param chunkSize the count of functions run by one task, MUST be positive
+     * @param fns       the functions to use to compute the values of the returned Cffu
+     * @param <U>       the functions' return type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     */
+    @SafeVarargs
+    public final <U> Cffu<List<U>> thenMApplyChunkedAsync(
+            Executor executor, int chunkSize, Function<? super T, ? extends U>... fns) {
+        return reset0(CompletableFutureUtils.thenMApplyChunkedAsync(cf, executor, chunkSize, fns));
+    }
+
     /**
      * Returns a new Cffu that, when the given stage completes normally,
      * is executed using the Cffu's default asynchronous execution facility,
@@ -376,7 +441,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     @SafeVarargs
     public final <U> Cffu<U> thenMApplyAnySuccessAsync(Function<? super T, ? extends U>... fns) {
-        return thenMApplyAnySuccessAsync(fac.defaultExecutor(), fns);
+        return thenMApplyAnySuccessAsync(fac.multiActionsExecutor(), fns);
     }
 
     /**
@@ -406,7 +471,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     @SafeVarargs
     public final <U> Cffu<U> thenMApplyAnyAsync(Function<? super T, ? extends U>... fns) {
-        return thenMApplyAnyAsync(fac.defaultExecutor(), fns);
+        return thenMApplyAnyAsync(fac.multiActionsExecutor(), fns);
     }
 
     /**
@@ -434,7 +499,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     @SafeVarargs
     public final Cffu<Void> thenMAcceptFastFailAsync(Consumer<? super T>... actions) {
-        return thenMAcceptFastFailAsync(fac.defaultExecutor(), actions);
+        return thenMAcceptFastFailAsync(fac.multiActionsExecutor(), actions);
     }
 
     /**
@@ -460,7 +525,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     @SafeVarargs
     public final Cffu<Void> thenMAcceptAsync(Consumer<? super T>... actions) {
-        return thenMAcceptAsync(fac.defaultExecutor(), actions);
+        return thenMAcceptAsync(fac.multiActionsExecutor(), actions);
     }
 
     /**
@@ -486,7 +551,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     @SafeVarargs
     public final Cffu<Void> thenMAcceptAnySuccessAsync(Consumer<? super T>... actions) {
-        return thenMAcceptAnySuccessAsync(fac.defaultExecutor(), actions);
+        return thenMAcceptAnySuccessAsync(fac.multiActionsExecutor(), actions);
     }
 
     /**
@@ -512,7 +577,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     @SafeVarargs
     public final Cffu<Void> thenMAcceptAnyAsync(Consumer<? super T>... actions) {
-        return thenMAcceptAnyAsync(fac.defaultExecutor(), actions);
+        return thenMAcceptAnyAsync(fac.multiActionsExecutor(), actions);
     }
 
     /**
@@ -536,7 +601,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      * @return the new Cffu
      */
     public Cffu<Void> thenMRunFastFailAsync(Runnable... actions) {
-        return thenMRunFastFailAsync(fac.defaultExecutor(), actions);
+        return thenMRunFastFailAsync(fac.multiActionsExecutor(), actions);
     }
 
     /**
@@ -559,7 +624,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      * @return the new Cffu
      */
     public Cffu<Void> thenMRunAsync(Runnable... actions) {
-        return thenMRunAsync(fac.defaultExecutor(), actions);
+        return thenMRunAsync(fac.multiActionsExecutor(), actions);
     }
 
     /**
@@ -582,7 +647,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      * @return the new Cffu
      */
     public Cffu<Void> thenMRunAnySuccessAsync(Runnable... actions) {
-        return thenMRunAnySuccessAsync(fac.defaultExecutor(), actions);
+        return thenMRunAnySuccessAsync(fac.multiActionsExecutor(), actions);
     }
 
     /**
@@ -605,7 +670,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      * @return the new Cffu
      */
     public Cffu<Void> thenMRunAnyAsync(Runnable... actions) {
-        return thenMRunAnyAsync(fac.defaultExecutor(), actions);
+        return thenMRunAnyAsync(fac.multiActionsExecutor(), actions);
     }
 
     /**
@@ -635,7 +700,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     public <U1, U2> Cffu<Tuple2<U1, U2>> thenTupleMApplyFastFailAsync(
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
-        return thenTupleMApplyFastFailAsync(fac.defaultExecutor(), fn1, fn2);
+        return thenTupleMApplyFastFailAsync(fac.multiActionsExecutor(), fn1, fn2);
     }
 
     /**
@@ -663,7 +728,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     public <U1, U2, U3> Cffu<Tuple3<U1, U2, U3>> thenTupleMApplyFastFailAsync(
             Function<? super T, ? extends U1> fn1,
             Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3) {
-        return thenTupleMApplyFastFailAsync(fac.defaultExecutor(), fn1, fn2, fn3);
+        return thenTupleMApplyFastFailAsync(fac.multiActionsExecutor(), fn1, fn2, fn3);
     }
 
     /**
@@ -692,7 +757,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     public <U1, U2, U3, U4> Cffu<Tuple4<U1, U2, U3, U4>> thenTupleMApplyFastFailAsync(
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
             Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
-        return thenTupleMApplyFastFailAsync(fac.defaultExecutor(), fn1, fn2, fn3, fn4);
+        return thenTupleMApplyFastFailAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4);
     }
 
     /**
@@ -722,7 +787,54 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
             Function<? super T, ? extends U1> fn1,
             Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
             Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5) {
-        return thenTupleMApplyFastFailAsync(fac.defaultExecutor(), fn1, fn2, fn3, fn4, fn5);
+        return thenTupleMApplyFastFailAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4, fn5);
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6> Cffu<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyFastFailAsync(
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6) {
+        return thenTupleMApplyFastFailAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4, fn5, fn6);
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7> Cffu<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyFastFailAsync(
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7) {
+        return thenTupleMApplyFastFailAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4, fn5, fn6, fn7);
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7, U8> Cffu<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyFastFailAsync(
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7, Function<? super T, ? extends U8> fn8) {
+        return thenTupleMApplyFastFailAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8);
     }
 
     /**
@@ -741,6 +853,58 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
         return reset0(CompletableFutureUtils.thenTupleMApplyFastFailAsync(cf, executor, fn1, fn2, fn3, fn4, fn5));
     }
 
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the supplied Executor,
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6> Cffu<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyFastFailAsync(
+            Executor executor, Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6) {
+        return reset0(CompletableFutureUtils.thenTupleMApplyFastFailAsync(cf, executor, fn1, fn2, fn3, fn4, fn5, fn6));
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the supplied Executor,
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7> Cffu<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyFastFailAsync(
+            Executor executor, Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7) {
+        return reset0(CompletableFutureUtils.thenTupleMApplyFastFailAsync(
+                cf, executor, fn1, fn2, fn3, fn4, fn5, fn6, fn7));
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the supplied Executor,
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7, U8> Cffu<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyFastFailAsync(
+            Executor executor, Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7, Function<? super T, ? extends U8> fn8) {
+        return reset0(CompletableFutureUtils.thenTupleMApplyFastFailAsync(
+                cf, executor, fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8));
+    }
+
     /**
      * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
      * with the successful values obtained by calling the given Functions
@@ -752,7 +916,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     public <U1, U2> Cffu<Tuple2<U1, U2>> thenTupleMApplyAllSuccessAsync(
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
-        return thenTupleMApplyAllSuccessAsync(fac.defaultExecutor(), fn1, fn2);
+        return thenTupleMApplyAllSuccessAsync(fac.multiActionsExecutor(), fn1, fn2);
     }
 
     /**
@@ -782,7 +946,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     public <U1, U2, U3> Cffu<Tuple3<U1, U2, U3>> thenTupleMApplyAllSuccessAsync(
             Function<? super T, ? extends U1> fn1,
             Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3) {
-        return thenTupleMApplyAllSuccessAsync(fac.defaultExecutor(), fn1, fn2, fn3);
+        return thenTupleMApplyAllSuccessAsync(fac.multiActionsExecutor(), fn1, fn2, fn3);
     }
 
     /**
@@ -813,7 +977,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     public <U1, U2, U3, U4> Cffu<Tuple4<U1, U2, U3, U4>> thenTupleMApplyAllSuccessAsync(
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
             Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
-        return thenTupleMApplyAllSuccessAsync(fac.defaultExecutor(), fn1, fn2, fn3, fn4);
+        return thenTupleMApplyAllSuccessAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4);
     }
 
     /**
@@ -845,7 +1009,57 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
             Function<? super T, ? extends U1> fn1,
             Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
             Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5) {
-        return thenTupleMApplyAllSuccessAsync(fac.defaultExecutor(), fn1, fn2, fn3, fn4, fn5);
+        return thenTupleMApplyAllSuccessAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4, fn5);
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
+     * with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions).
+     * <p>
+     * If the given Functions failed, use {@code null}.
+     *
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6> Cffu<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyAllSuccessAsync(
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6) {
+        return thenTupleMApplyAllSuccessAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4, fn5, fn6);
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
+     * with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions).
+     * <p>
+     * If the given Functions failed, use {@code null}.
+     *
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7> Cffu<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyAllSuccessAsync(
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7) {
+        return thenTupleMApplyAllSuccessAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4, fn5, fn6, fn7);
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
+     * with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions).
+     * <p>
+     * If the given Functions failed, use {@code null}.
+     *
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7, U8> Cffu<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyAllSuccessAsync(
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7, Function<? super T, ? extends U8> fn8) {
+        return thenTupleMApplyAllSuccessAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8);
     }
 
     /**
@@ -865,6 +1079,62 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
         return reset0(CompletableFutureUtils.thenTupleMApplyAllSuccessAsync(cf, executor, fn1, fn2, fn3, fn4, fn5));
     }
 
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the supplied Executor,
+     * with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions).
+     * <p>
+     * If the given Functions failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6> Cffu<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyAllSuccessAsync(
+            Executor executor, Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6) {
+        return reset0(CompletableFutureUtils.thenTupleMApplyAllSuccessAsync(
+                cf, executor, fn1, fn2, fn3, fn4, fn5, fn6));
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the supplied Executor,
+     * with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions).
+     * <p>
+     * If the given Functions failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7> Cffu<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyAllSuccessAsync(
+            Executor executor, Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7) {
+        return reset0(CompletableFutureUtils.thenTupleMApplyAllSuccessAsync(
+                cf, executor, fn1, fn2, fn3, fn4, fn5, fn6, fn7));
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the supplied Executor,
+     * with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions).
+     * <p>
+     * If the given Functions failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7, U8> Cffu<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyAllSuccessAsync(
+            Executor executor, Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7, Function<? super T, ? extends U8> fn8) {
+        return reset0(CompletableFutureUtils.thenTupleMApplyAllSuccessAsync(
+                cf, executor, fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8));
+    }
+
     /**
      * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
      * with the values obtained by calling the given Functions
@@ -875,7 +1145,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     public <U1, U2> Cffu<Tuple2<U1, U2>> thenTupleMApplyMostSuccessAsync(
             long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
-        return thenTupleMApplyMostSuccessAsync(fac.defaultExecutor(), timeout, unit, fn1, fn2);
+        return thenTupleMApplyMostSuccessAsync(fac.multiActionsExecutor(), timeout, unit, fn1, fn2);
     }
 
     /**
@@ -890,7 +1160,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     public <U1, U2> Cffu<Tuple2<U1, U2>> thenTupleMApplyMostSuccessAsync(
             Executor executor, long timeout, TimeUnit unit,
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
-        return reset0(CompletableFutureUtils.thenTupleMApplyMostSuccessAsync(cf, executor, timeout, unit, fn1, fn2));
+        return reset0(CompletableFutureUtils.thenTupleMApplyMostSuccessAsync0(
+                fac.timer(), cf, executor, fac.budgetNanos(timeout, unit), NANOSECONDS, fn1, fn2));
     }
 
     /**
@@ -904,7 +1175,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     public <U1, U2, U3> Cffu<Tuple3<U1, U2, U3>> thenTupleMApplyMostSuccessAsync(
             long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1,
             Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3) {
-        return thenTupleMApplyMostSuccessAsync(fac.defaultExecutor(), timeout, unit, fn1, fn2, fn3);
+        return thenTupleMApplyMostSuccessAsync(fac.multiActionsExecutor(), timeout, unit, fn1, fn2, fn3);
     }
 
     /**
@@ -919,7 +1190,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     public <U1, U2, U3> Cffu<Tuple3<U1, U2, U3>> thenTupleMApplyMostSuccessAsync(
             Executor executor, long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1,
             Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3) {
-        return reset0(CompletableFutureUtils.thenTupleMApplyMostSuccessAsync(cf, executor, timeout, unit, fn1, fn2, fn3));
+        return reset0(CompletableFutureUtils.thenTupleMApplyMostSuccessAsync0(
+                fac.timer(), cf, executor, fac.budgetNanos(timeout, unit), NANOSECONDS, fn1, fn2, fn3));
     }
 
     /**
@@ -934,7 +1206,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
             long timeout, TimeUnit unit,
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
             Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
-        return thenTupleMApplyMostSuccessAsync(fac.defaultExecutor(), timeout, unit, fn1, fn2, fn3, fn4);
+        return thenTupleMApplyMostSuccessAsync(fac.multiActionsExecutor(), timeout, unit, fn1, fn2, fn3, fn4);
     }
 
     /**
@@ -950,7 +1222,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
             Executor executor, long timeout, TimeUnit unit,
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
             Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
-        return reset0(CompletableFutureUtils.thenTupleMApplyMostSuccessAsync(cf, executor, timeout, unit, fn1, fn2, fn3, fn4));
+        return reset0(CompletableFutureUtils.thenTupleMApplyMostSuccessAsync0(
+                fac.timer(), cf, executor, fac.budgetNanos(timeout, unit), NANOSECONDS, fn1, fn2, fn3, fn4));
     }
 
     /**
@@ -965,7 +1238,55 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
             long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1,
             Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
             Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5) {
-        return thenTupleMApplyMostSuccessAsync(fac.defaultExecutor(), timeout, unit, fn1, fn2, fn3, fn4, fn5);
+        return thenTupleMApplyMostSuccessAsync(fac.multiActionsExecutor(), timeout, unit, fn1, fn2, fn3, fn4, fn5);
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6> Cffu<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6) {
+        return thenTupleMApplyMostSuccessAsync(fac.multiActionsExecutor(), timeout, unit, fn1, fn2, fn3, fn4, fn5, fn6);
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7> Cffu<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7) {
+        return thenTupleMApplyMostSuccessAsync(fac.multiActionsExecutor(), timeout, unit, fn1, fn2, fn3, fn4, fn5, fn6, fn7);
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7, U8> Cffu<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7, Function<? super T, ? extends U8> fn8) {
+        return thenTupleMApplyMostSuccessAsync(fac.defaultExecutor(
+                ), timeout, unit, fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8);
     }
 
     /**
@@ -981,7 +1302,63 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
             Executor executor, long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1,
             Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
             Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5) {
-        return reset0(CompletableFutureUtils.thenTupleMApplyMostSuccessAsync(cf, executor, timeout, unit, fn1, fn2, fn3, fn4, fn5));
+        return reset0(CompletableFutureUtils.thenTupleMApplyMostSuccessAsync0(
+                fac.timer(), cf, executor, fac.budgetNanos(timeout, unit), NANOSECONDS, fn1, fn2, fn3, fn4, fn5));
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the supplied Executor,
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6> Cffu<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6) {
+        return reset0(CompletableFutureUtils.thenTupleMApplyMostSuccessAsync0(
+                fac.timer(), cf, executor, fac.budgetNanos(timeout, unit), NANOSECONDS, fn1, fn2, fn3, fn4, fn5, fn6));
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the supplied Executor,
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7> Cffu<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7) {
+        return reset0(CompletableFutureUtils.thenTupleMApplyMostSuccessAsync0(
+                fac.timer(), cf, executor, fac.budgetNanos(timeout, unit), NANOSECONDS, fn1, fn2, fn3, fn4, fn5, fn6, fn7));
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the supplied Executor,
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7, U8> Cffu<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7,
+            Function<? super T, ? extends U8> fn8) {
+        return reset0(CompletableFutureUtils.thenTupleMApplyMostSuccessAsync0(
+                fac.timer(), cf, executor, fac.budgetNanos(timeout, unit), NANOSECONDS, fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8));
     }
 
     /**
@@ -994,7 +1371,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     public <U1, U2> Cffu<Tuple2<U1, U2>> thenTupleMApplyAsync(
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
-        return thenTupleMApplyAsync(fac.defaultExecutor(), fn1, fn2);
+        return thenTupleMApplyAsync(fac.multiActionsExecutor(), fn1, fn2);
     }
 
     /**
@@ -1022,7 +1399,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     public <U1, U2, U3> Cffu<Tuple3<U1, U2, U3>> thenTupleMApplyAsync(
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
             Function<? super T, ? extends U3> fn3) {
-        return thenTupleMApplyAsync(fac.defaultExecutor(), fn1, fn2, fn3);
+        return thenTupleMApplyAsync(fac.multiActionsExecutor(), fn1, fn2, fn3);
     }
 
     /**
@@ -1051,7 +1428,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     public <U1, U2, U3, U4> Cffu<Tuple4<U1, U2, U3, U4>> thenTupleMApplyAsync(
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
             Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
-        return thenTupleMApplyAsync(fac.defaultExecutor(), fn1, fn2, fn3, fn4);
+        return thenTupleMApplyAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4);
     }
 
     /**
@@ -1081,7 +1458,54 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
             Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
             Function<? super T, ? extends U5> fn5) {
-        return thenTupleMApplyAsync(fac.defaultExecutor(), fn1, fn2, fn3, fn4, fn5);
+        return thenTupleMApplyAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4, fn5);
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6> Cffu<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyAsync(
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6) {
+        return thenTupleMApplyAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4, fn5, fn6);
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7> Cffu<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyAsync(
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7) {
+        return thenTupleMApplyAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4, fn5, fn6, fn7);
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the {@link #defaultExecutor()},
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7, U8> Cffu<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyAsync(
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7, Function<? super T, ? extends U8> fn8) {
+        return thenTupleMApplyAsync(fac.multiActionsExecutor(), fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8);
     }
 
     /**
@@ -1100,6 +1524,57 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
         return reset0(CompletableFutureUtils.thenTupleMApplyAsync(cf, executor, fn1, fn2, fn3, fn4, fn5));
     }
 
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the supplied Executor,
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6> Cffu<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyAsync(
+            Executor executor, Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6) {
+        return reset0(CompletableFutureUtils.thenTupleMApplyAsync(cf, executor, fn1, fn2, fn3, fn4, fn5, fn6));
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the supplied Executor,
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7> Cffu<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyAsync(
+            Executor executor, Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7) {
+        return reset0(CompletableFutureUtils.thenTupleMApplyAsync(cf, executor, fn1, fn2, fn3, fn4, fn5, fn6, fn7));
+    }
+
+    /**
+     * Returns a new Cffu that, when this Cffu completes normally, is executed using the supplied Executor,
+     * with the values obtained by calling the given Functions
+     * (with this Cffu's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <U1, U2, U3, U4, U5, U6, U7, U8> Cffu<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyAsync(
+            Executor executor, Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7, Function<? super T, ? extends U8> fn8) {
+        return reset0(CompletableFutureUtils.thenTupleMApplyAsync(
+                cf, executor, fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8));
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////////////////////////
     // region# thenBoth* Methods(binary input) of CompletionStage
@@ -1805,7 +2280,27 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     public Cffu<T> orTimeout(Executor executorWhenTimeout, long timeout, TimeUnit unit) {
         checkMinimalStage();
-        return reset0(CompletableFutureUtils.cffuOrTimeout(cf, executorWhenTimeout, timeout, unit));
+        return reset0(CompletableFutureUtils.cffuOrTimeout(
+                fac.timer(), cf, executorWhenTimeout, fac.budgetNanos(timeout, unit), NANOSECONDS));
+    }
+
+    /**
+     * Exceptionally completes this Cffu with a {@link TimeoutException}
+     * if not otherwise completed before the {@link #deadline()};
+     * returns this Cffu if no deadline.
+     * <p>
+     * Call this method once at the end of the Cffu chain of a request(instead of the timeout per stage),
+     * so only one timer is scheduled for the request.
+     * Uses {@link #defaultExecutor()} as {@code executorWhenTimeout}.
+     *
+     * @return the new Cffu, or this Cffu if no deadline
+     * @see #withDeadline(Deadline)
+     * @see #orTimeout(long, TimeUnit)
+     */
+    public Cffu<T> orDeadline() {
+        final Deadline deadline = fac.deadline();
+        if (deadline == null) return this;
+        return orTimeout(deadline.remainingNanos(), NANOSECONDS);
     }
 
     /**
@@ -1835,7 +2330,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     @Contract("_, _ -> this")
     public Cffu<T> unsafeOrTimeout(long timeout, TimeUnit unit) {
         checkMinimalStage();
-        CompletableFutureUtils.orTimeout(cf, timeout, unit);
+        CompletableFutureUtils.orTimeout(fac.timer(), cf, fac.budgetNanos(timeout, unit), NANOSECONDS);
         return this;
     }
 
@@ -1865,7 +2360,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      */
     public Cffu<T> completeOnTimeout(@Nullable T value, Executor executorWhenTimeout, long timeout, TimeUnit unit) {
         checkMinimalStage();
-        return reset0(CompletableFutureUtils.cffuCompleteOnTimeout(cf, value, executorWhenTimeout, timeout, unit));
+        return reset0(CompletableFutureUtils.cffuCompleteOnTimeout(
+                fac.timer(), cf, value, executorWhenTimeout, fac.budgetNanos(timeout, unit), NANOSECONDS));
     }
 
     /**
@@ -1895,7 +2391,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     @Contract("_, _, _ -> this")
     public Cffu<T> unsafeCompleteOnTimeout(@Nullable T value, long timeout, TimeUnit unit) {
         checkMinimalStage();
-        CompletableFutureUtils.completeOnTimeout(cf, value, timeout, unit);
+        CompletableFutureUtils.completeOnTimeout(fac.timer(), cf, value, fac.budgetNanos(timeout, unit), NANOSECONDS);
         return this;
     }
 
@@ -2270,6 +2766,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     /**
      * Waits if necessary for at most the given time for the computation to complete,
      * and then retrieves its result, if available.
+     * <p>
+     * If this Cffu has the {@link #deadline()}, waits at most the remaining budget of the deadline.
      *
      * @param timeout the maximum time to wait
      * @param unit    the time unit of the timeout argument
@@ -2284,7 +2782,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     @Override
     public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
         checkMinimalStage();
-        return cf.get(timeout, unit);
+        return cf.get(fac.budgetNanos(timeout, unit), NANOSECONDS);
     }
 
     /**
@@ -2315,7 +2813,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      * <p>
      * {@code result = cffu.join(timeout, unit);}
      * <p>
-     * is the same as:
+     * has the same result as(but without the copy and the timer task, see
+     * {@link CompletableFutureUtils#join(CompletableFuture, long, TimeUnit)}):
      *
      * <pre>{@code result = cffu.copy() // defensive copy to avoid writing this cffu unexpectedly
      *     .orTimeout(timeout, unit)
@@ -2326,6 +2825,8 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
      * if the wait timed out, this method throws an (unchecked) {@link CompletionException}
      * with the {@link TimeoutException} as its cause;
      * NOT throws a (checked) {@link TimeoutException} like {@link #get(long, TimeUnit)}.
+     * <p>
+     * If this Cffu has the {@link #deadline()}, waits at most the remaining budget of the deadline.
      *
      * @param timeout the maximum time to wait
      * @param unit    the time unit of the timeout argument
@@ -2340,7 +2841,7 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
     @Nullable
     public T join(long timeout, TimeUnit unit) {
         checkMinimalStage();
-        return CompletableFutureUtils.join(cf, timeout, unit);
+        return CompletableFutureUtils.join(cf, fac.budgetNanos(timeout, unit), NANOSECONDS);
     }
 
     /**
@@ -2639,6 +3140,35 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
         return new Cffu<>(cffuFactory, isMinimalStage, cf);
     }
 
+    /**
+     * Returns a new Cffu with the given deadline, backed by the same underlying CompletableFuture as this Cffu;
+     * if this Cffu has the deadline already, the earlier deadline is used(the budget is never extended).
+     * <p>
+     * The deadline is inherited by the dependent Cffus(e.g. {@code thenApplyAsync}/{@code thenCompose}/
+     * {@code thenMApply*Async}) and the {@link #cffuFactory()} of them({@code mSupply*Async}), and the timeout methods
+     * ({@link #orTimeout(long, TimeUnit)}/{@link #completeOnTimeout(Object, long, TimeUnit)}/
+     * {@link #join(long, TimeUnit)}/{@code *MostSuccess*} methods) use at most the remaining budget.
+     * Use {@link #orDeadline()} to fail the chain when the deadline passes.
+     *
+     * @param deadline the deadline, e.g. the deadline of the client call
+     * @return the new Cffu
+     * @see CffuFactory#withDeadline(Deadline)
+     */
+    @Contract(pure = true)
+    public Cffu<T> withDeadline(Deadline deadline) {
+        return new Cffu<>(fac.withDeadline(deadline), isMinimalStage, cf);
+    }
+
+    /**
+     * The same as {@link #withDeadline(Deadline)}, with the deadline after the given timeout from now.
+     *
+     * @see Deadline#after(long, TimeUnit)
+     */
+    @Contract(pure = true)
+    public Cffu<T> withDeadline(long timeout, TimeUnit unit) {
+        return withDeadline(Deadline.after(timeout, unit));
+    }
+
     /**
      * Returns a {@link CompletableFuture} maintaining the same completion properties as this Cffu.
      * <p>
@@ -2704,6 +3234,18 @@ public final class Cffu<T> implements Future<T>, CompletionStage<T> {
         return fac;
     }
 
+    /**
+     * Returns the deadline of this Cffu, {@code null} if no deadline.
+     * This can be re-configured by {@link #withDeadline(Deadline)}.
+     *
+     * @see CffuFactory#deadline()
+     */
+    @Nullable
+    @Contract(pure = true)
+    public Deadline deadline() {
+        return fac.deadline();
+    }
+
     /**
      * Returns {@code forbidObtrudeMethods} or not.
      * This can be re-configured by {@link #resetCffuFactory(CffuFactory)}.
@@ -2,21 +2,38 @@ package io.foldright.cffu;
 
 import edu.umd.cs.findbugs.annotations.CheckReturnValue;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import io.foldright.cffu.spi.DelayTimer;
 import io.foldright.cffu.tuple.Tuple2;
 import io.foldright.cffu.tuple.Tuple3;
 import io.foldright.cffu.tuple.Tuple4;
 import io.foldright.cffu.tuple.Tuple5;
+import io.foldright.cffu.tuple.Tuple6;
+import io.foldright.cffu.tuple.Tuple7;
+import io.foldright.cffu.tuple.Tuple8;
 import org.jetbrains.annotations.Contract;
 
 import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.BinaryOperator;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
+import java.util.stream.Collector;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 
 /**
@@ -30,9 +47,9 @@ import static java.util.Objects.requireNonNull;
  * About factory methods conventions of {@link CffuFactory}:
  * <ul>
  * <li>factory methods return {@link Cffu} instead of {@link CompletableFuture}.
- * <li>only provide varargs methods for multiply Cffu/CF input arguments;
- *     if you have {@code List} input, use static util methods {@link #cffuListToArray(List)}
- *     or {@link CompletableFutureUtils#completableFutureListToArray(List)} to convert it to array first.
+ * <li>provide varargs methods for multiply Cffu/CF input arguments;
+ *     the multi-cf combinators(e.g. {@link #allResultsOf(Collection)}, {@link #anySuccessOf(Collection)})
+ *     also provide {@link Collection} overloads that consume the collection input directly(without copying to an array).
  * </ul>
  *
  * @author Jerry Lee (oldratlee at gmail dot com)
@@ -50,9 +67,39 @@ public final class CffuFactory {
 
     private final boolean forbidObtrudeMethods;
 
-    CffuFactory(Executor defaultExecutor, boolean forbidObtrudeMethods) {
+    private final boolean propagateCancellation;
+
+    private final boolean inlineFirst;
+
+    /**
+     * The executor of the multi-actions methods using the default executor:
+     * the inline-first marker of the default executor if {@code inlineFirst}, otherwise the default executor.
+     */
+    private final Executor multiActionsExecutor;
+
+    /**
+     * The timer of the timeout and delay methods, {@code null} means the builtin timer.
+     */
+    @Nullable
+    private final DelayTimer timer;
+
+    /**
+     * The deadline of the Cffus created by this factory, {@code null} means no deadline.
+     */
+    @Nullable
+    private final Deadline deadline;
+
+    CffuFactory(Executor defaultExecutor, boolean forbidObtrudeMethods, boolean propagateCancellation,
+                boolean inlineFirst, @Nullable DelayTimer timer, @Nullable Deadline deadline) {
         this.defaultExecutor = defaultExecutor;
         this.forbidObtrudeMethods = forbidObtrudeMethods;
+        this.propagateCancellation = propagateCancellation;
+        this.inlineFirst = inlineFirst;
+        // inlineFirstExecutor returns the given marker as is, no nested marker
+        this.multiActionsExecutor = inlineFirst
+                ? CompletableFutureUtils.inlineFirstExecutor(defaultExecutor) : defaultExecutor;
+        this.timer = timer;
+        this.deadline = deadline;
     }
 
     /**
@@ -125,6 +172,58 @@ public final class CffuFactory {
         return create(CompletableFuture.supplyAsync(supplier, executor));
     }
 
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the {@link #defaultExecutor()}
+     * with the value obtained by calling the given Supplier, with <strong>hedged</strong> attempts:
+     * starts the first attempt immediately, and launches another attempt each time {@code hedgeDelay} passes
+     * without a successful result, up to {@code maxHedges} extra attempts.
+     * <p>
+     * The first successful attempt completes the returned Cffu, then the pending hedge timer
+     * and the remaining attempts are cancelled(the attempts not started yet will never run).
+     * If all attempts fail, the returned Cffu completes exceptionally
+     * with a CompletionException holding the exception of the last failed attempt as its cause.
+     *
+     * @param supplier   a function returning the value to be used to complete the returned Cffu,
+     *                   MUST be idempotent since it may be called multiple times concurrently
+     * @param hedgeDelay how long to wait before launching another attempt, in units of {@code unit}
+     * @param unit       a {@code TimeUnit} determining how to interpret the {@code hedgeDelay} parameter
+     * @param maxHedges  the max count of extra attempts, MUST be non-negative; {@code 0} means no hedging
+     * @param <T>        the function's return type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code maxHedges} is negative
+     * @see CompletableFutureUtils#hedgedSupplyAsync(Supplier, long, TimeUnit, int, Executor)
+     */
+    public <T> Cffu<T> hedgedSupplyAsync(Supplier<? extends T> supplier, long hedgeDelay, TimeUnit unit, int maxHedges) {
+        return hedgedSupplyAsync(supplier, hedgeDelay, unit, maxHedges, defaultExecutor);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given executor
+     * with the value obtained by calling the given Supplier, with <strong>hedged</strong> attempts:
+     * starts the first attempt immediately, and launches another attempt each time {@code hedgeDelay} passes
+     * without a successful result, up to {@code maxHedges} extra attempts.
+     * <p>
+     * The first successful attempt completes the returned Cffu, then the pending hedge timer
+     * and the remaining attempts are cancelled(the attempts not started yet will never run).
+     * If all attempts fail, the returned Cffu completes exceptionally
+     * with a CompletionException holding the exception of the last failed attempt as its cause.
+     *
+     * @param supplier   a function returning the value to be used to complete the returned Cffu,
+     *                   MUST be idempotent since it may be called multiple times concurrently
+     * @param hedgeDelay how long to wait before launching another attempt, in units of {@code unit}
+     * @param unit       a {@code TimeUnit} determining how to interpret the {@code hedgeDelay} parameter
+     * @param maxHedges  the max count of extra attempts, MUST be non-negative; {@code 0} means no hedging
+     * @param executor   the executor to use for asynchronous execution
+     * @param <T>        the function's return type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code maxHedges} is negative
+     * @see CompletableFutureUtils#hedgedSupplyAsync(Supplier, long, TimeUnit, int, Executor)
+     */
+    public <T> Cffu<T> hedgedSupplyAsync(Supplier<? extends T> supplier, long hedgeDelay, TimeUnit unit,
+                                        int maxHedges, Executor executor) {
+        return create(CompletableFutureUtils.hedgedSupplyAsync(timer, supplier, hedgeDelay, unit, maxHedges, executor));
+    }
+
     /**
      * Returns a new Cffu that is asynchronously completed by a task running
      * in the {@link #defaultExecutor()} after it runs the given action.
@@ -151,6 +250,8 @@ public final class CffuFactory {
     // endregion
     ////////////////////////////////////////////////////////////
     // region## Multi-Actions(M*) Methods(create by actions)
+    //
+    //    if inlineFirst, the methods using the default executor run ONE action in the caller thread
     ////////////////////////////////////////////////////////////
 
     /**
@@ -166,7 +267,7 @@ public final class CffuFactory {
      */
     @SafeVarargs
     public final <T> Cffu<List<T>> mSupplyFastFailAsync(Supplier<? extends T>... suppliers) {
-        return mSupplyFastFailAsync(defaultExecutor, suppliers);
+        return mSupplyFastFailAsync(multiActionsExecutor, suppliers);
     }
 
     /**
@@ -179,12 +280,93 @@ public final class CffuFactory {
      * @param <T>       the suppliers' return type
      * @return the new Cffu
      * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #propagateCancellation()
      */
     @SafeVarargs
     public final <T> Cffu<List<T>> mSupplyFastFailAsync(Executor executor, Supplier<? extends T>... suppliers) {
+        if (propagateCancellation) return mSupplyFastFailWithCancellationAsync(executor, suppliers);
         return create(CompletableFutureUtils.mSupplyFastFailAsync(executor, suppliers));
     }
 
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments,
+     * with at most {@code maxConcurrency} tasks running concurrently.
+     *
+     * @param executor       the executor to use for asynchronous execution
+     * @param maxConcurrency the max count of tasks running concurrently(aka in flight), MUST be positive;
+     *                       the next task is submitted to the executor when a running task completes
+     * @param suppliers      the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>            the suppliers' return type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see CompletableFutureUtils#mSupplyFastFailAsync(Executor, int, Supplier[])
+     * @see #propagateCancellation()
+     */
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyFastFailAsync(
+            Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        if (propagateCancellation) return mSupplyFastFailWithCancellationAsync(executor, maxConcurrency, suppliers);
+        return create(CompletableFutureUtils.mSupplyFastFailAsync(executor, maxConcurrency, suppliers));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the returned Cffu is decided.
+     *
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>       the suppliers' return type
+     * @return the new Cffu
+     * @see CompletableFutureUtils#mSupplyFastFailWithCancellationAsync(Supplier[])
+     */
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyFastFailWithCancellationAsync(Supplier<? extends T>... suppliers) {
+        return mSupplyFastFailWithCancellationAsync(multiActionsExecutor, suppliers);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the returned Cffu is decided.
+     *
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>       the suppliers' return type
+     * @return the new Cffu
+     * @see CompletableFutureUtils#mSupplyFastFailWithCancellationAsync(Executor, Supplier[])
+     */
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyFastFailWithCancellationAsync(
+            Executor executor, Supplier<? extends T>... suppliers) {
+        return create(CompletableFutureUtils.mSupplyFastFailWithCancellationAsync(executor, suppliers));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments,
+     * with at most {@code maxConcurrency} tasks running concurrently;
+     * and cancels the tasks not completed yet when the returned Cffu is decided.
+     *
+     * @param executor       the executor to use for asynchronous execution
+     * @param maxConcurrency the max count of tasks running concurrently(aka in flight), MUST be positive
+     * @param suppliers      the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>            the suppliers' return type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see CompletableFutureUtils#mSupplyFastFailWithCancellationAsync(Executor, int, Supplier[])
+     */
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyFastFailWithCancellationAsync(
+            Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        return create(CompletableFutureUtils.mSupplyFastFailWithCancellationAsync(executor, maxConcurrency, suppliers));
+    }
+
     /**
      * Returns a new Cffu that is asynchronously completed
      * by tasks running in the Cffu's default asynchronous execution facility
@@ -202,7 +384,7 @@ public final class CffuFactory {
     @SafeVarargs
     public final <T> Cffu<List<T>> mSupplyAllSuccessAsync(
             @Nullable T valueIfFailed, Supplier<? extends T>... suppliers) {
-        return mSupplyAllSuccessAsync(valueIfFailed, defaultExecutor, suppliers);
+        return mSupplyAllSuccessAsync(valueIfFailed, multiActionsExecutor, suppliers);
     }
 
     /**
@@ -225,6 +407,30 @@ public final class CffuFactory {
         return create(CompletableFutureUtils.mSupplyAllSuccessAsync(valueIfFailed, executor, suppliers));
     }
 
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments,
+     * with at most {@code maxConcurrency} tasks running concurrently.
+     * <p>
+     * If the given supplier failed, use the given valueIfFailed.
+     *
+     * @param valueIfFailed  the value to return if not failed
+     * @param executor       the executor to use for asynchronous execution
+     * @param maxConcurrency the max count of tasks running concurrently(aka in flight), MUST be positive;
+     *                       the next task is submitted to the executor when a running task completes
+     * @param suppliers      the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>            the suppliers' return type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see CompletableFutureUtils#mSupplyAllSuccessAsync(Object, Executor, int, Supplier[])
+     */
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyAllSuccessAsync(
+            @Nullable T valueIfFailed, Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        return create(CompletableFutureUtils.mSupplyAllSuccessAsync(valueIfFailed, executor, maxConcurrency, suppliers));
+    }
+
     /**
      * Returns a new Cffu that is asynchronously completed
      * by tasks running in the Cffu's default asynchronous execution facility
@@ -246,7 +452,7 @@ public final class CffuFactory {
     @SafeVarargs
     public final <T> Cffu<List<T>> mSupplyMostSuccessAsync(
             @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit, Supplier<? extends T>... suppliers) {
-        return mSupplyMostSuccessAsync(valueIfNotSuccess, defaultExecutor, timeout, unit, suppliers);
+        return mSupplyMostSuccessAsync(valueIfNotSuccess, multiActionsExecutor, timeout, unit, suppliers);
     }
 
     /**
@@ -266,12 +472,121 @@ public final class CffuFactory {
      * @param <T>               the suppliers' return type
      * @return the new Cffu
      * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #propagateCancellation()
+     */
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyMostSuccessAsync(
+            @Nullable T valueIfNotSuccess, Executor executor, long timeout, TimeUnit unit,
+            Supplier<? extends T>... suppliers) {
+        if (propagateCancellation)
+            return mSupplyMostSuccessWithCancellationAsync(valueIfNotSuccess, executor, timeout, unit, suppliers);
+        return create(CompletableFutureUtils.mSupplyMostSuccessAsync(
+                timer, valueIfNotSuccess, executor, budgetNanos(timeout, unit), NANOSECONDS, suppliers));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments,
+     * with at most {@code maxConcurrency} tasks running concurrently.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise the given valueIfNotSuccess(including the suppliers not started in the given time).
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param executor          the executor to use for asynchronous execution
+     * @param maxConcurrency    the max count of tasks running concurrently(aka in flight), MUST be positive;
+     *                          the next task is submitted to the executor when a running task completes
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param suppliers         the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>               the suppliers' return type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see CompletableFutureUtils#mSupplyMostSuccessAsync(Object, Executor, int, long, TimeUnit, Supplier[])
+     * @see #propagateCancellation()
      */
     @SafeVarargs
     public final <T> Cffu<List<T>> mSupplyMostSuccessAsync(
+            @Nullable T valueIfNotSuccess, Executor executor, int maxConcurrency, long timeout, TimeUnit unit,
+            Supplier<? extends T>... suppliers) {
+        if (propagateCancellation) return mSupplyMostSuccessWithCancellationAsync(
+                valueIfNotSuccess, executor, maxConcurrency, timeout, unit, suppliers);
+        return create(CompletableFutureUtils.mSupplyMostSuccessAsync(
+                timer, valueIfNotSuccess, executor, maxConcurrency, budgetNanos(timeout, unit), NANOSECONDS, suppliers));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the {@link #defaultExecutor()} with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned Cffu is cancelled.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param suppliers         the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>               the suppliers' return type
+     * @return the new Cffu
+     * @see CompletableFutureUtils#mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyMostSuccessWithCancellationAsync(
+            @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit, Supplier<? extends T>... suppliers) {
+        return mSupplyMostSuccessWithCancellationAsync(valueIfNotSuccess, multiActionsExecutor, timeout, unit, suppliers);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned Cffu is cancelled.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param executor          the executor to use for asynchronous execution
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param suppliers         the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>               the suppliers' return type
+     * @return the new Cffu
+     * @see CompletableFutureUtils#mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyMostSuccessWithCancellationAsync(
             @Nullable T valueIfNotSuccess, Executor executor, long timeout, TimeUnit unit,
             Supplier<? extends T>... suppliers) {
-        return create(CompletableFutureUtils.mSupplyMostSuccessAsync(valueIfNotSuccess, executor, timeout, unit, suppliers));
+        return create(CompletableFutureUtils.mSupplyMostSuccessWithCancellationAsync(
+                timer, valueIfNotSuccess, executor, budgetNanos(timeout, unit), NANOSECONDS, suppliers));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments,
+     * with at most {@code maxConcurrency} tasks running concurrently;
+     * and cancels the tasks not completed yet when the timeout fires or the returned Cffu is cancelled.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param executor          the executor to use for asynchronous execution
+     * @param maxConcurrency    the max count of tasks running concurrently(aka in flight), MUST be positive
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param suppliers         the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>               the suppliers' return type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see CompletableFutureUtils#mSupplyMostSuccessWithCancellationAsync(Object, Executor, int, long, TimeUnit, Supplier[])
+     */
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyMostSuccessWithCancellationAsync(
+            @Nullable T valueIfNotSuccess, Executor executor, int maxConcurrency, long timeout, TimeUnit unit,
+            Supplier<? extends T>... suppliers) {
+        return create(CompletableFutureUtils.mSupplyMostSuccessWithCancellationAsync(
+                timer, valueIfNotSuccess, executor, maxConcurrency, budgetNanos(timeout, unit), NANOSECONDS, suppliers));
     }
 
     /**
@@ -279,6 +594,8 @@ public final class CffuFactory {
      * by tasks running in the Cffu's default asynchronous execution facility
      * with the values obtained by calling the given Suppliers
      * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If {@link #inlineFirst()}, the first supplier runs in the caller thread, so this method returns after it completes.
      *
      * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
      * @param <T>       the suppliers' return type
@@ -287,7 +604,7 @@ public final class CffuFactory {
      */
     @SafeVarargs
     public final <T> Cffu<List<T>> mSupplyAsync(Supplier<? extends T>... suppliers) {
-        return mSupplyAsync(defaultExecutor, suppliers);
+        return mSupplyAsync(multiActionsExecutor, suppliers);
     }
 
     /**
@@ -308,585 +625,764 @@ public final class CffuFactory {
     }
 
     /**
-     * Returns a new Cffu that is asynchronously successful
-     * when any of tasks running in the Cffu's default asynchronous execution facility
-     * by calling the given Suppliers success, with the same result.
-     * Otherwise, all the given tasks complete exceptionally,
-     * the returned Cffu also does so, with a CompletionException holding
-     * an exception from any of the given stages as its cause.
-     * If no suppliers are provided, returns a new Cffu that is already completed exceptionally
-     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
-     *
-     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
-     * @param <T>       the suppliers' return type
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments,
+     * with at most {@code maxConcurrency} tasks running concurrently.
+     *
+     * @param executor       the executor to use for asynchronous execution
+     * @param maxConcurrency the max count of tasks running concurrently(aka in flight), MUST be positive;
+     *                       the next task is submitted to the executor when a running task completes
+     * @param suppliers      the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>            the suppliers' return type
      * @return the new Cffu
-     * @see #anySuccessOf(CompletionStage[])
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see CompletableFutureUtils#mSupplyAsync(Executor, int, Supplier[])
      */
     @SafeVarargs
-    public final <T> Cffu<T> mSupplyAnySuccessAsync(Supplier<? extends T>... suppliers) {
-        return mSupplyAnySuccessAsync(defaultExecutor, suppliers);
+    public final <T> Cffu<List<T>> mSupplyAsync(
+            Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        return create(CompletableFutureUtils.mSupplyAsync(executor, maxConcurrency, suppliers));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously successful
-     * when any of tasks running in the given executor by calling the given Suppliers success, with the same result.
-     * Otherwise, all the given tasks complete exceptionally,
-     * the returned Cffu also does so, with a CompletionException holding
-     * an exception from any of the given stages as its cause.
-     * If no suppliers are provided, returns a new Cffu that is already completed exceptionally
-     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * the suppliers are grouped into chunks, and each chunk runs as one task.
+     * <p>
+     * This method is the same as {@link #mSupplyAsync(Supplier[])}, except that the suppliers are submitted
+     * by chunks, with the chunk size sized automatically from the parallelism of the executor.
      *
-     * @param executor  the executor to use for asynchronous execution
      * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
      * @param <T>       the suppliers' return type
      * @return the new Cffu
-     * @see #anySuccessOf(CompletionStage[])
+     * @see CompletableFutureUtils#mSupplyChunkedAsync(Executor, Supplier[])
      */
     @SafeVarargs
-    public final <T> Cffu<T> mSupplyAnySuccessAsync(Executor executor, Supplier<? extends T>... suppliers) {
-        return create(CompletableFutureUtils.mSupplyAnySuccessAsync(executor, suppliers));
+    public final <T> Cffu<List<T>> mSupplyChunkedAsync(Supplier<? extends T>... suppliers) {
+        return mSupplyChunkedAsync(defaultExecutor, suppliers);
     }
 
     /**
-     * Returns a new Cffu that is completed
-     * when any of tasks running in the Cffu's default asynchronous execution facility
-     * by calling the given Suppliers complete, with the same result.
-     * Otherwise, if it completed exceptionally, the returned Cffu also does so,
-     * with a CompletionException holding this exception as its cause.
-     * If no suppliers are provided, returns an incomplete Cffu.
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * the suppliers are grouped into chunks, and each chunk runs as one task.
+     * <p>
+     * The chunk size is sized automatically from the parallelism of the executor.
      *
+     * @param executor  the executor to use for asynchronous execution
      * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
      * @param <T>       the suppliers' return type
      * @return the new Cffu
-     * @see #anyOf(CompletionStage[])
      */
     @SafeVarargs
-    public final <T> Cffu<T> mSupplyAnyAsync(Supplier<? extends T>... suppliers) {
-        return mSupplyAnyAsync(defaultExecutor, suppliers);
+    public final <T> Cffu<List<T>> mSupplyChunkedAsync(Executor executor, Supplier<? extends T>... suppliers) {
+        return create(CompletableFutureUtils.mSupplyChunkedAsync(executor, suppliers));
     }
 
     /**
-     * Returns a new Cffu that is completed
-     * when any of tasks running in the given Executor by calling the given Suppliers complete, with the same result.
-     * Otherwise, if it completed exceptionally, the returned Cffu also does so,
-     * with a CompletionException holding this exception as its cause.
-     * If no suppliers are provided, returns an incomplete Cffu.
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * the suppliers are grouped into chunks of the given size, and each chunk runs as one task.
      *
      * @param executor  the executor to use for asynchronous execution
+     * @param chunkSize the count of suppliers run by one task, MUST be positive
      * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
      * @param <T>       the suppliers' return type
      * @return the new Cffu
-     * @see #anyOf(CompletionStage[])
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
      */
     @SafeVarargs
-    public final <T> Cffu<T> mSupplyAnyAsync(Executor executor, Supplier<? extends T>... suppliers) {
-        return create(CompletableFutureUtils.mSupplyAnyAsync(executor, suppliers));
+    public final <T> Cffu<List<T>> mSupplyChunkedAsync(
+            Executor executor, int chunkSize, Supplier<? extends T>... suppliers) {
+        return create(CompletableFutureUtils.mSupplyChunkedAsync(executor, chunkSize, suppliers));
     }
 
     /**
      * Returns a new Cffu that is asynchronously completed
      * by tasks running in the Cffu's default asynchronous execution facility
-     * after runs the given actions.
+     * with the int values obtained by calling the given IntSuppliers
+     * in the <strong>same order</strong> of the given IntSuppliers arguments.
+     * <p>
+     * This method is the same as {@link #mSupplyAsync(Supplier[])}, except that each task writes
+     * its int value into the result array directly, without boxing.
      *
-     * @param actions the actions to run before completing the returned Cffu
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
      * @return the new Cffu
-     * @see #allFastFailOf(CompletionStage[])
+     * @see CompletableFutureUtils#mSupplyIntAsync(Executor, IntSupplier[])
      */
-    public Cffu<Void> mRunFastFailAsync(Runnable... actions) {
-        return mRunFastFailAsync(defaultExecutor, actions);
+    public Cffu<int[]> mSupplyIntAsync(IntSupplier... suppliers) {
+        return mSupplyIntAsync(defaultExecutor, suppliers);
     }
 
     /**
      * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
-     * after runs the given actions.
+     * with the int values obtained by calling the given IntSuppliers
+     * in the <strong>same order</strong> of the given IntSuppliers arguments.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to run before completing the returned Cffu
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
      * @return the new Cffu
-     * @see #allFastFailOf(CompletionStage[])
      */
-    public Cffu<Void> mRunFastFailAsync(Executor executor, Runnable... actions) {
-        return create(CompletableFutureUtils.mRunFastFailAsync(executor, actions));
+    public Cffu<int[]> mSupplyIntAsync(Executor executor, IntSupplier... suppliers) {
+        return create(CompletableFutureUtils.mSupplyIntAsync(executor, suppliers));
     }
 
     /**
      * Returns a new Cffu that is asynchronously completed
      * by tasks running in the Cffu's default asynchronous execution facility
-     * after runs the given actions.
+     * with the long values obtained by calling the given LongSuppliers
+     * in the <strong>same order</strong> of the given LongSuppliers arguments.
+     * <p>
+     * This method is the same as {@link #mSupplyAsync(Supplier[])}, except that each task writes
+     * its long value into the result array directly, without boxing.
      *
-     * @param actions the actions to run before completing the returned Cffu
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
      * @return the new Cffu
-     * @see #allOf(CompletionStage[])
+     * @see CompletableFutureUtils#mSupplyLongAsync(Executor, LongSupplier[])
      */
-    public Cffu<Void> mRunAsync(Runnable... actions) {
-        return mRunAsync(defaultExecutor, actions);
+    public Cffu<long[]> mSupplyLongAsync(LongSupplier... suppliers) {
+        return mSupplyLongAsync(defaultExecutor, suppliers);
     }
 
     /**
      * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
-     * after runs the given actions.
-     *
-     * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to run before completing the returned Cffu
-     * @return the new Cffu
-     * @see #allOf(CompletionStage[])
-     */
-    public Cffu<Void> mRunAsync(Executor executor, Runnable... actions) {
-        return create(CompletableFutureUtils.mRunAsync(executor, actions));
-    }
-
-    /**
-     * Returns a new Cffu that is asynchronously successful
-     * when any tasks running in the Cffu's default asynchronous execution facility success.
+     * with the long values obtained by calling the given LongSuppliers
+     * in the <strong>same order</strong> of the given LongSuppliers arguments.
      *
-     * @param actions the actions to run before completing the returned Cffu
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
      * @return the new Cffu
-     * @see #anySuccessOf(CompletionStage[])
      */
-    public Cffu<Void> mRunAnySuccessAsync(Runnable... actions) {
-        return mRunAnySuccessAsync(defaultExecutor, actions);
+    public Cffu<long[]> mSupplyLongAsync(Executor executor, LongSupplier... suppliers) {
+        return create(CompletableFutureUtils.mSupplyLongAsync(executor, suppliers));
     }
 
     /**
      * Returns a new Cffu that is asynchronously completed
-     * when any tasks running in the Cffu's default asynchronous execution facility.
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the double values obtained by calling the given DoubleSuppliers
+     * in the <strong>same order</strong> of the given DoubleSuppliers arguments.
+     * <p>
+     * This method is the same as {@link #mSupplyAsync(Supplier[])}, except that each task writes
+     * its double value into the result array directly, without boxing.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to run before completing the returned Cffu
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
      * @return the new Cffu
-     * @see #anySuccessOf(CompletionStage[])
+     * @see CompletableFutureUtils#mSupplyDoubleAsync(Executor, DoubleSupplier[])
      */
-    public Cffu<Void> mRunAnySuccessAsync(Executor executor, Runnable... actions) {
-        return create(CompletableFutureUtils.mRunAnySuccessAsync(executor, actions));
+    public Cffu<double[]> mSupplyDoubleAsync(DoubleSupplier... suppliers) {
+        return mSupplyDoubleAsync(defaultExecutor, suppliers);
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * when any tasks running in the Cffu's default asynchronous execution facility.
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the double values obtained by calling the given DoubleSuppliers
+     * in the <strong>same order</strong> of the given DoubleSuppliers arguments.
      *
-     * @param actions the actions to run before completing the returned Cffu
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
      * @return the new Cffu
-     * @see #anyOf(CompletionStage[])
      */
-    public Cffu<Void> mRunAnyAsync(Runnable... actions) {
-        return mRunAnyAsync(defaultExecutor, actions);
+    public Cffu<double[]> mSupplyDoubleAsync(Executor executor, DoubleSupplier... suppliers) {
+        return create(CompletableFutureUtils.mSupplyDoubleAsync(executor, suppliers));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * when any tasks running in the given executor complete.
+     * Returns a new Cffu that is asynchronously successful
+     * when any of tasks running in the Cffu's default asynchronous execution facility
+     * by calling the given Suppliers success, with the same result.
+     * Otherwise, all the given tasks complete exceptionally,
+     * the returned Cffu also does so, with a CompletionException holding
+     * an exception from any of the given stages as its cause.
+     * If no suppliers are provided, returns a new Cffu that is already completed exceptionally
+     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to run before completing the returned Cffu
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>       the suppliers' return type
      * @return the new Cffu
-     * @see #anyOf(CompletionStage[])
+     * @see #anySuccessOf(CompletionStage[])
      */
-    public Cffu<Void> mRunAnyAsync(Executor executor, Runnable... actions) {
-        return create(CompletableFutureUtils.mRunAnyAsync(executor, actions));
+    @SafeVarargs
+    public final <T> Cffu<T> mSupplyAnySuccessAsync(Supplier<? extends T>... suppliers) {
+        return mSupplyAnySuccessAsync(multiActionsExecutor, suppliers);
     }
 
-    // endregion
-    ////////////////////////////////////////////////////////////
-    // region## Tuple-Multi-Actions(tupleM*) Methods(create by actions)
-    ////////////////////////////////////////////////////////////
-
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu that is asynchronously successful
+     * when any of tasks running in the given executor by calling the given Suppliers success, with the same result.
+     * Otherwise, all the given tasks complete exceptionally,
+     * the returned Cffu also does so, with a CompletionException holding
+     * an exception from any of the given stages as its cause.
+     * If no suppliers are provided, returns a new Cffu that is already completed exceptionally
+     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
      *
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>       the suppliers' return type
      * @return the new Cffu
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #anySuccessOf(CompletionStage[])
      */
-    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyFastFailAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return tupleMSupplyFastFailAsync(defaultExecutor, supplier1, supplier2);
+    @SafeVarargs
+    public final <T> Cffu<T> mSupplyAnySuccessAsync(Executor executor, Supplier<? extends T>... suppliers) {
+        return create(CompletableFutureUtils.mSupplyAnySuccessAsync(executor, suppliers));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu that is asynchronously successful
+     * when any {@code n} of tasks running in the Cffu's default asynchronous execution facility
+     * by calling the given Suppliers success(aka quorum), with the first {@code n} successful results
+     * in their <strong>success order</strong>. Once the n successes are impossible,
+     * the returned Cffu completes exceptionally without waiting other tasks.
      *
-     * @param executor the executor to use for asynchronous execution
+     * @param n         the count of successes needed, MUST be in range {@code [1, suppliers.length]}
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>       the suppliers' return type
      * @return the new Cffu
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #nSuccessOf(int, CompletionStage[])
      */
-    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyFastFailAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return create(CompletableFutureUtils.tupleMSupplyFastFailAsync(executor, supplier1, supplier2));
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyQuorumAsync(int n, Supplier<? extends T>... suppliers) {
+        return mSupplyQuorumAsync(n, multiActionsExecutor, suppliers);
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu that is asynchronously successful
+     * when any {@code n} of tasks running in the given Executor by calling the given Suppliers success(aka quorum),
+     * with the first {@code n} successful results in their <strong>success order</strong>.
+     * Once the n successes are impossible, the returned Cffu completes exceptionally without waiting other tasks.
      *
+     * @param n         the count of successes needed, MUST be in range {@code [1, suppliers.length]}
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>       the suppliers' return type
      * @return the new Cffu
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #nSuccessOf(int, CompletionStage[])
      */
-    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyFastFailAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return tupleMSupplyFastFailAsync(defaultExecutor, supplier1, supplier2, supplier3);
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyQuorumAsync(int n, Executor executor, Supplier<? extends T>... suppliers) {
+        return create(CompletableFutureUtils.mSupplyQuorumAsync(n, executor, suppliers));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu that is asynchronously successful
+     * when any {@code n} of tasks running in the Cffu's default asynchronous execution facility
+     * by calling the given Suppliers success(aka quorum), with the first {@code n} successful results
+     * in their <strong>success order</strong>; and cancels the tasks not completed yet
+     * when the returned Cffu is decided, so the tasks not started yet will never run.
      *
-     * @param executor the executor to use for asynchronous execution
+     * @param n         the count of successes needed, MUST be in range {@code [1, suppliers.length]}
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>       the suppliers' return type
      * @return the new Cffu
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #nSuccessOfWithCancellation(int, CompletionStage[])
      */
-    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyFastFailAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return create(CompletableFutureUtils.tupleMSupplyFastFailAsync(executor, supplier1, supplier2, supplier3));
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyQuorumWithCancellationAsync(int n, Supplier<? extends T>... suppliers) {
+        return mSupplyQuorumWithCancellationAsync(n, multiActionsExecutor, suppliers);
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu that is asynchronously successful
+     * when any {@code n} of tasks running in the given Executor by calling the given Suppliers success(aka quorum),
+     * with the first {@code n} successful results in their <strong>success order</strong>;
+     * and cancels the tasks not completed yet when the returned Cffu is decided,
+     * so the tasks not started yet will never run.
      *
+     * @param n         the count of successes needed, MUST be in range {@code [1, suppliers.length]}
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>       the suppliers' return type
      * @return the new Cffu
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #nSuccessOfWithCancellation(int, CompletionStage[])
      */
-    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyFastFailAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
-        return tupleMSupplyFastFailAsync(defaultExecutor, supplier1, supplier2, supplier3, supplier4);
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mSupplyQuorumWithCancellationAsync(
+            int n, Executor executor, Supplier<? extends T>... suppliers) {
+        return create(CompletableFutureUtils.mSupplyQuorumWithCancellationAsync(n, executor, suppliers));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu that is completed
+     * when any of tasks running in the Cffu's default asynchronous execution facility
+     * by calling the given Suppliers complete, with the same result.
+     * Otherwise, if it completed exceptionally, the returned Cffu also does so,
+     * with a CompletionException holding this exception as its cause.
+     * If no suppliers are provided, returns an incomplete Cffu.
      *
-     * @param executor the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>       the suppliers' return type
      * @return the new Cffu
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #anyOf(CompletionStage[])
      */
-    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyFastFailAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
-        return create(CompletableFutureUtils.tupleMSupplyFastFailAsync(executor, supplier1, supplier2, supplier3, supplier4));
+    @SafeVarargs
+    public final <T> Cffu<T> mSupplyAnyAsync(Supplier<? extends T>... suppliers) {
+        return mSupplyAnyAsync(multiActionsExecutor, suppliers);
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu that is completed
+     * when any of tasks running in the given Executor by calling the given Suppliers complete, with the same result.
+     * Otherwise, if it completed exceptionally, the returned Cffu also does so,
+     * with a CompletionException holding this exception as its cause.
+     * If no suppliers are provided, returns an incomplete Cffu.
      *
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned Cffu
+     * @param <T>       the suppliers' return type
      * @return the new Cffu
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #anyOf(CompletionStage[])
      */
-    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyFastFailAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        return tupleMSupplyFastFailAsync(defaultExecutor, supplier1, supplier2, supplier3, supplier4, supplier5);
+    @SafeVarargs
+    public final <T> Cffu<T> mSupplyAnyAsync(Executor executor, Supplier<? extends T>... suppliers) {
+        return create(CompletableFutureUtils.mSupplyAnyAsync(executor, suppliers));
     }
 
     /**
      * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * after runs the given actions.
      *
-     * @param executor the executor to use for asynchronous execution
+     * @param actions the actions to run before completing the returned Cffu
      * @return the new Cffu
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #allFastFailOf(CompletionStage[])
      */
-    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyFastFailAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        return create(CompletableFutureUtils.tupleMSupplyFastFailAsync(executor, supplier1, supplier2, supplier3, supplier4, supplier5));
+    public Cffu<Void> mRunFastFailAsync(Runnable... actions) {
+        return mRunFastFailAsync(multiActionsExecutor, actions);
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the Cffu's default asynchronous execution facility
-     * with the successful values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * after runs the given actions.
      *
+     * @param executor the executor to use for asynchronous execution
+     * @param actions  the actions to run before completing the returned Cffu
      * @return the new Cffu
+     * @see #allFastFailOf(CompletionStage[])
      */
-    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyAllSuccessAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return tupleMSupplyAllSuccessAsync(defaultExecutor, supplier1, supplier2);
+    public Cffu<Void> mRunFastFailAsync(Executor executor, Runnable... actions) {
+        return create(CompletableFutureUtils.mRunFastFailAsync(executor, actions));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * after runs the given actions, with at most {@code maxConcurrency} tasks running concurrently.
      *
-     * @param executor the executor to use for asynchronous execution
+     * @param executor       the executor to use for asynchronous execution
+     * @param maxConcurrency the max count of tasks running concurrently(aka in flight), MUST be positive;
+     *                       the next task is submitted to the executor when a running task completes
+     * @param actions        the actions to run before completing the returned Cffu
      * @return the new Cffu
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see CompletableFutureUtils#mRunFastFailAsync(Executor, int, Runnable[])
      */
-    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyAllSuccessAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return create(CompletableFutureUtils.tupleMSupplyAllSuccessAsync(executor, supplier1, supplier2));
+    public Cffu<Void> mRunFastFailAsync(Executor executor, int maxConcurrency, Runnable... actions) {
+        return create(CompletableFutureUtils.mRunFastFailAsync(executor, maxConcurrency, actions));
     }
 
     /**
      * Returns a new Cffu that is asynchronously completed
      * by tasks running in the Cffu's default asynchronous execution facility
-     * with the successful values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * after runs the given actions.
      * <p>
-     * If the given supplier failed, use {@code null}.
+     * If {@link #inlineFirst()}, the first action runs in the caller thread, so this method returns after it completes.
      *
+     * @param actions the actions to run before completing the returned Cffu
      * @return the new Cffu
+     * @see #allOf(CompletionStage[])
      */
-    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyAllSuccessAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return tupleMSupplyAllSuccessAsync(defaultExecutor, supplier1, supplier2, supplier3);
+    public Cffu<Void> mRunAsync(Runnable... actions) {
+        return mRunAsync(multiActionsExecutor, actions);
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * after runs the given actions.
      *
      * @param executor the executor to use for asynchronous execution
+     * @param actions  the actions to run before completing the returned Cffu
      * @return the new Cffu
+     * @see #allOf(CompletionStage[])
      */
-    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyAllSuccessAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return create(CompletableFutureUtils.tupleMSupplyAllSuccessAsync(executor, supplier1, supplier2, supplier3));
+    public Cffu<Void> mRunAsync(Executor executor, Runnable... actions) {
+        return create(CompletableFutureUtils.mRunAsync(executor, actions));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the Cffu's default asynchronous execution facility
-     * with the successful values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * after runs the given actions, with at most {@code maxConcurrency} tasks running concurrently.
      *
+     * @param executor       the executor to use for asynchronous execution
+     * @param maxConcurrency the max count of tasks running concurrently(aka in flight), MUST be positive;
+     *                       the next task is submitted to the executor when a running task completes
+     * @param actions        the actions to run before completing the returned Cffu
      * @return the new Cffu
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see CompletableFutureUtils#mRunAsync(Executor, int, Runnable[])
      */
-    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyAllSuccessAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
-        return tupleMSupplyAllSuccessAsync(defaultExecutor, supplier1, supplier2, supplier3, supplier4);
+    public Cffu<Void> mRunAsync(Executor executor, int maxConcurrency, Runnable... actions) {
+        return create(CompletableFutureUtils.mRunAsync(executor, maxConcurrency, actions));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * Returns a new Cffu that is asynchronously successful
+     * when any tasks running in the Cffu's default asynchronous execution facility success.
      *
-     * @param executor the executor to use for asynchronous execution
+     * @param actions the actions to run before completing the returned Cffu
      * @return the new Cffu
+     * @see #anySuccessOf(CompletionStage[])
      */
-    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyAllSuccessAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
-        return create(CompletableFutureUtils.tupleMSupplyAllSuccessAsync(executor, supplier1, supplier2, supplier3, supplier4));
+    public Cffu<Void> mRunAnySuccessAsync(Runnable... actions) {
+        return mRunAnySuccessAsync(multiActionsExecutor, actions);
     }
 
     /**
      * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the Cffu's default asynchronous execution facility
-     * with the successful values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * when any tasks running in the Cffu's default asynchronous execution facility.
      *
+     * @param executor the executor to use for asynchronous execution
+     * @param actions  the actions to run before completing the returned Cffu
      * @return the new Cffu
+     * @see #anySuccessOf(CompletionStage[])
      */
-    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAllSuccessAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        return tupleMSupplyAllSuccessAsync(defaultExecutor, supplier1, supplier2, supplier3, supplier4, supplier5);
+    public Cffu<Void> mRunAnySuccessAsync(Executor executor, Runnable... actions) {
+        return create(CompletableFutureUtils.mRunAnySuccessAsync(executor, actions));
     }
 
     /**
      * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * when any tasks running in the Cffu's default asynchronous execution facility.
      *
-     * @param executor the executor to use for asynchronous execution
+     * @param actions the actions to run before completing the returned Cffu
      * @return the new Cffu
+     * @see #anyOf(CompletionStage[])
      */
-    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAllSuccessAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        return create(CompletableFutureUtils.tupleMSupplyAllSuccessAsync(executor, supplier1, supplier2, supplier3, supplier4, supplier5));
+    public Cffu<Void> mRunAnyAsync(Runnable... actions) {
+        return mRunAnyAsync(multiActionsExecutor, actions);
     }
 
     /**
      * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the Cffu's default asynchronous execution facility
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
+     * when any tasks running in the given executor complete.
      *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param executor the executor to use for asynchronous execution
+     * @param actions  the actions to run before completing the returned Cffu
      * @return the new Cffu
+     * @see #anyOf(CompletionStage[])
      */
-    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyMostSuccessAsync(
-            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return tupleMSupplyMostSuccessAsync(defaultExecutor, timeout, unit, supplier1, supplier2);
+    public Cffu<Void> mRunAnyAsync(Executor executor, Runnable... actions) {
+        return create(CompletableFutureUtils.mRunAnyAsync(executor, actions));
     }
 
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## map*Async Methods(create by async mapping function)
+    ////////////////////////////////////////////////////////////
+
     /**
-     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * Returns a new Cffu that is completed with the results of mapping the given items
+     * by the given async function in the <strong>same order</strong> of the given items,
+     * with at most {@code parallelism} stages in flight(aka a sliding window, like {@code flatMapSequential}
+     * of reactive libraries); the function is called in the {@link #defaultExecutor()}.
+     *
+     * @param items       the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn          the async function to map the item, called in the executor
+     * @param parallelism the max count of stages in flight, MUST be positive
+     * @param <T>         the items' type
+     * @param <U>         the function's result type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see CompletableFutureUtils#mapAsync(Collection, Function, int, Executor)
+     */
+    public <T, U> Cffu<List<U>> mapAsync(
+            Collection<? extends T> items, Function<? super T, ? extends CompletionStage<? extends U>> fn,
+            int parallelism) {
+        return mapAsync(items, fn, parallelism, defaultExecutor);
+    }
+
+    /**
+     * Returns a new Cffu that is completed with the results of mapping the given items
+     * by the given async function in the <strong>same order</strong> of the given items,
+     * with at most {@code parallelism} stages in flight(aka a sliding window, like {@code flatMapSequential}
+     * of reactive libraries); the function is called in the given Executor.
+     *
+     * @param items       the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn          the async function to map the item, called in the executor
+     * @param parallelism the max count of stages in flight, MUST be positive
+     * @param executor    the executor to call the function
+     * @param <T>         the items' type
+     * @param <U>         the function's result type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see CompletableFutureUtils#mapAsync(Collection, Function, int, Executor)
+     */
+    public <T, U> Cffu<List<U>> mapAsync(
+            Collection<? extends T> items, Function<? super T, ? extends CompletionStage<? extends U>> fn,
+            int parallelism, Executor executor) {
+        return create(CompletableFutureUtils.mapAsync(items, fn, parallelism, executor));
+    }
+
+    /**
+     * Returns a new Cffu that is successful with the results of mapping the given items
+     * by the given async function in the <strong>same order</strong> of the given items,
+     * with at most {@code parallelism} stages in flight(aka a sliding window); the function is called
+     * in the {@link #defaultExecutor()}. If any of the mapped stages complete exceptionally,
+     * the returned Cffu also does so <strong>without</strong> waiting other stages in flight.
+     *
+     * @param items       the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn          the async function to map the item, called in the executor
+     * @param parallelism the max count of stages in flight, MUST be positive
+     * @param <T>         the items' type
+     * @param <U>         the function's result type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see CompletableFutureUtils#mapFastFailAsync(Collection, Function, int, Executor)
+     */
+    public <T, U> Cffu<List<U>> mapFastFailAsync(
+            Collection<? extends T> items, Function<? super T, ? extends CompletionStage<? extends U>> fn,
+            int parallelism) {
+        return mapFastFailAsync(items, fn, parallelism, defaultExecutor);
+    }
+
+    /**
+     * Returns a new Cffu that is successful with the results of mapping the given items
+     * by the given async function in the <strong>same order</strong> of the given items,
+     * with at most {@code parallelism} stages in flight(aka a sliding window); the function is called
+     * in the given Executor. If any of the mapped stages complete exceptionally,
+     * the returned Cffu also does so <strong>without</strong> waiting other stages in flight.
+     *
+     * @param items       the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn          the async function to map the item, called in the executor
+     * @param parallelism the max count of stages in flight, MUST be positive
+     * @param executor    the executor to call the function
+     * @param <T>         the items' type
+     * @param <U>         the function's result type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see CompletableFutureUtils#mapFastFailAsync(Collection, Function, int, Executor)
+     */
+    public <T, U> Cffu<List<U>> mapFastFailAsync(
+            Collection<? extends T> items, Function<? super T, ? extends CompletionStage<? extends U>> fn,
+            int parallelism, Executor executor) {
+        return create(CompletableFutureUtils.mapFastFailAsync(items, fn, parallelism, executor));
+    }
+
+    /**
+     * Returns a new Cffu that is completed with the successful results of mapping the given items
+     * by the given async function in the <strong>same order</strong> of the given items,
+     * with at most {@code parallelism} stages in flight(aka a sliding window); the function is called
+     * in the {@link #defaultExecutor()}. If the mapped stage of an item failed, use the given valueIfFailed.
+     *
+     * @param valueIfFailed the value to return if not failed
+     * @param items         the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn            the async function to map the item, called in the executor
+     * @param parallelism   the max count of stages in flight, MUST be positive
+     * @param <T>           the items' type
+     * @param <U>           the function's result type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see CompletableFutureUtils#mapAllSuccessAsync(Object, Collection, Function, int, Executor)
+     */
+    public <T, U> Cffu<List<U>> mapAllSuccessAsync(
+            @Nullable U valueIfFailed, Collection<? extends T> items,
+            Function<? super T, ? extends CompletionStage<? extends U>> fn, int parallelism) {
+        return mapAllSuccessAsync(valueIfFailed, items, fn, parallelism, defaultExecutor);
+    }
+
+    /**
+     * Returns a new Cffu that is completed with the successful results of mapping the given items
+     * by the given async function in the <strong>same order</strong> of the given items,
+     * with at most {@code parallelism} stages in flight(aka a sliding window); the function is called
+     * in the given Executor. If the mapped stage of an item failed, use the given valueIfFailed.
+     *
+     * @param valueIfFailed the value to return if not failed
+     * @param items         the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn            the async function to map the item, called in the executor
+     * @param parallelism   the max count of stages in flight, MUST be positive
+     * @param executor      the executor to call the function
+     * @param <T>           the items' type
+     * @param <U>           the function's result type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see CompletableFutureUtils#mapAllSuccessAsync(Object, Collection, Function, int, Executor)
+     */
+    public <T, U> Cffu<List<U>> mapAllSuccessAsync(
+            @Nullable U valueIfFailed, Collection<? extends T> items,
+            Function<? super T, ? extends CompletionStage<? extends U>> fn, int parallelism, Executor executor) {
+        return create(CompletableFutureUtils.mapAllSuccessAsync(valueIfFailed, items, fn, parallelism, executor));
+    }
+
+    /**
+     * Returns a new Cffu that is completed with the most results of mapping the given items
+     * by the given async function in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given items, with at most {@code parallelism} stages
+     * in flight(aka a sliding window); the function is called in the {@link #defaultExecutor()}.
+     * If the mapped stage of an item is not successful in the given time, use the given valueIfNotSuccess.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param items             the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn                the async function to map the item, called in the executor
+     * @param parallelism       the max count of stages in flight, MUST be positive
+     * @param <T>               the items' type
+     * @param <U>               the function's result type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see CompletableFutureUtils#mapMostSuccessAsync(Object, long, TimeUnit, Collection, Function, int, Executor)
+     */
+    public <T, U> Cffu<List<U>> mapMostSuccessAsync(
+            @Nullable U valueIfNotSuccess, long timeout, TimeUnit unit, Collection<? extends T> items,
+            Function<? super T, ? extends CompletionStage<? extends U>> fn, int parallelism) {
+        return mapMostSuccessAsync(valueIfNotSuccess, timeout, unit, items, fn, parallelism, defaultExecutor);
+    }
+
+    /**
+     * Returns a new Cffu that is completed with the most results of mapping the given items
+     * by the given async function in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given items, with at most {@code parallelism} stages
+     * in flight(aka a sliding window); the function is called in the given Executor.
+     * If the mapped stage of an item is not successful in the given time, use the given valueIfNotSuccess.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param items             the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn                the async function to map the item, called in the executor
+     * @param parallelism       the max count of stages in flight, MUST be positive
+     * @param executor          the executor to call the function
+     * @param <T>               the items' type
+     * @param <U>               the function's result type
+     * @return the new Cffu
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see CompletableFutureUtils#mapMostSuccessAsync(Object, long, TimeUnit, Collection, Function, int, Executor)
+     */
+    public <T, U> Cffu<List<U>> mapMostSuccessAsync(
+            @Nullable U valueIfNotSuccess, long timeout, TimeUnit unit, Collection<? extends T> items,
+            Function<? super T, ? extends CompletionStage<? extends U>> fn, int parallelism, Executor executor) {
+        return create(CompletableFutureUtils.mapMostSuccessAsync(
+                timer, valueIfNotSuccess, budgetNanos(timeout, unit), NANOSECONDS, items, fn, parallelism, executor));
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## Tuple-Multi-Actions(tupleM*) Methods(create by actions)
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
      * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @param timeout  how long to wait in units of {@code unit}
-     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new Cffu
+     * @see #allResultsFastFailOf(CompletionStage[])
      */
-    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyMostSuccessAsync(
-            Executor executor, long timeout, TimeUnit unit,
+    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyFastFailAsync(
             Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return create(CompletableFutureUtils.tupleMSupplyMostSuccessAsync(executor, timeout, unit, supplier1, supplier2));
+        return tupleMSupplyFastFailAsync(multiActionsExecutor, supplier1, supplier2);
     }
 
     /**
      * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the Cffu's default asynchronous execution facility
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyFastFailAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return create(CompletableFutureUtils.tupleMSupplyFastFailAsync(executor, supplier1, supplier2));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
      * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
      *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new Cffu
+     * @see #allResultsFastFailOf(CompletionStage[])
      */
-    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyMostSuccessAsync(
-            long timeout, TimeUnit unit,
+    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyFastFailAsync(
             Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return tupleMSupplyMostSuccessAsync(defaultExecutor, timeout, unit, supplier1, supplier2, supplier3);
+        return tupleMSupplyFastFailAsync(multiActionsExecutor, supplier1, supplier2, supplier3);
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
      * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
      *
      * @param executor the executor to use for asynchronous execution
-     * @param timeout  how long to wait in units of {@code unit}
-     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new Cffu
+     * @see #allResultsFastFailOf(CompletionStage[])
      */
-    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyMostSuccessAsync(
-            Executor executor, long timeout, TimeUnit unit,
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return create(CompletableFutureUtils.tupleMSupplyMostSuccessAsync(
-                executor, timeout, unit, supplier1, supplier2, supplier3));
+    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyFastFailAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        return create(CompletableFutureUtils.tupleMSupplyFastFailAsync(executor, supplier1, supplier2, supplier3));
     }
 
     /**
      * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the Cffu's default asynchronous execution facility
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
      * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
      *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new Cffu
+     * @see #allResultsFastFailOf(CompletionStage[])
      */
-    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyMostSuccessAsync(
-            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
-            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
-        return tupleMSupplyMostSuccessAsync(defaultExecutor, timeout, unit, supplier1, supplier2, supplier3, supplier4);
+    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyFastFailAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return tupleMSupplyFastFailAsync(multiActionsExecutor, supplier1, supplier2, supplier3, supplier4);
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
      * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
      *
      * @param executor the executor to use for asynchronous execution
-     * @param timeout  how long to wait in units of {@code unit}
-     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new Cffu
+     * @see #allResultsFastFailOf(CompletionStage[])
      */
-    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyMostSuccessAsync(
-            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
-            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
-        return create(CompletableFutureUtils.tupleMSupplyMostSuccessAsync(
-                executor, timeout, unit, supplier1, supplier2, supplier3, supplier4));
+    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyFastFailAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return create(CompletableFutureUtils.tupleMSupplyFastFailAsync(executor, supplier1, supplier2, supplier3, supplier4));
     }
 
     /**
      * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the Cffu's default asynchronous execution facility
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
      * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
      *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new Cffu
+     * @see #allResultsFastFailOf(CompletionStage[])
      */
-    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyMostSuccessAsync(
-            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyFastFailAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
             Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        return tupleMSupplyMostSuccessAsync(defaultExecutor, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5);
+        return tupleMSupplyFastFailAsync(multiActionsExecutor, supplier1, supplier2, supplier3, supplier4, supplier5);
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
      * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @param timeout  how long to wait in units of {@code unit}
-     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new Cffu
+     * @see #allResultsFastFailOf(CompletionStage[])
      */
-    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyMostSuccessAsync(
-            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
-            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
-            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        return create(CompletableFutureUtils.tupleMSupplyMostSuccessAsync(
-                executor, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5));
+    public <T1, T2, T3, T4, T5, T6> Cffu<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyFastFailAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6) {
+        return tupleMSupplyFastFailAsync(
+                multiActionsExecutor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
     }
 
     /**
@@ -895,192 +1391,1266 @@ public final class CffuFactory {
      * in the <strong>same order</strong> of the given Suppliers arguments.
      *
      * @return the new Cffu
-     * @see #allResultsOf(CompletionStage[])
+     * @see #allResultsFastFailOf(CompletionStage[])
      */
-    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return tupleMSupplyAsync(defaultExecutor, supplier1, supplier2);
+    public <T1, T2, T3, T4, T5, T6, T7> Cffu<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyFastFailAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6,
+            Supplier<? extends T7> supplier7) {
+        return tupleMSupplyFastFailAsync(
+                multiActionsExecutor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new Cffu
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4, T5, T6, T7, T8> Cffu<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyFastFailAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6,
+            Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        return tupleMSupplyFastFailAsync(
+                multiActionsExecutor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7,
+                supplier8);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyFastFailAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return create(CompletableFutureUtils.tupleMSupplyFastFailAsync(executor, supplier1, supplier2, supplier3, supplier4, supplier5));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4, T5, T6> Cffu<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyFastFailAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6) {
+        return create(CompletableFutureUtils.tupleMSupplyFastFailAsync(
+                executor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4, T5, T6, T7> Cffu<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyFastFailAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7) {
+        return create(CompletableFutureUtils.tupleMSupplyFastFailAsync(
+                executor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4, T5, T6, T7, T8> Cffu<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyFastFailAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        return create(CompletableFutureUtils.tupleMSupplyFastFailAsync(
+                executor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7, supplier8));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new Cffu
+     */
+    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return tupleMSupplyAllSuccessAsync(multiActionsExecutor, supplier1, supplier2);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyAllSuccessAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return create(CompletableFutureUtils.tupleMSupplyAllSuccessAsync(executor, supplier1, supplier2));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new Cffu
+     */
+    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        return tupleMSupplyAllSuccessAsync(multiActionsExecutor, supplier1, supplier2, supplier3);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyAllSuccessAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        return create(CompletableFutureUtils.tupleMSupplyAllSuccessAsync(executor, supplier1, supplier2, supplier3));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return tupleMSupplyAllSuccessAsync(multiActionsExecutor, supplier1, supplier2, supplier3, supplier4);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyAllSuccessAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return create(CompletableFutureUtils.tupleMSupplyAllSuccessAsync(executor, supplier1, supplier2, supplier3, supplier4));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return tupleMSupplyAllSuccessAsync(multiActionsExecutor, supplier1, supplier2, supplier3, supplier4, supplier5);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5, T6> Cffu<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6) {
+        return tupleMSupplyAllSuccessAsync(
+                multiActionsExecutor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5, T6, T7> Cffu<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6,
+            Supplier<? extends T7> supplier7) {
+        return tupleMSupplyAllSuccessAsync(
+                multiActionsExecutor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5, T6, T7, T8> Cffu<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6,
+            Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        return tupleMSupplyAllSuccessAsync(
+                multiActionsExecutor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7,
+                supplier8);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAllSuccessAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return create(CompletableFutureUtils.tupleMSupplyAllSuccessAsync(executor, supplier1, supplier2, supplier3, supplier4, supplier5));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5, T6> Cffu<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyAllSuccessAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6) {
+        return create(CompletableFutureUtils.tupleMSupplyAllSuccessAsync(
+                executor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5, T6, T7> Cffu<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyAllSuccessAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7) {
+        return create(CompletableFutureUtils.tupleMSupplyAllSuccessAsync(
+                executor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5, T6, T7, T8> Cffu<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyAllSuccessAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        return create(CompletableFutureUtils.tupleMSupplyAllSuccessAsync(
+                executor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7, supplier8));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return tupleMSupplyMostSuccessAsync(multiActionsExecutor, timeout, unit, supplier1, supplier2);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit,
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return create(CompletableFutureUtils.tupleMSupplyMostSuccessAsync0(
+                timer, propagateCancellation, executor, budgetNanos(timeout, unit), NANOSECONDS, supplier1, supplier2));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit,
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        return tupleMSupplyMostSuccessAsync(multiActionsExecutor, timeout, unit, supplier1, supplier2, supplier3);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit,
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        return create(CompletableFutureUtils.tupleMSupplyMostSuccessAsync0(
+                timer, propagateCancellation, executor, budgetNanos(timeout, unit), NANOSECONDS, supplier1, supplier2, supplier3));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return tupleMSupplyMostSuccessAsync(multiActionsExecutor, timeout, unit, supplier1, supplier2, supplier3, supplier4);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return create(CompletableFutureUtils.tupleMSupplyMostSuccessAsync0(
+                timer, propagateCancellation, executor, budgetNanos(timeout, unit), NANOSECONDS, supplier1, supplier2, supplier3, supplier4));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return tupleMSupplyMostSuccessAsync(multiActionsExecutor, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5, T6> Cffu<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6) {
+        return tupleMSupplyMostSuccessAsync(
+                multiActionsExecutor, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5, T6, T7> Cffu<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7) {
+        return tupleMSupplyMostSuccessAsync(
+                multiActionsExecutor, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6,
+                supplier7);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the Cffu's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5, T6, T7, T8> Cffu<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        return tupleMSupplyMostSuccessAsync(
+                multiActionsExecutor, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6,
+                supplier7, supplier8);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return create(CompletableFutureUtils.tupleMSupplyMostSuccessAsync0(
+                timer, propagateCancellation, executor, budgetNanos(timeout, unit), NANOSECONDS,
+                supplier1, supplier2, supplier3, supplier4, supplier5));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5, T6> Cffu<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4,
+            Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6) {
+        return create(CompletableFutureUtils.tupleMSupplyMostSuccessAsync0(
+                timer, propagateCancellation, executor, budgetNanos(timeout, unit), NANOSECONDS,
+                supplier1, supplier2, supplier3, supplier4, supplier5, supplier6));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5, T6, T7> Cffu<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4,
+            Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7) {
+        return create(CompletableFutureUtils.tupleMSupplyMostSuccessAsync0(
+                timer, propagateCancellation, executor, budgetNanos(timeout, unit), NANOSECONDS,
+                supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new Cffu
+     */
+    public <T1, T2, T3, T4, T5, T6, T7, T8> Cffu<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4,
+            Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7,
+            Supplier<? extends T8> supplier8) {
+        return create(CompletableFutureUtils.tupleMSupplyMostSuccessAsync0(
+                timer, propagateCancellation, executor, budgetNanos(timeout, unit), NANOSECONDS,
+                supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7,
+                supplier8));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return tupleMSupplyAsync(multiActionsExecutor, supplier1, supplier2);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return create(CompletableFutureUtils.tupleMSupplyAsync(executor, supplier1, supplier2));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        return tupleMSupplyAsync(multiActionsExecutor, supplier1, supplier2, supplier3);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyAsync(
+            Executor executor, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        return create(CompletableFutureUtils.tupleMSupplyAsync(executor, supplier1, supplier2, supplier3));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return tupleMSupplyAsync(multiActionsExecutor, supplier1, supplier2, supplier3, supplier4);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return create(CompletableFutureUtils.tupleMSupplyAsync(executor, supplier1, supplier2, supplier3, supplier4));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return tupleMSupplyAsync(multiActionsExecutor, supplier1, supplier2, supplier3, supplier4, supplier5);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4, T5, T6> Cffu<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6) {
+        return tupleMSupplyAsync(multiActionsExecutor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4, T5, T6, T7> Cffu<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6,
+            Supplier<? extends T7> supplier7) {
+        return tupleMSupplyAsync(
+                multiActionsExecutor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4, T5, T6, T7, T8> Cffu<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6,
+            Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        return tupleMSupplyAsync(
+                multiActionsExecutor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7,
+                supplier8);
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return create(CompletableFutureUtils.tupleMSupplyAsync(executor, supplier1, supplier2, supplier3, supplier4, supplier5));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4, T5, T6> Cffu<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6) {
+        return create(CompletableFutureUtils.tupleMSupplyAsync(
+                executor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4, T5, T6, T7> Cffu<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7) {
+        return create(CompletableFutureUtils.tupleMSupplyAsync(
+                executor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7));
+    }
+
+    /**
+     * Returns a new Cffu that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new Cffu
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public <T1, T2, T3, T4, T5, T6, T7, T8> Cffu<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        return create(CompletableFutureUtils.tupleMSupplyAsync(
+                executor, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7, supplier8));
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////////////////////////
+    // region## allOf* Methods(including mostSuccessResultsOf)
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new Cffu that is successful with the results in the <strong>same order</strong>
+     * of the given stages arguments when all the given stages success;
+     * If any of the given stages complete exceptionally, then the returned Cffu also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a Cffu completed with the value empty list.
+     * <p>
+     * This method is the same as {@link #allResultsOf(CompletionStage[])} except for the fast-fail behavior.
+     *
+     * @param cfs the stages
+     * @return a new Cffu that is successful when all the given stages success
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see #propagateCancellation()
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<List<T>> allResultsFastFailOf(CompletionStage<? extends T>... cfs) {
+        if (propagateCancellation) return allResultsFastFailOfWithCancellation(cfs);
+        return create(CompletableFutureUtils.allResultsFastFailOf(cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is successful with the results in the <strong>same order</strong>
+     * of the given stages collection when all the given stages success;
+     * If any of the given stages complete exceptionally, then the returned Cffu also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a Cffu completed with the value empty list.
+     * <p>
+     * This method is the same as {@link #allResultsFastFailOf(CompletionStage[])}, except that the stages are
+     * given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is successful when all the given stages success
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     * @see #propagateCancellation()
+     */
+    @Contract(pure = true)
+    public <T> Cffu<List<T>> allResultsFastFailOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        if (propagateCancellation) return allResultsFastFailOfWithCancellation(cfs);
+        return create(CompletableFutureUtils.allResultsFastFailOf(cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is successful with the results in the <strong>same order</strong>
+     * of the given stages arguments when all the given stages success;
+     * and cancels the given stages not completed yet when the returned Cffu is decided.
+     *
+     * @param cfs the stages
+     * @return a new Cffu that is successful when all the given stages success
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see CompletableFutureUtils#allResultsFastFailOfWithCancellation(CompletionStage[])
+     */
+    @SafeVarargs
+    public final <T> Cffu<List<T>> allResultsFastFailOfWithCancellation(CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allResultsFastFailOfWithCancellation(cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is successful with the results in the <strong>same order</strong>
+     * of the given stages collection when all the given stages success;
+     * and cancels the given stages not completed yet when the returned Cffu is decided.
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is successful when all the given stages success
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     * @see CompletableFutureUtils#allResultsFastFailOfWithCancellation(Collection)
+     */
+    public <T> Cffu<List<T>> allResultsFastFailOfWithCancellation(
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.allResultsFastFailOfWithCancellation(cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is successful with the results in the <strong>same order</strong>
+     * of the given stages arguments when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     * If no stages are provided, returns a Cffu completed with the value empty list.
+     *
+     * @param valueIfFailed the value to return if not completed successfully
+     * @param cfs           the stages
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<List<T>> allSuccessResultsOf(
+            @Nullable T valueIfFailed, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allSuccessResultsOf(valueIfFailed, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is successful with the results in the <strong>same order</strong>
+     * of the given stages collection when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     * If no stages are provided, returns a Cffu completed with the value empty list.
+     * <p>
+     * This method is the same as {@link #allSuccessResultsOf(Object, CompletionStage[])}, except that the stages are
+     * given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param valueIfFailed the value to return if not completed successfully
+     * @param cfs           the stages, MUST NOT be modified during this method call
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public <T> Cffu<List<T>> allSuccessResultsOf(
+            @Nullable T valueIfFailed, Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.allSuccessResultsOf(valueIfFailed, cfs));
+    }
+
+    /**
+     * Returns a new Cffu with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the given valueIfNotSuccess.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout       how long to wait in units of {@code unit}
+     * @param unit          a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param cfs           the stages
+     * @see Cffu#getSuccessNow(Object)
+     * @see #propagateCancellation()
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mostSuccessResultsOf(
+            @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit, CompletionStage<? extends T>... cfs) {
+        if (propagateCancellation) return mostSuccessResultsOfWithCancellation(valueIfNotSuccess, timeout, unit, cfs);
+        return create(CompletableFutureUtils.mostSuccessResultsOf0(timer, valueIfNotSuccess, defaultExecutor,
+                budgetNanos(timeout, unit), NANOSECONDS, false, Arrays.asList(requireNonNull(cfs, "cfs is null"))));
+    }
+
+    /**
+     * Returns a new Cffu with the most results in the <strong>same order</strong> of
+     * the given stages collection in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the given valueIfNotSuccess.
+     * <p>
+     * This method is the same as {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])},
+     * except that the stages are given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param cfs               the stages, MUST NOT be modified during this method call
+     * @see Cffu#getSuccessNow(Object)
+     * @see #propagateCancellation()
+     */
+    @Contract(pure = true)
+    public <T> Cffu<List<T>> mostSuccessResultsOf(@Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+                                                  Collection<? extends CompletionStage<? extends T>> cfs) {
+        if (propagateCancellation) return mostSuccessResultsOfWithCancellation(valueIfNotSuccess, timeout, unit, cfs);
+        return create(CompletableFutureUtils.mostSuccessResultsOf0(
+                timer, valueIfNotSuccess, defaultExecutor, budgetNanos(timeout, unit), NANOSECONDS, false, cfs));
+    }
+
+    /**
+     * Returns a new Cffu with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time);
+     * and cancels the given stages not completed yet when the timeout fires or the returned Cffu is cancelled.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param cfs               the stages
+     * @see CompletableFutureUtils#mostSuccessResultsOfWithCancellation(Object, Executor, long, TimeUnit, CompletionStage[])
+     */
+    @SafeVarargs
+    public final <T> Cffu<List<T>> mostSuccessResultsOfWithCancellation(
+            @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.mostSuccessResultsOf0(timer, valueIfNotSuccess, defaultExecutor,
+                budgetNanos(timeout, unit), NANOSECONDS, true, Arrays.asList(requireNonNull(cfs, "cfs is null"))));
+    }
+
+    /**
+     * Returns a new Cffu with the most results in the <strong>same order</strong> of
+     * the given stages collection in the given time({@code timeout}, aka as many results as possible in the given time);
+     * and cancels the given stages not completed yet when the timeout fires or the returned Cffu is cancelled.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param cfs               the stages, MUST NOT be modified during this method call
+     * @see CompletableFutureUtils#mostSuccessResultsOfWithCancellation(Object, Executor, long, TimeUnit, Collection)
+     */
+    public <T> Cffu<List<T>> mostSuccessResultsOfWithCancellation(
+            @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.mostSuccessResultsOf0(
+                timer, valueIfNotSuccess, defaultExecutor, budgetNanos(timeout, unit), NANOSECONDS, true, cfs));
+    }
+
+    /**
+     * Returns a new Cffu with the results in the <strong>same order</strong> of the given stages arguments,
+     * the new Cffu is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally, then the returned Cffu also does so,
+     * with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a Cffu completed with the value empty list.
+     * <p>
+     * This method is the same as {@link #allOf(CompletionStage[])},
+     * except that the returned Cffu contains the results of the given stages.
+     *
+     * @param cfs the stages
+     * @return a new Cffu that is completed when all the given stages complete
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<List<T>> allResultsOf(CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allResultsOf(cfs));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu with the results in the <strong>same order</strong> of the given stages collection,
+     * the new Cffu is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally, then the returned Cffu also does so,
+     * with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a Cffu completed with the value empty list.
+     * <p>
+     * This method is the same as {@link #allResultsOf(CompletionStage[])}, except that the stages are
+     * given by a collection, which is consumed directly(without copying to an array).
      *
-     * @param executor the executor to use for asynchronous execution
-     * @return the new Cffu
-     * @see #allResultsOf(CompletionStage[])
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is completed when all the given stages complete
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
      */
-    public <T1, T2> Cffu<Tuple2<T1, T2>> tupleMSupplyAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return create(CompletableFutureUtils.tupleMSupplyAsync(executor, supplier1, supplier2));
+    @Contract(pure = true)
+    public <T> Cffu<List<T>> allResultsOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.allResultsOf(cfs));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu with the int results in the <strong>same order</strong> of the given stages arguments,
+     * the new Cffu is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally(or with the {@code null} result), then the returned Cffu
+     * also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a Cffu completed with the value empty array.
+     * <p>
+     * This method is the same as {@link #allResultsOf(CompletionStage[])}, except that each stage writes
+     * its result into the {@code int[]} result array directly, instead of building a boxed result list.
      *
-     * @return the new Cffu
-     * @see #allResultsOf(CompletionStage[])
+     * @param cfs the stages
+     * @return a new Cffu that is completed when all the given stages complete
+     * @throws NullPointerException if the array or any of its elements are {@code null}
      */
-    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return tupleMSupplyAsync(defaultExecutor, supplier1, supplier2, supplier3);
+    @Contract(pure = true)
+    @SafeVarargs
+    public final Cffu<int[]> allIntResultsOf(CompletionStage<? extends Integer>... cfs) {
+        return create(CompletableFutureUtils.allIntResultsOf(cfs));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu with the int results in the <strong>same order</strong> of the given stages collection,
+     * the new Cffu is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally(or with the {@code null} result), then the returned Cffu
+     * also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a Cffu completed with the value empty array.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @return the new Cffu
-     * @see #allResultsOf(CompletionStage[])
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is completed when all the given stages complete
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
      */
-    public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> tupleMSupplyAsync(
-            Executor executor, Supplier<? extends T1> supplier1,
-            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return create(CompletableFutureUtils.tupleMSupplyAsync(executor, supplier1, supplier2, supplier3));
+    @Contract(pure = true)
+    public Cffu<int[]> allIntResultsOf(Collection<? extends CompletionStage<? extends Integer>> cfs) {
+        return create(CompletableFutureUtils.allIntResultsOf(cfs));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu with the long results in the <strong>same order</strong> of the given stages arguments,
+     * the new Cffu is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally(or with the {@code null} result), then the returned Cffu
+     * also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a Cffu completed with the value empty array.
+     * <p>
+     * This method is the same as {@link #allResultsOf(CompletionStage[])}, except that each stage writes
+     * its result into the {@code long[]} result array directly, instead of building a boxed result list.
      *
-     * @return the new Cffu
-     * @see #allResultsOf(CompletionStage[])
+     * @param cfs the stages
+     * @return a new Cffu that is completed when all the given stages complete
+     * @throws NullPointerException if the array or any of its elements are {@code null}
      */
-    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
-        return tupleMSupplyAsync(defaultExecutor, supplier1, supplier2, supplier3, supplier4);
+    @Contract(pure = true)
+    @SafeVarargs
+    public final Cffu<long[]> allLongResultsOf(CompletionStage<? extends Long>... cfs) {
+        return create(CompletableFutureUtils.allLongResultsOf(cfs));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu with the long results in the <strong>same order</strong> of the given stages collection,
+     * the new Cffu is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally(or with the {@code null} result), then the returned Cffu
+     * also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a Cffu completed with the value empty array.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @return the new Cffu
-     * @see #allResultsOf(CompletionStage[])
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is completed when all the given stages complete
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
      */
-    public <T1, T2, T3, T4> Cffu<Tuple4<T1, T2, T3, T4>> tupleMSupplyAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
-        return create(CompletableFutureUtils.tupleMSupplyAsync(executor, supplier1, supplier2, supplier3, supplier4));
+    @Contract(pure = true)
+    public Cffu<long[]> allLongResultsOf(Collection<? extends CompletionStage<? extends Long>> cfs) {
+        return create(CompletableFutureUtils.allLongResultsOf(cfs));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the {@link #defaultExecutor()} with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu with the double results in the <strong>same order</strong> of the given stages arguments,
+     * the new Cffu is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally(or with the {@code null} result), then the returned Cffu
+     * also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a Cffu completed with the value empty array.
+     * <p>
+     * This method is the same as {@link #allResultsOf(CompletionStage[])}, except that each stage writes
+     * its result into the {@code double[]} result array directly, instead of building a boxed result list.
      *
-     * @return the new Cffu
-     * @see #allResultsOf(CompletionStage[])
+     * @param cfs the stages
+     * @return a new Cffu that is completed when all the given stages complete
+     * @throws NullPointerException if the array or any of its elements are {@code null}
      */
-    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        return tupleMSupplyAsync(defaultExecutor, supplier1, supplier2, supplier3, supplier4, supplier5);
+    @Contract(pure = true)
+    @SafeVarargs
+    public final Cffu<double[]> allDoubleResultsOf(CompletionStage<? extends Double>... cfs) {
+        return create(CompletableFutureUtils.allDoubleResultsOf(cfs));
     }
 
     /**
-     * Returns a new Cffu that is asynchronously completed
-     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new Cffu with the double results in the <strong>same order</strong> of the given stages collection,
+     * the new Cffu is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally(or with the {@code null} result), then the returned Cffu
+     * also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a Cffu completed with the value empty array.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @return the new Cffu
-     * @see #allResultsOf(CompletionStage[])
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is completed when all the given stages complete
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
      */
-    public <T1, T2, T3, T4, T5> Cffu<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        return create(CompletableFutureUtils.tupleMSupplyAsync(executor, supplier1, supplier2, supplier3, supplier4, supplier5));
+    @Contract(pure = true)
+    public Cffu<double[]> allDoubleResultsOf(Collection<? extends CompletionStage<? extends Double>> cfs) {
+        return create(CompletableFutureUtils.allDoubleResultsOf(cfs));
     }
 
-    // endregion
-    ////////////////////////////////////////////////////////////////////////////////
-    // region## allOf* Methods(including mostSuccessResultsOf)
-    ////////////////////////////////////////////////////////////////////////////////
-
     /**
-     * Returns a new Cffu that is successful with the results in the <strong>same order</strong>
-     * of the given stages arguments when all the given stages success;
-     * If any of the given stages complete exceptionally, then the returned Cffu also does so
-     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
-     * If no stages are provided, returns a Cffu completed with the value empty list.
-     * <p>
-     * This method is the same as {@link #allResultsOf(CompletionStage[])} except for the fast-fail behavior.
+     * Returns a new Cffu with the reduction of the results of the given stages, using the provided
+     * identity, accumulation and combining functions; the new Cffu is completed when all the given stages complete.
+     * Each result is folded as it arrives(in the <strong>completion order</strong>),
+     * instead of kept until all the given stages complete, so the memory is constant to the count of stages.
+     * If any of the given stages complete exceptionally(or the functions threw), then the returned Cffu
+     * also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a Cffu completed with the value {@code identity}.
      *
-     * @param cfs the stages
-     * @return a new Cffu that is successful when all the given stages success
+     * @param identity    the identity value for the combiner function
+     * @param accumulator an associative, non-interfering, stateless function for incorporating a result
+     * @param combiner    an associative, non-interfering, stateless function for combining two values
+     * @param cfs         the stages
+     * @return a new Cffu that is completed when all the given stages complete
      * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see CompletableFutureUtils#allResultsReduceOf(Object, BiFunction, BinaryOperator, CompletionStage[])
      */
     @Contract(pure = true)
     @SafeVarargs
-    public final <T> Cffu<List<T>> allResultsFastFailOf(CompletionStage<? extends T>... cfs) {
-        return create(CompletableFutureUtils.allResultsFastFailOf(cfs));
+    public final <T, U> Cffu<U> allResultsReduceOf(
+            U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner,
+            CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allResultsReduceOf(identity, accumulator, combiner, cfs));
     }
 
     /**
-     * Returns a new Cffu that is successful with the results in the <strong>same order</strong>
-     * of the given stages arguments when all the given stages completed;
-     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
-     * If no stages are provided, returns a Cffu completed with the value empty list.
+     * Returns a new Cffu with the reduction of the results of the given stages collection,
+     * using the provided identity, accumulation and combining functions; each result is folded as it arrives.
      *
-     * @param valueIfFailed the value to return if not completed successfully
-     * @param cfs           the stages
-     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @param identity    the identity value for the combiner function
+     * @param accumulator an associative, non-interfering, stateless function for incorporating a result
+     * @param combiner    an associative, non-interfering, stateless function for combining two values
+     * @param cfs         the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is completed when all the given stages complete
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
      */
     @Contract(pure = true)
-    @SafeVarargs
-    public final <T> Cffu<List<T>> allSuccessResultsOf(
-            @Nullable T valueIfFailed, CompletionStage<? extends T>... cfs) {
-        return create(CompletableFutureUtils.allSuccessResultsOf(valueIfFailed, cfs));
+    public <T, U> Cffu<U> allResultsReduceOf(
+            U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner,
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.allResultsReduceOf(identity, accumulator, combiner, cfs));
     }
 
     /**
-     * Returns a new Cffu with the most results in the <strong>same order</strong> of
-     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
-     * <p>
-     * If the given stage is successful, its result is the completed value; Otherwise the given valueIfNotSuccess.
+     * Returns a new Cffu with the result of a mutable reduction of the results of the given stages
+     * using the given {@link Collector}; the new Cffu is completed when all the given stages complete.
+     * Each result is accumulated into the result container as it arrives(in the <strong>completion order</strong>),
+     * instead of kept until all the given stages complete, so the memory is constant to the count of stages.
+     * If any of the given stages complete exceptionally(or the collector functions threw), then the returned
+     * Cffu also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a Cffu completed with the collection result of no elements.
      *
-     * @param valueIfNotSuccess the value to return if not completed successfully
-     * @param timeout       how long to wait in units of {@code unit}
-     * @param unit          a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @param cfs           the stages
-     * @see Cffu#getSuccessNow(Object)
+     * @param collector the {@code Collector} describing the reduction
+     * @param cfs       the stages
+     * @return a new Cffu that is completed when all the given stages complete
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see CompletableFutureUtils#allResultsCollectOf(Collector, CompletionStage[])
      */
     @Contract(pure = true)
     @SafeVarargs
-    public final <T> Cffu<List<T>> mostSuccessResultsOf(
-            @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit, CompletionStage<? extends T>... cfs) {
-        return create(CompletableFutureUtils.mostSuccessResultsOf(
-                valueIfNotSuccess, defaultExecutor, timeout, unit, cfs));
+    public final <T, A, R> Cffu<R> allResultsCollectOf(
+            Collector<? super T, A, R> collector, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.allResultsCollectOf(collector, cfs));
     }
 
     /**
-     * Returns a new Cffu with the results in the <strong>same order</strong> of the given stages arguments,
-     * the new Cffu is completed when all the given stages complete;
-     * If any of the given stages complete exceptionally, then the returned Cffu also does so,
-     * with a CompletionException holding this exception as its cause.
-     * If no stages are provided, returns a Cffu completed with the value empty list.
-     * <p>
-     * This method is the same as {@link #allOf(CompletionStage[])},
-     * except that the returned Cffu contains the results of the given stages.
+     * Returns a new Cffu with the result of a mutable reduction of the results of the given
+     * stages collection using the given {@link Collector}; each result is accumulated as it arrives.
      *
-     * @param cfs the stages
+     * @param collector the {@code Collector} describing the reduction
+     * @param cfs       the stages, MUST NOT be modified during this method call
      * @return a new Cffu that is completed when all the given stages complete
-     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
      */
     @Contract(pure = true)
-    @SafeVarargs
-    public final <T> Cffu<List<T>> allResultsOf(CompletionStage<? extends T>... cfs) {
-        return create(CompletableFutureUtils.allResultsOf(cfs));
+    public <T, A, R> Cffu<R> allResultsCollectOf(
+            Collector<? super T, A, R> collector, Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.allResultsCollectOf(collector, cfs));
     }
 
     /**
@@ -1117,6 +2687,26 @@ public final class CffuFactory {
         return create(CompletableFutureUtils.allFastFailOf(cfs));
     }
 
+    /**
+     * Returns a new Cffu that is successful when all the given stages success;
+     * If any of the given stages complete exceptionally, then the returned Cffu also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     * Otherwise, the results of the given stages are not reflected in the returned Cffu({@code Cffu<Void>}),
+     * but may be obtained by inspecting them individually.
+     * If no stages are provided, returns a Cffu completed with the value {@code null}.
+     * <p>
+     * This method is the same as {@link #allFastFailOf(CompletionStage[])}, except that the stages are
+     * given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is successful when all the given stages success
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public Cffu<Void> allFastFailOf(Collection<? extends CompletionStage<?>> cfs) {
+        return create(CompletableFutureUtils.allFastFailOf(cfs));
+    }
+
     /**
      * Returns a new Cffu that is completed when all the given stages complete;
      * If any of the given stages complete exceptionally, then the returned Cffu also does so,
@@ -1151,29 +2741,173 @@ public final class CffuFactory {
         return create(CompletableFutureUtils.allOf(cfs));
     }
 
+    /**
+     * Returns a new Cffu that is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally, then the returned Cffu also does so,
+     * with a CompletionException holding this exception as its cause.
+     * Otherwise, the results, if any, of the given stages are not reflected in the returned
+     * Cffu({@code Cffu<Void>}), but may be obtained by inspecting them individually.
+     * If no stages are provided, returns a Cffu completed with the value {@code null}.
+     * <p>
+     * This method is the same as {@link #allOf(CompletionStage[])}, except that the stages are
+     * given by a collection.
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is completed when all the given stages complete
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public Cffu<Void> allOf(Collection<? extends CompletionStage<?>> cfs) {
+        return create(CompletableFutureUtils.allOf(cfs));
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////////////////////////
     // region## anyOf* Methods
     ////////////////////////////////////////////////////////////////////////////////
 
     /**
-     * Returns a new Cffu that is successful when any of the given stages success,
-     * with the same result. Otherwise, all the given stages complete exceptionally,
-     * the returned Cffu also does so, with a CompletionException holding
-     * an exception from any of the given stages as its cause. If no stages are provided,
-     * returns a new Cffu that is already completed exceptionally
-     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
+     * Returns a new Cffu that is successful when any of the given stages success,
+     * with the same result. Otherwise, all the given stages complete exceptionally,
+     * the returned Cffu also does so, with a CompletionException holding
+     * an exception from any of the given stages as its cause. If no stages are provided,
+     * returns a new Cffu that is already completed exceptionally
+     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
+     * <p>
+     * This method is the same as {@link #anyOf(CompletionStage[])}
+     * except for the any-<strong>success</strong> behavior instead of any-<strong>complete</strong>.
+     *
+     * @param cfs the stages
+     * @return a new Cffu that is successful when any of the given stages success, with the same result
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see #propagateCancellation()
+     */
+    @SafeVarargs
+    public final <T> Cffu<T> anySuccessOf(CompletionStage<? extends T>... cfs) {
+        if (propagateCancellation) return anySuccessOfWithCancellation(cfs);
+        return create(CompletableFutureUtils.anySuccessOf(cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is successful when any of the given stages success,
+     * with the same result. Otherwise, all the given stages complete exceptionally,
+     * the returned Cffu also does so, with a CompletionException holding
+     * an exception from any of the given stages as its cause. If no stages are provided,
+     * returns a new Cffu that is already completed exceptionally
+     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
+     * <p>
+     * This method is the same as {@link #anySuccessOf(CompletionStage[])}, except that the stages are
+     * given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is successful when any of the given stages success, with the same result
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     * @see #propagateCancellation()
+     */
+    public <T> Cffu<T> anySuccessOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        if (propagateCancellation) return anySuccessOfWithCancellation(cfs);
+        return create(CompletableFutureUtils.anySuccessOf(cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is successful when any of the given stages success, with the same result;
+     * and cancels the given stages not completed yet when the returned Cffu is decided.
+     *
+     * @param cfs the stages
+     * @return a new Cffu that is successful when any of the given stages success, with the same result
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see CompletableFutureUtils#anySuccessOfWithCancellation(CompletionStage[])
+     */
+    @SafeVarargs
+    public final <T> Cffu<T> anySuccessOfWithCancellation(CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.anySuccessOfWithCancellation(cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is successful when any of the given stages success, with the same result;
+     * and cancels the given stages not completed yet when the returned Cffu is decided.
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is successful when any of the given stages success, with the same result
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     * @see CompletableFutureUtils#anySuccessOfWithCancellation(Collection)
+     */
+    public <T> Cffu<T> anySuccessOfWithCancellation(Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.anySuccessOfWithCancellation(cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is successful when any {@code n} of the given stages success(aka quorum),
+     * with the first {@code n} successful results in their <strong>success order</strong>. Once the failed stages
+     * are more than {@code cfs.length - n}, the n successes are impossible, the returned Cffu
+     * completes exceptionally <strong>without</strong> waiting other incomplete given stages,
+     * with a CompletionException holding the exception of the failed stage making the n successes impossible
+     * as its cause.
+     *
+     * @param n   the count of successes needed, MUST be in range {@code [1, cfs.length]}
+     * @param cfs the stages
+     * @return a new Cffu that is successful when any n of the given stages success, with the first n successful results
+     * @throws NullPointerException     if the array or any of its elements are {@code null}
+     * @throws IllegalArgumentException if {@code n} is not in range {@code [1, cfs.length]}
+     * @see CompletableFutureUtils#nSuccessOf(int, CompletionStage[])
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> Cffu<List<T>> nSuccessOf(int n, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.nSuccessOf(n, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is successful when any {@code n} of the given stages success(aka quorum),
+     * with the first {@code n} successful results in their <strong>success order</strong>.
+     * <p>
+     * This method is the same as {@link #nSuccessOf(int, CompletionStage[])}, except that the stages are
+     * given by a collection.
+     *
+     * @param n   the count of successes needed, MUST be in range {@code [1, cfs.size()]}
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is successful when any n of the given stages success, with the first n successful results
+     * @throws NullPointerException     if the collection or any of its elements are {@code null}
+     * @throws IllegalArgumentException if {@code n} is not in range {@code [1, cfs.size()]}
+     */
+    @Contract(pure = true)
+    public <T> Cffu<List<T>> nSuccessOf(int n, Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.nSuccessOf(n, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is successful when any {@code n} of the given stages success(aka quorum),
+     * with the first {@code n} successful results in their <strong>success order</strong>;
+     * and cancels the stragglers when the returned Cffu is decided.
+     *
+     * @param n   the count of successes needed, MUST be in range {@code [1, cfs.length]}
+     * @param cfs the stages
+     * @return a new Cffu that is successful when any n of the given stages success, with the first n successful results
+     * @throws NullPointerException     if the array or any of its elements are {@code null}
+     * @throws IllegalArgumentException if {@code n} is not in range {@code [1, cfs.length]}
+     * @see CompletableFutureUtils#nSuccessOfWithCancellation(int, CompletionStage[])
+     */
+    @SafeVarargs
+    public final <T> Cffu<List<T>> nSuccessOfWithCancellation(int n, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.nSuccessOfWithCancellation(n, cfs));
+    }
+
+    /**
+     * Returns a new Cffu that is successful when any {@code n} of the given stages success(aka quorum),
+     * with the first {@code n} successful results in their <strong>success order</strong>;
+     * and cancels the stragglers when the returned Cffu is decided.
      * <p>
-     * This method is the same as {@link #anyOf(CompletionStage[])}
-     * except for the any-<strong>success</strong> behavior instead of any-<strong>complete</strong>.
+     * This method is the same as {@link #nSuccessOfWithCancellation(int, CompletionStage[])}, except that
+     * the stages are given by a collection.
      *
-     * @param cfs the stages
-     * @return a new Cffu that is successful when any of the given stages success, with the same result
-     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @param n   the count of successes needed, MUST be in range {@code [1, cfs.size()]}
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is successful when any n of the given stages success, with the first n successful results
+     * @throws NullPointerException     if the collection or any of its elements are {@code null}
+     * @throws IllegalArgumentException if {@code n} is not in range {@code [1, cfs.size()]}
      */
-    @SafeVarargs
-    public final <T> Cffu<T> anySuccessOf(CompletionStage<? extends T>... cfs) {
-        return create(CompletableFutureUtils.anySuccessOf(cfs));
+    public <T> Cffu<List<T>> nSuccessOfWithCancellation(int n, Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.nSuccessOfWithCancellation(n, cfs));
     }
 
     /**
@@ -1197,6 +2931,108 @@ public final class CffuFactory {
         return create(CompletableFutureUtils.anyOf(cfs));
     }
 
+    /**
+     * Returns a new Cffu that is completed when any of the given stages complete, with the same result.<br>
+     * Otherwise, if it completed exceptionally, the returned Cffu also does so,
+     * with a CompletionException holding this exception as its cause.<br>
+     * If no stages are provided, returns an incomplete Cffu.
+     * <p>
+     * This method is the same as {@link #anyOf(CompletionStage[])}, except that the stages are
+     * given by a collection.
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is completed with the result or exception
+     * from any of the given stages when one completes
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public <T> Cffu<T> anyOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.anyOf(cfs));
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////////////////////////
+    // region## completionOrder* Methods
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a list of new Cffus that are completed with the results or exceptions
+     * of the given stages in their <strong>completion order</strong>: the first returned Cffu
+     * is completed by the first completed given stage, the second by the second completed one, and so on.
+     * The returned list has the same size as the given stages, and is unmodifiable.
+     * <p>
+     * So the results of the given stages can be consumed as soon as they complete,
+     * e.g. {@code completionOrder(cf1, cf2, cf3).stream().map(Cffu::join)}.
+     *
+     * @param cfs the stages
+     * @return a list of new Cffus that are completed in the completion order of the given stages
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see CompletableFutureUtils#completionOrder(CompletionStage[])
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public final <T> List<Cffu<T>> completionOrder(CompletionStage<? extends T>... cfs) {
+        return completionOrder(Arrays.asList(requireNonNull(cfs, "cfs is null")));
+    }
+
+    /**
+     * Returns a list of new Cffus that are completed with the results or exceptions
+     * of the given stages in their <strong>completion order</strong>.
+     * <p>
+     * This method is the same as {@link #completionOrder(CompletionStage[])}, except that the stages are
+     * given by a collection.
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a list of new Cffus that are completed in the completion order of the given stages
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public <T> List<Cffu<T>> completionOrder(Collection<? extends CompletionStage<? extends T>> cfs) {
+        final List<CompletableFuture<T>> cfList = CompletableFutureUtils.completionOrder(cfs);
+        final List<Cffu<T>> ret = new ArrayList<>(cfList.size());
+        for (CompletableFuture<T> cf : cfList) ret.add(create(cf));
+        return Collections.unmodifiableList(ret);
+    }
+
+    /**
+     * Performs the given action for the result or exception of each given stage in their
+     * <strong>completion order</strong>, as soon as each stage completes; returns a new Cffu
+     * that is completed after the action is performed for all the given stages.
+     * <p>
+     * The action invocations are serialized(never concurrent) and performed in completion order.
+     * If the action throws an exception, the returned Cffu completes exceptionally
+     * with a CompletionException holding this exception as its cause, and the remaining stages are not delivered.
+     *
+     * @param action the action to perform for each completed stage
+     * @param cfs    the stages
+     * @return a new Cffu that is completed after the action is performed for all the given stages
+     * @throws NullPointerException if the action, the array or any of its elements are {@code null}
+     * @see CompletableFutureUtils#forEachInCompletionOrder(BiConsumer, CompletionStage[])
+     */
+    @SafeVarargs
+    public final <T> Cffu<Void> forEachInCompletionOrder(
+            BiConsumer<? super T, ? super Throwable> action, CompletionStage<? extends T>... cfs) {
+        return create(CompletableFutureUtils.forEachInCompletionOrder(action, cfs));
+    }
+
+    /**
+     * Performs the given action for the result or exception of each given stage in their
+     * <strong>completion order</strong>, as soon as each stage completes; returns a new Cffu
+     * that is completed after the action is performed for all the given stages.
+     * <p>
+     * This method is the same as {@link #forEachInCompletionOrder(BiConsumer, CompletionStage[])},
+     * except that the stages are given by a collection.
+     *
+     * @param action the action to perform for each completed stage
+     * @param cfs    the stages, MUST NOT be modified during this method call
+     * @return a new Cffu that is completed after the action is performed for all the given stages
+     * @throws NullPointerException if the action, the collection or any of its elements are {@code null}
+     */
+    public <T> Cffu<Void> forEachInCompletionOrder(
+            BiConsumer<? super T, ? super Throwable> action, Collection<? extends CompletionStage<? extends T>> cfs) {
+        return create(CompletableFutureUtils.forEachInCompletionOrder(action, cfs));
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////////////////////////
     // region## allTupleOf*/mostSuccessTupleOf Methods
@@ -1264,6 +3100,56 @@ public final class CffuFactory {
         return create(CompletableFutureUtils.allTupleFastFailOf(cf1, cf2, cf3, cf4, cf5));
     }
 
+    /**
+     * Returns a new Cffu that is successful when the given six stages success.
+     * If any of the given stages complete exceptionally, then the returned Cffu also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     *
+     * @return a new Cffu that is successful when the given six stages success
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, T6> Cffu<Tuple6<T1, T2, T3, T4, T5, T6>> allTupleFastFailOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6) {
+        return create(CompletableFutureUtils.allTupleFastFailOf(cf1, cf2, cf3, cf4, cf5, cf6));
+    }
+
+    /**
+     * Returns a new Cffu that is successful when the given seven stages success.
+     * If any of the given stages complete exceptionally, then the returned Cffu also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     *
+     * @return a new Cffu that is successful when the given seven stages success
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, T6, T7> Cffu<Tuple7<T1, T2, T3, T4, T5, T6, T7>> allTupleFastFailOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6,
+            CompletionStage<? extends T7> cf7) {
+        return create(CompletableFutureUtils.allTupleFastFailOf(cf1, cf2, cf3, cf4, cf5, cf6, cf7));
+    }
+
+    /**
+     * Returns a new Cffu that is successful when the given eight stages success.
+     * If any of the given stages complete exceptionally, then the returned Cffu also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     *
+     * @return a new Cffu that is successful when the given eight stages success
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, T6, T7, T8> Cffu<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> allTupleFastFailOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6,
+            CompletionStage<? extends T7> cf7, CompletionStage<? extends T8> cf8) {
+        return create(CompletableFutureUtils.allTupleFastFailOf(cf1, cf2, cf3, cf4, cf5, cf6, cf7, cf8));
+    }
+
     /**
      * Returns a new Cffu that is successful
      * with the results of the given stages arguments when all the given stages completed;
@@ -1326,6 +3212,56 @@ public final class CffuFactory {
         return create(CompletableFutureUtils.allSuccessTupleOf(cf1, cf2, cf3, cf4, cf5));
     }
 
+    /**
+     * Returns a new Cffu that is successful
+     * with the results of the given stages arguments when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     *
+     * @return a new Cffu
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, T6> Cffu<Tuple6<T1, T2, T3, T4, T5, T6>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6) {
+        return create(CompletableFutureUtils.allSuccessTupleOf(cf1, cf2, cf3, cf4, cf5, cf6));
+    }
+
+    /**
+     * Returns a new Cffu that is successful
+     * with the results of the given stages arguments when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     *
+     * @return a new Cffu
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, T6, T7> Cffu<Tuple7<T1, T2, T3, T4, T5, T6, T7>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6,
+            CompletionStage<? extends T7> cf7) {
+        return create(CompletableFutureUtils.allSuccessTupleOf(cf1, cf2, cf3, cf4, cf5, cf6, cf7));
+    }
+
+    /**
+     * Returns a new Cffu that is successful
+     * with the results of the given stages arguments when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     *
+     * @return a new Cffu
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, T6, T7, T8> Cffu<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6,
+            CompletionStage<? extends T7> cf7, CompletionStage<? extends T8> cf8) {
+        return create(CompletableFutureUtils.allSuccessTupleOf(cf1, cf2, cf3, cf4, cf5, cf6, cf7, cf8));
+    }
+
     /**
      * Returns a new Cffu with the most results in the <strong>same order</strong> of
      * the given two stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
@@ -1341,7 +3277,8 @@ public final class CffuFactory {
     @Contract(pure = true)
     public <T1, T2> Cffu<Tuple2<T1, T2>> mostSuccessTupleOf(
             long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
-        return create(CompletableFutureUtils.mostSuccessTupleOf(defaultExecutor, timeout, unit, cf1, cf2));
+        return create(CompletableFutureUtils.mostSuccessTupleOf0(
+                timer, false, defaultExecutor, budgetNanos(timeout, unit), NANOSECONDS, cf1, cf2));
     }
 
     /**
@@ -1360,7 +3297,8 @@ public final class CffuFactory {
     public <T1, T2, T3> Cffu<Tuple3<T1, T2, T3>> mostSuccessTupleOf(
             long timeout, TimeUnit unit,
             CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
-        return create(CompletableFutureUtils.mostSuccessTupleOf(defaultExecutor, timeout, unit, cf1, cf2, cf3));
+        return create(CompletableFutureUtils.mostSuccessTupleOf0(
+                timer, false, defaultExecutor, budgetNanos(timeout, unit), NANOSECONDS, cf1, cf2, cf3));
     }
 
     /**
@@ -1380,7 +3318,8 @@ public final class CffuFactory {
             long timeout, TimeUnit unit,
             CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
             CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
-        return create(CompletableFutureUtils.mostSuccessTupleOf(defaultExecutor, timeout, unit, cf1, cf2, cf3, cf4));
+        return create(CompletableFutureUtils.mostSuccessTupleOf0(
+                timer, false, defaultExecutor, budgetNanos(timeout, unit), NANOSECONDS, cf1, cf2, cf3, cf4));
     }
 
     /**
@@ -1400,7 +3339,71 @@ public final class CffuFactory {
             long timeout, TimeUnit unit,
             CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
             CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
-        return create(CompletableFutureUtils.mostSuccessTupleOf(defaultExecutor, timeout, unit, cf1, cf2, cf3, cf4, cf5));
+        return create(CompletableFutureUtils.mostSuccessTupleOf0(
+                timer, false, defaultExecutor, budgetNanos(timeout, unit), NANOSECONDS, cf1, cf2, cf3, cf4, cf5));
+    }
+
+    /**
+     * Returns a new Cffu with the most results in the <strong>same order</strong> of
+     * the given six stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new Cffu that is completed when the given six stages complete
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see Cffu#getSuccessNow(Object)
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, T6> Cffu<Tuple6<T1, T2, T3, T4, T5, T6>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5,
+            CompletionStage<? extends T6> cf6) {
+        return create(CompletableFutureUtils.mostSuccessTupleOf0(
+                timer, false, defaultExecutor, budgetNanos(timeout, unit), NANOSECONDS, cf1, cf2, cf3, cf4, cf5, cf6));
+    }
+
+    /**
+     * Returns a new Cffu with the most results in the <strong>same order</strong> of
+     * the given seven stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new Cffu that is completed when the given seven stages complete
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see Cffu#getSuccessNow(Object)
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, T6, T7> Cffu<Tuple7<T1, T2, T3, T4, T5, T6, T7>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5,
+            CompletionStage<? extends T6> cf6, CompletionStage<? extends T7> cf7) {
+        return create(CompletableFutureUtils.mostSuccessTupleOf0(
+                timer, false, defaultExecutor, budgetNanos(timeout, unit), NANOSECONDS, cf1, cf2, cf3, cf4, cf5, cf6, cf7));
+    }
+
+    /**
+     * Returns a new Cffu with the most results in the <strong>same order</strong> of
+     * the given eight stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new Cffu that is completed when the given eight stages complete
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see Cffu#getSuccessNow(Object)
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, T6, T7, T8> Cffu<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5,
+            CompletionStage<? extends T6> cf6, CompletionStage<? extends T7> cf7, CompletionStage<? extends T8> cf8) {
+        return create(CompletableFutureUtils.mostSuccessTupleOf0(
+                timer, false, defaultExecutor, budgetNanos(timeout, unit), NANOSECONDS, cf1, cf2, cf3, cf4, cf5, cf6, cf7, cf8));
     }
 
     /**
@@ -1465,6 +3468,56 @@ public final class CffuFactory {
         return create(CompletableFutureUtils.allTupleOf(cf1, cf2, cf3, cf4, cf5));
     }
 
+    /**
+     * Returns a new Cffu that is completed when the given six stages complete.
+     * If any of the given stages complete exceptionally, then the returned Cffu also does so,
+     * with a CompletionException holding this exception as its cause.
+     *
+     * @return a new Cffu that is completed when the given six stages complete
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, T6> Cffu<Tuple6<T1, T2, T3, T4, T5, T6>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6) {
+        return create(CompletableFutureUtils.allTupleOf(cf1, cf2, cf3, cf4, cf5, cf6));
+    }
+
+    /**
+     * Returns a new Cffu that is completed when the given seven stages complete.
+     * If any of the given stages complete exceptionally, then the returned Cffu also does so,
+     * with a CompletionException holding this exception as its cause.
+     *
+     * @return a new Cffu that is completed when the given seven stages complete
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, T6, T7> Cffu<Tuple7<T1, T2, T3, T4, T5, T6, T7>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6,
+            CompletionStage<? extends T7> cf7) {
+        return create(CompletableFutureUtils.allTupleOf(cf1, cf2, cf3, cf4, cf5, cf6, cf7));
+    }
+
+    /**
+     * Returns a new Cffu that is completed when the given eight stages complete.
+     * If any of the given stages complete exceptionally, then the returned Cffu also does so,
+     * with a CompletionException holding this exception as its cause.
+     *
+     * @return a new Cffu that is completed when the given eight stages complete
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public <T1, T2, T3, T4, T5, T6, T7, T8> Cffu<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6,
+            CompletionStage<? extends T7> cf7, CompletionStage<? extends T8> cf8) {
+        return create(CompletableFutureUtils.allTupleOf(cf1, cf2, cf3, cf4, cf5, cf6, cf7, cf8));
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////////////////////////
     // region## Immediate Value Argument Factory Methods
@@ -1591,7 +3644,7 @@ public final class CffuFactory {
      */
     @Contract(pure = true)
     public Executor delayedExecutor(long delay, TimeUnit unit) {
-        return CompletableFutureUtils.delayedExecutor(delay, unit, defaultExecutor);
+        return CompletableFutureUtils.delayedExecutor(timer, delay, unit, defaultExecutor);
     }
 
     /**
@@ -1606,7 +3659,50 @@ public final class CffuFactory {
      */
     @Contract(pure = true)
     public Executor delayedExecutor(long delay, TimeUnit unit, Executor executor) {
-        return CompletableFutureUtils.delayedExecutor(delay, unit, executor);
+        return CompletableFutureUtils.delayedExecutor(timer, delay, unit, executor);
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////////////////////////
+    // region# Deadline Methods
+    ////////////////////////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new CffuFactory with the same config as this factory and the given deadline;
+     * if this factory has the deadline already, the earlier deadline is used(the budget is never extended).
+     * <p>
+     * The Cffus created by the returned factory and their dependent Cffus carry the deadline,
+     * and their timeout methods(e.g. {@code orTimeout}/{@code completeOnTimeout}/{@code join(timeout, unit)},
+     * {@code *MostSuccess*} methods) use at most the remaining budget of the deadline.
+     * Use the returned factory per request, e.g. with the deadline of the client call.
+     *
+     * @see Cffu#withDeadline(Deadline)
+     * @see #deadline()
+     */
+    @Contract(pure = true)
+    public CffuFactory withDeadline(Deadline deadline) {
+        requireNonNull(deadline, "deadline is null");
+        final Deadline d = this.deadline == null ? deadline : this.deadline.min(deadline);
+        if (d == this.deadline) return this;
+        return new CffuFactory(defaultExecutor, forbidObtrudeMethods, propagateCancellation, inlineFirst, timer, d);
+    }
+
+    /**
+     * The same as {@link #withDeadline(Deadline)}, with the deadline after the given timeout from now.
+     *
+     * @see Deadline#after(long, TimeUnit)
+     */
+    @Contract(pure = true)
+    public CffuFactory withDeadline(long timeout, TimeUnit unit) {
+        return withDeadline(Deadline.after(timeout, unit));
+    }
+
+    /**
+     * Returns the given timeout(in nanoseconds) capped by the remaining budget of the deadline if any.
+     */
+    long budgetNanos(long timeout, TimeUnit unit) {
+        requireNonNull(unit, "unit is null");
+        return deadline == null ? unit.toNanos(timeout) : deadline.capNanos(timeout, unit);
     }
 
     // endregion
@@ -1676,4 +3772,53 @@ public final class CffuFactory {
     public boolean forbidObtrudeMethods() {
         return forbidObtrudeMethods;
     }
+
+    /**
+     * Returns {@code propagateCancellation} or not.
+     *
+     * @see CffuFactoryBuilder#propagateCancellation(boolean)
+     */
+    @Contract(pure = true)
+    public boolean propagateCancellation() {
+        return propagateCancellation;
+    }
+
+    /**
+     * Returns {@code inlineFirst} or not.
+     *
+     * @see CffuFactoryBuilder#inlineFirst(boolean)
+     */
+    @Contract(pure = true)
+    public boolean inlineFirst() {
+        return inlineFirst;
+    }
+
+    /**
+     * Returns the executor of the multi-actions methods using the default executor, see {@link #inlineFirst()}.
+     */
+    Executor multiActionsExecutor() {
+        return multiActionsExecutor;
+    }
+
+    /**
+     * Returns the timer of the timeout and delay methods, {@code null} means the builtin timer of CompletableFuture.
+     *
+     * @see CffuFactoryBuilder#timer(DelayTimer)
+     */
+    @Nullable
+    @Contract(pure = true)
+    public DelayTimer timer() {
+        return timer;
+    }
+
+    /**
+     * Returns the deadline of the Cffus created by this factory, {@code null} if no deadline.
+     *
+     * @see #withDeadline(Deadline)
+     */
+    @Nullable
+    @Contract(pure = true)
+    public Deadline deadline() {
+        return deadline;
+    }
 }
@@ -1,11 +1,15 @@
 package io.foldright.cffu;
 
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.foldright.cffu.spi.DelayTimer;
 import io.foldright.cffu.spi.ExecutorWrapperProvider;
+import io.foldright.cffu.spi.TimerProvider;
 import org.jetbrains.annotations.Contract;
 
 import javax.annotation.concurrent.ThreadSafe;
 import java.util.List;
 import java.util.ServiceLoader;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -27,6 +31,13 @@ public final class CffuFactoryBuilder {
 
     private volatile boolean forbidObtrudeMethods = false;
 
+    private volatile boolean propagateCancellation = false;
+
+    private volatile boolean inlineFirst = false;
+
+    @Nullable
+    private volatile DelayTimer timer = null;
+
     CffuFactoryBuilder(Executor defaultExecutor) {
         this.defaultExecutor = wrapExecutor(defaultExecutor);
     }
@@ -47,6 +58,65 @@ public final class CffuFactoryBuilder {
         return this;
     }
 
+    /**
+     * Sets {@code propagateCancellation} or not, default {@code false}.
+     * <p>
+     * If enabled, the combinators {@code allResultsFastFailOf}/{@code mSupplyFastFailAsync}/{@code anySuccessOf}/
+     * {@code mostSuccessResultsOf}/{@code mSupplyMostSuccessAsync}/{@code tupleMSupplyMostSuccessAsync}
+     * of the built factory cancel their input stages not completed yet when the returned Cffu is cancelled
+     * or decided early(e.g. the first failure of fast-fail, the first success of any-success, the timeout of
+     * most-success), the same as their {@code ...WithCancellation} variants; so the inputs whose results are
+     * not needed any more stop consuming executor capacity. The threads running the late suppliers of
+     * {@code mSupplyMostSuccessAsync}/{@code tupleMSupplyMostSuccessAsync} are interrupted.
+     *
+     * @see CffuFactory#propagateCancellation()
+     * @see CffuFactory#allResultsFastFailOfWithCancellation(CompletionStage[])
+     * @see CffuFactory#anySuccessOfWithCancellation(CompletionStage[])
+     */
+    public CffuFactoryBuilder propagateCancellation(boolean propagate) {
+        this.propagateCancellation = propagate;
+        return this;
+    }
+
+    /**
+     * Sets {@code inlineFirst} or not, default {@code false}.
+     * <p>
+     * If enabled, the multi-actions methods({@code mSupply*Async}/{@code mRun*Async}/{@code thenMApply*Async}/
+     * {@code thenMAccept*Async}/{@code thenMRun*Async}/{@code tupleMSupply*Async}) using the default executor
+     * of the built factory run ONE of the actions in the current thread, and submit the other actions
+     * to the default executor; so each fan-out saves one context switch and one executor queue round-trip.
+     * Use it only if the actions are short, since the current thread is blocked while the inline action runs;
+     * e.g. the {@code mSupply*Async} called in an event-loop thread blocks the event loop.
+     * <p>
+     * The default executor of the built factory is still the given executor; the methods given an explicit executor,
+     * and the single-action methods({@code supplyAsync}/{@code thenApplyAsync}) are not affected.
+     * Per call, pass {@link CompletableFutureUtils#inlineFirstExecutor(Executor)} as the executor instead.
+     *
+     * @see CffuFactory#inlineFirst()
+     * @see CompletableFutureUtils#inlineFirstExecutor(Executor)
+     */
+    public CffuFactoryBuilder inlineFirst(boolean inlineFirst) {
+        this.inlineFirst = inlineFirst;
+        return this;
+    }
+
+    /**
+     * Sets the timer of the timeout and delay methods of the built factory({@code orTimeout}/{@code completeOnTimeout}
+     * of Cffu, {@code delayedExecutor}/{@code hedgedSupplyAsync} of the factory), e.g. the shared timer
+     * of the application, or the virtual-time timer for the deterministic tests.
+     * <p>
+     * The timer is chosen in the order: this setting, the first non-null timer of the {@link TimerProvider} SPI,
+     * the experimental hashed timing wheel if the system property {@code cffu.experimental.hashedWheelTimer}
+     * is {@code true}, the builtin timer of CompletableFuture.
+     *
+     * @param timer the timer, {@code null} to clear the setting
+     * @see CffuFactory#timer()
+     */
+    public CffuFactoryBuilder timer(@Nullable DelayTimer timer) {
+        this.timer = timer;
+        return this;
+    }
+
     /**
      * Builds the cffu factory.
      *
@@ -54,9 +124,30 @@ public final class CffuFactoryBuilder {
      */
     @Contract(pure = true)
     public CffuFactory build() {
-        return new CffuFactory(defaultExecutor, forbidObtrudeMethods);
+        return new CffuFactory(defaultExecutor, forbidObtrudeMethods, propagateCancellation, inlineFirst,
+                chooseTimer(), null);
+    }
+
+    @Nullable
+    private DelayTimer chooseTimer() {
+        final DelayTimer t = timer;
+        if (t != null) return t;
+        for (TimerProvider provider : TIMER_PROVIDERS) {
+            final DelayTimer provided = provider.timer();
+            if (provided != null) return provided;
+        }
+        if (HASHED_WHEEL_TIMER) return HashedWheelTimer.shared();
+        return null;
     }
 
+    /**
+     * The system property enabling the experimental {@link HashedWheelTimer} as the default timer of the built
+     * factories; not exposed as a builder setting, since no measurement shows the win over the builtin timer yet.
+     */
+    static final String HASHED_WHEEL_TIMER_PROPERTY = "cffu.experimental.hashedWheelTimer";
+
+    private static final boolean HASHED_WHEEL_TIMER = Boolean.getBoolean(HASHED_WHEEL_TIMER_PROPERTY);
+
     private static Executor wrapExecutor(Executor executor) {
         for (ExecutorWrapperProvider provider : EXECUTOR_WRAPPER_PROVIDERS) {
             Supplier<String> msg = () -> provider + "(class: " + provider.getClass().getName() + ") return null";
@@ -71,4 +162,11 @@ public final class CffuFactoryBuilder {
         final ServiceLoader<ExecutorWrapperProvider> loader = ServiceLoader.load(ExecutorWrapperProvider.class);
         return StreamSupport.stream(loader.spliterator(), false).collect(Collectors.toList());
     }
+
+    private static final List<TimerProvider> TIMER_PROVIDERS = loadTimerProviders();
+
+    private static List<TimerProvider> loadTimerProviders() {
+        final ServiceLoader<TimerProvider> loader = ServiceLoader.load(TimerProvider.class);
+        return StreamSupport.stream(loader.spliterator(), false).collect(Collectors.toList());
+    }
 }
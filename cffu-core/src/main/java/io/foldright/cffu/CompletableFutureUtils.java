@@ -1,20 +1,24 @@
 package io.foldright.cffu;
 
 import edu.umd.cs.findbugs.annotations.Nullable;
+import io.foldright.cffu.spi.DelayTimer;
 import io.foldright.cffu.tuple.Tuple2;
 import io.foldright.cffu.tuple.Tuple3;
 import io.foldright.cffu.tuple.Tuple4;
 import io.foldright.cffu.tuple.Tuple5;
+import io.foldright.cffu.tuple.Tuple6;
+import io.foldright.cffu.tuple.Tuple7;
+import io.foldright.cffu.tuple.Tuple8;
 import org.jetbrains.annotations.Blocking;
 import org.jetbrains.annotations.Contract;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.function.*;
+import java.util.stream.Collector;
 
-import static io.foldright.cffu.Delayer.atCfDelayerThread;
 import static io.foldright.cffu.ExceptionReporter.reportException;
 import static java.util.Objects.requireNonNull;
 import static java.util.concurrent.CompletableFuture.completedFuture;
@@ -73,6 +77,98 @@ public final class CompletableFutureUtils {
         return allResultsFastFailOf(wrapSuppliers(executor, suppliers));
     }
 
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments,
+     * with at most {@code maxConcurrency} tasks running concurrently.
+     *
+     * @param executor       the executor to use for asynchronous execution
+     * @param maxConcurrency the max count of tasks running concurrently(aka in flight), MUST be positive;
+     *                       the next task is submitted to the executor when a running task completes
+     * @param suppliers      the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>            the suppliers' return type
+     * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see #mSupplyFastFailAsync(Executor, Supplier[])
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyFastFailAsync(
+            Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("supplier", suppliers);
+        requireMaxConcurrencyPositive(maxConcurrency);
+
+        return combineSuppliers(executor, maxConcurrency, suppliers, cfs -> allResultsFastFailOf(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the returned CompletableFuture is decided.
+     * <p>
+     * This method is the same as {@link #mSupplyFastFailAsync(Supplier[])}, except that the tasks not completed yet
+     * are cancelled(by {@code cancel(false)}) when the returned CompletableFuture completes, including failing fast
+     * and being cancelled by the caller; the tasks not started yet will never run.
+     *
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>       the suppliers' return type
+     * @return the new CompletableFuture
+     * @see #allResultsFastFailOfWithCancellation(CompletionStage[])
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyFastFailWithCancellationAsync(Supplier<? extends T>... suppliers) {
+        return mSupplyFastFailWithCancellationAsync(ASYNC_POOL, suppliers);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the returned CompletableFuture is decided.
+     *
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>       the suppliers' return type
+     * @return the new CompletableFuture
+     * @see #mSupplyFastFailWithCancellationAsync(Supplier[])
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyFastFailWithCancellationAsync(
+            Executor executor, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        return allResultsFastFailOf0(true, cfList(wrapSuppliers(executor, suppliers)));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments,
+     * with at most {@code maxConcurrency} tasks running concurrently;
+     * and cancels the tasks not completed yet when the returned CompletableFuture is decided.
+     *
+     * @param executor       the executor to use for asynchronous execution
+     * @param maxConcurrency the max count of tasks running concurrently(aka in flight), MUST be positive
+     * @param suppliers      the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>            the suppliers' return type
+     * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see #mSupplyFastFailWithCancellationAsync(Supplier[])
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyFastFailWithCancellationAsync(
+            Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("supplier", suppliers);
+        requireMaxConcurrencyPositive(maxConcurrency);
+
+        return combineSuppliers(executor, maxConcurrency, suppliers, cfs -> allResultsFastFailOf0(true, cfList(cfs)));
+    }
+
     /**
      * Returns a new CompletableFuture that is asynchronously completed
      * by tasks running in the CompletableFuture's default asynchronous execution facility
@@ -118,6 +214,34 @@ public final class CompletableFutureUtils {
         return allSuccessResultsOf(valueIfFailed, wrapSuppliers(executor, suppliers));
     }
 
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments,
+     * with at most {@code maxConcurrency} tasks running concurrently.
+     * <p>
+     * If the given supplier failed, use the given valueIfFailed.
+     *
+     * @param valueIfFailed  the value to return if not failed
+     * @param executor       the executor to use for asynchronous execution
+     * @param maxConcurrency the max count of tasks running concurrently(aka in flight), MUST be positive;
+     *                       the next task is submitted to the executor when a running task completes
+     * @param suppliers      the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>            the suppliers' return type
+     * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see #mSupplyAllSuccessAsync(Object, Executor, Supplier[])
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyAllSuccessAsync(
+            @Nullable T valueIfFailed, Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("supplier", suppliers);
+        requireMaxConcurrencyPositive(maxConcurrency);
+
+        return combineSuppliers(executor, maxConcurrency, suppliers, cfs -> allSuccessResultsOf(valueIfFailed, cfs));
+    }
+
     /**
      * Returns a new CompletableFuture that is asynchronously completed
      * by tasks running in the CompletableFuture's default asynchronous execution facility
@@ -166,11 +290,181 @@ public final class CompletableFutureUtils {
     public static <T> CompletableFuture<List<T>> mSupplyMostSuccessAsync(
             @Nullable T valueIfNotSuccess, Executor executor, long timeout, TimeUnit unit,
             Supplier<? extends T>... suppliers) {
+        return mSupplyMostSuccessAsync(null, valueIfNotSuccess, executor, timeout, unit, suppliers);
+    }
+
+    /**
+     * The same as {@link #mSupplyMostSuccessAsync(Object, Executor, long, TimeUnit, Supplier[])},
+     * with the given timer of the timeout; the builtin timer if the timer is {@code null}.
+     */
+    @SafeVarargs
+    static <T> CompletableFuture<List<T>> mSupplyMostSuccessAsync(
+            @Nullable DelayTimer timer, @Nullable T valueIfNotSuccess, Executor executor, long timeout, TimeUnit unit,
+            Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        return mostSuccessResultsOf0(timer, valueIfNotSuccess, executor, timeout, unit, false,
+                cfList(wrapSuppliers(executor, suppliers)));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments,
+     * with at most {@code maxConcurrency} tasks running concurrently.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise the given valueIfNotSuccess(including the suppliers not started in the given time).
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param executor          the executor to use for asynchronous execution
+     * @param maxConcurrency    the max count of tasks running concurrently(aka in flight), MUST be positive;
+     *                          the next task is submitted to the executor when a running task completes
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param suppliers         the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>               the suppliers' return type
+     * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see #mSupplyMostSuccessAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyMostSuccessAsync(
+            @Nullable T valueIfNotSuccess, Executor executor, int maxConcurrency, long timeout, TimeUnit unit,
+            Supplier<? extends T>... suppliers) {
+        return mSupplyMostSuccessAsync(null, valueIfNotSuccess, executor, maxConcurrency, timeout, unit, suppliers);
+    }
+
+    /**
+     * The same as {@link #mSupplyMostSuccessAsync(Object, Executor, int, long, TimeUnit, Supplier[])},
+     * with the given timer of the timeout; the builtin timer if the timer is {@code null}.
+     */
+    @SafeVarargs
+    static <T> CompletableFuture<List<T>> mSupplyMostSuccessAsync(
+            @Nullable DelayTimer timer, @Nullable T valueIfNotSuccess, Executor executor, int maxConcurrency,
+            long timeout, TimeUnit unit, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        requireArrayAndEleNonNull("supplier", suppliers);
+        requireMaxConcurrencyPositive(maxConcurrency);
+
+        return combineSuppliers(executor, maxConcurrency, suppliers,
+                cfs -> mostSuccessResultsOf0(timer, valueIfNotSuccess, executor, timeout, unit, false, cfList(cfs)));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param suppliers         the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>               the suppliers' return type
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyMostSuccessWithCancellationAsync(
+            @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit, Supplier<? extends T>... suppliers) {
+        return mSupplyMostSuccessWithCancellationAsync(valueIfNotSuccess, ASYNC_POOL, timeout, unit, suppliers);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     * <p>
+     * This method is the same as {@link #mSupplyMostSuccessAsync(Object, Executor, long, TimeUnit, Supplier[])},
+     * except that the late tasks do not keep occupying the executor after their results are discarded:
+     * the tasks not started yet never run, and the threads running the suppliers are interrupted.
+     * So the suppliers should respond to the interruption(e.g. the blocking IO or {@code sleep}) to stop early.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param executor          the executor to use for asynchronous execution
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param suppliers         the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>               the suppliers' return type
+     * @return the new CompletableFuture
+     * @see #mostSuccessResultsOfWithCancellation(Object, Executor, long, TimeUnit, CompletionStage[])
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyMostSuccessWithCancellationAsync(
+            @Nullable T valueIfNotSuccess, Executor executor, long timeout, TimeUnit unit,
+            Supplier<? extends T>... suppliers) {
+        return mSupplyMostSuccessWithCancellationAsync(null, valueIfNotSuccess, executor, timeout, unit, suppliers);
+    }
+
+    /**
+     * The same as {@link #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])},
+     * with the given timer of the timeout; the builtin timer if the timer is {@code null}.
+     */
+    @SafeVarargs
+    static <T> CompletableFuture<List<T>> mSupplyMostSuccessWithCancellationAsync(
+            @Nullable DelayTimer timer, @Nullable T valueIfNotSuccess, Executor executor, long timeout, TimeUnit unit,
+            Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        return mostSuccessResultsOf0(timer, valueIfNotSuccess, executor, timeout, unit, true,
+                cfList(InterruptibleSupplyTask.supply(executor, suppliers)));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments,
+     * with at most {@code maxConcurrency} tasks running concurrently;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param executor          the executor to use for asynchronous execution
+     * @param maxConcurrency    the max count of tasks running concurrently(aka in flight), MUST be positive
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param suppliers         the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>               the suppliers' return type
+     * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyMostSuccessWithCancellationAsync(
+            @Nullable T valueIfNotSuccess, Executor executor, int maxConcurrency, long timeout, TimeUnit unit,
+            Supplier<? extends T>... suppliers) {
+        return mSupplyMostSuccessWithCancellationAsync(
+                null, valueIfNotSuccess, executor, maxConcurrency, timeout, unit, suppliers);
+    }
+
+    /**
+     * The same as {@link #mSupplyMostSuccessWithCancellationAsync(Object, Executor, int, long, TimeUnit, Supplier[])},
+     * with the given timer of the timeout; the builtin timer if the timer is {@code null}.
+     */
+    @SafeVarargs
+    static <T> CompletableFuture<List<T>> mSupplyMostSuccessWithCancellationAsync(
+            @Nullable DelayTimer timer, @Nullable T valueIfNotSuccess, Executor executor, int maxConcurrency,
+            long timeout, TimeUnit unit, Supplier<? extends T>... suppliers) {
         requireNonNull(executor, "executor is null");
         requireNonNull(unit, "unit is null");
         requireArrayAndEleNonNull("supplier", suppliers);
+        requireMaxConcurrencyPositive(maxConcurrency);
 
-        return mostSuccessResultsOf(valueIfNotSuccess, executor, timeout, unit, wrapSuppliers(executor, suppliers));
+        final Function<CompletableFuture<? extends T>[], CompletableFuture<List<T>>> combinator =
+                cfs -> mostSuccessResultsOf0(timer, valueIfNotSuccess, executor, timeout, unit, true, cfList(cfs));
+        if (maxConcurrency >= suppliers.length) return combinator.apply(InterruptibleSupplyTask.supply(executor, suppliers));
+        return BoundedConcurrencyLauncher.supplyInterruptibly(executor, maxConcurrency, suppliers, combinator);
     }
 
     /**
@@ -211,762 +505,976 @@ public final class CompletableFutureUtils {
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously successful
-     * when any of tasks running in the CompletableFuture's default asynchronous execution facility
-     * by calling the given Suppliers success, with the same result.
-     * Otherwise, all the given tasks complete exceptionally,
-     * the returned CompletableFuture also does so, with a CompletionException holding
-     * an exception from any of the given stages as its cause.
-     * If no suppliers are provided, returns a new CompletableFuture that is already completed exceptionally
-     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments,
+     * with at most {@code maxConcurrency} tasks running concurrently.
      *
-     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
-     * @param <T>       the suppliers' return type
+     * @param executor       the executor to use for asynchronous execution
+     * @param maxConcurrency the max count of tasks running concurrently(aka in flight), MUST be positive;
+     *                       the next task is submitted to the executor when a running task completes
+     * @param suppliers      the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>            the suppliers' return type
      * @return the new CompletableFuture
-     * @see #anySuccessOf(CompletionStage[])
-     * @see CompletableFuture#supplyAsync(Supplier)
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see #mSupplyAsync(Executor, Supplier[])
      */
     @SafeVarargs
-    public static <T> CompletableFuture<T> mSupplyAnySuccessAsync(Supplier<? extends T>... suppliers) {
-        return mSupplyAnySuccessAsync(ASYNC_POOL, suppliers);
+    public static <T> CompletableFuture<List<T>> mSupplyAsync(
+            Executor executor, int maxConcurrency, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("supplier", suppliers);
+        requireMaxConcurrencyPositive(maxConcurrency);
+
+        return combineSuppliers(executor, maxConcurrency, suppliers, cfs -> allResultsOf(cfs));
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously successful
-     * when any of tasks running in the given executor by calling the given Suppliers success, with the same result.
-     * Otherwise, all the given tasks complete exceptionally,
-     * the returned CompletableFuture also does so, with a CompletionException holding
-     * an exception from any of the given stages as its cause.
-     * If no suppliers are provided, returns a new CompletableFuture that is already completed exceptionally
-     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * the suppliers are grouped into chunks, and each chunk runs as one task.
+     * <p>
+     * This method is the same as {@link #mSupplyAsync(Supplier[])}, except that the suppliers are submitted
+     * by chunks, with the chunk size sized automatically from the parallelism of the executor.
+     * The chunked submission cuts the overhead per supplier(a cf and an executor queue operation),
+     * and fits the many tiny CPU-bound suppliers.
      *
-     * @param executor  the executor to use for asynchronous execution
      * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
      * @param <T>       the suppliers' return type
      * @return the new CompletableFuture
-     * @see #anySuccessOf(CompletionStage[])
-     * @see CompletableFuture#supplyAsync(Supplier, Executor)
+     * @see #mSupplyAsync(Supplier[])
      */
     @SafeVarargs
-    public static <T> CompletableFuture<T> mSupplyAnySuccessAsync(
-            Executor executor, Supplier<? extends T>... suppliers) {
-        requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("supplier", suppliers);
-
-        return anySuccessOf(wrapSuppliers(executor, suppliers));
+    public static <T> CompletableFuture<List<T>> mSupplyChunkedAsync(Supplier<? extends T>... suppliers) {
+        return mSupplyChunkedAsync(ASYNC_POOL, suppliers);
     }
 
     /**
-     * Returns a new CompletableFuture that is completed
-     * when any of tasks running in the CompletableFuture's default asynchronous execution facility
-     * by calling the given Suppliers complete, with the same result.
-     * Otherwise, if it completed exceptionally, the returned CompletableFuture also does so,
-     * with a CompletionException holding this exception as its cause.
-     * If no suppliers are provided, returns an incomplete CompletableFuture.
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * the suppliers are grouped into chunks, and each chunk runs as one task.
+     * <p>
+     * The chunk size is sized automatically from the parallelism of the executor
+     * ({@link ForkJoinPool#getParallelism()} for ForkJoinPool, otherwise the available processors).
      *
+     * @param executor  the executor to use for asynchronous execution
      * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
      * @param <T>       the suppliers' return type
      * @return the new CompletableFuture
-     * @see #anyOf(CompletionStage[])
-     * @see CompletableFuture#supplyAsync(Supplier)
+     * @see #mSupplyAsync(Executor, Supplier[])
      */
     @SafeVarargs
-    public static <T> CompletableFuture<T> mSupplyAnyAsync(Supplier<? extends T>... suppliers) {
-        return mSupplyAnyAsync(ASYNC_POOL, suppliers);
+    public static <T> CompletableFuture<List<T>> mSupplyChunkedAsync(
+            Executor executor, Supplier<? extends T>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        return mSupplyChunked0(executor, ChunkedSupplyCompleter.autoChunkSize(executor, suppliers.length), suppliers);
     }
 
     /**
-     * Returns a new CompletableFuture that is completed
-     * when any of tasks running in the given Executor by calling the given Suppliers complete, with the same result.
-     * Otherwise, if it completed exceptionally, the returned CompletableFuture also does so,
-     * with a CompletionException holding this exception as its cause.
-     * If no suppliers are provided, returns an incomplete CompletableFuture.
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * the suppliers are grouped into chunks of the given size, and each chunk runs as one task.
      *
      * @param executor  the executor to use for asynchronous execution
+     * @param chunkSize the count of suppliers run by one task, MUST be positive
      * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
      * @param <T>       the suppliers' return type
      * @return the new CompletableFuture
-     * @see #anyOf(CompletionStage[])
-     * @see CompletableFuture#supplyAsync(Supplier, Executor)
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     * @see #mSupplyAsync(Executor, Supplier[])
      */
     @SafeVarargs
-    public static <T> CompletableFuture<T> mSupplyAnyAsync(Executor executor, Supplier<? extends T>... suppliers) {
+    public static <T> CompletableFuture<List<T>> mSupplyChunkedAsync(
+            Executor executor, int chunkSize, Supplier<? extends T>... suppliers) {
         requireNonNull(executor, "executor is null");
         requireArrayAndEleNonNull("supplier", suppliers);
+        requireChunkSizePositive(chunkSize);
 
-        return f_cast(CompletableFuture.anyOf(wrapSuppliers(executor, suppliers)));
+        return mSupplyChunked0(executor, chunkSize, suppliers);
     }
 
-    @SafeVarargs
-    private static <T> T[] requireArrayAndEleNonNull(String varName, T... array) {
-        requireNonNull(array, varName + "s is null");
-        for (int i = 0; i < array.length; i++) {
-            requireNonNull(array[i], varName + (i + 1) + " is null");
-        }
-        return array;
+    private static <T> CompletableFuture<List<T>> mSupplyChunked0(
+            Executor executor, int chunkSize, Supplier<? extends T>[] suppliers) {
+        return f_cast(ChunkedSupplyCompleter.supplyChunked(executor, suppliers.length, chunkSize,
+                i -> suppliers[i].get(), CompletableFutureUtils::arrayList));
     }
 
-    private static <T> CompletableFuture<? extends T>[] wrapSuppliers(
-            Executor executor, Supplier<? extends T>[] suppliers) {
-        @SuppressWarnings("unchecked")
-        CompletableFuture<? extends T>[] cfs = new CompletableFuture[suppliers.length];
-        for (int i = 0; i < suppliers.length; i++) {
-            cfs[i] = CompletableFuture.supplyAsync(suppliers[i], executor);
-        }
-        return cfs;
+    private static void requireChunkSizePositive(int chunkSize) {
+        if (chunkSize < 1) throw new IllegalArgumentException("chunkSize(" + chunkSize + ") is not positive");
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
      * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * after runs the given actions.
+     * with the int values obtained by calling the given IntSuppliers
+     * in the <strong>same order</strong> of the given IntSuppliers arguments.
+     * <p>
+     * This method is the same as {@link #mSupplyAsync(Supplier[])}, except that each task writes
+     * its int value into the result array directly, without boxing.
      *
-     * @param actions the actions to run before completing the returned CompletableFuture
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
      * @return the new CompletableFuture
-     * @see #allFastFailOf(CompletionStage[])
-     * @see CompletableFuture#runAsync(Runnable)
+     * @see #mSupplyAsync(Supplier[])
+     * @see #allIntResultsOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> mRunFastFailAsync(Runnable... actions) {
-        return mRunFastFailAsync(ASYNC_POOL, actions);
+    public static CompletableFuture<int[]> mSupplyIntAsync(IntSupplier... suppliers) {
+        return mSupplyIntAsync(ASYNC_POOL, suppliers);
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the given Executor after runs the given actions.
+     * by tasks running in the given Executor with the int values obtained by calling the given IntSuppliers
+     * in the <strong>same order</strong> of the given IntSuppliers arguments.
+     * <p>
+     * This method is the same as {@link #mSupplyAsync(Executor, Supplier[])}, except that each task writes
+     * its int value into the result array directly, without boxing.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to run before completing the returned CompletableFuture
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
      * @return the new CompletableFuture
-     * @see #allFastFailOf(CompletionStage[])
-     * @see CompletableFuture#runAsync(Runnable, Executor)
+     * @see #mSupplyAsync(Executor, Supplier[])
+     * @see #allIntResultsOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> mRunFastFailAsync(Executor executor, Runnable... actions) {
+    public static CompletableFuture<int[]> mSupplyIntAsync(Executor executor, IntSupplier... suppliers) {
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("action", actions);
+        requireArrayAndEleNonNull("supplier", suppliers);
 
-        return allFastFailOf(wrapRunnables(executor, actions));
+        final int[] values = new int[suppliers.length];
+        if (suppliers.length == 0) return completedFuture(values);
+        return PrimitiveResultsCompleter.supply(executor, suppliers.length, values,
+                i -> values[i] = suppliers[i].getAsInt());
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
      * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * after runs the given actions.
+     * with the long values obtained by calling the given LongSuppliers
+     * in the <strong>same order</strong> of the given LongSuppliers arguments.
+     * <p>
+     * This method is the same as {@link #mSupplyAsync(Supplier[])}, except that each task writes
+     * its long value into the result array directly, without boxing.
      *
-     * @param actions the actions to run before completing the returned CompletableFuture
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
      * @return the new CompletableFuture
-     * @see #allOf(CompletionStage[])
-     * @see CompletableFuture#runAsync(Runnable)
+     * @see #mSupplyAsync(Supplier[])
+     * @see #allLongResultsOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> mRunAsync(Runnable... actions) {
-        return mRunAsync(ASYNC_POOL, actions);
+    public static CompletableFuture<long[]> mSupplyLongAsync(LongSupplier... suppliers) {
+        return mSupplyLongAsync(ASYNC_POOL, suppliers);
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the given Executor after runs the given actions.
+     * by tasks running in the given Executor with the long values obtained by calling the given LongSuppliers
+     * in the <strong>same order</strong> of the given LongSuppliers arguments.
+     * <p>
+     * This method is the same as {@link #mSupplyAsync(Executor, Supplier[])}, except that each task writes
+     * its long value into the result array directly, without boxing.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to run before completing the returned CompletableFuture
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
      * @return the new CompletableFuture
-     * @see #allOf(CompletionStage[])
-     * @see CompletableFuture#runAsync(Runnable, Executor)
+     * @see #mSupplyAsync(Executor, Supplier[])
+     * @see #allLongResultsOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> mRunAsync(Executor executor, Runnable... actions) {
+    public static CompletableFuture<long[]> mSupplyLongAsync(Executor executor, LongSupplier... suppliers) {
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("action", actions);
+        requireArrayAndEleNonNull("supplier", suppliers);
 
-        return CompletableFuture.allOf(wrapRunnables(executor, actions));
+        final long[] values = new long[suppliers.length];
+        if (suppliers.length == 0) return completedFuture(values);
+        return PrimitiveResultsCompleter.supply(executor, suppliers.length, values,
+                i -> values[i] = suppliers[i].getAsLong());
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously successful
-     * when any tasks running in the CompletableFuture's default asynchronous execution facility success.
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the double values obtained by calling the given DoubleSuppliers
+     * in the <strong>same order</strong> of the given DoubleSuppliers arguments.
+     * <p>
+     * This method is the same as {@link #mSupplyAsync(Supplier[])}, except that each task writes
+     * its double value into the result array directly, without boxing.
      *
-     * @param actions the actions to run to complete the returned CompletableFuture
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
      * @return the new CompletableFuture
-     * @see #anySuccessOf(CompletionStage[])
-     * @see CompletableFuture#runAsync(Runnable)
+     * @see #mSupplyAsync(Supplier[])
+     * @see #allDoubleResultsOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> mRunAnySuccessAsync(Runnable... actions) {
-        return mRunAnySuccessAsync(ASYNC_POOL, actions);
+    public static CompletableFuture<double[]> mSupplyDoubleAsync(DoubleSupplier... suppliers) {
+        return mSupplyDoubleAsync(ASYNC_POOL, suppliers);
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously successful
-     * when any tasks running in the given executor success.
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the double values obtained by calling the given DoubleSuppliers
+     * in the <strong>same order</strong> of the given DoubleSuppliers arguments.
+     * <p>
+     * This method is the same as {@link #mSupplyAsync(Executor, Supplier[])}, except that each task writes
+     * its double value into the result array directly, without boxing.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to run to complete the returned CompletableFuture
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
      * @return the new CompletableFuture
-     * @see #anySuccessOf(CompletionStage[])
-     * @see CompletableFuture#runAsync(Runnable, Executor)
+     * @see #mSupplyAsync(Executor, Supplier[])
+     * @see #allDoubleResultsOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> mRunAnySuccessAsync(Executor executor, Runnable... actions) {
+    public static CompletableFuture<double[]> mSupplyDoubleAsync(Executor executor, DoubleSupplier... suppliers) {
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("action", actions);
+        requireArrayAndEleNonNull("supplier", suppliers);
 
-        return anySuccessOf(wrapRunnables(executor, actions));
+        final double[] values = new double[suppliers.length];
+        if (suppliers.length == 0) return completedFuture(values);
+        return PrimitiveResultsCompleter.supply(executor, suppliers.length, values,
+                i -> values[i] = suppliers[i].getAsDouble());
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed
-     * when any tasks running in the CompletableFuture's default asynchronous execution facility.
+     * Returns a new CompletableFuture that is asynchronously successful
+     * when any of tasks running in the CompletableFuture's default asynchronous execution facility
+     * by calling the given Suppliers success, with the same result.
+     * Otherwise, all the given tasks complete exceptionally,
+     * the returned CompletableFuture also does so, with a CompletionException holding
+     * an exception from any of the given stages as its cause.
+     * If no suppliers are provided, returns a new CompletableFuture that is already completed exceptionally
+     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
      *
-     * @param actions the actions to run to complete the returned CompletableFuture
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>       the suppliers' return type
      * @return the new CompletableFuture
-     * @see #anyOf(CompletionStage[])
-     * @see CompletableFuture#runAsync(Runnable)
+     * @see #anySuccessOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
      */
-    public static CompletableFuture<Void> mRunAnyAsync(Runnable... actions) {
-        return mRunAnyAsync(ASYNC_POOL, actions);
+    @SafeVarargs
+    public static <T> CompletableFuture<T> mSupplyAnySuccessAsync(Supplier<? extends T>... suppliers) {
+        return mSupplyAnySuccessAsync(ASYNC_POOL, suppliers);
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed
-     * when any tasks running in the given executor complete.
+     * Returns a new CompletableFuture that is asynchronously successful
+     * when any of tasks running in the given executor by calling the given Suppliers success, with the same result.
+     * Otherwise, all the given tasks complete exceptionally,
+     * the returned CompletableFuture also does so, with a CompletionException holding
+     * an exception from any of the given stages as its cause.
+     * If no suppliers are provided, returns a new CompletableFuture that is already completed exceptionally
+     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to run to complete the returned CompletableFuture
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>       the suppliers' return type
      * @return the new CompletableFuture
-     * @see #anyOf(CompletionStage[])
-     * @see CompletableFuture#runAsync(Runnable, Executor)
+     * @see #anySuccessOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier, Executor)
      */
-    public static CompletableFuture<Void> mRunAnyAsync(Executor executor, Runnable... actions) {
+    @SafeVarargs
+    public static <T> CompletableFuture<T> mSupplyAnySuccessAsync(
+            Executor executor, Supplier<? extends T>... suppliers) {
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("action", actions);
-
-        return f_cast(CompletableFuture.anyOf(wrapRunnables(executor, actions)));
-    }
+        requireArrayAndEleNonNull("supplier", suppliers);
 
-    private static CompletableFuture<Void>[] wrapRunnables(Executor executor, Runnable[] actions) {
-        @SuppressWarnings("unchecked")
-        CompletableFuture<Void>[] cfs = new CompletableFuture[actions.length];
-        for (int i = 0; i < actions.length; i++) {
-            cfs[i] = CompletableFuture.runAsync(actions[i], executor);
-        }
-        return cfs;
+        return anySuccessOf(wrapSuppliers(executor, suppliers));
     }
 
-    // endregion
-    ////////////////////////////////////////////////////////////
-    // region## Tuple-Multi-Actions(tupleM*) Methods(create by actions)
-    ////////////////////////////////////////////////////////////
-
     /**
-     * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new CompletableFuture that is asynchronously successful
+     * when any {@code n} of tasks running in the CompletableFuture's default asynchronous execution facility
+     * by calling the given Suppliers success(aka quorum), with the first {@code n} successful results
+     * in their <strong>success order</strong>. Once the n successes are impossible,
+     * the returned CompletableFuture completes exceptionally without waiting other tasks.
      *
+     * @param n         the count of successes needed, MUST be in range {@code [1, suppliers.length]}
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>       the suppliers' return type
      * @return the new CompletableFuture
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #nSuccessOf(int, CompletionStage[])
      * @see CompletableFuture#supplyAsync(Supplier)
      */
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyFastFailAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return tupleMSupplyFastFailAsync(ASYNC_POOL, supplier1, supplier2);
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyQuorumAsync(int n, Supplier<? extends T>... suppliers) {
+        return mSupplyQuorumAsync(n, ASYNC_POOL, suppliers);
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new CompletableFuture that is asynchronously successful
+     * when any {@code n} of tasks running in the given Executor by calling the given Suppliers success(aka quorum),
+     * with the first {@code n} successful results in their <strong>success order</strong>.
+     * Once the n successes are impossible, the returned CompletableFuture completes exceptionally
+     * without waiting other tasks.
      *
-     * @param executor the executor to use for asynchronous execution
+     * @param n         the count of successes needed, MUST be in range {@code [1, suppliers.length]}
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>       the suppliers' return type
      * @return the new CompletableFuture
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #nSuccessOf(int, CompletionStage[])
      * @see CompletableFuture#supplyAsync(Supplier, Executor)
      */
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyFastFailAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyQuorumAsync(
+            int n, Executor executor, Supplier<? extends T>... suppliers) {
         requireNonNull(executor, "executor is null");
-        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2);
+        requireArrayAndEleNonNull("supplier", suppliers);
+        requireQuorumInRange(n, suppliers.length);
 
-        return allTupleOf0(true, wrapSuppliers(executor, suppliers));
+        return nSuccessOf(n, wrapSuppliers(executor, suppliers));
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new CompletableFuture that is asynchronously successful
+     * when any {@code n} of tasks running in the CompletableFuture's default asynchronous execution facility
+     * by calling the given Suppliers success(aka quorum), with the first {@code n} successful results
+     * in their <strong>success order</strong>; and cancels the tasks not completed yet
+     * when the returned CompletableFuture is decided, so the tasks not started yet will never run.
      *
+     * @param n         the count of successes needed, MUST be in range {@code [1, suppliers.length]}
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>       the suppliers' return type
      * @return the new CompletableFuture
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #nSuccessOfWithCancellation(int, CompletionStage[])
      * @see CompletableFuture#supplyAsync(Supplier)
      */
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyFastFailAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return tupleMSupplyFastFailAsync(ASYNC_POOL, supplier1, supplier2, supplier3);
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyQuorumWithCancellationAsync(
+            int n, Supplier<? extends T>... suppliers) {
+        return mSupplyQuorumWithCancellationAsync(n, ASYNC_POOL, suppliers);
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new CompletableFuture that is asynchronously successful
+     * when any {@code n} of tasks running in the given Executor by calling the given Suppliers success(aka quorum),
+     * with the first {@code n} successful results in their <strong>success order</strong>;
+     * and cancels the tasks not completed yet when the returned CompletableFuture is decided,
+     * so the tasks not started yet will never run.
      *
-     * @param executor the executor to use for asynchronous execution
+     * @param n         the count of successes needed, MUST be in range {@code [1, suppliers.length]}
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>       the suppliers' return type
      * @return the new CompletableFuture
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #nSuccessOfWithCancellation(int, CompletionStage[])
      * @see CompletableFuture#supplyAsync(Supplier, Executor)
      */
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyFastFailAsync(
-            Executor executor,
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mSupplyQuorumWithCancellationAsync(
+            int n, Executor executor, Supplier<? extends T>... suppliers) {
         requireNonNull(executor, "executor is null");
-        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3);
+        requireArrayAndEleNonNull("supplier", suppliers);
+        requireQuorumInRange(n, suppliers.length);
 
-        return allTupleOf0(true, wrapSuppliers(executor, suppliers));
+        return nSuccessOfWithCancellation(n, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Checks the quorum before submitting the tasks, so no task is submitted for an invalid quorum.
+     */
+    private static void requireQuorumInRange(int n, int size) {
+        if (n < 1 || n > size) throw new IllegalArgumentException("n(" + n + ") is not in range [1, " + size + "]");
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
      * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * with the value obtained by calling the given Supplier, with <strong>hedged</strong> attempts:
+     * starts the first attempt immediately, and launches another attempt each time {@code hedgeDelay} passes
+     * without a successful result, up to {@code maxHedges} extra attempts.
+     * <p>
+     * The first successful attempt completes the returned CompletableFuture, then the pending hedge timer
+     * and the remaining attempts are cancelled(the attempts not started yet will never run).
+     * If all attempts fail, the returned CompletableFuture completes exceptionally
+     * with a CompletionException holding the exception of the last failed attempt as its cause.
+     * <p>
+     * Hedging cuts the tail latency of idempotent calls(e.g. replicated reads); the {@code hedgeDelay}
+     * is usually set to the high percentile(e.g. p95) latency of the call.
      *
+     * @param supplier   a function returning the value to be used to complete the returned CompletableFuture,
+     *                   MUST be idempotent since it may be called multiple times concurrently
+     * @param hedgeDelay how long to wait before launching another attempt, in units of {@code unit}
+     * @param unit       a {@code TimeUnit} determining how to interpret the {@code hedgeDelay} parameter
+     * @param maxHedges  the max count of extra attempts, MUST be non-negative; {@code 0} means no hedging
+     * @param <T>        the function's return type
      * @return the new CompletableFuture
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @throws IllegalArgumentException if {@code maxHedges} is negative
      * @see CompletableFuture#supplyAsync(Supplier)
      */
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyFastFailAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
-        return tupleMSupplyFastFailAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4);
+    public static <T> CompletableFuture<T> hedgedSupplyAsync(
+            Supplier<? extends T> supplier, long hedgeDelay, TimeUnit unit, int maxHedges) {
+        return hedgedSupplyAsync(supplier, hedgeDelay, unit, maxHedges, ASYNC_POOL);
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     *
-     * @param executor the executor to use for asynchronous execution
-     * @return the new CompletableFuture
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * by tasks running in the given Executor with the value obtained by calling the given Supplier,
+     * with <strong>hedged</strong> attempts: starts the first attempt immediately, and launches another attempt
+     * each time {@code hedgeDelay} passes without a successful result, up to {@code maxHedges} extra attempts.
+     * <p>
+     * The first successful attempt completes the returned CompletableFuture, then the pending hedge timer
+     * and the remaining attempts are cancelled(the attempts not started yet will never run).
+     * If all attempts fail, the returned CompletableFuture completes exceptionally
+     * with a CompletionException holding the exception of the last failed attempt as its cause.
+     *
+     * @param supplier   a function returning the value to be used to complete the returned CompletableFuture,
+     *                   MUST be idempotent since it may be called multiple times concurrently
+     * @param hedgeDelay how long to wait before launching another attempt, in units of {@code unit}
+     * @param unit       a {@code TimeUnit} determining how to interpret the {@code hedgeDelay} parameter
+     * @param maxHedges  the max count of extra attempts, MUST be non-negative; {@code 0} means no hedging
+     * @param executor   the executor to use for asynchronous execution
+     * @param <T>        the function's return type
+     * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code maxHedges} is negative
      * @see CompletableFuture#supplyAsync(Supplier, Executor)
      */
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyFastFailAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+    public static <T> CompletableFuture<T> hedgedSupplyAsync(
+            Supplier<? extends T> supplier, long hedgeDelay, TimeUnit unit, int maxHedges, Executor executor) {
+        return hedgedSupplyAsync(null, supplier, hedgeDelay, unit, maxHedges, executor);
+    }
+
+    /**
+     * The same as {@link #hedgedSupplyAsync(Supplier, long, TimeUnit, int, Executor)}, with the given timer
+     * starting the hedged attempts; the builtin timer if the timer is {@code null}.
+     */
+    static <T> CompletableFuture<T> hedgedSupplyAsync(@Nullable DelayTimer timer, Supplier<? extends T> supplier,
+                                                      long hedgeDelay, TimeUnit unit, int maxHedges, Executor executor) {
+        requireNonNull(supplier, "supplier is null");
+        requireNonNull(unit, "unit is null");
         requireNonNull(executor, "executor is null");
-        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4);
+        if (maxHedges < 0) throw new IllegalArgumentException("maxHedges(" + maxHedges + ") is negative");
 
-        return allTupleOf0(true, wrapSuppliers(executor, suppliers));
+        return HedgedSupplyCompleter.hedgedSupplyAsync(timerOrBuiltin(timer), supplier, hedgeDelay, unit, maxHedges, executor);
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new CompletableFuture that is completed
+     * when any of tasks running in the CompletableFuture's default asynchronous execution facility
+     * by calling the given Suppliers complete, with the same result.
+     * Otherwise, if it completed exceptionally, the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     * If no suppliers are provided, returns an incomplete CompletableFuture.
      *
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>       the suppliers' return type
      * @return the new CompletableFuture
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #anyOf(CompletionStage[])
      * @see CompletableFuture#supplyAsync(Supplier)
      */
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyFastFailAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        return tupleMSupplyFastFailAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5);
+    @SafeVarargs
+    public static <T> CompletableFuture<T> mSupplyAnyAsync(Supplier<? extends T>... suppliers) {
+        return mSupplyAnyAsync(ASYNC_POOL, suppliers);
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new CompletableFuture that is completed
+     * when any of tasks running in the given Executor by calling the given Suppliers complete, with the same result.
+     * Otherwise, if it completed exceptionally, the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     * If no suppliers are provided, returns an incomplete CompletableFuture.
      *
-     * @param executor the executor to use for asynchronous execution
+     * @param executor  the executor to use for asynchronous execution
+     * @param suppliers the suppliers returning the value to be used to complete the returned CompletableFuture
+     * @param <T>       the suppliers' return type
      * @return the new CompletableFuture
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see #anyOf(CompletionStage[])
      * @see CompletableFuture#supplyAsync(Supplier, Executor)
      */
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyFastFailAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+    @SafeVarargs
+    public static <T> CompletableFuture<T> mSupplyAnyAsync(Executor executor, Supplier<? extends T>... suppliers) {
         requireNonNull(executor, "executor is null");
-        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4, supplier5);
+        requireArrayAndEleNonNull("supplier", suppliers);
 
-        return allTupleOf0(true, wrapSuppliers(executor, suppliers));
+        return f_cast(CompletableFuture.anyOf(wrapSuppliers(executor, suppliers)));
     }
 
-    private static <T> CompletableFuture<T> allTupleOf0(boolean fastFail, CompletionStage<?>[] css) {
-        final Object[] result = new Object[css.length];
-        final CompletableFuture<Void>[] resultSetterCfs = createResultSetterCfs(css, result);
+    @SafeVarargs
+    private static <T> T[] requireArrayAndEleNonNull(String varName, T... array) {
+        requireNonNull(array, varName + "s is null");
+        for (int i = 0; i < array.length; i++) {
+            requireNonNull(array[i], varName + (i + 1) + " is null");
+        }
+        return array;
+    }
 
-        final CompletableFuture<Void> resultSetter;
-        if (fastFail) resultSetter = allFastFailOf(resultSetterCfs);
-        else resultSetter = CompletableFuture.allOf(resultSetterCfs);
+    private static <T> CompletableFuture<? extends T>[] wrapSuppliers(
+            Executor executor, Supplier<? extends T>[] suppliers) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<? extends T>[] cfs = new CompletableFuture[suppliers.length];
+        final Executor delegate = InlineFirstExecutor.delegateOfInlineFirst(executor);
+        if (delegate != null && suppliers.length > 0) {
+            // submit the others first, so they run concurrently with the inline one
+            for (int i = 1; i < suppliers.length; i++) {
+                cfs[i] = CompletableFuture.supplyAsync(suppliers[i], delegate);
+            }
+            cfs[0] = InlineFirstExecutor.supplyInline(suppliers[0]);
+            return cfs;
+        }
+        for (int i = 0; i < suppliers.length; i++) {
+            cfs[i] = CompletableFuture.supplyAsync(suppliers[i], executor);
+        }
+        return cfs;
+    }
 
-        return resultSetter.thenApply(unused -> tupleOf0(result));
+    /**
+     * Combines the cfs of the suppliers with at most {@code maxConcurrency} tasks running concurrently;
+     * the suppliers not started yet are never started once the combined cf completes.
+     */
+    private static <T, R> CompletableFuture<R> combineSuppliers(
+            Executor executor, int maxConcurrency, Supplier<? extends T>[] suppliers,
+            Function<CompletableFuture<? extends T>[], CompletableFuture<R>> combinator) {
+        if (maxConcurrency >= suppliers.length) return combinator.apply(wrapSuppliers(executor, suppliers));
+        return BoundedConcurrencyLauncher.supply(executor, maxConcurrency, suppliers, combinator);
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T> T tupleOf0(Object... elements) {
-        final int len = elements.length;
-        final Object ret;
-        if (len == 2) ret = Tuple2.of(elements[0], elements[1]);
-        else if (len == 3) ret = Tuple3.of(elements[0], elements[1], elements[2]);
-        else if (len == 4) ret = Tuple4.of(elements[0], elements[1], elements[2], elements[3]);
-        else ret = Tuple5.of(elements[0], elements[1], elements[2], elements[3], elements[4]);
-        return (T) ret;
+    private static void requireMaxConcurrencyPositive(int maxConcurrency) {
+        if (maxConcurrency < 1)
+            throw new IllegalArgumentException("maxConcurrency(" + maxConcurrency + ") is not positive");
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
      * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * with the successful values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * after runs the given actions.
      *
+     * @param actions the actions to run before completing the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see #allFastFailOf(CompletionStage[])
+     * @see CompletableFuture#runAsync(Runnable)
      */
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyAllSuccessAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return tupleMSupplyAllSuccessAsync(ASYNC_POOL, supplier1, supplier2);
+    public static CompletableFuture<Void> mRunFastFailAsync(Runnable... actions) {
+        return mRunFastFailAsync(ASYNC_POOL, actions);
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * by tasks running in the given Executor after runs the given actions.
      *
      * @param executor the executor to use for asynchronous execution
+     * @param actions  the actions to run before completing the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see #allFastFailOf(CompletionStage[])
+     * @see CompletableFuture#runAsync(Runnable, Executor)
      */
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyAllSuccessAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+    public static CompletableFuture<Void> mRunFastFailAsync(Executor executor, Runnable... actions) {
         requireNonNull(executor, "executor is null");
-        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2);
+        requireArrayAndEleNonNull("action", actions);
 
-        return allSuccessTupleOf0(wrapSuppliers(executor, suppliers));
+        return allFastFailOf(wrapRunnables(executor, actions));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor after runs the given actions,
+     * with at most {@code maxConcurrency} tasks running concurrently.
+     *
+     * @param executor       the executor to use for asynchronous execution
+     * @param maxConcurrency the max count of tasks running concurrently(aka in flight), MUST be positive;
+     *                       the next task is submitted to the executor when a running task completes
+     * @param actions        the actions to run before completing the returned CompletableFuture
+     * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see #mRunFastFailAsync(Executor, Runnable[])
+     */
+    public static CompletableFuture<Void> mRunFastFailAsync(Executor executor, int maxConcurrency, Runnable... actions) {
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("action", actions);
+        requireMaxConcurrencyPositive(maxConcurrency);
+
+        return combineRunnables(executor, maxConcurrency, actions, cfs -> allFastFailOf(cfs));
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
      * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * with the successful values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * after runs the given actions.
      *
+     * @param actions the actions to run before completing the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see #allOf(CompletionStage[])
+     * @see CompletableFuture#runAsync(Runnable)
      */
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyAllSuccessAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return tupleMSupplyAllSuccessAsync(ASYNC_POOL, supplier1, supplier2, supplier3);
+    public static CompletableFuture<Void> mRunAsync(Runnable... actions) {
+        return mRunAsync(ASYNC_POOL, actions);
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * by tasks running in the given Executor after runs the given actions.
      *
      * @param executor the executor to use for asynchronous execution
+     * @param actions  the actions to run before completing the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see #allOf(CompletionStage[])
+     * @see CompletableFuture#runAsync(Runnable, Executor)
      */
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyAllSuccessAsync(
-            Executor executor,
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+    public static CompletableFuture<Void> mRunAsync(Executor executor, Runnable... actions) {
         requireNonNull(executor, "executor is null");
-        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3);
+        requireArrayAndEleNonNull("action", actions);
 
-        return allSuccessTupleOf0(wrapSuppliers(executor, suppliers));
+        return CompletableFuture.allOf(wrapRunnables(executor, actions));
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * with the successful values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * by tasks running in the given Executor after runs the given actions,
+     * with at most {@code maxConcurrency} tasks running concurrently.
      *
+     * @param executor       the executor to use for asynchronous execution
+     * @param maxConcurrency the max count of tasks running concurrently(aka in flight), MUST be positive;
+     *                       the next task is submitted to the executor when a running task completes
+     * @param actions        the actions to run before completing the returned CompletableFuture
      * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code maxConcurrency} is not positive
+     * @see #mRunAsync(Executor, Runnable[])
      */
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyAllSuccessAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
-        return tupleMSupplyAllSuccessAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4);
+    public static CompletableFuture<Void> mRunAsync(Executor executor, int maxConcurrency, Runnable... actions) {
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("action", actions);
+        requireMaxConcurrencyPositive(maxConcurrency);
+
+        return combineRunnables(executor, maxConcurrency, actions, CompletableFuture::allOf);
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * Returns a new CompletableFuture that is asynchronously successful
+     * when any tasks running in the CompletableFuture's default asynchronous execution facility success.
+     *
+     * @param actions the actions to run to complete the returned CompletableFuture
+     * @return the new CompletableFuture
+     * @see #anySuccessOf(CompletionStage[])
+     * @see CompletableFuture#runAsync(Runnable)
+     */
+    public static CompletableFuture<Void> mRunAnySuccessAsync(Runnable... actions) {
+        return mRunAnySuccessAsync(ASYNC_POOL, actions);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously successful
+     * when any tasks running in the given executor success.
      *
      * @param executor the executor to use for asynchronous execution
+     * @param actions  the actions to run to complete the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see #anySuccessOf(CompletionStage[])
+     * @see CompletableFuture#runAsync(Runnable, Executor)
      */
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyAllSuccessAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+    public static CompletableFuture<Void> mRunAnySuccessAsync(Executor executor, Runnable... actions) {
         requireNonNull(executor, "executor is null");
-        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4);
+        requireArrayAndEleNonNull("action", actions);
 
-        return allSuccessTupleOf0(wrapSuppliers(executor, suppliers));
+        return anySuccessOf(wrapRunnables(executor, actions));
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * with the successful values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * when any tasks running in the CompletableFuture's default asynchronous execution facility.
      *
+     * @param actions the actions to run to complete the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see #anyOf(CompletionStage[])
+     * @see CompletableFuture#runAsync(Runnable)
      */
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAllSuccessAsync(
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        return tupleMSupplyAllSuccessAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5);
+    public static CompletableFuture<Void> mRunAnyAsync(Runnable... actions) {
+        return mRunAnyAsync(ASYNC_POOL, actions);
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier failed, use {@code null}.
+     * when any tasks running in the given executor complete.
      *
      * @param executor the executor to use for asynchronous execution
+     * @param actions  the actions to run to complete the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see #anyOf(CompletionStage[])
+     * @see CompletableFuture#runAsync(Runnable, Executor)
      */
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAllSuccessAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+    public static CompletableFuture<Void> mRunAnyAsync(Executor executor, Runnable... actions) {
         requireNonNull(executor, "executor is null");
-        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4, supplier5);
+        requireArrayAndEleNonNull("action", actions);
 
-        return allSuccessTupleOf0(wrapSuppliers(executor, suppliers));
+        return f_cast(CompletableFuture.anyOf(wrapRunnables(executor, actions)));
     }
 
-    private static <T> CompletableFuture<T> allSuccessTupleOf0(CompletionStage<?>... css) {
-        Function<CompletionStage<Object>, CompletionStage<Object>> converter = s -> s.exceptionally(ex -> null);
-        return allTupleOf0(false, convertStageArray0(converter, css));
+    private static CompletableFuture<Void>[] wrapRunnables(Executor executor, Runnable[] actions) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Void>[] cfs = new CompletableFuture[actions.length];
+        final Executor delegate = InlineFirstExecutor.delegateOfInlineFirst(executor);
+        if (delegate != null && actions.length > 0) {
+            for (int i = 1; i < actions.length; i++) {
+                cfs[i] = CompletableFuture.runAsync(actions[i], delegate);
+            }
+            cfs[0] = InlineFirstExecutor.supplyInline(() -> {
+                actions[0].run();
+                return null;
+            });
+            return cfs;
+        }
+        for (int i = 0; i < actions.length; i++) {
+            cfs[i] = CompletableFuture.runAsync(actions[i], executor);
+        }
+        return cfs;
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private static <T, U> CompletionStage<U>[] convertStageArray0(
-            Function<CompletionStage<T>, ? extends CompletionStage<U>> converter,
-            CompletionStage<? extends T>[] stages) {
-        CompletionStage[] ret = new CompletionStage[stages.length];
-        for (int i = 0; i < stages.length; i++) {
-            ret[i] = converter.apply((CompletionStage) stages[i]);
-        }
-        return ret;
+    /**
+     * Combines the cfs of the actions with at most {@code maxConcurrency} tasks running concurrently;
+     * the actions not started yet are never started once the combined cf completes.
+     */
+    private static <R> CompletableFuture<R> combineRunnables(
+            Executor executor, int maxConcurrency, Runnable[] actions,
+            Function<CompletableFuture<Void>[], CompletableFuture<R>> combinator) {
+        if (maxConcurrency >= actions.length) return combinator.apply(wrapRunnables(executor, actions));
+        return BoundedConcurrencyLauncher.run(executor, maxConcurrency, actions, combinator);
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## map*Async Methods(create by async mapping function)
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new CompletableFuture that is completed with the results of mapping the given items
+     * by the given async function in the <strong>same order</strong> of the given items,
+     * with at most {@code parallelism} stages in flight(aka a sliding window, like {@code flatMapSequential}
+     * of reactive libraries); the function is called in the CompletableFuture's default asynchronous
+     * execution facility.
+     * <p>
+     * The next item is mapped when a stage in flight completes. If any of the mapped stages complete exceptionally,
+     * the returned CompletableFuture also does so(after all started stages complete),
+     * with a CompletionException holding the exception of the first failed item as its cause.
+     * If the returned CompletableFuture is cancelled, the items not started yet are never mapped.
+     *
+     * @param items       the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn          the async function to map the item, called in the executor
+     * @param parallelism the max count of stages in flight, MUST be positive
+     * @param <T>         the items' type
+     * @param <U>         the function's result type
+     * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see #allResultsOf(CompletionStage[])
+     */
+    public static <T, U> CompletableFuture<List<U>> mapAsync(
+            Collection<? extends T> items, Function<? super T, ? extends CompletionStage<? extends U>> fn,
+            int parallelism) {
+        return mapAsync(items, fn, parallelism, ASYNC_POOL);
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new CompletableFuture that is completed with the results of mapping the given items
+     * by the given async function in the <strong>same order</strong> of the given items,
+     * with at most {@code parallelism} stages in flight(aka a sliding window); the function is called
+     * in the given Executor.
      * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
-     *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return the new CompletableFuture
+     * The next item is mapped when a stage in flight completes. If any of the mapped stages complete exceptionally,
+     * the returned CompletableFuture also does so(after all started stages complete),
+     * with a CompletionException holding the exception of the first failed item as its cause.
+     * If the returned CompletableFuture is cancelled, the items not started yet are never mapped.
+     *
+     * @param items       the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn          the async function to map the item, called in the executor
+     * @param parallelism the max count of stages in flight, MUST be positive
+     * @param executor    the executor to call the function
+     * @param <T>         the items' type
+     * @param <U>         the function's result type
+     * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see #allResultsOf(CompletionStage[])
      */
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyMostSuccessAsync(
-            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return tupleMSupplyMostSuccessAsync(ASYNC_POOL, timeout, unit, supplier1, supplier2);
+    public static <T, U> CompletableFuture<List<U>> mapAsync(
+            Collection<? extends T> items, Function<? super T, ? extends CompletionStage<? extends U>> fn,
+            int parallelism, Executor executor) {
+        requireMapArguments(items, fn, parallelism, executor);
+        return BoundedConcurrencyLauncher.mapAsync(items, fn, parallelism, executor, cfs -> allResultsOf(cfs));
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new CompletableFuture that is successful with the results of mapping the given items
+     * by the given async function in the <strong>same order</strong> of the given items,
+     * with at most {@code parallelism} stages in flight(aka a sliding window); the function is called
+     * in the CompletableFuture's default asynchronous execution facility.
      * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
+     * If any of the mapped stages complete exceptionally, the returned CompletableFuture also does so
+     * <strong>without</strong> waiting other stages in flight, with a CompletionException holding this exception
+     * as its cause; and the items not started yet are never mapped.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @param timeout  how long to wait in units of {@code unit}
-     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param items       the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn          the async function to map the item, called in the executor
+     * @param parallelism the max count of stages in flight, MUST be positive
+     * @param <T>         the items' type
+     * @param <U>         the function's result type
      * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see #allResultsFastFailOf(CompletionStage[])
      */
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyMostSuccessAsync(
-            Executor executor, long timeout, TimeUnit unit,
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        requireNonNull(executor, "executor is null");
-        requireNonNull(unit, "unit is null");
-        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2);
+    public static <T, U> CompletableFuture<List<U>> mapFastFailAsync(
+            Collection<? extends T> items, Function<? super T, ? extends CompletionStage<? extends U>> fn,
+            int parallelism) {
+        return mapFastFailAsync(items, fn, parallelism, ASYNC_POOL);
+    }
 
-        return mostSuccessTupleOf0(executor, timeout, unit, wrapSuppliers(executor, suppliers));
+    /**
+     * Returns a new CompletableFuture that is successful with the results of mapping the given items
+     * by the given async function in the <strong>same order</strong> of the given items,
+     * with at most {@code parallelism} stages in flight(aka a sliding window); the function is called
+     * in the given Executor.
+     * <p>
+     * If any of the mapped stages complete exceptionally, the returned CompletableFuture also does so
+     * <strong>without</strong> waiting other stages in flight, with a CompletionException holding this exception
+     * as its cause; and the items not started yet are never mapped.
+     *
+     * @param items       the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn          the async function to map the item, called in the executor
+     * @param parallelism the max count of stages in flight, MUST be positive
+     * @param executor    the executor to call the function
+     * @param <T>         the items' type
+     * @param <U>         the function's result type
+     * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    public static <T, U> CompletableFuture<List<U>> mapFastFailAsync(
+            Collection<? extends T> items, Function<? super T, ? extends CompletionStage<? extends U>> fn,
+            int parallelism, Executor executor) {
+        requireMapArguments(items, fn, parallelism, executor);
+        return BoundedConcurrencyLauncher.mapAsync(items, fn, parallelism, executor, cfs -> allResultsFastFailOf(cfs));
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new CompletableFuture that is completed with the successful results of mapping the given items
+     * by the given async function in the <strong>same order</strong> of the given items,
+     * with at most {@code parallelism} stages in flight(aka a sliding window); the function is called
+     * in the CompletableFuture's default asynchronous execution facility.
      * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
+     * If the mapped stage of an item failed, use the given valueIfFailed.
      *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param valueIfFailed the value to return if not failed
+     * @param items         the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn            the async function to map the item, called in the executor
+     * @param parallelism   the max count of stages in flight, MUST be positive
+     * @param <T>           the items' type
+     * @param <U>           the function's result type
      * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see #allSuccessResultsOf(Object, CompletionStage[])
      */
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyMostSuccessAsync(
-            long timeout, TimeUnit unit,
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return tupleMSupplyMostSuccessAsync(ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3);
+    public static <T, U> CompletableFuture<List<U>> mapAllSuccessAsync(
+            @Nullable U valueIfFailed, Collection<? extends T> items,
+            Function<? super T, ? extends CompletionStage<? extends U>> fn, int parallelism) {
+        return mapAllSuccessAsync(valueIfFailed, items, fn, parallelism, ASYNC_POOL);
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
-     *
-     * @param executor the executor to use for asynchronous execution
-     * @param timeout  how long to wait in units of {@code unit}
-     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return the new CompletableFuture
-     */
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyMostSuccessAsync(
-            Executor executor, long timeout, TimeUnit unit,
-            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        requireNonNull(executor, "executor is null");
-        requireNonNull(unit, "unit is null");
-        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3);
-
-        return mostSuccessTupleOf0(executor, timeout, unit, wrapSuppliers(executor, suppliers));
-    }
-
-    /**
-     * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new CompletableFuture that is completed with the successful results of mapping the given items
+     * by the given async function in the <strong>same order</strong> of the given items,
+     * with at most {@code parallelism} stages in flight(aka a sliding window); the function is called
+     * in the given Executor.
      * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
+     * If the mapped stage of an item failed, use the given valueIfFailed.
      *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return the new CompletableFuture
+     * @param valueIfFailed the value to return if not failed
+     * @param items         the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn            the async function to map the item, called in the executor
+     * @param parallelism   the max count of stages in flight, MUST be positive
+     * @param executor      the executor to call the function
+     * @param <T>           the items' type
+     * @param <U>           the function's result type
+     * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see #allSuccessResultsOf(Object, CompletionStage[])
      */
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyMostSuccessAsync(
-            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
-            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
-        return tupleMSupplyMostSuccessAsync(ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3, supplier4);
+    public static <T, U> CompletableFuture<List<U>> mapAllSuccessAsync(
+            @Nullable U valueIfFailed, Collection<? extends T> items,
+            Function<? super T, ? extends CompletionStage<? extends U>> fn, int parallelism, Executor executor) {
+        requireMapArguments(items, fn, parallelism, executor);
+        return BoundedConcurrencyLauncher.mapAsync(items, fn, parallelism, executor,
+                cfs -> allSuccessResultsOf(valueIfFailed, cfs));
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new CompletableFuture that is completed with the most results of mapping the given items
+     * by the given async function in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given items, with at most {@code parallelism} stages
+     * in flight(aka a sliding window); the function is called in the CompletableFuture's default asynchronous
+     * execution facility.
      * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
+     * If the mapped stage of an item is successful in the given time, the return result is the completed value;
+     * Otherwise the given valueIfNotSuccess(including the items not started in the given time,
+     * which are never mapped after the timeout).
      *
-     * @param executor the executor to use for asynchronous execution
-     * @param timeout  how long to wait in units of {@code unit}
-     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param items             the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn                the async function to map the item, called in the executor
+     * @param parallelism       the max count of stages in flight, MUST be positive
+     * @param <T>               the items' type
+     * @param <U>               the function's result type
      * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
      */
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyMostSuccessAsync(
-            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
-            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
-        requireNonNull(executor, "executor is null");
-        requireNonNull(unit, "unit is null");
-        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4);
-
-        return mostSuccessTupleOf0(executor, timeout, unit, wrapSuppliers(executor, suppliers));
+    public static <T, U> CompletableFuture<List<U>> mapMostSuccessAsync(
+            @Nullable U valueIfNotSuccess, long timeout, TimeUnit unit, Collection<? extends T> items,
+            Function<? super T, ? extends CompletionStage<? extends U>> fn, int parallelism) {
+        return mapMostSuccessAsync(valueIfNotSuccess, timeout, unit, items, fn, parallelism, ASYNC_POOL);
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the CompletableFuture's default asynchronous execution facility
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
-     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * Returns a new CompletableFuture that is completed with the most results of mapping the given items
+     * by the given async function in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given items, with at most {@code parallelism} stages
+     * in flight(aka a sliding window); the function is called in the given Executor.
      * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
+     * If the mapped stage of an item is successful in the given time, the return result is the completed value;
+     * Otherwise the given valueIfNotSuccess(including the items not started in the given time,
+     * which are never mapped after the timeout).
      *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return the new CompletableFuture
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param items             the items to map, the items are copied(by {@link Collection#toArray()}) when called
+     * @param fn                the async function to map the item, called in the executor
+     * @param parallelism       the max count of stages in flight, MUST be positive
+     * @param executor          the executor to call the function
+     * @param <T>               the items' type
+     * @param <U>               the function's result type
+     * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code parallelism} is not positive
+     * @see #mostSuccessResultsOf(Object, Executor, long, TimeUnit, CompletionStage[])
      */
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyMostSuccessAsync(
-            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
-            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
-            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        return tupleMSupplyMostSuccessAsync(ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5);
+    public static <T, U> CompletableFuture<List<U>> mapMostSuccessAsync(
+            @Nullable U valueIfNotSuccess, long timeout, TimeUnit unit, Collection<? extends T> items,
+            Function<? super T, ? extends CompletionStage<? extends U>> fn, int parallelism, Executor executor) {
+        return mapMostSuccessAsync(null, valueIfNotSuccess, timeout, unit, items, fn, parallelism, executor);
     }
 
     /**
-     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
-     * with the most values obtained by calling the given Suppliers
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
-     * in the <strong>same order</strong> of the given Suppliers arguments.
-     * <p>
-     * If the given supplier is successful in the given time, the return result is the completed value;
-     * Otherwise {@code null}.
-     *
-     * @param executor the executor to use for asynchronous execution
-     * @param timeout  how long to wait in units of {@code unit}
-     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return the new CompletableFuture
+     * The same as {@link #mapMostSuccessAsync(Object, long, TimeUnit, Collection, Function, int, Executor)},
+     * with the given timer of the timeout; the builtin timer if the timer is {@code null}.
      */
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyMostSuccessAsync(
-            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
-            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
-            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        requireNonNull(executor, "executor is null");
+    static <T, U> CompletableFuture<List<U>> mapMostSuccessAsync(
+            @Nullable DelayTimer timer, @Nullable U valueIfNotSuccess, long timeout, TimeUnit unit,
+            Collection<? extends T> items, Function<? super T, ? extends CompletionStage<? extends U>> fn,
+            int parallelism, Executor executor) {
         requireNonNull(unit, "unit is null");
-        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4, supplier5);
-
-        return mostSuccessTupleOf0(executor, timeout, unit, wrapSuppliers(executor, suppliers));
+        requireMapArguments(items, fn, parallelism, executor);
+        return BoundedConcurrencyLauncher.mapAsync(items, fn, parallelism, executor,
+                cfs -> mostSuccessResultsOf0(timer, valueIfNotSuccess, executor, timeout, unit, false, cfList(cfs)));
     }
 
-    private static <T> CompletableFuture<T> mostSuccessTupleOf0(
-            Executor executorWhenTimeout, long timeout, TimeUnit unit, CompletionStage<?>... css) {
-        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
-        requireNonNull(unit, "unit is null");
-        // MUST be *Non-Minimal* CF instances in order to read results(`getSuccessNow`),
-        // otherwise UnsupportedOperationException
-        final CompletableFuture<Object>[] cfArray = toNonMinCfArray(css);
-        return cffuCompleteOnTimeout(CompletableFuture.allOf(cfArray), null, executorWhenTimeout, timeout, unit)
-                .handle((unused, ex) -> tupleOf0(MGetSuccessNow0(null, cfArray)));
+    private static void requireMapArguments(
+            Collection<?> items, Function<?, ?> fn, int parallelism, Executor executor) {
+        requireNonNull(items, "items is null");
+        requireNonNull(fn, "fn is null");
+        requireNonNull(executor, "executor is null");
+        if (parallelism < 1) throw new IllegalArgumentException("parallelism(" + parallelism + ") is not positive");
     }
 
-    /**
-     * Multi-Gets(MGet) the results in the <strong>same order</strong> of the given cfs arguments,
-     * use the result value if the given stage is completed successfully, else use the given valueIfNotSuccess
-     *
-     * @param cfs MUST be *Non-Minimal* CF instances in order to read results(`getSuccessNow`),
-     *            otherwise UnsupportedOperationException
-     */
-    @SuppressWarnings("unchecked")
-    private static <T> T[] MGetSuccessNow0(@Nullable Object valueIfNotSuccess, CompletableFuture<?>... cfs) {
-        Object[] ret = new Object[cfs.length];
-        for (int i = 0; i < cfs.length; i++) {
-            ret[i] = getSuccessNow(cfs[i], valueIfNotSuccess);
-        }
-        return (T[]) ret;
-    }
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## Tuple-Multi-Actions(tupleM*) Methods(create by actions)
+    ////////////////////////////////////////////////////////////
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
@@ -975,12 +1483,12 @@ public final class CompletableFutureUtils {
      * in the <strong>same order</strong> of the given Suppliers arguments.
      *
      * @return the new CompletableFuture
-     * @see #allResultsOf(CompletionStage[])
+     * @see #allResultsFastFailOf(CompletionStage[])
      * @see CompletableFuture#supplyAsync(Supplier)
      */
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyAsync(
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyFastFailAsync(
             Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
-        return tupleMSupplyAsync(ASYNC_POOL, supplier1, supplier2);
+        return tupleMSupplyFastFailAsync(ASYNC_POOL, supplier1, supplier2);
     }
 
     /**
@@ -990,15 +1498,15 @@ public final class CompletableFutureUtils {
      *
      * @param executor the executor to use for asynchronous execution
      * @return the new CompletableFuture
-     * @see #allResultsOf(CompletionStage[])
-     * @see CompletableFuture#supplyAsync(Supplier)
+     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier, Executor)
      */
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyAsync(
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyFastFailAsync(
             Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
         requireNonNull(executor, "executor is null");
         Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2);
 
-        return allTupleOf0(false, wrapSuppliers(executor, suppliers));
+        return allTupleOf0(true, wrapSuppliers(executor, suppliers));
     }
 
     /**
@@ -1008,12 +1516,12 @@ public final class CompletableFutureUtils {
      * in the <strong>same order</strong> of the given Suppliers arguments.
      *
      * @return the new CompletableFuture
-     * @see #allResultsOf(CompletionStage[])
+     * @see #allResultsFastFailOf(CompletionStage[])
      * @see CompletableFuture#supplyAsync(Supplier)
      */
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyAsync(
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyFastFailAsync(
             Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
-        return tupleMSupplyAsync(ASYNC_POOL, supplier1, supplier2, supplier3);
+        return tupleMSupplyFastFailAsync(ASYNC_POOL, supplier1, supplier2, supplier3);
     }
 
     /**
@@ -1023,16 +1531,16 @@ public final class CompletableFutureUtils {
      *
      * @param executor the executor to use for asynchronous execution
      * @return the new CompletableFuture
-     * @see #allResultsOf(CompletionStage[])
-     * @see CompletableFuture#supplyAsync(Supplier)
+     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier, Executor)
      */
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyAsync(
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyFastFailAsync(
             Executor executor,
             Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
         requireNonNull(executor, "executor is null");
         Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3);
 
-        return allTupleOf0(false, wrapSuppliers(executor, suppliers));
+        return allTupleOf0(true, wrapSuppliers(executor, suppliers));
     }
 
     /**
@@ -1042,13 +1550,13 @@ public final class CompletableFutureUtils {
      * in the <strong>same order</strong> of the given Suppliers arguments.
      *
      * @return the new CompletableFuture
-     * @see #allResultsOf(CompletionStage[])
+     * @see #allResultsFastFailOf(CompletionStage[])
      * @see CompletableFuture#supplyAsync(Supplier)
      */
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyAsync(
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyFastFailAsync(
             Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
             Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
-        return tupleMSupplyAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4);
+        return tupleMSupplyFastFailAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4);
     }
 
     /**
@@ -1058,16 +1566,16 @@ public final class CompletableFutureUtils {
      *
      * @param executor the executor to use for asynchronous execution
      * @return the new CompletableFuture
-     * @see #allResultsOf(CompletionStage[])
-     * @see CompletableFuture#supplyAsync(Supplier)
+     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier, Executor)
      */
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyAsync(
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyFastFailAsync(
             Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
             Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
         requireNonNull(executor, "executor is null");
         Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4);
 
-        return allTupleOf0(false, wrapSuppliers(executor, suppliers));
+        return allTupleOf0(true, wrapSuppliers(executor, suppliers));
     }
 
     /**
@@ -1077,1762 +1585,4754 @@ public final class CompletableFutureUtils {
      * in the <strong>same order</strong> of the given Suppliers arguments.
      *
      * @return the new CompletableFuture
-     * @see #allResultsOf(CompletionStage[])
+     * @see #allResultsFastFailOf(CompletionStage[])
      * @see CompletableFuture#supplyAsync(Supplier)
      */
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAsync(
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyFastFailAsync(
             Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
             Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        return tupleMSupplyAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5);
+        return tupleMSupplyFastFailAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5);
     }
 
     /**
      * Returns a new CompletableFuture that is asynchronously completed
-     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
      * in the <strong>same order</strong> of the given Suppliers arguments.
      *
-     * @param executor the executor to use for asynchronous execution
      * @return the new CompletableFuture
-     * @see #allResultsOf(CompletionStage[])
+     * @see #allResultsFastFailOf(CompletionStage[])
      * @see CompletableFuture#supplyAsync(Supplier)
      */
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAsync(
-            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
-            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
-        requireNonNull(executor, "executor is null");
-        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4, supplier5);
-
-        return allTupleOf0(false, wrapSuppliers(executor, suppliers));
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyFastFailAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6) {
+        return tupleMSupplyFastFailAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
     }
 
-    // endregion
-    ////////////////////////////////////////////////////////////
-    // region## allOf* Methods(including mostSuccessResultsOf)
-    ////////////////////////////////////////////////////////////
-
     /**
-     * Returns a new CompletableFuture that is successful with the results in the <strong>same order</strong>
-     * of the given stages arguments when all the given stages success;
-     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
-     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
-     * If no stages are provided, returns a CompletableFuture completed with the value empty list.
-     * <p>
-     * This method is the same as {@link #allResultsOf(CompletionStage[])} except for the fast-fail behavior.
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
      *
-     * @param cfs the stages
-     * @return a new CompletableFuture that is successful when all the given stages success
-     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @return the new CompletableFuture
+     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
      */
-    @Contract(pure = true)
-    @SafeVarargs
-    public static <T> CompletableFuture<List<T>> allResultsFastFailOf(CompletionStage<? extends T>... cfs) {
-        requireCfsAndEleNonNull(cfs);
-        final int len = cfs.length;
-        if (len == 0) return completedFuture(arrayList());
-        // Defensive copy input cf to non-minimal-stage instance(toNonMinCfCopy) for SINGLE input
-        // in order to ensure that the returned cf is not minimal-stage CF instance(UnsupportedOperationException)
-        if (len == 1) return toNonMinCfCopy(cfs[0]).thenApply(CompletableFutureUtils::arrayList);
-
-        final CompletableFuture<?>[] successOrBeIncomplete = new CompletableFuture[len];
-        // NOTE: fill ONE MORE element of failedOrBeIncomplete LATER
-        final CompletableFuture<?>[] failedOrBeIncomplete = new CompletableFuture[len + 1];
-        fill(cfs, successOrBeIncomplete, failedOrBeIncomplete);
-
-        // NOTE: fill the ONE MORE element of failedOrBeIncomplete HERE:
-        //       a cf that is successful when all given cfs success, otherwise be incomplete
-        failedOrBeIncomplete[len] = allResultsOf(successOrBeIncomplete);
-
-        CompletableFuture<Object> ret = CompletableFuture.anyOf(failedOrBeIncomplete);
-        return f_cast(ret);
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyFastFailAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6,
+            Supplier<? extends T7> supplier7) {
+        return tupleMSupplyFastFailAsync(
+                ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7);
     }
 
     /**
-     * Returns a new CompletableFuture that is successful with the results in the <strong>same order</strong>
-     * of the given stages arguments when all the given stages completed;
-     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
-     * If no stages are provided, returns a CompletableFuture completed with the value empty list.
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
      *
-     * @param valueIfFailed the value to return if not completed successfully
-     * @param cfs           the stages
-     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @return the new CompletableFuture
+     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
      */
-    @Contract(pure = true)
-    @SafeVarargs
-    public static <T> CompletableFuture<List<T>> allSuccessResultsOf(
-            @Nullable T valueIfFailed, CompletionStage<? extends T>... cfs) {
-        requireCfsAndEleNonNull(cfs);
-
-        Function<CompletionStage<T>, CompletionStage<T>> converter = s -> s.exceptionally(ex -> valueIfFailed);
-        return allResultsOf(convertStageArray0(converter, cfs));
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyFastFailAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6,
+            Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        return tupleMSupplyFastFailAsync(
+                ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7, supplier8);
     }
 
     /**
-     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
-     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
-     * <p>
-     * If the given stage is successful, its result is the completed value; Otherwise the given valueIfNotSuccess.
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
      *
-     * @param valueIfNotSuccess the value to return if not completed successfully
-     * @param timeout           how long to wait in units of {@code unit}
-     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @param cfs               the stages
-     * @see #getSuccessNow(CompletableFuture, Object)
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier, Executor)
      */
-    @Contract(pure = true)
-    @SafeVarargs
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyFastFailAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4, supplier5);
+
+        return allTupleOf0(true, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier, Executor)
+     */
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyFastFailAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
+
+        return allTupleOf0(true, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier, Executor)
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyFastFailAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7);
+
+        return allTupleOf0(true, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     * @see #allResultsFastFailOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier, Executor)
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyFastFailAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7, supplier8);
+
+        return allTupleOf0(true, wrapSuppliers(executor, suppliers));
+    }
+
+    private static <T> CompletableFuture<T> allTupleOf0(boolean fastFail, CompletionStage<?>[] css) {
+        return AllResultsCompleter.allTupleOf(Arrays.asList(css), fastFail);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T tupleOf0(Object... e) {
+        switch (e.length) {
+            case 2: return (T) Tuple2.of(e[0], e[1]);
+            case 3: return (T) Tuple3.of(e[0], e[1], e[2]);
+            case 4: return (T) Tuple4.of(e[0], e[1], e[2], e[3]);
+            case 5: return (T) Tuple5.of(e[0], e[1], e[2], e[3], e[4]);
+            case 6: return (T) Tuple6.of(e[0], e[1], e[2], e[3], e[4], e[5]);
+            case 7: return (T) Tuple7.of(e[0], e[1], e[2], e[3], e[4], e[5], e[6]);
+            default: return (T) Tuple8.of(e[0], e[1], e[2], e[3], e[4], e[5], e[6], e[7]);
+        }
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return tupleMSupplyAllSuccessAsync(ASYNC_POOL, supplier1, supplier2);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyAllSuccessAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2);
+
+        return allSuccessTupleOf0(wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        return tupleMSupplyAllSuccessAsync(ASYNC_POOL, supplier1, supplier2, supplier3);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyAllSuccessAsync(
+            Executor executor,
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3);
+
+        return allSuccessTupleOf0(wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return tupleMSupplyAllSuccessAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyAllSuccessAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4);
+
+        return allSuccessTupleOf0(wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return tupleMSupplyAllSuccessAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6) {
+        return tupleMSupplyAllSuccessAsync(
+                ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6,
+            Supplier<? extends T7> supplier7) {
+        return tupleMSupplyAllSuccessAsync(
+                ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyAllSuccessAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6,
+            Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        return tupleMSupplyAllSuccessAsync(
+                ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7, supplier8);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAllSuccessAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4, supplier5);
+
+        return allSuccessTupleOf0(wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyAllSuccessAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
+
+        return allSuccessTupleOf0(wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyAllSuccessAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7);
+
+        return allSuccessTupleOf0(wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given executor with the successfully values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier failed, use {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyAllSuccessAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7, supplier8);
+
+        return allSuccessTupleOf0(wrapSuppliers(executor, suppliers));
+    }
+
+    private static <T> CompletableFuture<T> allSuccessTupleOf0(CompletionStage<?>... css) {
+        Function<CompletionStage<Object>, CompletionStage<Object>> converter = s -> s.exceptionally(ex -> null);
+        return allTupleOf0(false, convertStageArray0(converter, css));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T, U> CompletionStage<U>[] convertStageArray0(
+            Function<CompletionStage<T>, ? extends CompletionStage<U>> converter,
+            CompletionStage<? extends T>[] stages) {
+        CompletionStage[] ret = new CompletionStage[stages.length];
+        for (int i = 0; i < stages.length; i++) {
+            ret[i] = converter.apply((CompletionStage) stages[i]);
+        }
+        return ret;
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return tupleMSupplyMostSuccessAsync(ASYNC_POOL, timeout, unit, supplier1, supplier2);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit,
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2);
+
+        return mostSuccessTupleOf0(executor, timeout, unit, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit,
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        return tupleMSupplyMostSuccessAsync(ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit,
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3);
+
+        return mostSuccessTupleOf0(executor, timeout, unit, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return tupleMSupplyMostSuccessAsync(ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3, supplier4);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4);
+
+        return mostSuccessTupleOf0(executor, timeout, unit, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return tupleMSupplyMostSuccessAsync(ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6) {
+        return tupleMSupplyMostSuccessAsync(
+                ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7) {
+        return tupleMSupplyMostSuccessAsync(
+                ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyMostSuccessAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        return tupleMSupplyMostSuccessAsync(
+                ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7,
+                supplier8);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4, supplier5);
+
+        return mostSuccessTupleOf0(executor, timeout, unit, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4,
+            Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
+
+        return mostSuccessTupleOf0(executor, timeout, unit, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4,
+            Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7);
+
+        return mostSuccessTupleOf0(executor, timeout, unit, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     * <p>
+     * If the given supplier is successful in the given time, the return result is the completed value;
+     * Otherwise {@code null}.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyMostSuccessAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4,
+            Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7,
+            Supplier<? extends T8> supplier8) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7, supplier8);
+
+        return mostSuccessTupleOf0(executor, timeout, unit, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyMostSuccessWithCancellationAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return tupleMSupplyMostSuccessWithCancellationAsync(ASYNC_POOL, timeout, unit, supplier1, supplier2);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyMostSuccessWithCancellationAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2);
+
+        return mostSuccessTupleOf0(null, true, executor, timeout, unit, InterruptibleSupplyTask.supply(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyMostSuccessWithCancellationAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3) {
+        return tupleMSupplyMostSuccessWithCancellationAsync(ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyMostSuccessWithCancellationAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3);
+
+        return mostSuccessTupleOf0(null, true, executor, timeout, unit, InterruptibleSupplyTask.supply(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyMostSuccessWithCancellationAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return tupleMSupplyMostSuccessWithCancellationAsync(
+                ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3, supplier4);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyMostSuccessWithCancellationAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4);
+
+        return mostSuccessTupleOf0(null, true, executor, timeout, unit, InterruptibleSupplyTask.supply(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyMostSuccessWithCancellationAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return tupleMSupplyMostSuccessWithCancellationAsync(
+                ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyMostSuccessWithCancellationAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6) {
+        return tupleMSupplyMostSuccessWithCancellationAsync(
+                ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyMostSuccessWithCancellationAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7) {
+        return tupleMSupplyMostSuccessWithCancellationAsync(
+                ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyMostSuccessWithCancellationAsync(
+            long timeout, TimeUnit unit, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        return tupleMSupplyMostSuccessWithCancellationAsync(
+                ASYNC_POOL, timeout, unit, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7,
+                supplier8);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyMostSuccessWithCancellationAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4,
+            Supplier<? extends T5> supplier5) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4, supplier5);
+
+        return mostSuccessTupleOf0(null, true, executor, timeout, unit, InterruptibleSupplyTask.supply(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyMostSuccessWithCancellationAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4,
+            Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
+
+        return mostSuccessTupleOf0(null, true, executor, timeout, unit, InterruptibleSupplyTask.supply(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyMostSuccessWithCancellationAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4,
+            Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7);
+
+        return mostSuccessTupleOf0(null, true, executor, timeout, unit, InterruptibleSupplyTask.supply(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed by tasks running in the given Executor
+     * with the most values obtained by calling the given Suppliers
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Suppliers arguments;
+     * and cancels the tasks not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return the new CompletableFuture
+     * @see #mSupplyMostSuccessWithCancellationAsync(Object, Executor, long, TimeUnit, Supplier[])
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyMostSuccessWithCancellationAsync(
+            Executor executor, long timeout, TimeUnit unit, Supplier<? extends T1> supplier1,
+            Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4,
+            Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7,
+            Supplier<? extends T8> supplier8) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7, supplier8);
+
+        return mostSuccessTupleOf0(null, true, executor, timeout, unit, InterruptibleSupplyTask.supply(executor, suppliers));
+    }
+
+    /**
+     * The implementation of the tupleMSupplyMostSuccess*Async methods, with the given timer of the timeout;
+     * the builtin timer if the timer is {@code null}.
+     *
+     * @param cancelInputs whether to cancel the tasks not completed yet when the result cf is decided
+     * @param suppliers    MUST contain 2 ~ 8 suppliers, the tuple of the same arity is the result
+     * @param <T>          the tuple type of the same arity
+     */
+    static <T> CompletableFuture<T> tupleMSupplyMostSuccessAsync0(
+            @Nullable DelayTimer timer, boolean cancelInputs, Executor executor, long timeout, TimeUnit unit,
+            Supplier<?>... suppliers) {
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        requireArrayAndEleNonNull("supplier", suppliers);
+
+        return mostSuccessTupleOf0(timer, cancelInputs, executor, timeout, unit, cancelInputs
+                ? InterruptibleSupplyTask.supply(executor, suppliers) : wrapSuppliers(executor, suppliers));
+    }
+
+    private static <T> CompletableFuture<T> mostSuccessTupleOf0(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit, CompletionStage<?>... css) {
+        return mostSuccessTupleOf0(null, false, executorWhenTimeout, timeout, unit, css);
+    }
+
+    /**
+     * The implementation of the mostSuccessTupleOf methods, with the given timer of the timeout;
+     * the builtin timer if the timer is {@code null}.
+     *
+     * @param css MUST contain 2 ~ 8 stages, the tuple of the same arity is the result
+     * @param <T> the tuple type of the same arity
+     */
+    static <T> CompletableFuture<T> mostSuccessTupleOf0(
+            @Nullable DelayTimer timer, boolean cancelInputs, Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            CompletionStage<?>... css) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        // MUST be *Non-Minimal* CF instances in order to read results(`getSuccessNow`),
+        // otherwise UnsupportedOperationException
+        final CompletableFuture<Object>[] cfArray = toNonMinCfArray(css);
+        // fast path: all inputs completed, read the results directly without the timeout timer
+        if (allDone(cfArray)) return completedFuture(tupleOf0(MGetSuccessNow0(null, cfArray)));
+        final CompletableFuture<T> ret = cffuCompleteOnTimeout(
+                timer, CompletableFuture.allOf(cfArray), null, executorWhenTimeout, timeout, unit)
+                .handle((unused, ex) -> tupleOf0(MGetSuccessNow0(null, cfArray)));
+        if (cancelInputs) MultiCfCompletionHelpers.cancelInputsWhenDecided(ret, cfArray);
+        return ret;
+    }
+
+    /**
+     * Multi-Gets(MGet) the results in the <strong>same order</strong> of the given cfs arguments,
+     * use the result value if the given stage is completed successfully, else use the given valueIfNotSuccess
+     *
+     * @param cfs MUST be *Non-Minimal* CF instances in order to read results(`getSuccessNow`),
+     *            otherwise UnsupportedOperationException
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T[] MGetSuccessNow0(@Nullable Object valueIfNotSuccess, CompletableFuture<?>... cfs) {
+        Object[] ret = new Object[cfs.length];
+        for (int i = 0; i < cfs.length; i++) {
+            ret[i] = getSuccessNow(cfs[i], valueIfNotSuccess);
+        }
+        return (T[]) ret;
+    }
+
+    // cfs MUST be *Non-Minimal* CF instances, otherwise UnsupportedOperationException
+    private static boolean allDone(CompletableFuture<?>[] cfs) {
+        for (CompletableFuture<?> cf : cfs) {
+            if (!cf.isDone()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        return tupleMSupplyAsync(ASYNC_POOL, supplier1, supplier2);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> tupleMSupplyAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2);
+
+        return allTupleOf0(false, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        return tupleMSupplyAsync(ASYNC_POOL, supplier1, supplier2, supplier3);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> tupleMSupplyAsync(
+            Executor executor,
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3);
+
+        return allTupleOf0(false, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        return tupleMSupplyAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> tupleMSupplyAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4);
+
+        return allTupleOf0(false, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        return tupleMSupplyAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6) {
+        return tupleMSupplyAsync(ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6,
+            Supplier<? extends T7> supplier7) {
+        return tupleMSupplyAsync(
+                ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the CompletableFuture's default asynchronous execution facility
+     * with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyAsync(
+            Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2, Supplier<? extends T3> supplier3,
+            Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5, Supplier<? extends T6> supplier6,
+            Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        return tupleMSupplyAsync(
+                ASYNC_POOL, supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7, supplier8);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> tupleMSupplyAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull("supplier", supplier1, supplier2, supplier3, supplier4, supplier5);
+
+        return allTupleOf0(false, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> tupleMSupplyAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6);
+
+        return allTupleOf0(false, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> tupleMSupplyAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7);
+
+        return allTupleOf0(false, wrapSuppliers(executor, suppliers));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is asynchronously completed
+     * by tasks running in the given Executor with the values obtained by calling the given Suppliers
+     * in the <strong>same order</strong> of the given Suppliers arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     * @see #allResultsOf(CompletionStage[])
+     * @see CompletableFuture#supplyAsync(Supplier)
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> tupleMSupplyAsync(
+            Executor executor, Supplier<? extends T1> supplier1, Supplier<? extends T2> supplier2,
+            Supplier<? extends T3> supplier3, Supplier<? extends T4> supplier4, Supplier<? extends T5> supplier5,
+            Supplier<? extends T6> supplier6, Supplier<? extends T7> supplier7, Supplier<? extends T8> supplier8) {
+        requireNonNull(executor, "executor is null");
+        Supplier<?>[] suppliers = requireArrayAndEleNonNull(
+                "supplier", supplier1, supplier2, supplier3, supplier4, supplier5, supplier6, supplier7, supplier8);
+
+        return allTupleOf0(false, wrapSuppliers(executor, suppliers));
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## allOf* Methods(including mostSuccessResultsOf)
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new CompletableFuture that is successful with the results in the <strong>same order</strong>
+     * of the given stages arguments when all the given stages success;
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty list.
+     * <p>
+     * This method is the same as {@link #allResultsOf(CompletionStage[])} except for the fast-fail behavior.
+     *
+     * @param cfs the stages
+     * @return a new CompletableFuture that is successful when all the given stages success
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> allResultsFastFailOf(CompletionStage<? extends T>... cfs) {
+        return allResultsFastFailOf(cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful with the results in the <strong>same order</strong>
+     * of the given stages collection when all the given stages success;
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty list.
+     * <p>
+     * This method is the same as {@link #allResultsFastFailOf(CompletionStage[])}, except that the stages are
+     * given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is successful when all the given stages success
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<List<T>> allResultsFastFailOf(
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return allResultsFastFailOf0(false, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful with the results in the <strong>same order</strong>
+     * of the given stages arguments when all the given stages success;
+     * and cancels the given stages not completed yet when the returned CompletableFuture is decided.
+     * <p>
+     * This method is the same as {@link #allResultsFastFailOf(CompletionStage[])}, except that the given stages
+     * not completed yet are cancelled(by {@code cancel(false)}) when the returned CompletableFuture completes,
+     * including failing fast and being cancelled by the caller. The minimal-stage given stages are not cancellable,
+     * and skipped.
+     *
+     * @param cfs the stages
+     * @return a new CompletableFuture that is successful when all the given stages success
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> allResultsFastFailOfWithCancellation(
+            CompletionStage<? extends T>... cfs) {
+        return allResultsFastFailOfWithCancellation(cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful with the results in the <strong>same order</strong>
+     * of the given stages collection when all the given stages success;
+     * and cancels the given stages not completed yet when the returned CompletableFuture is decided.
+     * <p>
+     * This method is the same as {@link #allResultsFastFailOfWithCancellation(CompletionStage[])}, except that
+     * the stages are given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is successful when all the given stages success
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    public static <T> CompletableFuture<List<T>> allResultsFastFailOfWithCancellation(
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return allResultsFastFailOf0(true, cfs);
+    }
+
+    private static <T> CompletableFuture<List<T>> allResultsFastFailOf0(
+            boolean cancelInputs, Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(cfs, "cfs is null");
+        final int len = cfs.size();
+        if (len == 0) return completedFuture(arrayList());
+        // Defensive copy input cf to non-minimal-stage instance(toNonMinCfCopy) for SINGLE input
+        // in order to ensure that the returned cf is not minimal-stage CF instance(UnsupportedOperationException);
+        // with cancelInputs, the single input goes the completer, since the input cf itself(not a copy) is cancelled
+        if (len == 1 && !cancelInputs) return toNonMinCfCopy(firstCf(cfs)).thenApply(CompletableFutureUtils::arrayList);
+
+        return f_cast(AllResultsCompleter.allOf(cfs, true, cancelInputs, CompletableFutureUtils::arrayList));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful with the results in the <strong>same order</strong>
+     * of the given stages arguments when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty list.
+     *
+     * @param valueIfFailed the value to return if not completed successfully
+     * @param cfs           the stages
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> allSuccessResultsOf(
+            @Nullable T valueIfFailed, CompletionStage<? extends T>... cfs) {
+        return allSuccessResultsOf(valueIfFailed, cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful with the results in the <strong>same order</strong>
+     * of the given stages collection when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty list.
+     * <p>
+     * This method is the same as {@link #allSuccessResultsOf(Object, CompletionStage[])}, except that the stages are
+     * given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param valueIfFailed the value to return if not completed successfully
+     * @param cfs           the stages, MUST NOT be modified during this method call
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<List<T>> allSuccessResultsOf(
+            @Nullable T valueIfFailed, Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(cfs, "cfs is null");
+        MultiCfCompletionHelpers.requireCfsNonNull(cfs);
+
+        final int size = cfs.size();
+        @SuppressWarnings("unchecked")
+        final CompletionStage<T>[] converted = new CompletionStage[size];
+        int i = 0;
+        for (CompletionStage<? extends T> s : cfs) {
+            final CompletionStage<T> f = f_toCf(MultiCfCompletionHelpers.requireCfNonNull(s, i, size));
+            converted[i++] = f.exceptionally(ex -> valueIfFailed);
+        }
+        MultiCfCompletionHelpers.checkSize(i, size);
+        return allResultsOf(converted);
+    }
+
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the given valueIfNotSuccess.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param cfs               the stages
+     * @see #getSuccessNow(CompletableFuture, Object)
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mostSuccessResultsOf(
+            @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit, CompletionStage<? extends T>... cfs) {
+        return mostSuccessResultsOf(valueIfNotSuccess, ASYNC_POOL, timeout, unit, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages collection in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the given valueIfNotSuccess.
+     * <p>
+     * This method is the same as {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])},
+     * except that the stages are given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param cfs               the stages, MUST NOT be modified during this method call
+     * @see #getSuccessNow(CompletableFuture, Object)
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<List<T>> mostSuccessResultsOf(
+            @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return mostSuccessResultsOf(valueIfNotSuccess, ASYNC_POOL, timeout, unit, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the given valueIfNotSuccess.
+     *
+     * @param valueIfNotSuccess   the value to return if not completed successfully
+     * @param executorWhenTimeout the async executor when triggered by timeout
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param cfs                 the stages
+     * @see #getSuccessNow(CompletableFuture, Object)
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mostSuccessResultsOf(
+            @Nullable T valueIfNotSuccess, Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            CompletionStage<? extends T>... cfs) {
+        return mostSuccessResultsOf(valueIfNotSuccess, executorWhenTimeout, timeout, unit, cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages collection in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the given valueIfNotSuccess.
+     * <p>
+     * This method is the same as {@link #mostSuccessResultsOf(Object, Executor, long, TimeUnit, CompletionStage[])},
+     * except that the stages are given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param valueIfNotSuccess   the value to return if not completed successfully
+     * @param executorWhenTimeout the async executor when triggered by timeout
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param cfs                 the stages, MUST NOT be modified during this method call
+     * @see #getSuccessNow(CompletableFuture, Object)
+     */
+    @Contract(pure = true)
     public static <T> CompletableFuture<List<T>> mostSuccessResultsOf(
+            @Nullable T valueIfNotSuccess, Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return mostSuccessResultsOf0(null, valueIfNotSuccess, executorWhenTimeout, timeout, unit, false, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time);
+     * and cancels the given stages not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     * <p>
+     * This method is the same as {@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])},
+     * except that the given stages not completed yet are cancelled(by {@code cancel(false)}) when the returned
+     * CompletableFuture is completed by the timeout(their results are replaced by {@code valueIfNotSuccess} anyway)
+     * or cancelled by the caller. The minimal-stage given stages are not cancellable, and skipped.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param cfs               the stages
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mostSuccessResultsOfWithCancellation(
             @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit, CompletionStage<? extends T>... cfs) {
-        return mostSuccessResultsOf(valueIfNotSuccess, ASYNC_POOL, timeout, unit, cfs);
+        return mostSuccessResultsOfWithCancellation(valueIfNotSuccess, ASYNC_POOL, timeout, unit, cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages collection in the given time({@code timeout}, aka as many results as possible in the given time);
+     * and cancels the given stages not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param cfs               the stages, MUST NOT be modified during this method call
+     * @see #mostSuccessResultsOfWithCancellation(Object, long, TimeUnit, CompletionStage[])
+     */
+    public static <T> CompletableFuture<List<T>> mostSuccessResultsOfWithCancellation(
+            @Nullable T valueIfNotSuccess, long timeout, TimeUnit unit,
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return mostSuccessResultsOfWithCancellation(valueIfNotSuccess, ASYNC_POOL, timeout, unit, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time);
+     * and cancels the given stages not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param valueIfNotSuccess   the value to return if not completed successfully
+     * @param executorWhenTimeout the async executor when triggered by timeout
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param cfs                 the stages
+     * @see #mostSuccessResultsOfWithCancellation(Object, long, TimeUnit, CompletionStage[])
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> mostSuccessResultsOfWithCancellation(
+            @Nullable T valueIfNotSuccess, Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            CompletionStage<? extends T>... cfs) {
+        return mostSuccessResultsOfWithCancellation(valueIfNotSuccess, executorWhenTimeout, timeout, unit, cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages collection in the given time({@code timeout}, aka as many results as possible in the given time);
+     * and cancels the given stages not completed yet when the timeout fires or the returned CompletableFuture is cancelled.
+     *
+     * @param valueIfNotSuccess   the value to return if not completed successfully
+     * @param executorWhenTimeout the async executor when triggered by timeout
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param cfs                 the stages, MUST NOT be modified during this method call
+     * @see #mostSuccessResultsOfWithCancellation(Object, long, TimeUnit, CompletionStage[])
+     */
+    public static <T> CompletableFuture<List<T>> mostSuccessResultsOfWithCancellation(
+            @Nullable T valueIfNotSuccess, Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return mostSuccessResultsOf0(null, valueIfNotSuccess, executorWhenTimeout, timeout, unit, true, cfs);
+    }
+
+    /**
+     * The implementation of the mostSuccessResultsOf* methods, with the given timer of the timeout;
+     * the builtin timer if the timer is {@code null}.
+     *
+     * @param cancelInputs whether to cancel the input cfs not completed yet when the result cf is decided
+     */
+    static <T> CompletableFuture<List<T>> mostSuccessResultsOf0(
+            @Nullable DelayTimer timer, @Nullable T valueIfNotSuccess, Executor executorWhenTimeout,
+            long timeout, TimeUnit unit, boolean cancelInputs, Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
+        requireNonNull(unit, "unit is null");
+        requireNonNull(cfs, "cfs is null");
+
+        final int len = cfs.size();
+        if (len == 0) return completedFuture(arrayList());
+        // with cancelInputs, the single input goes the path below, since the input cf itself(not a copy) is cancelled
+        if (len == 1 && !cancelInputs) {
+            // Defensive copy input cf to non-minimal-stage instance in order to
+            // 1. avoid writing it by `cffuCompleteOnTimeout` and is able to read its result(`getSuccessNow`)
+            // 2. ensure that the returned cf is not minimal-stage CF instance(UnsupportedOperationException)
+            final CompletableFuture<T> f = toNonMinCfCopy(firstCf(cfs));
+            if (f.isDone()) return completedFuture(arrayList(getSuccessNow(f, valueIfNotSuccess)));
+            return cffuCompleteOnTimeout(timer, f, valueIfNotSuccess, executorWhenTimeout, timeout, unit)
+                    .handle((unused, ex) -> arrayList(getSuccessNow(f, valueIfNotSuccess)));
+        }
+
+        // MUST be non-minimal-stage CF instances in order to read results(`getSuccessNow`),
+        // otherwise UnsupportedOperationException
+        final CompletableFuture<T>[] cfArray = toNonMinCfArray(cfs);
+        // fast path: all inputs completed, read the results directly without the timeout timer
+        if (allDone(cfArray)) return completedFuture(arrayList(MGetSuccessNow0(valueIfNotSuccess, cfArray)));
+        final CompletableFuture<List<T>> ret = cffuCompleteOnTimeout(
+                timer, CompletableFuture.allOf(cfArray), null, executorWhenTimeout, timeout, unit)
+                .handle((unused, ex) -> arrayList(MGetSuccessNow0(valueIfNotSuccess, cfArray)));
+        if (cancelInputs) MultiCfCompletionHelpers.cancelInputsWhenDecided(ret, cfArray);
+        return ret;
+    }
+
+    /**
+     * Returns a new CompletableFuture with the results in the <strong>same order</strong> of the given stages arguments,
+     * the new CompletableFuture is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty list.
+     * <p>
+     * This method is the same as {@link #allOf(CompletionStage[])},
+     * except that the returned CompletableFuture contains the results of the given stages.
+     *
+     * @param cfs the stages
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> allResultsOf(CompletionStage<? extends T>... cfs) {
+        return allResultsOf(cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture with the results in the <strong>same order</strong> of the given stages collection,
+     * the new CompletableFuture is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty list.
+     * <p>
+     * This method is the same as {@link #allResultsOf(CompletionStage[])}, except that the stages are
+     * given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<List<T>> allResultsOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(cfs, "cfs is null");
+        final int len = cfs.size();
+        if (len == 0) return completedFuture(arrayList());
+        // Defensive copy input cf to non-minimal-stage instance(toNonMinCfCopy) for SINGLE input
+        // in order to ensure that the returned cf is not minimal-stage CF instance(UnsupportedOperationException)
+        if (len == 1) return toNonMinCfCopy(firstCf(cfs)).thenApply(CompletableFutureUtils::arrayList);
+
+        return f_cast(AllResultsCompleter.allOf(cfs, false, CompletableFutureUtils::arrayList));
+    }
+
+    /**
+     * Returns a new CompletableFuture with the int results in the <strong>same order</strong> of the given stages
+     * arguments, the new CompletableFuture is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally(or with the {@code null} result), then the returned
+     * CompletableFuture also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty array.
+     * <p>
+     * This method is the same as {@link #allResultsOf(CompletionStage[])}, except that each stage writes
+     * its result into the {@code int[]} result array directly, instead of building a boxed result list.
+     *
+     * @param cfs the stages
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see #allResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static CompletableFuture<int[]> allIntResultsOf(CompletionStage<? extends Integer>... cfs) {
+        return allIntResultsOf(cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture with the int results in the <strong>same order</strong> of the given stages
+     * collection, the new CompletableFuture is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally(or with the {@code null} result), then the returned
+     * CompletableFuture also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty array.
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     * @see #allIntResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static CompletableFuture<int[]> allIntResultsOf(Collection<? extends CompletionStage<? extends Integer>> cfs) {
+        requireNonNull(cfs, "cfs is null");
+        final int[] values = new int[cfs.size()];
+        if (values.length == 0) return completedFuture(values);
+        return PrimitiveResultsCompleter.allOf(cfs, values, (v, i) -> values[i] = (Integer) v);
+    }
+
+    /**
+     * Returns a new CompletableFuture with the long results in the <strong>same order</strong> of the given stages
+     * arguments, the new CompletableFuture is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally(or with the {@code null} result), then the returned
+     * CompletableFuture also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty array.
+     * <p>
+     * This method is the same as {@link #allResultsOf(CompletionStage[])}, except that each stage writes
+     * its result into the {@code long[]} result array directly, instead of building a boxed result list.
+     *
+     * @param cfs the stages
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see #allResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static CompletableFuture<long[]> allLongResultsOf(CompletionStage<? extends Long>... cfs) {
+        return allLongResultsOf(cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture with the long results in the <strong>same order</strong> of the given stages
+     * collection, the new CompletableFuture is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally(or with the {@code null} result), then the returned
+     * CompletableFuture also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty array.
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     * @see #allLongResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static CompletableFuture<long[]> allLongResultsOf(Collection<? extends CompletionStage<? extends Long>> cfs) {
+        requireNonNull(cfs, "cfs is null");
+        final long[] values = new long[cfs.size()];
+        if (values.length == 0) return completedFuture(values);
+        return PrimitiveResultsCompleter.allOf(cfs, values, (v, i) -> values[i] = (Long) v);
+    }
+
+    /**
+     * Returns a new CompletableFuture with the double results in the <strong>same order</strong> of the given stages
+     * arguments, the new CompletableFuture is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally(or with the {@code null} result), then the returned
+     * CompletableFuture also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty array.
+     * <p>
+     * This method is the same as {@link #allResultsOf(CompletionStage[])}, except that each stage writes
+     * its result into the {@code double[]} result array directly, instead of building a boxed result list.
+     *
+     * @param cfs the stages
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see #allResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static CompletableFuture<double[]> allDoubleResultsOf(CompletionStage<? extends Double>... cfs) {
+        return allDoubleResultsOf(cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture with the double results in the <strong>same order</strong> of the given stages
+     * collection, the new CompletableFuture is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally(or with the {@code null} result), then the returned
+     * CompletableFuture also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value empty array.
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     * @see #allDoubleResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static CompletableFuture<double[]> allDoubleResultsOf(Collection<? extends CompletionStage<? extends Double>> cfs) {
+        requireNonNull(cfs, "cfs is null");
+        final double[] values = new double[cfs.size()];
+        if (values.length == 0) return completedFuture(values);
+        return PrimitiveResultsCompleter.allOf(cfs, values, (v, i) -> values[i] = (Double) v);
+    }
+
+    /**
+     * Returns a new CompletableFuture with the reduction of the results of the given stages, using the provided
+     * identity, accumulation and combining functions; the new CompletableFuture is completed when all the given
+     * stages complete. Each result is folded as it arrives(in the <strong>completion order</strong>),
+     * instead of kept until all the given stages complete, so the memory is constant to the count of stages.
+     * If any of the given stages complete exceptionally(or the functions threw), then the returned CompletableFuture
+     * also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the value {@code identity}.
+     * <p>
+     * The same as {@link java.util.stream.Stream#reduce(Object, BiFunction, BinaryOperator)},
+     * {@code combiner.apply(u, accumulator.apply(identity, t))} MUST be equal to {@code accumulator.apply(u, t)}:
+     * the accumulator is applied to {@code identity} and each result concurrently,
+     * then the combiner folds the accumulated values one at a time(no synchronization needed in the functions).
+     *
+     * @param identity    the identity value for the combiner function
+     * @param accumulator an associative, non-interfering, stateless function for incorporating a result
+     * @param combiner    an associative, non-interfering, stateless function for combining two values
+     * @param cfs         the stages
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see #allResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T, U> CompletableFuture<U> allResultsReduceOf(
+            U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner,
+            CompletionStage<? extends T>... cfs) {
+        return allResultsReduceOf(identity, accumulator, combiner, cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture with the reduction of the results of the given stages collection,
+     * using the provided identity, accumulation and combining functions; each result is folded as it arrives.
+     * <p>
+     * This method is the same as {@link #allResultsReduceOf(Object, BiFunction, BinaryOperator, CompletionStage[])},
+     * except that the stages are given by a collection.
+     *
+     * @param identity    the identity value for the combiner function
+     * @param accumulator an associative, non-interfering, stateless function for incorporating a result
+     * @param combiner    an associative, non-interfering, stateless function for combining two values
+     * @param cfs         the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    public static <T, U> CompletableFuture<U> allResultsReduceOf(
+            U identity, BiFunction<U, ? super T, U> accumulator, BinaryOperator<U> combiner,
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(accumulator, "accumulator is null");
+        requireNonNull(combiner, "combiner is null");
+        requireNonNull(cfs, "cfs is null");
+        if (cfs.isEmpty()) return completedFuture(identity);
+
+        return FoldingCompleter.fold(cfs, v -> accumulator.apply(identity, (T) v),
+                identity, (u, mapped) -> combiner.apply(u, (U) mapped), Function.identity());
+    }
+
+    /**
+     * Returns a new CompletableFuture with the result of a mutable reduction of the results of the given stages
+     * using the given {@link Collector}; the new CompletableFuture is completed when all the given stages complete.
+     * Each result is accumulated into the result container as it arrives(in the <strong>completion order</strong>),
+     * instead of kept until all the given stages complete, so the memory is constant to the count of stages.
+     * If any of the given stages complete exceptionally(or the collector functions threw), then the returned
+     * CompletableFuture also does so, with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns a CompletableFuture completed with the collection result of no elements.
+     * <p>
+     * The results are accumulated into ONE result container one at a time, so the accumulator of the collector
+     * needs no synchronization, and the combiner of the collector is not used.
+     *
+     * @param collector the {@code Collector} describing the reduction
+     * @param cfs       the stages
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see #allResultsOf(CompletionStage[])
+     * @see java.util.stream.Stream#collect(Collector)
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T, A, R> CompletableFuture<R> allResultsCollectOf(
+            Collector<? super T, A, R> collector, CompletionStage<? extends T>... cfs) {
+        return allResultsCollectOf(collector, cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture with the result of a mutable reduction of the results of the given
+     * stages collection using the given {@link Collector}; each result is accumulated as it arrives.
+     * <p>
+     * This method is the same as {@link #allResultsCollectOf(Collector, CompletionStage[])},
+     * except that the stages are given by a collection.
+     *
+     * @param collector the {@code Collector} describing the reduction
+     * @param cfs       the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SuppressWarnings("unchecked")
+    public static <T, A, R> CompletableFuture<R> allResultsCollectOf(
+            Collector<? super T, A, R> collector, Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(collector, "collector is null");
+        requireNonNull(cfs, "cfs is null");
+        final A container = collector.supplier().get();
+        if (cfs.isEmpty()) return completedFuture(collector.finisher().apply(container));
+
+        final BiConsumer<A, ? super T> accumulator = collector.accumulator();
+        return FoldingCompleter.fold(cfs, Function.identity(), container, (a, v) -> {
+            accumulator.accept(a, (T) v);
+            return a;
+        }, collector.finisher());
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when all the given stages success;
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     * Otherwise, the results, if any, of the given stages are not reflected
+     * in the returned CompletableFuture({@code CompletableFuture<Void>}),
+     * but may be obtained by inspecting them individually.
+     * If no stages are provided, returns a CompletableFuture completed with the value {@code null}.
+     * <p>
+     * This method is the same as {@link #allOf(CompletionStage[])} except for the fast-fail behavior.
+     * <p>
+     * If you need the results of given stages, prefer below methods:
+     * <ul>
+     * <li>{@link #allResultsFastFailOf(CompletionStage[])}
+     * <li>{@link #allTupleFastFailOf(CompletionStage, CompletionStage)} /
+     *     {@link #allTupleFastFailOf(CompletionStage, CompletionStage, CompletionStage, CompletionStage, CompletionStage)}
+     *     (provided overloaded methods with 2~5 input)
+     * </ul>
+     * <p>
+     * If you need the successful results of given stages in the given time, prefer below methods:
+     * <ul>
+     * <li>{@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])}
+     * <li>{@link #mostSuccessTupleOf(long, TimeUnit, CompletionStage, CompletionStage)} /
+     *     {@link #mostSuccessTupleOf(long, TimeUnit, CompletionStage, CompletionStage, CompletionStage, CompletionStage, CompletionStage)}
+     * </ul>
+     *
+     * @param cfs the stages
+     * @return a new CompletableFuture that is successful when all the given stages success
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static CompletableFuture<Void> allFastFailOf(CompletionStage<?>... cfs) {
+        return allFastFailOf(cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when all the given stages success;
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     * Otherwise, the results, if any, of the given stages are not reflected
+     * in the returned CompletableFuture({@code CompletableFuture<Void>}),
+     * but may be obtained by inspecting them individually.
+     * If no stages are provided, returns a CompletableFuture completed with the value {@code null}.
+     * <p>
+     * This method is the same as {@link #allFastFailOf(CompletionStage[])}, except that the stages are
+     * given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is successful when all the given stages success
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static CompletableFuture<Void> allFastFailOf(Collection<? extends CompletionStage<?>> cfs) {
+        requireNonNull(cfs, "cfs is null");
+        final int len = cfs.size();
+        if (len == 0) return completedFuture(null);
+        // Defensive copy input cf to non-minimal-stage instance for SINGLE input in order to ensure that
+        // the returned cf is not minimal-stage CF instance(UnsupportedOperationException)
+        if (len == 1) return toNonMinCfCopy(firstCf(cfs)).thenApply(unused -> null);
+
+        return AllResultsCompleter.allOf(cfs, true, unused -> null);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     * Otherwise, the results, if any, of the given stages are not reflected in the returned
+     * CompletableFuture({@code CompletableFuture<Void>}), but may be obtained by inspecting them individually.
+     * If no stages are provided, returns a CompletableFuture completed with the value {@code null}.
+     * <p>
+     * This method is the same as {@link CompletableFuture#allOf(CompletableFuture[])},
+     * except that the parameter type is more generic {@link CompletionStage} instead of {@link CompletableFuture}.
+     * <p>
+     * If you need the results of given stages, prefer below methods:
+     * <ul>
+     * <li>{@link #allResultsOf(CompletionStage[])}
+     * <li>{@link #allTupleOf(CompletionStage, CompletionStage)} /
+     *     {@link #allTupleOf(CompletionStage, CompletionStage, CompletionStage, CompletionStage, CompletionStage)}
+     * </ul>
+     * <p>
+     * If you need the successful results of given stages in the given time, prefer below methods:
+     * <ul>
+     * <li>{@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])}
+     * <li>{@link #mostSuccessTupleOf(long, TimeUnit, CompletionStage, CompletionStage)} /
+     *     {@link #mostSuccessTupleOf(long, TimeUnit, CompletionStage, CompletionStage, CompletionStage, CompletionStage, CompletionStage)}
+     * </ul>
+     *
+     * @param cfs the stages
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     */
+    public static CompletableFuture<Void> allOf(CompletionStage<?>... cfs) {
+        return allOf(cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed when all the given stages complete;
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     * Otherwise, the results, if any, of the given stages are not reflected in the returned
+     * CompletableFuture({@code CompletableFuture<Void>}), but may be obtained by inspecting them individually.
+     * If no stages are provided, returns a CompletableFuture completed with the value {@code null}.
+     * <p>
+     * This method is the same as {@link #allOf(CompletionStage[])}, except that the stages are
+     * given by a collection.
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is completed when all the given stages complete
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    public static CompletableFuture<Void> allOf(Collection<? extends CompletionStage<?>> cfs) {
+        requireNonNull(cfs, "cfs is null");
+        final int len = cfs.size();
+        if (len == 0) return completedFuture(null);
+        // Defensive copy input cf to non-minimal-stage instance(toNonMinCfCopy) for SINGLE input
+        // in order to ensure that the returned cf is not minimal-stage CF instance(UnsupportedOperationException)
+        if (len == 1) return toNonMinCfCopy(firstCf(cfs)).thenApply(unused -> null);
+        return CompletableFuture.allOf(f_toCfArray(cfs));
+    }
+
+    @SafeVarargs
+    private static <S extends CompletionStage<?>> S[] requireCfsAndEleNonNull(S... css) {
+        return requireArrayAndEleNonNull("cf", css);
+    }
+
+    /**
+     * Returns a fixed-size list view of the given stages array(without copy), the elements are NOT null-checked.
+     */
+    private static <S extends CompletionStage<?>> List<S> cfList(S[] css) {
+        return Arrays.asList(requireNonNull(css, "cfs is null"));
+    }
+
+    /**
+     * Returns the null-checked first element of the given non-empty stages collection.
+     */
+    private static <S extends CompletionStage<?>> S firstCf(Collection<S> css) {
+        return requireNonNull(css.iterator().next(), "cf1 is null");
+    }
+
+    /**
+     * Returns normal modifiable list instead of unmodifiable or fixed-size list.
+     * Safer for application code which may reuse the returned list as normal collection.
+     * <p>
+     * The returned list is a copy-on-write view backed by the given array directly(without copying),
+     * so the given array MUST NOT be written after this method call.
+     */
+    @SafeVarargs
+    private static <T> List<T> arrayList(T... elements) {
+        return new ResultArrayList<>(elements);
+    }
+
+    /**
+     * Force casts CompletableFuture with the value type,
+     * IGNORE the compile-time type check.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> CompletableFuture<T> f_cast(CompletableFuture<?> cf) {
+        return (CompletableFuture) cf;
+    }
+
+    /**
+     * Converts {@link CompletionStage} array to {@link CompletableFuture} array.
+     * More info see method {@link #toNonMinCf(CompletionStage)}.
+     */
+    private static <T> CompletableFuture<T>[] toNonMinCfArray(CompletionStage<? extends T>[] stages) {
+        return toCfArray(CompletableFutureUtils::toNonMinCf, stages);
+    }
+
+    private static <T> CompletableFuture<T>[] toCfArray(
+            Function<CompletionStage<? extends T>, CompletableFuture<T>> converter,
+            CompletionStage<? extends T>[] stages) {
+        requireNonNull(stages, "cfs is null");
+        @SuppressWarnings("unchecked")
+        CompletableFuture<T>[] ret = new CompletableFuture[stages.length];
+        for (int i = 0; i < stages.length; i++) {
+            ret[i] = converter.apply(requireNonNull(stages[i], "cf" + (i + 1) + " is null"));
+        }
+        return ret;
+    }
+
+    /**
+     * Force converts {@link CompletionStage} collection to {@link CompletableFuture} array,
+     * reuse cf instance as many as possible. This method is NOT type safe!
+     * More info see method {@link #f_toCf(CompletionStage)}.
+     */
+    private static <T> CompletableFuture<T>[] f_toCfArray(Collection<? extends CompletionStage<? extends T>> stages) {
+        return toCfArray(CompletableFutureUtils::f_toCf, stages);
+    }
+
+    /**
+     * Converts {@link CompletionStage} collection to {@link CompletableFuture} array.
+     * More info see method {@link #toNonMinCf(CompletionStage)}.
+     */
+    private static <T> CompletableFuture<T>[] toNonMinCfArray(Collection<? extends CompletionStage<? extends T>> stages) {
+        // converting the minimal-stage registers a dependent on it, so null-check all elements first
+        MultiCfCompletionHelpers.requireCfsNonNull(stages);
+        return toCfArray(CompletableFutureUtils::toNonMinCf, stages);
+    }
+
+    private static <T> CompletableFuture<T>[] toCfArray(
+            Function<CompletionStage<? extends T>, CompletableFuture<T>> converter,
+            Collection<? extends CompletionStage<? extends T>> stages) {
+        final int size = stages.size();
+        @SuppressWarnings("unchecked")
+        CompletableFuture<T>[] ret = new CompletableFuture[size];
+        int i = 0;
+        for (CompletionStage<? extends T> s : stages) {
+            ret[i] = converter.apply(MultiCfCompletionHelpers.requireCfNonNull(s, i, size));
+            i++;
+        }
+        MultiCfCompletionHelpers.checkSize(i, size);
+        return ret;
+    }
+
+    /**
+     * Force converts CompletionStage to CompletableFuture, reuse cf instance as many as possible.
+     * <p>
+     * <strong>CAUTION:</strong> This method is NOT type safe! Because reused the CF instances,
+     * The returned cf may be a minimal-stage, MUST NOT be written or read(explicitly)
+     * (e.g. complete(Object)); Otherwise, the caller usage of cf may trigger UnsupportedOperationException.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> CompletableFuture<T> f_toCf(CompletionStage<? extends T> s) {
+        if (s instanceof CompletableFuture) return (CompletableFuture<T>) s;
+        else if (s instanceof Cffu) return ((Cffu<T>) s).cffuUnwrap();
+        else return (CompletableFuture<T>) s.toCompletableFuture();
+    }
+
+    /**
+     * Converts CompletionStage to non-minimal-stage CompletableFuture, reuse cf instance as many as possible.
+     * <p>
+     * <strong>CAUTION:</strong> because reused the CF instances,
+     * so the returned CF instances should NOT be written(e.g. complete(Object));
+     * Otherwise, the caller may need defensive copy instead of writing it directly.
+     */
+    private static <T> CompletableFuture<T> toNonMinCf(CompletionStage<? extends T> s) {
+        final CompletableFuture<T> f = f_toCf(s);
+        return isMinStageCf(f) ? f.toCompletableFuture() : f;
+    }
+
+    /**
+     * Converts CompletionStage to a non-minimal-stage CompletableFuture copy. This method is type safe.
+     * <p>
+     * <strong>Implementation Note:</strong> The return of {@code copy} methods
+     * ({@link #copy(CompletableFuture)}/{@link CompletableFuture#copy()}) on {@code minimal-stage}
+     * is still a {@code minimal-stage}(e.g. {@code minimalCompletionStage().copy()}, {@code completedStage().copy()})
+     */
+    private static <T> CompletableFuture<T> toNonMinCfCopy(CompletionStage<? extends T> s) {
+        final CompletableFuture<T> f = f_toCf(s);
+        return isMinStageCf(f) ? f.toCompletableFuture() : copy(f);
+    }
+
+    static boolean isMinStageCf(CompletableFuture<?> cf) {
+        return "java.util.concurrent.CompletableFuture$MinimalStage".equals(cf.getClass().getName());
+    }
+
+    /**
+     * Returns the minimal-stage of the given cf if {@code cfThis} is minimal-stage, otherwise the given cf itself.
+     * Keeps the runtime type(minimal-stage or not) of return same as {@code cfThis},
+     * when the return is not created by the methods of {@code cfThis}.
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> CompletableFuture<T> toSameStageType(CompletableFuture<?> cfThis, CompletableFuture<T> cf) {
+        return isMinStageCf(cfThis) ? (CompletableFuture<T>) cf.minimalCompletionStage() : cf;
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## anyOf* Methods
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new CompletableFuture that is successful when any of the given stages success,
+     * with the same result. Otherwise, all the given stages complete exceptionally,
+     * the returned CompletableFuture also does so, with a CompletionException holding
+     * an exception from any of the given stages as its cause.
+     * If no stages are provided, returns a new CompletableFuture that is already completed exceptionally
+     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
+     * <p>
+     * This method is the same as {@link #anyOf(CompletionStage[])}
+     * except for the any-<strong>success</strong> behavior instead of any-<strong>complete</strong>.
+     *
+     * @param cfs the stages
+     * @return a new CompletableFuture that is successful when any of the given stages success, with the same result
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<T> anySuccessOf(CompletionStage<? extends T>... cfs) {
+        return anySuccessOf(cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when any of the given stages success,
+     * with the same result. Otherwise, all the given stages complete exceptionally,
+     * the returned CompletableFuture also does so, with a CompletionException holding
+     * an exception from any of the given stages as its cause.
+     * If no stages are provided, returns a new CompletableFuture that is already completed exceptionally
+     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
+     * <p>
+     * This method is the same as {@link #anySuccessOf(CompletionStage[])}, except that the stages are
+     * given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is successful when any of the given stages success, with the same result
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<T> anySuccessOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        return anySuccessOf0(false, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when any of the given stages success,
+     * with the same result; and cancels the given stages not completed yet when the returned CompletableFuture
+     * is decided.
+     * <p>
+     * This method is the same as {@link #anySuccessOf(CompletionStage[])}, except that the given stages
+     * not completed yet are cancelled(by {@code cancel(false)}) when the returned CompletableFuture completes,
+     * including the first success and being cancelled by the caller. The minimal-stage given stages
+     * are not cancellable, and skipped.
+     *
+     * @param cfs the stages
+     * @return a new CompletableFuture that is successful when any of the given stages success, with the same result
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<T> anySuccessOfWithCancellation(CompletionStage<? extends T>... cfs) {
+        return anySuccessOfWithCancellation(cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when any of the given stages success,
+     * with the same result; and cancels the given stages not completed yet when the returned CompletableFuture
+     * is decided.
+     * <p>
+     * This method is the same as {@link #anySuccessOfWithCancellation(CompletionStage[])}, except that
+     * the stages are given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is successful when any of the given stages success, with the same result
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    public static <T> CompletableFuture<T> anySuccessOfWithCancellation(
+            Collection<? extends CompletionStage<? extends T>> cfs) {
+        return anySuccessOf0(true, cfs);
+    }
+
+    private static <T> CompletableFuture<T> anySuccessOf0(
+            boolean cancelInputs, Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(cfs, "cfs is null");
+        final int len = cfs.size();
+        if (len == 0) return failedFuture(new NoCfsProvidedException());
+        // Defensive copy input cf to non-minimal-stage instance for SINGLE input in order to ensure that
+        // 1. avoid writing the input cf unexpectedly it by caller code
+        // 2. the returned cf is not minimal-stage CF instance(UnsupportedOperationException)
+        // with cancelInputs, the single input goes the completer, since the input cf itself(not a copy) is cancelled
+        if (len == 1 && !cancelInputs) return toNonMinCfCopy(firstCf(cfs));
+
+        return AnyOfCompleter.anySuccessOf(cfs, cancelInputs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when any {@code n} of the given stages success(aka quorum),
+     * with the first {@code n} successful results in their <strong>success order</strong>. Once the failed stages
+     * are more than {@code cfs.length - n}, the n successes are impossible, the returned CompletableFuture
+     * completes exceptionally <strong>without</strong> waiting other incomplete given stages,
+     * with a CompletionException holding the exception of the failed stage making the n successes impossible
+     * as its cause.
+     * <p>
+     * This method is the generalization of {@link #anySuccessOf(CompletionStage[])}(n is 1)
+     * and {@link #allResultsFastFailOf(CompletionStage[])}(n is the count of stages, except for the result order).
+     * The stragglers(the given stages not completed when the returned CompletableFuture completes)
+     * are not cancelled, use {@link #nSuccessOfWithCancellation(int, CompletionStage[])} if needed.
+     *
+     * @param n   the count of successes needed, MUST be in range {@code [1, cfs.length]}
+     * @param cfs the stages
+     * @return a new CompletableFuture that is successful when any n of the given stages success,
+     * with the first n successful results
+     * @throws NullPointerException     if the array or any of its elements are {@code null}
+     * @throws IllegalArgumentException if {@code n} is not in range {@code [1, cfs.length]}
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> nSuccessOf(int n, CompletionStage<? extends T>... cfs) {
+        return nSuccessOf(n, cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when any {@code n} of the given stages success(aka quorum),
+     * with the first {@code n} successful results in their <strong>success order</strong>.
+     * <p>
+     * This method is the same as {@link #nSuccessOf(int, CompletionStage[])}, except that the stages are
+     * given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param n   the count of successes needed, MUST be in range {@code [1, cfs.size()]}
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is successful when any n of the given stages success,
+     * with the first n successful results
+     * @throws NullPointerException     if the collection or any of its elements are {@code null}
+     * @throws IllegalArgumentException if {@code n} is not in range {@code [1, cfs.size()]}
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<List<T>> nSuccessOf(int n, Collection<? extends CompletionStage<? extends T>> cfs) {
+        return nSuccessOf0(n, false, cfs);
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when any {@code n} of the given stages success(aka quorum),
+     * with the first {@code n} successful results in their <strong>success order</strong>;
+     * and cancels the stragglers when the returned CompletableFuture is decided.
+     * <p>
+     * This method is the same as {@link #nSuccessOf(int, CompletionStage[])}, except that the given stages
+     * not completed yet are cancelled(by {@code cancel(false)}) when the returned CompletableFuture completes,
+     * including being cancelled by the caller. The minimal-stage given stages are not cancellable, and skipped.
+     *
+     * @param n   the count of successes needed, MUST be in range {@code [1, cfs.length]}
+     * @param cfs the stages
+     * @return a new CompletableFuture that is successful when any n of the given stages success,
+     * with the first n successful results
+     * @throws NullPointerException     if the array or any of its elements are {@code null}
+     * @throws IllegalArgumentException if {@code n} is not in range {@code [1, cfs.length]}
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<List<T>> nSuccessOfWithCancellation(int n, CompletionStage<? extends T>... cfs) {
+        return nSuccessOfWithCancellation(n, cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when any {@code n} of the given stages success(aka quorum),
+     * with the first {@code n} successful results in their <strong>success order</strong>;
+     * and cancels the stragglers when the returned CompletableFuture is decided.
+     * <p>
+     * This method is the same as {@link #nSuccessOfWithCancellation(int, CompletionStage[])}, except that
+     * the stages are given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param n   the count of successes needed, MUST be in range {@code [1, cfs.size()]}
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is successful when any n of the given stages success,
+     * with the first n successful results
+     * @throws NullPointerException     if the collection or any of its elements are {@code null}
+     * @throws IllegalArgumentException if {@code n} is not in range {@code [1, cfs.size()]}
+     */
+    public static <T> CompletableFuture<List<T>> nSuccessOfWithCancellation(
+            int n, Collection<? extends CompletionStage<? extends T>> cfs) {
+        return nSuccessOf0(n, true, cfs);
+    }
+
+    private static <T> CompletableFuture<List<T>> nSuccessOf0(
+            int n, boolean cancelStragglers, Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(cfs, "cfs is null");
+        requireQuorumInRange(n, cfs.size());
+        return f_cast(QuorumCompleter.nSuccessOf(n, cancelStragglers, cfs, CompletableFutureUtils::arrayList));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed when any of the given stages complete, with the same result.
+     * Otherwise, if it completed exceptionally, the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns an incomplete CompletableFuture.
+     * <p>
+     * This method is the same as {@link CompletableFuture#anyOf(CompletableFuture[])},
+     * except that the parameter type is more generic {@link CompletionStage} instead of {@link CompletableFuture},
+     * and the return type is more specific {@code T} instead of {@code Object}.
+     *
+     * @param cfs the stages
+     * @return a new CompletableFuture that is completed with the result or exception
+     * from any of the given stages when one completes
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see #anySuccessOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> CompletableFuture<T> anyOf(CompletionStage<? extends T>... cfs) {
+        return anyOf(cfList(cfs));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is completed when any of the given stages complete, with the same result.
+     * Otherwise, if it completed exceptionally, the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     * If no stages are provided, returns an incomplete CompletableFuture.
+     * <p>
+     * This method is the same as {@link #anyOf(CompletionStage[])}, except that the stages are
+     * given by a collection.
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is completed with the result or exception
+     * from any of the given stages when one completes
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static <T> CompletableFuture<T> anyOf(Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(cfs, "cfs is null");
+        final int len = cfs.size();
+        if (len == 0) return new CompletableFuture<>();
+        // Defensive copy input cf to non-minimal-stage instance for SINGLE input in order to ensure that
+        // 1. avoid writing the input cf unexpectedly it by caller code
+        // 2. the returned cf is not minimal-stage CF instance(UnsupportedOperationException)
+        if (len == 1) return toNonMinCfCopy(firstCf(cfs));
+        // CompletableFuture.anyOf of Java 9+ releases the dependents on the losing inputs when completed,
+        // but the relay tree of CompletableFuture.anyOf of Java 8 does not
+        if (!IS_JAVA9_PLUS) return AnyOfCompleter.anyOf(cfs);
+        CompletableFuture<Object> ret = CompletableFuture.anyOf(f_toCfArray(cfs));
+        return f_cast(ret);
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## completionOrder* Methods
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a list of new CompletableFutures that are completed with the results or exceptions
+     * of the given stages in their <strong>completion order</strong>: the first returned CompletableFuture
+     * is completed by the first completed given stage, the second by the second completed one, and so on.
+     * The returned list has the same size as the given stages, and is unmodifiable.
+     * <p>
+     * So the results of the given stages can be consumed as soon as they complete, e.g. by a blocking iteration:
+     * <pre>{@code // each `join` returns the next completed result, in completion order
+     * for (CompletableFuture<T> cf : completionOrder(cf1, cf2, cf3)) {
+     *     T result = cf.join();
+     *     // ...
+     * }
+     *
+     * // or stream processing
+     * completionOrder(cf1, cf2, cf3).stream().map(CompletableFuture::join).forEach(...);}</pre>
+     * The returned CompletableFutures do NOT retain the positions of the given stages,
+     * use {@link #forEachInCompletionOrder(BiConsumer, CompletionStage[])} for non-blocking consuming.
+     *
+     * @param cfs the stages
+     * @return a list of new CompletableFutures that are completed in the completion order of the given stages
+     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @see #forEachInCompletionOrder(BiConsumer, CompletionStage[])
+     */
+    @Contract(pure = true)
+    @SafeVarargs
+    public static <T> List<CompletableFuture<T>> completionOrder(CompletionStage<? extends T>... cfs) {
+        return completionOrder(cfList(cfs));
+    }
+
+    /**
+     * Returns a list of new CompletableFutures that are completed with the results or exceptions
+     * of the given stages in their <strong>completion order</strong>.
+     * <p>
+     * This method is the same as {@link #completionOrder(CompletionStage[])}, except that the stages are
+     * given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param cfs the stages, MUST NOT be modified during this method call
+     * @return a list of new CompletableFutures that are completed in the completion order of the given stages
+     * @throws NullPointerException if the collection or any of its elements are {@code null}
+     */
+    @Contract(pure = true)
+    public static <T> List<CompletableFuture<T>> completionOrder(Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(cfs, "cfs is null");
+        return CompletionOrderCompleter.completionOrder(cfs);
+    }
+
+    /**
+     * Performs the given action for the result or exception of each given stage in their
+     * <strong>completion order</strong>, as soon as each stage completes; returns a new CompletableFuture
+     * that is completed after the action is performed for all the given stages.
+     * <p>
+     * The action invocations are serialized(never concurrent) and performed in completion order,
+     * like the {@code onNext} signals of a reactive-streams {@code Publisher}; the action is called
+     * with the result (or {@code null} if none) and the exception (or {@code null} if none) of the completed stage.
+     * If the action throws an exception, the returned CompletableFuture completes exceptionally
+     * with a CompletionException holding this exception as its cause, and the remaining stages are not delivered.
+     * If no stages are provided, returns a new CompletableFuture that is already completed with {@code null}.
+     *
+     * @param action the action to perform for each completed stage
+     * @param cfs    the stages
+     * @return a new CompletableFuture that is completed after the action is performed for all the given stages
+     * @throws NullPointerException if the action, the array or any of its elements are {@code null}
+     * @see #completionOrder(CompletionStage[])
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<Void> forEachInCompletionOrder(
+            BiConsumer<? super T, ? super Throwable> action, CompletionStage<? extends T>... cfs) {
+        return forEachInCompletionOrder(action, cfList(cfs));
+    }
+
+    /**
+     * Performs the given action for the result or exception of each given stage in their
+     * <strong>completion order</strong>, as soon as each stage completes; returns a new CompletableFuture
+     * that is completed after the action is performed for all the given stages.
+     * <p>
+     * This method is the same as {@link #forEachInCompletionOrder(BiConsumer, CompletionStage[])},
+     * except that the stages are given by a collection, which is consumed directly(without copying to an array).
+     *
+     * @param action the action to perform for each completed stage
+     * @param cfs    the stages, MUST NOT be modified during this method call
+     * @return a new CompletableFuture that is completed after the action is performed for all the given stages
+     * @throws NullPointerException if the action, the collection or any of its elements are {@code null}
+     */
+    public static <T> CompletableFuture<Void> forEachInCompletionOrder(
+            BiConsumer<? super T, ? super Throwable> action, Collection<? extends CompletionStage<? extends T>> cfs) {
+        requireNonNull(action, "action is null");
+        requireNonNull(cfs, "cfs is null");
+        // chain the deliveries eagerly(instead of recursive composing when delivered),
+        // so the already completed stages do NOT deepen the call stack
+        CompletableFuture<Void> ret = completedFuture(null);
+        for (CompletableFuture<T> cf : CompletionOrderCompleter.<T>completionOrder(cfs)) {
+            ret = ret.thenCompose(v -> cf.handle((r, ex) -> {
+                action.accept(r, ex);
+                return null;
+            }));
+        }
+        return ret;
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## allTupleOf*/mostSuccessTupleOf Methods
+    ////////////////////////////////////////////////////////////
+
+    /**
+     * Returns a new CompletableFuture that is successful when the given stages success.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is successful when the given stages success
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> allTupleFastFailOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when the given stages success.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is successful when the given stages success
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> allTupleFastFailOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when the given stages success.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is successful when the given stages success
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> allTupleFastFailOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when the given stages success.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is successful when the given stages success
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> allTupleFastFailOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when the given stages success.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is successful when the given stages success
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> allTupleFastFailOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6) {
+        return allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5, cf6));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when the given stages success.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is successful when the given stages success
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> allTupleFastFailOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6,
+            CompletionStage<? extends T7> cf7) {
+        return allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5, cf6, cf7));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful when the given stages success.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
+     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is successful when the given stages success
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsFastFailOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> allTupleFastFailOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6,
+            CompletionStage<? extends T7> cf7, CompletionStage<? extends T8> cf8) {
+        return allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5, cf6, cf7, cf8));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful
+     * with the results of the given stages arguments when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     *
+     * @return a new CompletableFuture
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful
+     * with the results of the given stages arguments when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     *
+     * @return a new CompletableFuture
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful
+     * with the results of the given stages arguments when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     *
+     * @return a new CompletableFuture
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful
+     * with the results of the given stages arguments when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     *
+     * @return a new CompletableFuture
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful
+     * with the results of the given stages arguments when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     *
+     * @return a new CompletableFuture
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6) {
+        return allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5, cf6));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful
+     * with the results of the given stages arguments when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     *
+     * @return a new CompletableFuture
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6,
+            CompletionStage<? extends T7> cf7) {
+        return allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5, cf6, cf7));
+    }
+
+    /**
+     * Returns a new CompletableFuture that is successful
+     * with the results of the given stages arguments when all the given stages completed;
+     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     *
+     * @return a new CompletableFuture
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> allSuccessTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6,
+            CompletionStage<? extends T7> cf7, CompletionStage<? extends T8> cf8) {
+        return allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5, cf6, cf7, cf8));
     }
 
     /**
      * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
      * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
      * <p>
-     * If the given stage is successful, its result is the completed value; Otherwise the given valueIfNotSuccess.
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #getSuccessNow(CompletableFuture, Object)
+     */
+    @Contract(pure = true)
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2);
+    }
+
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
      *
-     * @param valueIfNotSuccess   the value to return if not completed successfully
      * @param executorWhenTimeout the async executor when triggered by timeout
      * @param timeout             how long to wait in units of {@code unit}
      * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @param cfs                 the stages
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
      * @see #getSuccessNow(CompletableFuture, Object)
      */
     @Contract(pure = true)
-    @SafeVarargs
-    public static <T> CompletableFuture<List<T>> mostSuccessResultsOf(
-            @Nullable T valueIfNotSuccess, Executor executorWhenTimeout, long timeout, TimeUnit unit,
-            CompletionStage<? extends T>... cfs) {
-        requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
-        requireNonNull(unit, "unit is null");
-        requireNonNull(cfs, "cfs is null");
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> mostSuccessTupleOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cf1, cf2);
+    }
 
-        if (cfs.length == 0) return completedFuture(arrayList());
-        if (cfs.length == 1) {
-            // Defensive copy input cf to non-minimal-stage instance in order to
-            // 1. avoid writing it by `cffuCompleteOnTimeout` and is able to read its result(`getSuccessNow`)
-            // 2. ensure that the returned cf is not minimal-stage CF instance(UnsupportedOperationException)
-            final CompletableFuture<T> f = toNonMinCfCopy(requireNonNull(cfs[0], "cf1 is null"));
-            return cffuCompleteOnTimeout(f, valueIfNotSuccess, executorWhenTimeout, timeout, unit)
-                    .handle((unused, ex) -> arrayList(getSuccessNow(f, valueIfNotSuccess)));
-        }
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #getSuccessNow(CompletableFuture, Object)
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3);
+    }
 
-        // MUST be non-minimal-stage CF instances in order to read results(`getSuccessNow`),
-        // otherwise UnsupportedOperationException
-        final CompletableFuture<T>[] cfArray = toNonMinCfArray(cfs);
-        return cffuCompleteOnTimeout(CompletableFuture.allOf(cfArray), null, executorWhenTimeout, timeout, unit)
-                .handle((unused, ex) -> arrayList(MGetSuccessNow0(valueIfNotSuccess, cfArray)));
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     *
+     * @param executorWhenTimeout the async executor when triggered by timeout
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #getSuccessNow(CompletableFuture, Object)
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> mostSuccessTupleOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cf1, cf2, cf3);
     }
 
     /**
-     * Returns a new CompletableFuture with the results in the <strong>same order</strong> of the given stages arguments,
-     * the new CompletableFuture is completed when all the given stages complete;
-     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
-     * with a CompletionException holding this exception as its cause.
-     * If no stages are provided, returns a CompletableFuture completed with the value empty list.
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
      * <p>
-     * This method is the same as {@link #allOf(CompletionStage[])},
-     * except that the returned CompletableFuture contains the results of the given stages.
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
      *
-     * @param cfs the stages
-     * @return a new CompletableFuture that is completed when all the given stages complete
-     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #getSuccessNow(CompletableFuture, Object)
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, cf4);
+    }
+
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     *
+     * @param executorWhenTimeout the async executor when triggered by timeout
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #getSuccessNow(CompletableFuture, Object)
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> mostSuccessTupleOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cf1, cf2, cf3, cf4);
+    }
+
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #getSuccessNow(CompletableFuture, Object)
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, cf4, cf5);
+    }
+
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #getSuccessNow(CompletableFuture, Object)
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5,
+            CompletionStage<? extends T6> cf6) {
+        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, cf4, cf5, cf6);
+    }
+
+    /**
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #getSuccessNow(CompletableFuture, Object)
      */
     @Contract(pure = true)
-    @SafeVarargs
-    public static <T> CompletableFuture<List<T>> allResultsOf(CompletionStage<? extends T>... cfs) {
-        requireCfsAndEleNonNull(cfs);
-        final int len = cfs.length;
-        if (len == 0) return completedFuture(arrayList());
-        // Defensive copy input cf to non-minimal-stage instance(toNonMinCfCopy) for SINGLE input
-        // in order to ensure that the returned cf is not minimal-stage CF instance(UnsupportedOperationException)
-        if (len == 1) return toNonMinCfCopy(cfs[0]).thenApply(CompletableFutureUtils::arrayList);
-
-        final Object[] result = new Object[len];
-        final CompletableFuture<Void>[] resultSetterCfs = createResultSetterCfs(cfs, result);
-
-        CompletableFuture<List<Object>> ret = CompletableFuture.allOf(resultSetterCfs)
-                .thenApply(unused -> arrayList(result));
-        return f_cast(ret);
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5,
+            CompletionStage<? extends T6> cf6, CompletionStage<? extends T7> cf7) {
+        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, cf4, cf5, cf6, cf7);
     }
 
     /**
-     * Returns a new CompletableFuture that is successful when all the given stages success;
-     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
-     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
-     * Otherwise, the results, if any, of the given stages are not reflected
-     * in the returned CompletableFuture({@code CompletableFuture<Void>}),
-     * but may be obtained by inspecting them individually.
-     * If no stages are provided, returns a CompletableFuture completed with the value {@code null}.
-     * <p>
-     * This method is the same as {@link #allOf(CompletionStage[])} except for the fast-fail behavior.
-     * <p>
-     * If you need the results of given stages, prefer below methods:
-     * <ul>
-     * <li>{@link #allResultsFastFailOf(CompletionStage[])}
-     * <li>{@link #allTupleFastFailOf(CompletionStage, CompletionStage)} /
-     *     {@link #allTupleFastFailOf(CompletionStage, CompletionStage, CompletionStage, CompletionStage, CompletionStage)}
-     *     (provided overloaded methods with 2~5 input)
-     * </ul>
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
      * <p>
-     * If you need the successful results of given stages in the given time, prefer below methods:
-     * <ul>
-     * <li>{@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])}
-     * <li>{@link #mostSuccessTupleOf(long, TimeUnit, CompletionStage, CompletionStage)} /
-     *     {@link #mostSuccessTupleOf(long, TimeUnit, CompletionStage, CompletionStage, CompletionStage, CompletionStage, CompletionStage)}
-     * </ul>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
      *
-     * @param cfs the stages
-     * @return a new CompletableFuture that is successful when all the given stages success
-     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #getSuccessNow(CompletableFuture, Object)
      */
     @Contract(pure = true)
-    public static CompletableFuture<Void> allFastFailOf(CompletionStage<?>... cfs) {
-        requireCfsAndEleNonNull(cfs);
-        final int len = cfs.length;
-        if (len == 0) return completedFuture(null);
-        // Defensive copy input cf to non-minimal-stage instance for SINGLE input in order to ensure that
-        // the returned cf is not minimal-stage CF instance(UnsupportedOperationException)
-        if (len == 1) return toNonMinCfCopy(cfs[0]).thenApply(unused -> null);
-
-        final CompletableFuture<?>[] successOrBeIncomplete = new CompletableFuture[len];
-        // NOTE: fill ONE MORE element of failedOrBeIncomplete LATER
-        final CompletableFuture<?>[] failedOrBeIncomplete = new CompletableFuture[len + 1];
-        fill(cfs, successOrBeIncomplete, failedOrBeIncomplete);
-
-        // NOTE: fill the ONE MORE element of failedOrBeIncomplete HERE:
-        //       a cf that is successful when all given cfs success, otherwise be incomplete
-        failedOrBeIncomplete[len] = CompletableFuture.allOf(successOrBeIncomplete);
-
-        CompletableFuture<Object> ret = CompletableFuture.anyOf(failedOrBeIncomplete);
-        return f_cast(ret);
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> mostSuccessTupleOf(
+            long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5,
+            CompletionStage<? extends T6> cf6, CompletionStage<? extends T7> cf7, CompletionStage<? extends T8> cf8) {
+        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, cf4, cf5, cf6, cf7, cf8);
     }
 
     /**
-     * Returns a new CompletableFuture that is completed when all the given stages complete;
-     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
-     * with a CompletionException holding this exception as its cause.
-     * Otherwise, the results, if any, of the given stages are not reflected in the returned
-     * CompletableFuture({@code CompletableFuture<Void>}), but may be obtained by inspecting them individually.
-     * If no stages are provided, returns a CompletableFuture completed with the value {@code null}.
-     * <p>
-     * This method is the same as {@link CompletableFuture#allOf(CompletableFuture[])},
-     * except that the parameter type is more generic {@link CompletionStage} instead of {@link CompletableFuture}.
-     * <p>
-     * If you need the results of given stages, prefer below methods:
-     * <ul>
-     * <li>{@link #allResultsOf(CompletionStage[])}
-     * <li>{@link #allTupleOf(CompletionStage, CompletionStage)} /
-     *     {@link #allTupleOf(CompletionStage, CompletionStage, CompletionStage, CompletionStage, CompletionStage)}
-     * </ul>
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
      * <p>
-     * If you need the successful results of given stages in the given time, prefer below methods:
-     * <ul>
-     * <li>{@link #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])}
-     * <li>{@link #mostSuccessTupleOf(long, TimeUnit, CompletionStage, CompletionStage)} /
-     *     {@link #mostSuccessTupleOf(long, TimeUnit, CompletionStage, CompletionStage, CompletionStage, CompletionStage, CompletionStage)}
-     * </ul>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
      *
-     * @param cfs the stages
-     * @return a new CompletableFuture that is completed when all the given stages complete
-     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @param executorWhenTimeout the async executor when triggered by timeout
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #getSuccessNow(CompletableFuture, Object)
      */
-    public static CompletableFuture<Void> allOf(CompletionStage<?>... cfs) {
-        requireNonNull(cfs, "cfs is null");
-        if (cfs.length == 0) return completedFuture(null);
-        // Defensive copy input cf to non-minimal-stage instance(toNonMinCfCopy) for SINGLE input
-        // in order to ensure that the returned cf is not minimal-stage CF instance(UnsupportedOperationException)
-        if (cfs.length == 1) return toNonMinCfCopy(requireNonNull(cfs[0], "cf1 is null")).thenApply(unused -> null);
-        return CompletableFuture.allOf(f_toCfArray(cfs));
-    }
-
-    @SafeVarargs
-    private static <S extends CompletionStage<?>> S[] requireCfsAndEleNonNull(S... css) {
-        return requireArrayAndEleNonNull("cf", css);
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> mostSuccessTupleOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit,
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cf1, cf2, cf3, cf4, cf5);
     }
 
     /**
-     * Returns normal array list instead of unmodifiable or fixed-size list.
-     * Safer for application code which may reuse the returned list as normal collection.
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     *
+     * @param executorWhenTimeout the async executor when triggered by timeout
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #getSuccessNow(CompletableFuture, Object)
      */
-    @SafeVarargs
-    private static <T> List<T> arrayList(T... elements) {
-        List<T> ret = new ArrayList<>(elements.length);
-        ret.addAll(Arrays.asList(elements));
-        return ret;
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> mostSuccessTupleOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1,
+            CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4,
+            CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6) {
+        return mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cf1, cf2, cf3, cf4, cf5, cf6);
     }
 
     /**
-     * Returns a cf array whose elements do the result collection.
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     *
+     * @param executorWhenTimeout the async executor when triggered by timeout
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #getSuccessNow(CompletableFuture, Object)
      */
-    private static <T> CompletableFuture<Void>[] createResultSetterCfs(CompletionStage<? extends T>[] css, T[] result) {
-        @SuppressWarnings("unchecked")
-        final CompletableFuture<Void>[] resultSetterCfs = new CompletableFuture[result.length];
-        for (int i = 0; i < result.length; i++) {
-            final int index = i;
-            resultSetterCfs[index] = f_toCf(css[index]).thenAccept(v -> result[index] = v);
-        }
-        return resultSetterCfs;
-    }
-
-    private static <T> void fill(CompletionStage<? extends T>[] css,
-                                 CompletableFuture<? extends T>[] successOrBeIncomplete,
-                                 CompletableFuture<? extends T>[] failedOrBeIncomplete) {
-        final CompletableFuture<T> incomplete = new CompletableFuture<>();
-        for (int i = 0; i < css.length; i++) {
-            final CompletableFuture<T> f = f_toCf(css[i]);
-            successOrBeIncomplete[i] = exceptionallyCompose(f, ex -> incomplete);
-            failedOrBeIncomplete[i] = f.thenCompose(v -> incomplete);
-        }
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> mostSuccessTupleOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1,
+            CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4,
+            CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6, CompletionStage<? extends T7> cf7) {
+        return mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cf1, cf2, cf3, cf4, cf5, cf6, cf7);
     }
 
     /**
-     * Force casts CompletableFuture with the value type,
-     * IGNORE the compile-time type check.
+     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
+     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * <p>
+     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     *
+     * @param executorWhenTimeout the async executor when triggered by timeout
+     * @param timeout             how long to wait in units of {@code unit}
+     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @return a new CompletableFuture
+     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
+     * @see #getSuccessNow(CompletableFuture, Object)
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    private static <T> CompletableFuture<T> f_cast(CompletableFuture<?> cf) {
-        return (CompletableFuture) cf;
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> mostSuccessTupleOf(
+            Executor executorWhenTimeout, long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1,
+            CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4,
+            CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6, CompletionStage<? extends T7> cf7,
+            CompletionStage<? extends T8> cf8) {
+        return mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cf1, cf2, cf3, cf4, cf5, cf6, cf7, cf8);
     }
 
     /**
-     * Force converts {@link CompletionStage} array to {@link CompletableFuture} array,
-     * reuse cf instance as many as possible. This method is NOT type safe!
-     * More info see method {@link #f_toCf(CompletionStage)}.
+     * Returns a new CompletableFuture that is completed when the given stages complete.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is completed when the given stages complete
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsOf(CompletionStage[])
      */
-    private static <T> CompletableFuture<T>[] f_toCfArray(CompletionStage<? extends T>[] stages) {
-        return toCfArray(CompletableFutureUtils::f_toCf, stages);
+    @Contract(pure = true)
+    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
+        return allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2));
     }
 
     /**
-     * Converts {@link CompletionStage} array to {@link CompletableFuture} array.
-     * More info see method {@link #toNonMinCf(CompletionStage)}.
+     * Returns a new CompletableFuture that is completed when the given stages complete.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is completed when the given stages complete
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsOf(CompletionStage[])
      */
-    private static <T> CompletableFuture<T>[] toNonMinCfArray(CompletionStage<? extends T>[] stages) {
-        return toCfArray(CompletableFutureUtils::toNonMinCf, stages);
+    @Contract(pure = true)
+    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
+        return allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3));
     }
 
-    private static <T> CompletableFuture<T>[] toCfArray(
-            Function<CompletionStage<? extends T>, CompletableFuture<T>> converter,
-            CompletionStage<? extends T>[] stages) {
-        requireNonNull(stages, "cfs is null");
-        @SuppressWarnings("unchecked")
-        CompletableFuture<T>[] ret = new CompletableFuture[stages.length];
-        for (int i = 0; i < stages.length; i++) {
-            ret[i] = converter.apply(requireNonNull(stages[i], "cf" + (i + 1) + " is null"));
-        }
-        return ret;
+    /**
+     * Returns a new CompletableFuture that is completed when the given stages complete.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is completed when the given stages complete
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
+            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
+        return allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4));
     }
 
     /**
-     * Force converts CompletionStage to CompletableFuture, reuse cf instance as many as possible.
-     * <p>
-     * <strong>CAUTION:</strong> This method is NOT type safe! Because reused the CF instances,
-     * The returned cf may be a minimal-stage, MUST NOT be written or read(explicitly)
-     * (e.g. complete(Object)); Otherwise, the caller usage of cf may trigger UnsupportedOperationException.
+     * Returns a new CompletableFuture that is completed when the given stages complete.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is completed when the given stages complete
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsOf(CompletionStage[])
      */
-    @SuppressWarnings("unchecked")
-    private static <T> CompletableFuture<T> f_toCf(CompletionStage<? extends T> s) {
-        if (s instanceof CompletableFuture) return (CompletableFuture<T>) s;
-        else if (s instanceof Cffu) return ((Cffu<T>) s).cffuUnwrap();
-        else return (CompletableFuture<T>) s.toCompletableFuture();
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
+        return allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5));
     }
 
     /**
-     * Converts CompletionStage to non-minimal-stage CompletableFuture, reuse cf instance as many as possible.
-     * <p>
-     * <strong>CAUTION:</strong> because reused the CF instances,
-     * so the returned CF instances should NOT be written(e.g. complete(Object));
-     * Otherwise, the caller may need defensive copy instead of writing it directly.
+     * Returns a new CompletableFuture that is completed when the given stages complete.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is completed when the given stages complete
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsOf(CompletionStage[])
      */
-    private static <T> CompletableFuture<T> toNonMinCf(CompletionStage<? extends T> s) {
-        final CompletableFuture<T> f = f_toCf(s);
-        return isMinStageCf(f) ? f.toCompletableFuture() : f;
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6> CompletableFuture<Tuple6<T1, T2, T3, T4, T5, T6>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6) {
+        return allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5, cf6));
     }
 
     /**
-     * Converts CompletionStage to a non-minimal-stage CompletableFuture copy. This method is type safe.
-     * <p>
-     * <strong>Implementation Note:</strong> The return of {@code copy} methods
-     * ({@link #copy(CompletableFuture)}/{@link CompletableFuture#copy()}) on {@code minimal-stage}
-     * is still a {@code minimal-stage}(e.g. {@code minimalCompletionStage().copy()}, {@code completedStage().copy()})
+     * Returns a new CompletableFuture that is completed when the given stages complete.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is completed when the given stages complete
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsOf(CompletionStage[])
      */
-    private static <T> CompletableFuture<T> toNonMinCfCopy(CompletionStage<? extends T> s) {
-        final CompletableFuture<T> f = f_toCf(s);
-        return isMinStageCf(f) ? f.toCompletableFuture() : copy(f);
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6, T7> CompletableFuture<Tuple7<T1, T2, T3, T4, T5, T6, T7>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6,
+            CompletionStage<? extends T7> cf7) {
+        return allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5, cf6, cf7));
     }
 
-    private static boolean isMinStageCf(CompletableFuture<?> cf) {
-        return "java.util.concurrent.CompletableFuture$MinimalStage".equals(cf.getClass().getName());
+    /**
+     * Returns a new CompletableFuture that is completed when the given stages complete.
+     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
+     * with a CompletionException holding this exception as its cause.
+     *
+     * @return a new CompletableFuture that is completed when the given stages complete
+     * @throws NullPointerException if any of the given stages are {@code null}
+     * @see #allResultsOf(CompletionStage[])
+     */
+    @Contract(pure = true)
+    public static <T1, T2, T3, T4, T5, T6, T7, T8> CompletableFuture<Tuple8<T1, T2, T3, T4, T5, T6, T7, T8>> allTupleOf(
+            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
+            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5, CompletionStage<? extends T6> cf6,
+            CompletionStage<? extends T7> cf7, CompletionStage<? extends T8> cf8) {
+        return allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5, cf6, cf7, cf8));
     }
 
     // endregion
     ////////////////////////////////////////////////////////////
-    // region## anyOf* Methods
+    // region## Immediate Value Argument Factory Methods(backport methods)
     ////////////////////////////////////////////////////////////
 
     /**
-     * Returns a new CompletableFuture that is successful when any of the given stages success,
-     * with the same result. Otherwise, all the given stages complete exceptionally,
-     * the returned CompletableFuture also does so, with a CompletionException holding
-     * an exception from any of the given stages as its cause.
-     * If no stages are provided, returns a new CompletableFuture that is already completed exceptionally
-     * with a CompletionException holding a {@link NoCfsProvidedException} as its cause.
-     * <p>
-     * This method is the same as {@link #anyOf(CompletionStage[])}
-     * except for the any-<strong>success</strong> behavior instead of any-<strong>complete</strong>.
+     * Returns a new CompletableFuture that is already completed exceptionally with the given exception.
      *
-     * @param cfs the stages
-     * @return a new CompletableFuture that is successful when any of the given stages success, with the same result
-     * @throws NullPointerException if the array or any of its elements are {@code null}
+     * @param ex  the exception
+     * @param <T> the type of the value
+     * @return the exceptionally completed CompletableFuture
      */
     @Contract(pure = true)
-    @SafeVarargs
-    public static <T> CompletableFuture<T> anySuccessOf(CompletionStage<? extends T>... cfs) {
-        requireCfsAndEleNonNull(cfs);
-        final int len = cfs.length;
-        if (len == 0) return failedFuture(new NoCfsProvidedException());
-        // Defensive copy input cf to non-minimal-stage instance for SINGLE input in order to ensure that
-        // 1. avoid writing the input cf unexpectedly it by caller code
-        // 2. the returned cf is not minimal-stage CF instance(UnsupportedOperationException)
-        if (len == 1) return toNonMinCfCopy(cfs[0]);
-
-        // NOTE: fill ONE MORE element of successOrBeIncompleteCfs LATER
-        final CompletableFuture<?>[] successOrBeIncomplete = new CompletableFuture[len + 1];
-        final CompletableFuture<?>[] failedOrBeIncomplete = new CompletableFuture[len];
-        fill(cfs, successOrBeIncomplete, failedOrBeIncomplete);
-
-        // NOTE: fill the ONE MORE element of successOrBeIncompleteCfs HERE
-        //       a cf that is failed when all given cfs fail, otherwise be incomplete
-        successOrBeIncomplete[len] = CompletableFuture.allOf(failedOrBeIncomplete);
+    public static <T> CompletableFuture<T> failedFuture(Throwable ex) {
+        requireNonNull(ex, "ex is null");
+        if (IS_JAVA9_PLUS) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        final CompletableFuture<T> cf = new CompletableFuture<>();
+        cf.completeExceptionally(ex);
+        return cf;
+    }
 
-        CompletableFuture<Object> ret = CompletableFuture.anyOf(successOrBeIncomplete);
-        return f_cast(ret);
+    /**
+     * Returns a new CompletionStage that is already completed with the given value
+     * and supports only those methods in interface {@link CompletionStage}.
+     * <p>
+     * <strong>CAUTION:<br></strong>
+     * if run on old Java 8, just return a *normal* CompletableFuture which is NOT with a *minimal* CompletionStage.
+     *
+     * @param value the value
+     * @param <T>   the type of the value
+     * @return the completed CompletionStage
+     */
+    @Contract(pure = true)
+    public static <T> CompletionStage<T> completedStage(@Nullable T value) {
+        if (IS_JAVA9_PLUS) {
+            return CompletableFuture.completedStage(value);
+        }
+        return completedFuture(value);
     }
 
     /**
-     * Returns a new CompletableFuture that is completed when any of the given stages complete, with the same result.
-     * Otherwise, if it completed exceptionally, the returned CompletableFuture also does so,
-     * with a CompletionException holding this exception as its cause.
-     * If no stages are provided, returns an incomplete CompletableFuture.
+     * Returns a new CompletionStage that is already completed exceptionally with
+     * the given exception and supports only those methods in interface {@link CompletionStage}.
      * <p>
-     * This method is the same as {@link CompletableFuture#anyOf(CompletableFuture[])},
-     * except that the parameter type is more generic {@link CompletionStage} instead of {@link CompletableFuture},
-     * and the return type is more specific {@code T} instead of {@code Object}.
+     * <strong>CAUTION:<br></strong>
+     * if run on old Java 8, just return a *normal* CompletableFuture which is NOT with a *minimal* CompletionStage.
      *
-     * @param cfs the stages
-     * @return a new CompletableFuture that is completed with the result or exception
-     * from any of the given stages when one completes
-     * @throws NullPointerException if the array or any of its elements are {@code null}
-     * @see #anySuccessOf(CompletionStage[])
+     * @param ex  the exception
+     * @param <T> the type of the value
+     * @return the exceptionally completed CompletionStage
      */
     @Contract(pure = true)
-    @SafeVarargs
-    public static <T> CompletableFuture<T> anyOf(CompletionStage<? extends T>... cfs) {
-        requireNonNull(cfs, "cfs is null");
-        if (cfs.length == 0) return new CompletableFuture<>();
-        // Defensive copy input cf to non-minimal-stage instance for SINGLE input in order to ensure that
-        // 1. avoid writing the input cf unexpectedly it by caller code
-        // 2. the returned cf is not minimal-stage CF instance(UnsupportedOperationException)
-        if (cfs.length == 1) return toNonMinCfCopy(requireNonNull(cfs[0], "cf1 is null"));
-        CompletableFuture<Object> ret = CompletableFuture.anyOf(f_toCfArray(cfs));
-        return f_cast(ret);
+    public static <T> CompletionStage<T> failedStage(Throwable ex) {
+        if (IS_JAVA9_PLUS) {
+            return CompletableFuture.failedStage(ex);
+        }
+        return failedFuture(ex);
     }
 
     // endregion
     ////////////////////////////////////////////////////////////
-    // region## allTupleOf*/mostSuccessTupleOf Methods
+    // region## Delay Execution(backport methods)
     ////////////////////////////////////////////////////////////
 
     /**
-     * Returns a new CompletableFuture that is successful when the given stages success.
-     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
-     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     * Returns a new Executor that submits a task to the default executor after the given delay (or no delay
+     * if non-positive). Each delay commences upon invocation of the returned executor's {@code execute} method.
      *
-     * @return a new CompletableFuture that is successful when the given stages success
-     * @throws NullPointerException if any of the given stages are {@code null}
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @param delay how long to delay, in units of {@code unit}
+     * @param unit  a {@code TimeUnit} determining how to interpret the {@code delay} parameter
+     * @return the new delayed executor
      */
     @Contract(pure = true)
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> allTupleFastFailOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
-        return allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2));
+    public static Executor delayedExecutor(long delay, TimeUnit unit) {
+        return delayedExecutor(delay, unit, ASYNC_POOL);
     }
 
     /**
-     * Returns a new CompletableFuture that is successful when the given stages success.
-     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
-     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
+     * Returns a new Executor that submits a task to the given base executor after the given delay (or no delay
+     * if non-positive). Each delay commences upon invocation of the returned executor's {@code execute} method.
      *
-     * @return a new CompletableFuture that is successful when the given stages success
-     * @throws NullPointerException if any of the given stages are {@code null}
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * @param delay    how long to delay, in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code delay} parameter
+     * @param executor the base executor
+     * @return the new delayed executor
      */
     @Contract(pure = true)
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> allTupleFastFailOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
-        return allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3));
+    public static Executor delayedExecutor(long delay, TimeUnit unit, Executor executor) {
+        return delayedExecutor(null, delay, unit, executor);
     }
 
     /**
-     * Returns a new CompletableFuture that is successful when the given stages success.
-     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
-     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
-     *
-     * @return a new CompletableFuture that is successful when the given stages success
-     * @throws NullPointerException if any of the given stages are {@code null}
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * The same as {@link #delayedExecutor(long, TimeUnit, Executor)}, with the given timer;
+     * the builtin timer if the timer is {@code null}.
      */
     @Contract(pure = true)
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> allTupleFastFailOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
-            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
-        return allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4));
+    static Executor delayedExecutor(@Nullable DelayTimer timer, long delay, TimeUnit unit, Executor executor) {
+        requireNonNull(unit, "unit is null");
+        requireNonNull(executor, "executor is null");
+        if (useJdkDelayer(timer)) {
+            return CompletableFuture.delayedExecutor(delay, unit, executor);
+        }
+        return new DelayedExecutor(timerOrBuiltin(timer), delay, unit, executor);
     }
 
     /**
-     * Returns a new CompletableFuture that is successful when the given stages success.
-     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so
-     * *without* waiting other incomplete given stages, with a CompletionException holding this exception as its cause.
-     *
-     * @return a new CompletableFuture that is successful when the given stages success
-     * @throws NullPointerException if any of the given stages are {@code null}
-     * @see #allResultsFastFailOf(CompletionStage[])
+     * Returns the default Executor used for async methods that do not specify an Executor.
+     * This class uses the {@link ForkJoinPool#commonPool()} if it supports more than one parallel thread,
+     * or else an Executor using one thread per async task.<br>
+     * <strong>CAUTION:</strong> This executor may be not suitable for common biz use(io intensive).
      */
     @Contract(pure = true)
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> allTupleFastFailOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
-            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
-        return allTupleOf0(true, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5));
+    public static Executor defaultExecutor() {
+        return ASYNC_POOL;
     }
 
     /**
-     * Returns a new CompletableFuture that is successful
-     * with the results of the given stages arguments when all the given stages completed;
-     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     * Returns a new Executor that marks the multi-actions methods to run ONE of the actions in the current thread
+     * (inline first), instead of submitting all actions to the given executor while the current thread sits idle.
+     * <p>
+     * When the returned executor is passed to {@code mSupply*Async}/{@code mRun*Async}/{@code thenMApply*Async}/
+     * {@code thenMAccept*Async}/{@code thenMRun*Async}/{@code tupleMSupply*Async}/{@code thenTupleMApply*Async},
+     * the other actions are submitted to the given executor first, then the first action runs in the current thread:
+     * the caller thread of {@code mSupply*Async}, or the thread completing the given stage of {@code thenM*Async}.
+     * This saves one context switch and one executor queue round-trip per fan-out, at the cost that the caller is
+     * blocked while the inline action runs; so use it for the short actions, not the long blocking ones.
+     * <p>
+     * The methods limiting the concurrency({@code maxConcurrency}) and the chunked methods submit all tasks
+     * to the given executor; other methods use the returned executor the same as the given executor.
      *
-     * @return a new CompletableFuture
-     * @throws NullPointerException if any of the given stages are {@code null}
-     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     * @param executor the executor to run the other actions
+     * @return the new inline-first executor
      */
     @Contract(pure = true)
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> allSuccessTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
-        return allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2));
+    public static Executor inlineFirstExecutor(Executor executor) {
+        requireNonNull(executor, "executor is null");
+        if (executor instanceof InlineFirstExecutor) return executor;
+        return new InlineFirstExecutor(executor);
     }
 
+    // endregion
+    // endregion
+    ////////////////////////////////////////////////////////////////////////////////
+    // region# CF Instance Methods(including new enhanced + backport methods)
+    ////////////////////////////////////////////////////////////////////////////////
+
+    ////////////////////////////////////////////////////////////
+    // region## Then-Multi-Actions(thenM*) Methods
+    ////////////////////////////////////////////////////////////
+
     /**
-     * Returns a new CompletableFuture that is successful
-     * with the results of the given stages arguments when all the given stages completed;
-     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
-     * @return a new CompletableFuture
-     * @throws NullPointerException if any of the given stages are {@code null}
-     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     * @param fns the functions to use to compute the values of the returned CompletableFuture
+     * @param <U> the functions' return type
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> allSuccessTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
-        return allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3));
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U>... fns) {
+        return thenMApplyFastFailAsync(cfThis, ASYNC_POOL, fns);
     }
 
     /**
-     * Returns a new CompletableFuture that is successful
-     * with the results of the given stages arguments when all the given stages completed;
-     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
-     * @return a new CompletableFuture
-     * @throws NullPointerException if any of the given stages are {@code null}
-     * @see #allSuccessResultsOf(Object, CompletionStage[])
+     * @param executor the executor to use for asynchronous execution
+     * @param fns      the functions to use to compute the values of the returned CompletableFuture
+     * @param <U>      the functions' return type
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> allSuccessTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
-            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
-        return allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4));
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("fn", fns);
+
+        return cfThis.thenCompose(v -> allResultsFastFailOf(wrapFunctions(executor, v, fns)));
     }
 
     /**
-     * Returns a new CompletableFuture that is successful
-     * with the results of the given stages arguments when all the given stages completed;
-     * If the given stage complete exceptionally, treat it successful with value valueIfFailed.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use the given valueIfFailed.
      *
-     * @return a new CompletableFuture
-     * @throws NullPointerException if any of the given stages are {@code null}
-     * @see #allSuccessResultsOf(Object, CompletionStage[])
-     */
-    @Contract(pure = true)
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> allSuccessTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
-            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
-        return allSuccessTupleOf0(requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5));
+     * @param valueIfFailed the value to return if not completed successfully
+     * @param fns           the functions to use to compute the values of the returned CompletableFuture
+     * @param <U>           the functions' return type
+     * @return the new CompletableFuture
+     */
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis, @Nullable U valueIfFailed, Function<? super T, ? extends U>... fns) {
+        return thenMApplyAllSuccessAsync(cfThis, valueIfFailed, ASYNC_POOL, fns);
     }
 
     /**
-     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
-     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed in the given Executor with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      * <p>
-     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     * If the given Functions failed, use the given valueIfFailed.
      *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return a new CompletableFuture
-     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
-     * @see #getSuccessNow(CompletableFuture, Object)
+     * @param valueIfFailed the value to return if not completed successfully
+     * @param fns           the functions to use to compute the values of the returned CompletableFuture
+     * @param <U>           the functions' return type
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> mostSuccessTupleOf(
-            long timeout, TimeUnit unit, CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
-        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2);
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis, @Nullable U valueIfFailed,
+            Executor executor, Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("fn", fns);
+
+        return cfThis.thenCompose(v -> allSuccessResultsOf(valueIfFailed, wrapFunctions(executor, v, fns)));
     }
 
     /**
-     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
-     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the most values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Functions arguments.
      * <p>
-     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     * If the given function is successful in the given time, the return result is the completed value;
+     * Otherwise the given valueIfNotSuccess.
      *
-     * @param executorWhenTimeout the async executor when triggered by timeout
-     * @param timeout             how long to wait in units of {@code unit}
-     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return a new CompletableFuture
-     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
-     * @see #getSuccessNow(CompletableFuture, Object)
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param fns               the functions to use to compute the values of the returned CompletableFuture
+     * @param <U>               the functions' return type
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> mostSuccessTupleOf(
-            Executor executorWhenTimeout, long timeout, TimeUnit unit,
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
-        return mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cf1, cf2);
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyMostSuccessAsync(
+            CompletableFuture<? extends T> cfThis, @Nullable U valueIfNotSuccess,
+            long timeout, TimeUnit unit, Function<? super T, ? extends U>... fns) {
+        return thenMApplyMostSuccessAsync(cfThis, valueIfNotSuccess, ASYNC_POOL, timeout, unit, fns);
     }
 
     /**
-     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
-     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with the most values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Functions arguments.
      * <p>
-     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     * If the given function is successful in the given time, the return result is the completed value;
+     * Otherwise the given valueIfNotSuccess.
      *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return a new CompletableFuture
-     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
-     * @see #getSuccessNow(CompletableFuture, Object)
+     * @param valueIfNotSuccess the value to return if not completed successfully
+     * @param executor          the executor to use for asynchronous execution
+     * @param timeout           how long to wait in units of {@code unit}
+     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param fns               the functions to use to compute the values of the returned CompletableFuture
+     * @param <U>               the functions' return type
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> mostSuccessTupleOf(
-            long timeout, TimeUnit unit,
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
-        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3);
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyMostSuccessAsync(
+            CompletableFuture<? extends T> cfThis, @Nullable U valueIfNotSuccess,
+            Executor executor, long timeout, TimeUnit unit, Function<? super T, ? extends U>... fns) {
+        return thenMApplyMostSuccessAsync(null, cfThis, valueIfNotSuccess, executor, timeout, unit, fns);
     }
 
     /**
-     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
-     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
-     * <p>
-     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
-     *
-     * @param executorWhenTimeout the async executor when triggered by timeout
-     * @param timeout             how long to wait in units of {@code unit}
-     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return a new CompletableFuture
-     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
-     * @see #getSuccessNow(CompletableFuture, Object)
+     * The same as {@link #thenMApplyMostSuccessAsync(CompletableFuture, Object, Executor, long, TimeUnit, Function[])},
+     * with the given timer of the timeout; the builtin timer if the timer is {@code null}.
      */
-    @Contract(pure = true)
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> mostSuccessTupleOf(
-            Executor executorWhenTimeout, long timeout, TimeUnit unit,
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
-        return mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cf1, cf2, cf3);
+    @SafeVarargs
+    static <T, U> CompletableFuture<List<U>> thenMApplyMostSuccessAsync(
+            @Nullable DelayTimer timer, CompletableFuture<? extends T> cfThis, @Nullable U valueIfNotSuccess,
+            Executor executor, long timeout, TimeUnit unit, Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        requireArrayAndEleNonNull("fn", fns);
+
+        return cfThis.thenCompose(v -> mostSuccessResultsOf0(
+                timer, valueIfNotSuccess, executor, timeout, unit, false, cfList(wrapFunctions(executor, v, fns))
+        ));
     }
 
     /**
-     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
-     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
-     * <p>
-     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return a new CompletableFuture
-     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
-     * @see #getSuccessNow(CompletableFuture, Object)
+     * @param fns the functions to use to compute the values of the returned CompletableFuture
+     * @param <U> the functions' return type
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> mostSuccessTupleOf(
-            long timeout, TimeUnit unit,
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
-            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
-        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, cf4);
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U>... fns) {
+        return thenMApplyAsync(cfThis, ASYNC_POOL, fns);
     }
 
     /**
-     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
-     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
-     * <p>
-     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
-     * @param executorWhenTimeout the async executor when triggered by timeout
-     * @param timeout             how long to wait in units of {@code unit}
-     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return a new CompletableFuture
-     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
-     * @see #getSuccessNow(CompletableFuture, Object)
+     * @param executor the executor to use for asynchronous execution
+     * @param fns      the functions to use to compute the values of the returned CompletableFuture
+     * @param <U>      the functions' return type
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> mostSuccessTupleOf(
-            Executor executorWhenTimeout, long timeout, TimeUnit unit,
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
-            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
-        return mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cf1, cf2, cf3, cf4);
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("fn", fns);
+
+        return cfThis.thenCompose(v -> allResultsOf(wrapFunctions(executor, v, fns)));
     }
 
     /**
-     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
-     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments;
+     * the functions are grouped into chunks, and each chunk runs as one task.
      * <p>
-     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     * This method is the same as {@link #thenMApplyAsync(CompletableFuture, Function[])}, except that
+     * the functions are submitted by chunks, with the chunk size sized automatically
+     * from the parallelism of the executor.
      *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return a new CompletableFuture
-     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
-     * @see #getSuccessNow(CompletableFuture, Object)
+     * @param fns the functions to use to compute the values of the returned CompletableFuture
+     * @param <U> the functions' return type
+     * @return the new CompletableFuture
+     * @see #mSupplyChunkedAsync(Executor, Supplier[])
      */
-    @Contract(pure = true)
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> mostSuccessTupleOf(
-            long timeout, TimeUnit unit,
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
-            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
-        return mostSuccessTupleOf(ASYNC_POOL, timeout, unit, cf1, cf2, cf3, cf4, cf5);
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyChunkedAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U>... fns) {
+        return thenMApplyChunkedAsync(cfThis, ASYNC_POOL, fns);
     }
 
     /**
-     * Returns a new CompletableFuture with the most results in the <strong>same order</strong> of
-     * the given stages arguments in the given time({@code timeout}, aka as many results as possible in the given time).
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments;
+     * the functions are grouped into chunks, and each chunk runs as one task.
      * <p>
-     * If the given stage is successful, its result is the completed value; Otherwise the value {@code null}.
+     * The chunk size is sized automatically from the parallelism of the executor.
      *
-     * @param executorWhenTimeout the async executor when triggered by timeout
-     * @param timeout             how long to wait in units of {@code unit}
-     * @param unit                a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return a new CompletableFuture
-     * @see #mostSuccessResultsOf(Object, long, TimeUnit, CompletionStage[])
-     * @see #getSuccessNow(CompletableFuture, Object)
+     * @param executor the executor to use for asynchronous execution
+     * @param fns      the functions to use to compute the values of the returned CompletableFuture
+     * @param <U>      the functions' return type
+     * @return the new CompletableFuture
+     * @see #mSupplyChunkedAsync(Executor, Supplier[])
      */
-    @Contract(pure = true)
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> mostSuccessTupleOf(
-            Executor executorWhenTimeout, long timeout, TimeUnit unit,
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
-            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
-        return mostSuccessTupleOf0(executorWhenTimeout, timeout, unit, cf1, cf2, cf3, cf4, cf5);
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyChunkedAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("fn", fns);
+
+        final int chunkSize = ChunkedSupplyCompleter.autoChunkSize(executor, fns.length);
+        return cfThis.thenCompose(v -> thenMApplyChunked0(executor, chunkSize, v, fns));
     }
 
     /**
-     * Returns a new CompletableFuture that is completed when the given stages complete.
-     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
-     * with a CompletionException holding this exception as its cause.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments;
+     * the functions are grouped into chunks of the given size, and each chunk runs as one task.
      *
-     * @return a new CompletableFuture that is completed when the given stages complete
-     * @throws NullPointerException if any of the given stages are {@code null}
-     * @see #allResultsOf(CompletionStage[])
+     * @param executor  the executor to use for asynchronous execution
+     * @param chunkSize the count of functions run by one task, MUST be positive
+     * @param fns       the functions to use to compute the values of the returned CompletableFuture
+     * @param <U>       the functions' return type
+     * @return the new CompletableFuture
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     * @see #mSupplyChunkedAsync(Executor, int, Supplier[])
      */
-    @Contract(pure = true)
-    public static <T1, T2> CompletableFuture<Tuple2<T1, T2>> allTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2) {
-        return allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2));
+    @SafeVarargs
+    public static <T, U> CompletableFuture<List<U>> thenMApplyChunkedAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, int chunkSize,
+            Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("fn", fns);
+        requireChunkSizePositive(chunkSize);
+
+        return cfThis.thenCompose(v -> thenMApplyChunked0(executor, chunkSize, v, fns));
+    }
+
+    private static <T, U> CompletableFuture<List<U>> thenMApplyChunked0(
+            Executor executor, int chunkSize, @Nullable T v, Function<? super T, ? extends U>[] fns) {
+        return f_cast(ChunkedSupplyCompleter.supplyChunked(executor, fns.length, chunkSize,
+                i -> fns[i].apply(v), CompletableFutureUtils::arrayList));
     }
 
     /**
-     * Returns a new CompletableFuture that is completed when the given stages complete.
-     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
-     * with a CompletionException holding this exception as its cause.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with any successful value obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions).
      *
-     * @return a new CompletableFuture that is completed when the given stages complete
-     * @throws NullPointerException if any of the given stages are {@code null}
-     * @see #allResultsOf(CompletionStage[])
+     * @param fns the functions to use to compute the values of the returned CompletableFuture
+     * @param <U> the functions' return type
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static <T1, T2, T3> CompletableFuture<Tuple3<T1, T2, T3>> allTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3) {
-        return allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3));
+    @SafeVarargs
+    public static <T, U> CompletableFuture<U> thenMApplyAnySuccessAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U>... fns) {
+        return thenMApplyAnySuccessAsync(cfThis, ASYNC_POOL, fns);
     }
 
     /**
-     * Returns a new CompletableFuture that is completed when the given stages complete.
-     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
-     * with a CompletionException holding this exception as its cause.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with any successful value obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions).
      *
-     * @return a new CompletableFuture that is completed when the given stages complete
-     * @throws NullPointerException if any of the given stages are {@code null}
-     * @see #allResultsOf(CompletionStage[])
+     * @param executor the executor to use for asynchronous execution
+     * @param fns      the functions to use to compute the values of the returned CompletableFuture
+     * @param <U>      the functions' return type
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static <T1, T2, T3, T4> CompletableFuture<Tuple4<T1, T2, T3, T4>> allTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2,
-            CompletionStage<? extends T3> cf3, CompletionStage<? extends T4> cf4) {
-        return allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4));
+    @SafeVarargs
+    public static <T, U> CompletableFuture<U> thenMApplyAnySuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("fn", fns);
+
+        return cfThis.thenCompose(v -> anySuccessOf(wrapFunctions(executor, v, fns)));
     }
 
     /**
-     * Returns a new CompletableFuture that is completed when the given stages complete.
-     * If any of the given stages complete exceptionally, then the returned CompletableFuture also does so,
-     * with a CompletionException holding this exception as its cause.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with any completed result obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions).
      *
-     * @return a new CompletableFuture that is completed when the given stages complete
-     * @throws NullPointerException if any of the given stages are {@code null}
-     * @see #allResultsOf(CompletionStage[])
+     * @param fns the functions to use to compute the values of the returned CompletableFuture
+     * @param <U> the functions' return type
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static <T1, T2, T3, T4, T5> CompletableFuture<Tuple5<T1, T2, T3, T4, T5>> allTupleOf(
-            CompletionStage<? extends T1> cf1, CompletionStage<? extends T2> cf2, CompletionStage<? extends T3> cf3,
-            CompletionStage<? extends T4> cf4, CompletionStage<? extends T5> cf5) {
-        return allTupleOf0(false, requireCfsAndEleNonNull(cf1, cf2, cf3, cf4, cf5));
+    @SafeVarargs
+    public static <T, U> CompletableFuture<U> thenMApplyAnyAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U>... fns) {
+        return thenMApplyAnyAsync(cfThis, ASYNC_POOL, fns);
     }
 
-    // endregion
-    ////////////////////////////////////////////////////////////
-    // region## Immediate Value Argument Factory Methods(backport methods)
-    ////////////////////////////////////////////////////////////
-
     /**
-     * Returns a new CompletableFuture that is already completed exceptionally with the given exception.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with any completed result obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions).
      *
-     * @param ex  the exception
-     * @param <T> the type of the value
-     * @return the exceptionally completed CompletableFuture
+     * @param executor the executor to use for asynchronous execution
+     * @param fns      the functions to use to compute the values of the returned CompletableFuture
+     * @param <U>      the functions' return type
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static <T> CompletableFuture<T> failedFuture(Throwable ex) {
-        requireNonNull(ex, "ex is null");
-        if (IS_JAVA9_PLUS) {
-            return CompletableFuture.failedFuture(ex);
+    @SafeVarargs
+    public static <T, U> CompletableFuture<U> thenMApplyAnyAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("fn", fns);
+
+        return cfThis.thenCompose(v -> f_cast(CompletableFuture.anyOf(wrapFunctions(executor, v, fns))));
+    }
+
+    private static <T, U> CompletableFuture<U>[] wrapFunctions(
+            Executor executor, @Nullable T v, Function<? super T, ? extends U>[] fns) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<U>[] cfs = new CompletableFuture[fns.length];
+        final Executor delegate = InlineFirstExecutor.delegateOfInlineFirst(executor);
+        if (delegate != null && fns.length > 0) {
+            for (int i = 1; i < fns.length; i++) {
+                final int idx = i;
+                cfs[i] = CompletableFuture.supplyAsync(() -> fns[idx].apply(v), delegate);
+            }
+            cfs[0] = InlineFirstExecutor.supplyInline(() -> fns[0].apply(v));
+            return cfs;
         }
-        final CompletableFuture<T> cf = new CompletableFuture<>();
-        cf.completeExceptionally(ex);
-        return cf;
+        for (int i = 0; i < fns.length; i++) {
+            final int idx = i;
+            cfs[i] = CompletableFuture.supplyAsync(() -> fns[idx].apply(v), executor);
+        }
+        return cfs;
     }
 
     /**
-     * Returns a new CompletionStage that is already completed with the given value
-     * and supports only those methods in interface {@link CompletionStage}.
-     * <p>
-     * <strong>CAUTION:<br></strong>
-     * if run on old Java 8, just return a *normal* CompletableFuture which is NOT with a *minimal* CompletionStage.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the given stage's result as the argument to the given actions.
      *
-     * @param value the value
-     * @param <T>   the type of the value
-     * @return the completed CompletionStage
+     * @param actions the actions to perform before completing the returned CompletableFuture
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static <T> CompletionStage<T> completedStage(@Nullable T value) {
-        if (IS_JAVA9_PLUS) {
-            return CompletableFuture.completedStage(value);
-        }
-        return completedFuture(value);
+    @SafeVarargs
+    public static <T> CompletableFuture<Void> thenMAcceptFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Consumer<? super T>... actions) {
+        return thenMAcceptFastFailAsync(cfThis, ASYNC_POOL, actions);
     }
 
     /**
-     * Returns a new CompletionStage that is already completed exceptionally with
-     * the given exception and supports only those methods in interface {@link CompletionStage}.
-     * <p>
-     * <strong>CAUTION:<br></strong>
-     * if run on old Java 8, just return a *normal* CompletableFuture which is NOT with a *minimal* CompletionStage.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with the given stage's result as the argument to the given actions.
      *
-     * @param ex  the exception
-     * @param <T> the type of the value
-     * @return the exceptionally completed CompletionStage
+     * @param executor the executor to use for asynchronous execution
+     * @param actions  the actions to perform before completing the returned CompletableFuture
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static <T> CompletionStage<T> failedStage(Throwable ex) {
-        if (IS_JAVA9_PLUS) {
-            return CompletableFuture.failedStage(ex);
-        }
-        return failedFuture(ex);
-    }
+    @SafeVarargs
+    public static <T> CompletableFuture<Void> thenMAcceptFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Consumer<? super T>... actions) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("action", actions);
 
-    // endregion
-    ////////////////////////////////////////////////////////////
-    // region## Delay Execution(backport methods)
-    ////////////////////////////////////////////////////////////
+        return cfThis.thenCompose(v -> allFastFailOf(wrapConsumers(executor, v, actions)));
+    }
 
     /**
-     * Returns a new Executor that submits a task to the default executor after the given delay (or no delay
-     * if non-positive). Each delay commences upon invocation of the returned executor's {@code execute} method.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the given stage's result as the argument to the given actions.
      *
-     * @param delay how long to delay, in units of {@code unit}
-     * @param unit  a {@code TimeUnit} determining how to interpret the {@code delay} parameter
-     * @return the new delayed executor
+     * @param actions the actions to perform before completing the returned CompletableFuture
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static Executor delayedExecutor(long delay, TimeUnit unit) {
-        return delayedExecutor(delay, unit, ASYNC_POOL);
+    @SafeVarargs
+    public static <T> CompletableFuture<Void> thenMAcceptAsync(
+            CompletableFuture<? extends T> cfThis, Consumer<? super T>... actions) {
+        return thenMAcceptAsync(cfThis, ASYNC_POOL, actions);
     }
 
     /**
-     * Returns a new Executor that submits a task to the given base executor after the given delay (or no delay
-     * if non-positive). Each delay commences upon invocation of the returned executor's {@code execute} method.
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with the given stage's result as the argument to the given actions.
      *
-     * @param delay    how long to delay, in units of {@code unit}
-     * @param unit     a {@code TimeUnit} determining how to interpret the {@code delay} parameter
-     * @param executor the base executor
-     * @return the new delayed executor
+     * @param executor the executor to use for asynchronous execution
+     * @param actions  the actions to perform before completing the returned CompletableFuture
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static Executor delayedExecutor(long delay, TimeUnit unit, Executor executor) {
-        requireNonNull(unit, "unit is null");
+    @SafeVarargs
+    public static <T> CompletableFuture<Void> thenMAcceptAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Consumer<? super T>... actions) {
+        requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        if (IS_JAVA9_PLUS) {
-            return CompletableFuture.delayedExecutor(delay, unit, executor);
-        }
-        return new DelayedExecutor(delay, unit, executor);
+        requireArrayAndEleNonNull("action", actions);
+
+        return cfThis.thenCompose(v -> CompletableFuture.allOf(wrapConsumers(executor, v, actions)));
     }
 
     /**
-     * Returns the default Executor used for async methods that do not specify an Executor.
-     * This class uses the {@link ForkJoinPool#commonPool()} if it supports more than one parallel thread,
-     * or else an Executor using one thread per async task.<br>
-     * <strong>CAUTION:</strong> This executor may be not suitable for common biz use(io intensive).
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the given stage's result as the argument to the given actions.
+     *
+     * @param actions the actions to perform before completing the returned CompletableFuture
+     * @return the new CompletableFuture
      */
-    @Contract(pure = true)
-    public static Executor defaultExecutor() {
-        return ASYNC_POOL;
+    @SafeVarargs
+    public static <T> CompletableFuture<Void> thenMAcceptAnySuccessAsync(
+            CompletableFuture<? extends T> cfThis, Consumer<? super T>... actions) {
+        return thenMAcceptAnySuccessAsync(cfThis, ASYNC_POOL, actions);
     }
 
-    // endregion
-    // endregion
-    ////////////////////////////////////////////////////////////////////////////////
-    // region# CF Instance Methods(including new enhanced + backport methods)
-    ////////////////////////////////////////////////////////////////////////////////
+    /**
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with the given stage's result as the argument to the given actions.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @param actions  the actions to perform before completing the returned CompletableFuture
+     * @return the new CompletableFuture
+     */
+    @SafeVarargs
+    public static <T> CompletableFuture<Void> thenMAcceptAnySuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Consumer<? super T>... actions) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireArrayAndEleNonNull("action", actions);
 
-    ////////////////////////////////////////////////////////////
-    // region## Then-Multi-Actions(thenM*) Methods
-    ////////////////////////////////////////////////////////////
+        return cfThis.thenCompose(v -> anySuccessOf(wrapConsumers(executor, v, actions)));
+    }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with the values obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions)
-     * in the <strong>same order</strong> of the given Functions arguments.
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the given stage's result as the argument to the given actions.
      *
-     * @param fns the functions to use to compute the values of the returned CompletableFuture
-     * @param <U> the functions' return type
+     * @param actions the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
      */
     @SafeVarargs
-    public static <T, U> CompletableFuture<List<U>> thenMApplyFastFailAsync(
-            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U>... fns) {
-        return thenMApplyFastFailAsync(cfThis, ASYNC_POOL, fns);
+    public static <T> CompletableFuture<Void> thenMAcceptAnyAsync(
+            CompletableFuture<? extends T> cfThis, Consumer<? super T>... actions) {
+        return thenMAcceptAnyAsync(cfThis, ASYNC_POOL, actions);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor, with the values obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions)
-     * in the <strong>same order</strong> of the given Functions arguments.
+     * is executed using the given Executor, with the given stage's result as the argument to the given actions.
      *
      * @param executor the executor to use for asynchronous execution
-     * @param fns      the functions to use to compute the values of the returned CompletableFuture
-     * @param <U>      the functions' return type
+     * @param actions  the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
      */
     @SafeVarargs
-    public static <T, U> CompletableFuture<List<U>> thenMApplyFastFailAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U>... fns) {
+    public static <T> CompletableFuture<Void> thenMAcceptAnyAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Consumer<? super T>... actions) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("fn", fns);
+        requireArrayAndEleNonNull("action", actions);
 
-        return cfThis.thenCompose(v -> allResultsFastFailOf(wrapFunctions(executor, v, fns)));
+        return cfThis.thenCompose(v -> f_cast(CompletableFuture.anyOf(wrapConsumers(executor, v, actions))));
+    }
+
+    private static <T> CompletableFuture<Void>[] wrapConsumers(Executor executor, T v, Consumer<? super T>[] actions) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Void>[] cfs = new CompletableFuture[actions.length];
+        final Executor delegate = InlineFirstExecutor.delegateOfInlineFirst(executor);
+        if (delegate != null && actions.length > 0) {
+            for (int i = 1; i < actions.length; i++) {
+                final int idx = i;
+                cfs[i] = CompletableFuture.runAsync(() -> actions[idx].accept(v), delegate);
+            }
+            cfs[0] = InlineFirstExecutor.supplyInline(() -> {
+                actions[0].accept(v);
+                return null;
+            });
+            return cfs;
+        }
+        for (int i = 0; i < actions.length; i++) {
+            final int idx = i;
+            cfs[idx] = CompletableFuture.runAsync(() -> actions[idx].accept(v), executor);
+        }
+        return cfs;
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed in the CompletableFuture's default asynchronous execution facility
-     * with the successful values obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions)
-     * in the <strong>same order</strong> of the given Functions arguments.
-     * <p>
-     * If the given Functions failed, use the given valueIfFailed.
+     * executes the given actions using the CompletableFuture's default asynchronous execution facility.
      *
-     * @param valueIfFailed the value to return if not completed successfully
-     * @param fns           the functions to use to compute the values of the returned CompletableFuture
-     * @param <U>           the functions' return type
+     * @param actions the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see CompletableFuture#thenRunAsync(Runnable)
+     * @see #allFastFailOf(CompletionStage[])
      */
-    @SafeVarargs
-    public static <T, U> CompletableFuture<List<U>> thenMApplyAllSuccessAsync(
-            CompletableFuture<? extends T> cfThis, @Nullable U valueIfFailed, Function<? super T, ? extends U>... fns) {
-        return thenMApplyAllSuccessAsync(cfThis, valueIfFailed, ASYNC_POOL, fns);
+    public static CompletableFuture<Void> thenMRunFastFailAsync(CompletableFuture<?> cfThis, Runnable... actions) {
+        return thenMRunFastFailAsync(cfThis, ASYNC_POOL, actions);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed in the given Executor with the successful values obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions)
-     * in the <strong>same order</strong> of the given Functions arguments.
-     * <p>
-     * If the given Functions failed, use the given valueIfFailed.
+     * executes the given actions using the given Executor.
      *
-     * @param valueIfFailed the value to return if not completed successfully
-     * @param fns           the functions to use to compute the values of the returned CompletableFuture
-     * @param <U>           the functions' return type
+     * @param executor the executor to use for asynchronous execution
+     * @param actions  the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see CompletableFuture#thenRunAsync(Runnable, Executor)
+     * @see #allFastFailOf(CompletionStage[])
      */
-    @SafeVarargs
-    public static <T, U> CompletableFuture<List<U>> thenMApplyAllSuccessAsync(
-            CompletableFuture<? extends T> cfThis, @Nullable U valueIfFailed,
-            Executor executor, Function<? super T, ? extends U>... fns) {
+    public static CompletableFuture<Void> thenMRunFastFailAsync(
+            CompletableFuture<?> cfThis, Executor executor, Runnable... actions) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("fn", fns);
+        requireArrayAndEleNonNull("action", actions);
 
-        return cfThis.thenCompose(v -> allSuccessResultsOf(valueIfFailed, wrapFunctions(executor, v, fns)));
+        return cfThis.thenCompose(unused -> allFastFailOf(wrapRunnables(executor, actions)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with the most values obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions)
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
-     * in the <strong>same order</strong> of the given Functions arguments.
-     * <p>
-     * If the given function is successful in the given time, the return result is the completed value;
-     * Otherwise the given valueIfNotSuccess.
+     * executes the given actions using the CompletableFuture's default asynchronous execution facility.
      *
-     * @param valueIfNotSuccess the value to return if not completed successfully
-     * @param timeout           how long to wait in units of {@code unit}
-     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @param fns               the functions to use to compute the values of the returned CompletableFuture
-     * @param <U>               the functions' return type
+     * @param actions the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see CompletableFuture#thenRunAsync(Runnable)
+     * @see #allOf(CompletionStage[])
      */
-    @SafeVarargs
-    public static <T, U> CompletableFuture<List<U>> thenMApplyMostSuccessAsync(
-            CompletableFuture<? extends T> cfThis, @Nullable U valueIfNotSuccess,
-            long timeout, TimeUnit unit, Function<? super T, ? extends U>... fns) {
-        return thenMApplyMostSuccessAsync(cfThis, valueIfNotSuccess, ASYNC_POOL, timeout, unit, fns);
+    public static CompletableFuture<Void> thenMRunAsync(CompletableFuture<?> cfThis, Runnable... actions) {
+        return thenMRunAsync(cfThis, ASYNC_POOL, actions);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor, with the most values obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions)
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
-     * in the <strong>same order</strong> of the given Functions arguments.
-     * <p>
-     * If the given function is successful in the given time, the return result is the completed value;
-     * Otherwise the given valueIfNotSuccess.
+     * executes the given actions using the given Executor.
      *
-     * @param valueIfNotSuccess the value to return if not completed successfully
-     * @param executor          the executor to use for asynchronous execution
-     * @param timeout           how long to wait in units of {@code unit}
-     * @param unit              a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @param fns               the functions to use to compute the values of the returned CompletableFuture
-     * @param <U>               the functions' return type
+     * @param executor the executor to use for asynchronous execution
+     * @param actions  the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see CompletableFuture#thenRunAsync(Runnable, Executor)
+     * @see #allOf(CompletionStage[])
      */
-    @SafeVarargs
-    public static <T, U> CompletableFuture<List<U>> thenMApplyMostSuccessAsync(
-            CompletableFuture<? extends T> cfThis, @Nullable U valueIfNotSuccess,
-            Executor executor, long timeout, TimeUnit unit, Function<? super T, ? extends U>... fns) {
+    public static CompletableFuture<Void> thenMRunAsync(
+            CompletableFuture<?> cfThis, Executor executor, Runnable... actions) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        requireNonNull(unit, "unit is null");
-        requireArrayAndEleNonNull("fn", fns);
+        requireArrayAndEleNonNull("action", actions);
 
-        return cfThis.thenCompose(v -> mostSuccessResultsOf(
-                valueIfNotSuccess, executor, timeout, unit, wrapFunctions(executor, v, fns)
-        ));
+        return cfThis.thenCompose(unused -> CompletableFuture.allOf(wrapRunnables(executor, actions)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with the values obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions)
-     * in the <strong>same order</strong> of the given Functions arguments.
+     * executes the given actions using the CompletableFuture's default asynchronous execution facility.
      *
-     * @param fns the functions to use to compute the values of the returned CompletableFuture
-     * @param <U> the functions' return type
+     * @param actions the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see CompletableFuture#thenRunAsync(Runnable)
+     * @see #anySuccessOf(CompletionStage[])
      */
-    @SafeVarargs
-    public static <T, U> CompletableFuture<List<U>> thenMApplyAsync(
-            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U>... fns) {
-        return thenMApplyAsync(cfThis, ASYNC_POOL, fns);
+    public static CompletableFuture<Void> thenMRunAnySuccessAsync(CompletableFuture<?> cfThis, Runnable... actions) {
+        return thenMRunAnySuccessAsync(cfThis, ASYNC_POOL, actions);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor, with the values obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions)
-     * in the <strong>same order</strong> of the given Functions arguments.
+     * executes the given actions using the given Executor.
      *
      * @param executor the executor to use for asynchronous execution
-     * @param fns      the functions to use to compute the values of the returned CompletableFuture
-     * @param <U>      the functions' return type
+     * @param actions  the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see CompletableFuture#thenRunAsync(Runnable, Executor)
+     * @see #anySuccessOf(CompletionStage[])
      */
-    @SafeVarargs
-    public static <T, U> CompletableFuture<List<U>> thenMApplyAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U>... fns) {
+    public static CompletableFuture<Void> thenMRunAnySuccessAsync(
+            CompletableFuture<?> cfThis, Executor executor, Runnable... actions) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("fn", fns);
+        requireArrayAndEleNonNull("action", actions);
 
-        return cfThis.thenCompose(v -> allResultsOf(wrapFunctions(executor, v, fns)));
+        return cfThis.thenCompose(unused -> anySuccessOf(wrapRunnables(executor, actions)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with any successful value obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions).
+     * executes the given actions using the CompletableFuture's default asynchronous execution facility.
      *
-     * @param fns the functions to use to compute the values of the returned CompletableFuture
-     * @param <U> the functions' return type
+     * @param actions the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see CompletableFuture#thenRunAsync(Runnable)
+     * @see #anyOf(CompletionStage[])
      */
-    @SafeVarargs
-    public static <T, U> CompletableFuture<U> thenMApplyAnySuccessAsync(
-            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U>... fns) {
-        return thenMApplyAnySuccessAsync(cfThis, ASYNC_POOL, fns);
+    public static CompletableFuture<Void> thenMRunAnyAsync(CompletableFuture<?> cfThis, Runnable... actions) {
+        return thenMRunAnyAsync(cfThis, ASYNC_POOL, actions);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor, with any successful value obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions).
+     * executes the given actions using the given Executor.
      *
      * @param executor the executor to use for asynchronous execution
-     * @param fns      the functions to use to compute the values of the returned CompletableFuture
-     * @param <U>      the functions' return type
+     * @param actions  the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
+     * @see CompletableFuture#thenRunAsync(Runnable, Executor)
+     * @see #anyOf(CompletionStage[])
      */
-    @SafeVarargs
-    public static <T, U> CompletableFuture<U> thenMApplyAnySuccessAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U>... fns) {
+    public static CompletableFuture<Void> thenMRunAnyAsync(
+            CompletableFuture<?> cfThis, Executor executor, Runnable... actions) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("fn", fns);
+        requireArrayAndEleNonNull("action", actions);
 
-        return cfThis.thenCompose(v -> anySuccessOf(wrapFunctions(executor, v, fns)));
+        return cfThis.thenCompose(unused -> f_cast(CompletableFuture.anyOf(wrapRunnables(executor, actions))));
     }
 
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## Then-Tuple-Multi-Actions(thenTupleM*) Methods
+    ////////////////////////////////////////////////////////////
+
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
      * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with any completed result obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions).
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
-     * @param fns the functions to use to compute the values of the returned CompletableFuture
-     * @param <U> the functions' return type
      * @return the new CompletableFuture
      */
-    @SafeVarargs
-    public static <T, U> CompletableFuture<U> thenMApplyAnyAsync(
-            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U>... fns) {
-        return thenMApplyAnyAsync(cfThis, ASYNC_POOL, fns);
+    public static <T, U1, U2> CompletableFuture<Tuple2<U1, U2>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis,
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
+        return thenTupleMApplyFastFailAsync(cfThis, ASYNC_POOL, fn1, fn2);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor, with any completed result obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions).
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
      * @param executor the executor to use for asynchronous execution
-     * @param fns      the functions to use to compute the values of the returned CompletableFuture
-     * @param <U>      the functions' return type
      * @return the new CompletableFuture
      */
-    @SafeVarargs
-    public static <T, U> CompletableFuture<U> thenMApplyAnyAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U>... fns) {
+    public static <T, U1, U2> CompletableFuture<Tuple2<U1, U2>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor,
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("fn", fns);
-
-        return cfThis.thenCompose(v -> f_cast(CompletableFuture.anyOf(wrapFunctions(executor, v, fns))));
-    }
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2);
 
-    private static <T, U> CompletableFuture<U>[] wrapFunctions(
-            Executor executor, @Nullable T v, Function<? super T, ? extends U>[] fns) {
-        @SuppressWarnings("unchecked")
-        CompletableFuture<U>[] cfs = new CompletableFuture[fns.length];
-        for (int i = 0; i < fns.length; i++) {
-            final int idx = i;
-            cfs[i] = CompletableFuture.supplyAsync(() -> fns[idx].apply(v), executor);
-        }
-        return cfs;
+        return cfThis.thenCompose(v -> allTupleOf0(true, wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
      * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with the given stage's result as the argument to the given actions.
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
-     * @param actions the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
      */
-    @SafeVarargs
-    public static <T> CompletableFuture<Void> thenMAcceptFastFailAsync(
-            CompletableFuture<? extends T> cfThis, Consumer<? super T>... actions) {
-        return thenMAcceptFastFailAsync(cfThis, ASYNC_POOL, actions);
+    public static <T, U1, U2, U3> CompletableFuture<Tuple3<U1, U2, U3>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3) {
+        return thenTupleMApplyFastFailAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor, with the given stage's result as the argument to the given actions.
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
      * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
      */
-    @SafeVarargs
-    public static <T> CompletableFuture<Void> thenMAcceptFastFailAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor, Consumer<? super T>... actions) {
+    public static <T, U1, U2, U3> CompletableFuture<Tuple3<U1, U2, U3>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("action", actions);
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3);
 
-        return cfThis.thenCompose(v -> allFastFailOf(wrapConsumers(executor, v, actions)));
+        return cfThis.thenCompose(v -> allTupleOf0(true, wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
      * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with the given stage's result as the argument to the given actions.
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
-     * @param actions the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
      */
-    @SafeVarargs
-    public static <T> CompletableFuture<Void> thenMAcceptAsync(
-            CompletableFuture<? extends T> cfThis, Consumer<? super T>... actions) {
-        return thenMAcceptAsync(cfThis, ASYNC_POOL, actions);
+    public static <T, U1, U2, U3, U4> CompletableFuture<Tuple4<U1, U2, U3, U4>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis,
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
+        return thenTupleMApplyFastFailAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor, with the given stage's result as the argument to the given actions.
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
      * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
      */
-    @SafeVarargs
-    public static <T> CompletableFuture<Void> thenMAcceptAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor, Consumer<? super T>... actions) {
+    public static <T, U1, U2, U3, U4> CompletableFuture<Tuple4<U1, U2, U3, U4>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor,
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("action", actions);
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4);
 
-        return cfThis.thenCompose(v -> CompletableFuture.allOf(wrapConsumers(executor, v, actions)));
+        return cfThis.thenCompose(v -> allTupleOf0(true, wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
      * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with the given stage's result as the argument to the given actions.
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
-     * @param actions the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
      */
-    @SafeVarargs
-    public static <T> CompletableFuture<Void> thenMAcceptAnySuccessAsync(
-            CompletableFuture<? extends T> cfThis, Consumer<? super T>... actions) {
-        return thenMAcceptAnySuccessAsync(cfThis, ASYNC_POOL, actions);
+    public static <T, U1, U2, U3, U4, U5> CompletableFuture<Tuple5<U1, U2, U3, U4, U5>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5) {
+        return thenTupleMApplyFastFailAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor, with the given stage's result as the argument to the given actions.
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
      */
-    @SafeVarargs
-    public static <T> CompletableFuture<Void> thenMAcceptAnySuccessAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor, Consumer<? super T>... actions) {
-        requireNonNull(cfThis, "cfThis is null");
-        requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("action", actions);
+    public static <T, U1, U2, U3, U4, U5, U6> CompletableFuture<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6) {
+        return thenTupleMApplyFastFailAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5, fn6);
+    }
 
-        return cfThis.thenCompose(v -> anySuccessOf(wrapConsumers(executor, v, actions)));
+    /**
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @return the new CompletableFuture
+     */
+    public static <T, U1, U2, U3, U4, U5, U6, U7> CompletableFuture<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7) {
+        return thenTupleMApplyFastFailAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5, fn6, fn7);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
      * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with the given stage's result as the argument to the given actions.
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
-     * @param actions the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
      */
-    @SafeVarargs
-    public static <T> CompletableFuture<Void> thenMAcceptAnyAsync(
-            CompletableFuture<? extends T> cfThis, Consumer<? super T>... actions) {
-        return thenMAcceptAnyAsync(cfThis, ASYNC_POOL, actions);
+    public static <T, U1, U2, U3, U4, U5, U6, U7, U8> CompletableFuture<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7,
+            Function<? super T, ? extends U8> fn8) {
+        return thenTupleMApplyFastFailAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor, with the given stage's result as the argument to the given actions.
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
      * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
      */
-    @SafeVarargs
-    public static <T> CompletableFuture<Void> thenMAcceptAnyAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor, Consumer<? super T>... actions) {
+    public static <T, U1, U2, U3, U4, U5> CompletableFuture<Tuple5<U1, U2, U3, U4, U5>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("action", actions);
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5);
 
-        return cfThis.thenCompose(v -> f_cast(CompletableFuture.anyOf(wrapConsumers(executor, v, actions))));
+        return cfThis.thenCompose(v -> allTupleOf0(true, wrapFunctions(executor, v, fns)));
     }
 
-    private static <T> CompletableFuture<Void>[] wrapConsumers(Executor executor, T v, Consumer<? super T>[] actions) {
-        @SuppressWarnings("unchecked")
-        CompletableFuture<Void>[] cfs = new CompletableFuture[actions.length];
-        for (int i = 0; i < actions.length; i++) {
-            final int idx = i;
-            cfs[idx] = CompletableFuture.runAsync(() -> actions[idx].accept(v), executor);
-        }
-        return cfs;
+    /**
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     */
+    public static <T, U1, U2, U3, U4, U5, U6> CompletableFuture<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5, fn6);
+
+        return cfThis.thenCompose(v -> allTupleOf0(true, wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * executes the given actions using the CompletableFuture's default asynchronous execution facility.
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
-     * @param actions the actions to perform before completing the returned CompletableFuture
+     * @param executor the executor to use for asynchronous execution
      * @return the new CompletableFuture
-     * @see CompletableFuture#thenRunAsync(Runnable)
-     * @see #allFastFailOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> thenMRunFastFailAsync(CompletableFuture<?> cfThis, Runnable... actions) {
-        return thenMRunFastFailAsync(cfThis, ASYNC_POOL, actions);
+    public static <T, U1, U2, U3, U4, U5, U6, U7> CompletableFuture<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5, fn6, fn7);
+
+        return cfThis.thenCompose(v -> allTupleOf0(true, wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * executes the given actions using the given Executor.
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
      *
      * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
-     * @see CompletableFuture#thenRunAsync(Runnable, Executor)
-     * @see #allFastFailOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> thenMRunFastFailAsync(
-            CompletableFuture<?> cfThis, Executor executor, Runnable... actions) {
+    public static <T, U1, U2, U3, U4, U5, U6, U7, U8> CompletableFuture<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyFastFailAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7,
+            Function<? super T, ? extends U8> fn8) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("action", actions);
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8);
 
-        return cfThis.thenCompose(unused -> allFastFailOf(wrapRunnables(executor, actions)));
+        return cfThis.thenCompose(v -> allTupleOf0(true, wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * executes the given actions using the CompletableFuture's default asynchronous execution facility.
+     * is executed in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions).
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
-     * @param actions the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
-     * @see CompletableFuture#thenRunAsync(Runnable)
-     * @see #allOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> thenMRunAsync(CompletableFuture<?> cfThis, Runnable... actions) {
-        return thenMRunAsync(cfThis, ASYNC_POOL, actions);
+    public static <T, U1, U2> CompletableFuture<Tuple2<U1, U2>> thenTupleMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis,
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
+        return thenTupleMApplyAllSuccessAsync(cfThis, ASYNC_POOL, fn1, fn2);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * executes the given actions using the given Executor.
+     * is executed in the given Executor with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
      * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
-     * @see CompletableFuture#thenRunAsync(Runnable, Executor)
-     * @see #allOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> thenMRunAsync(
-            CompletableFuture<?> cfThis, Executor executor, Runnable... actions) {
+    public static <T, U1, U2> CompletableFuture<Tuple2<U1, U2>> thenTupleMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor,
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("action", actions);
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2);
 
-        return cfThis.thenCompose(unused -> CompletableFuture.allOf(wrapRunnables(executor, actions)));
+        return cfThis.thenCompose(v -> allSuccessTupleOf0(wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * executes the given actions using the CompletableFuture's default asynchronous execution facility.
+     * is executed in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
-     * @param actions the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
-     * @see CompletableFuture#thenRunAsync(Runnable)
-     * @see #anySuccessOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> thenMRunAnySuccessAsync(CompletableFuture<?> cfThis, Runnable... actions) {
-        return thenMRunAnySuccessAsync(cfThis, ASYNC_POOL, actions);
+    public static <T, U1, U2, U3> CompletableFuture<Tuple3<U1, U2, U3>> thenTupleMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3) {
+        return thenTupleMApplyAllSuccessAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * executes the given actions using the given Executor.
+     * is executed in the given Executor with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
      * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
-     * @see CompletableFuture#thenRunAsync(Runnable, Executor)
-     * @see #anySuccessOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> thenMRunAnySuccessAsync(
-            CompletableFuture<?> cfThis, Executor executor, Runnable... actions) {
+    public static <T, U1, U2, U3> CompletableFuture<Tuple3<U1, U2, U3>> thenTupleMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor,
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("action", actions);
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3);
 
-        return cfThis.thenCompose(unused -> anySuccessOf(wrapRunnables(executor, actions)));
+        return cfThis.thenCompose(v -> allSuccessTupleOf0(wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * executes the given actions using the CompletableFuture's default asynchronous execution facility.
+     * is executed in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
-     * @param actions the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
-     * @see CompletableFuture#thenRunAsync(Runnable)
-     * @see #anyOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> thenMRunAnyAsync(CompletableFuture<?> cfThis, Runnable... actions) {
-        return thenMRunAnyAsync(cfThis, ASYNC_POOL, actions);
+    public static <T, U1, U2, U3, U4> CompletableFuture<Tuple4<U1, U2, U3, U4>> thenTupleMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis,
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
+        return thenTupleMApplyAllSuccessAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * executes the given actions using the given Executor.
+     * is executed in the given Executor with the successful values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
      * @param executor the executor to use for asynchronous execution
-     * @param actions  the actions to perform before completing the returned CompletableFuture
      * @return the new CompletableFuture
-     * @see CompletableFuture#thenRunAsync(Runnable, Executor)
-     * @see #anyOf(CompletionStage[])
      */
-    public static CompletableFuture<Void> thenMRunAnyAsync(
-            CompletableFuture<?> cfThis, Executor executor, Runnable... actions) {
+    public static <T, U1, U2, U3, U4> CompletableFuture<Tuple4<U1, U2, U3, U4>> thenTupleMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor,
+            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        requireArrayAndEleNonNull("action", actions);
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4);
 
-        return cfThis.thenCompose(unused -> f_cast(CompletableFuture.anyOf(wrapRunnables(executor, actions))));
+        return cfThis.thenCompose(v -> allSuccessTupleOf0(wrapFunctions(executor, v, fns)));
     }
 
-    // endregion
-    ////////////////////////////////////////////////////////////
-    // region## Then-Tuple-Multi-Actions(thenTupleM*) Methods
-    ////////////////////////////////////////////////////////////
-
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with the values obtained by calling the given Functions
+     * is executed in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
      * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2> CompletableFuture<Tuple2<U1, U2>> thenTupleMApplyFastFailAsync(
-            CompletableFuture<? extends T> cfThis,
-            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
-        return thenTupleMApplyFastFailAsync(cfThis, ASYNC_POOL, fn1, fn2);
+    public static <T, U1, U2, U3, U4, U5> CompletableFuture<Tuple5<U1, U2, U3, U4, U5>> thenTupleMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5) {
+        return thenTupleMApplyAllSuccessAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * is executed in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
      * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
-     * @param executor the executor to use for asynchronous execution
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2> CompletableFuture<Tuple2<U1, U2>> thenTupleMApplyFastFailAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor,
-            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
-        requireNonNull(cfThis, "cfThis is null");
-        requireNonNull(executor, "executor is null");
-        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2);
-
-        return cfThis.thenCompose(v -> allTupleOf0(true, wrapFunctions(executor, v, fns)));
+    public static <T, U1, U2, U3, U4, U5, U6> CompletableFuture<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6) {
+        return thenTupleMApplyAllSuccessAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5, fn6);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with the values obtained by calling the given Functions
+     * is executed in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
      * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3> CompletableFuture<Tuple3<U1, U2, U3>> thenTupleMApplyFastFailAsync(
+    public static <T, U1, U2, U3, U4, U5, U6, U7> CompletableFuture<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyAllSuccessAsync(
             CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
-            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3) {
-        return thenTupleMApplyFastFailAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3);
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7) {
+        return thenTupleMApplyAllSuccessAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5, fn6, fn7);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * is executed in the CompletableFuture's default asynchronous execution facility
+     * with the successful values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
      * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
-     * @param executor the executor to use for asynchronous execution
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3> CompletableFuture<Tuple3<U1, U2, U3>> thenTupleMApplyFastFailAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
-            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3) {
-        requireNonNull(cfThis, "cfThis is null");
-        requireNonNull(executor, "executor is null");
-        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3);
-
-        return cfThis.thenCompose(v -> allTupleOf0(true, wrapFunctions(executor, v, fns)));
+    public static <T, U1, U2, U3, U4, U5, U6, U7, U8> CompletableFuture<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7,
+            Function<? super T, ? extends U8> fn8) {
+        return thenTupleMApplyAllSuccessAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with the values obtained by calling the given Functions
+     * is executed in the given Executor with the successful values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
      * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
+     * @param executor the executor to use for asynchronous execution
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3, U4> CompletableFuture<Tuple4<U1, U2, U3, U4>> thenTupleMApplyFastFailAsync(
-            CompletableFuture<? extends T> cfThis,
-            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
-            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
-        return thenTupleMApplyFastFailAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4);
+    public static <T, U1, U2, U3, U4, U5> CompletableFuture<Tuple5<U1, U2, U3, U4, U5>> thenTupleMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5);
+
+        return cfThis.thenCompose(v -> allSuccessTupleOf0(wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * is executed in the given Executor with the successful values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
      * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
      * @param executor the executor to use for asynchronous execution
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3, U4> CompletableFuture<Tuple4<U1, U2, U3, U4>> thenTupleMApplyFastFailAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor,
-            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
-            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
+    public static <T, U1, U2, U3, U4, U5, U6> CompletableFuture<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4);
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5, fn6);
 
-        return cfThis.thenCompose(v -> allTupleOf0(true, wrapFunctions(executor, v, fns)));
+        return cfThis.thenCompose(v -> allSuccessTupleOf0(wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with the values obtained by calling the given Functions
+     * is executed in the given Executor with the successful values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
      * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
+     * @param executor the executor to use for asynchronous execution
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3, U4, U5> CompletableFuture<Tuple5<U1, U2, U3, U4, U5>> thenTupleMApplyFastFailAsync(
-            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+    public static <T, U1, U2, U3, U4, U5, U6, U7> CompletableFuture<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyAllSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
             Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
-            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5) {
-        return thenTupleMApplyFastFailAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5);
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5, fn6, fn7);
+
+        return cfThis.thenCompose(v -> allSuccessTupleOf0(wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * is executed in the given Executor with the successful values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
      * in the <strong>same order</strong> of the given Functions arguments.
+     * <p>
+     * If the given Functions failed, use {@code null}.
      *
      * @param executor the executor to use for asynchronous execution
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3, U4, U5> CompletableFuture<Tuple5<U1, U2, U3, U4, U5>> thenTupleMApplyFastFailAsync(
+    public static <T, U1, U2, U3, U4, U5, U6, U7, U8> CompletableFuture<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyAllSuccessAsync(
             CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
             Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
-            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5) {
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7,
+            Function<? super T, ? extends U8> fn8) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
-        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5);
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8);
 
-        return cfThis.thenCompose(v -> allTupleOf0(true, wrapFunctions(executor, v, fns)));
+        return cfThis.thenCompose(v -> allSuccessTupleOf0(wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed in the CompletableFuture's default asynchronous execution facility
-     * with the successful values obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions).
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the most values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
+     * in the <strong>same order</strong> of the given Functions arguments.
      * <p>
-     * If the given Functions failed, use {@code null}.
+     * If the given function is successful in the given time, the return result is the completed value;
+     * Otherwise the given valueIfNotSuccess.
      *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2> CompletableFuture<Tuple2<U1, U2>> thenTupleMApplyAllSuccessAsync(
-            CompletableFuture<? extends T> cfThis,
+    public static <T, U1, U2> CompletableFuture<Tuple2<U1, U2>> thenTupleMApplyMostSuccessAsync(
+            CompletableFuture<? extends T> cfThis, long timeout, TimeUnit unit,
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
-        return thenTupleMApplyAllSuccessAsync(cfThis, ASYNC_POOL, fn1, fn2);
+        return thenTupleMApplyMostSuccessAsync(cfThis, ASYNC_POOL, timeout, unit, fn1, fn2);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed in the given Executor with the successful values obtained by calling the given Functions
+     * is executed using the given Executor,
+     * with the most values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
      * in the <strong>same order</strong> of the given Functions arguments.
      * <p>
-     * If the given Functions failed, use {@code null}.
+     * If the given function is successful in the given time, the return result is the completed value;
+     * Otherwise the given valueIfNotSuccess.
      *
      * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2> CompletableFuture<Tuple2<U1, U2>> thenTupleMApplyAllSuccessAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor,
+    public static <T, U1, U2> CompletableFuture<Tuple2<U1, U2>> thenTupleMApplyMostSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, long timeout, TimeUnit unit,
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
         Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2);
 
-        return cfThis.thenCompose(v -> allSuccessTupleOf0(wrapFunctions(executor, v, fns)));
+        return cfThis.thenCompose(v -> mostSuccessTupleOf0(executor, timeout, unit, wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed in the CompletableFuture's default asynchronous execution facility
-     * with the successful values obtained by calling the given Functions
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the most values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
      * in the <strong>same order</strong> of the given Functions arguments.
      * <p>
-     * If the given Functions failed, use {@code null}.
+     * If the given function is successful in the given time, the return result is the completed value;
+     * Otherwise the given valueIfNotSuccess.
      *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3> CompletableFuture<Tuple3<U1, U2, U3>> thenTupleMApplyAllSuccessAsync(
-            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+    public static <T, U1, U2, U3> CompletableFuture<Tuple3<U1, U2, U3>> thenTupleMApplyMostSuccessAsync(
+            CompletableFuture<? extends T> cfThis, long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1,
             Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3) {
-        return thenTupleMApplyAllSuccessAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3);
+        return thenTupleMApplyMostSuccessAsync(cfThis, ASYNC_POOL, timeout, unit, fn1, fn2, fn3);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed in the given Executor with the successful values obtained by calling the given Functions
+     * is executed using the given Executor,
+     * with the most values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
      * in the <strong>same order</strong> of the given Functions arguments.
      * <p>
-     * If the given Functions failed, use {@code null}.
+     * If the given function is successful in the given time, the return result is the completed value;
+     * Otherwise the given valueIfNotSuccess.
      *
      * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3> CompletableFuture<Tuple3<U1, U2, U3>> thenTupleMApplyAllSuccessAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor,
+    public static <T, U1, U2, U3> CompletableFuture<Tuple3<U1, U2, U3>> thenTupleMApplyMostSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, long timeout, TimeUnit unit,
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
             Function<? super T, ? extends U3> fn3) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
         Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3);
 
-        return cfThis.thenCompose(v -> allSuccessTupleOf0(wrapFunctions(executor, v, fns)));
+        return cfThis.thenCompose(v -> mostSuccessTupleOf0(executor, timeout, unit, wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed in the CompletableFuture's default asynchronous execution facility
-     * with the successful values obtained by calling the given Functions
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the most values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
      * in the <strong>same order</strong> of the given Functions arguments.
      * <p>
-     * If the given Functions failed, use {@code null}.
+     * If the given function is successful in the given time, the return result is the completed value;
+     * Otherwise the given valueIfNotSuccess.
      *
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3, U4> CompletableFuture<Tuple4<U1, U2, U3, U4>> thenTupleMApplyAllSuccessAsync(
-            CompletableFuture<? extends T> cfThis,
+    public static <T, U1, U2, U3, U4> CompletableFuture<Tuple4<U1, U2, U3, U4>> thenTupleMApplyMostSuccessAsync(
+            CompletableFuture<? extends T> cfThis, long timeout, TimeUnit unit,
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
             Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
-        return thenTupleMApplyAllSuccessAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4);
+        return thenTupleMApplyMostSuccessAsync(cfThis, ASYNC_POOL, timeout, unit, fn1, fn2, fn3, fn4);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed in the given Executor with the successful values obtained by calling the given Functions
+     * is executed using the given Executor,
+     * with the most values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
      * in the <strong>same order</strong> of the given Functions arguments.
      * <p>
-     * If the given Functions failed, use {@code null}.
+     * If the given function is successful in the given time, the return result is the completed value;
+     * Otherwise the given valueIfNotSuccess.
      *
      * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3, U4> CompletableFuture<Tuple4<U1, U2, U3, U4>> thenTupleMApplyAllSuccessAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor,
+    public static <T, U1, U2, U3, U4> CompletableFuture<Tuple4<U1, U2, U3, U4>> thenTupleMApplyMostSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, long timeout, TimeUnit unit,
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
             Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
         Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4);
 
-        return cfThis.thenCompose(v -> allSuccessTupleOf0(wrapFunctions(executor, v, fns)));
-    }
-
-    /**
-     * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed in the CompletableFuture's default asynchronous execution facility
-     * with the successful values obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions)
-     * in the <strong>same order</strong> of the given Functions arguments.
-     * <p>
-     * If the given Functions failed, use {@code null}.
-     *
-     * @return the new CompletableFuture
-     */
-    public static <T, U1, U2, U3, U4, U5> CompletableFuture<Tuple5<U1, U2, U3, U4, U5>> thenTupleMApplyAllSuccessAsync(
-            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
-            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
-            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5) {
-        return thenTupleMApplyAllSuccessAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5);
+        return cfThis.thenCompose(v -> mostSuccessTupleOf0(executor, timeout, unit, wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed in the given Executor with the successful values obtained by calling the given Functions
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the most values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
+     * in the given time({@code timeout}, aka as many results as possible in the given time)
      * in the <strong>same order</strong> of the given Functions arguments.
      * <p>
-     * If the given Functions failed, use {@code null}.
+     * If the given function is successful in the given time, the return result is the completed value;
+     * Otherwise the given valueIfNotSuccess.
      *
-     * @param executor the executor to use for asynchronous execution
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3, U4, U5> CompletableFuture<Tuple5<U1, U2, U3, U4, U5>> thenTupleMApplyAllSuccessAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
+    public static <T, U1, U2, U3, U4, U5> CompletableFuture<Tuple5<U1, U2, U3, U4, U5>> thenTupleMApplyMostSuccessAsync(
+            CompletableFuture<? extends T> cfThis, long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1,
             Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
             Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5) {
-        requireNonNull(cfThis, "cfThis is null");
-        requireNonNull(executor, "executor is null");
-        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5);
-
-        return cfThis.thenCompose(v -> allSuccessTupleOf0(wrapFunctions(executor, v, fns)));
+        return thenTupleMApplyMostSuccessAsync(cfThis, ASYNC_POOL, timeout, unit, fn1, fn2, fn3, fn4, fn5);
     }
 
     /**
@@ -2850,15 +6350,17 @@ public final class CompletableFutureUtils {
      * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2> CompletableFuture<Tuple2<U1, U2>> thenTupleMApplyMostSuccessAsync(
-            CompletableFuture<? extends T> cfThis, long timeout, TimeUnit unit,
-            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
-        return thenTupleMApplyMostSuccessAsync(cfThis, ASYNC_POOL, timeout, unit, fn1, fn2);
+    public static <T, U1, U2, U3, U4, U5, U6> CompletableFuture<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyMostSuccessAsync(
+            CompletableFuture<? extends T> cfThis, long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6) {
+        return thenTupleMApplyMostSuccessAsync(cfThis, ASYNC_POOL, timeout, unit, fn1, fn2, fn3, fn4, fn5, fn6);
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the given Executor,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
      * with the most values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
      * in the given time({@code timeout}, aka as many results as possible in the given time)
@@ -2867,20 +6369,16 @@ public final class CompletableFutureUtils {
      * If the given function is successful in the given time, the return result is the completed value;
      * Otherwise the given valueIfNotSuccess.
      *
-     * @param executor the executor to use for asynchronous execution
-     * @param timeout  how long to wait in units of {@code unit}
-     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param timeout how long to wait in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2> CompletableFuture<Tuple2<U1, U2>> thenTupleMApplyMostSuccessAsync(
-            CompletableFuture<? extends T> cfThis, Executor executor, long timeout, TimeUnit unit,
-            Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2) {
-        requireNonNull(cfThis, "cfThis is null");
-        requireNonNull(executor, "executor is null");
-        requireNonNull(unit, "unit is null");
-        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2);
-
-        return cfThis.thenCompose(v -> mostSuccessTupleOf0(executor, timeout, unit, wrapFunctions(executor, v, fns)));
+    public static <T, U1, U2, U3, U4, U5, U6, U7> CompletableFuture<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyMostSuccessAsync(
+            CompletableFuture<? extends T> cfThis, long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7) {
+        return thenTupleMApplyMostSuccessAsync(cfThis, ASYNC_POOL, timeout, unit, fn1, fn2, fn3, fn4, fn5, fn6, fn7);
     }
 
     /**
@@ -2898,10 +6396,14 @@ public final class CompletableFutureUtils {
      * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3> CompletableFuture<Tuple3<U1, U2, U3>> thenTupleMApplyMostSuccessAsync(
+    public static <T, U1, U2, U3, U4, U5, U6, U7, U8> CompletableFuture<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyMostSuccessAsync(
             CompletableFuture<? extends T> cfThis, long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1,
-            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3) {
-        return thenTupleMApplyMostSuccessAsync(cfThis, ASYNC_POOL, timeout, unit, fn1, fn2, fn3);
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7,
+            Function<? super T, ? extends U8> fn8) {
+        return thenTupleMApplyMostSuccessAsync(
+                cfThis, ASYNC_POOL, timeout, unit, fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8);
     }
 
     /**
@@ -2920,21 +6422,22 @@ public final class CompletableFutureUtils {
      * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3> CompletableFuture<Tuple3<U1, U2, U3>> thenTupleMApplyMostSuccessAsync(
+    public static <T, U1, U2, U3, U4, U5> CompletableFuture<Tuple5<U1, U2, U3, U4, U5>> thenTupleMApplyMostSuccessAsync(
             CompletableFuture<? extends T> cfThis, Executor executor, long timeout, TimeUnit unit,
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
-            Function<? super T, ? extends U3> fn3) {
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
         requireNonNull(unit, "unit is null");
-        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3);
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5);
 
         return cfThis.thenCompose(v -> mostSuccessTupleOf0(executor, timeout, unit, wrapFunctions(executor, v, fns)));
     }
 
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * is executed using the given Executor,
      * with the most values obtained by calling the given Functions
      * (with the given stage's result as the argument to the given functions)
      * in the given time({@code timeout}, aka as many results as possible in the given time)
@@ -2943,15 +6446,22 @@ public final class CompletableFutureUtils {
      * If the given function is successful in the given time, the return result is the completed value;
      * Otherwise the given valueIfNotSuccess.
      *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     * @param executor the executor to use for asynchronous execution
+     * @param timeout  how long to wait in units of {@code unit}
+     * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3, U4> CompletableFuture<Tuple4<U1, U2, U3, U4>> thenTupleMApplyMostSuccessAsync(
-            CompletableFuture<? extends T> cfThis, long timeout, TimeUnit unit,
+    public static <T, U1, U2, U3, U4, U5, U6> CompletableFuture<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyMostSuccessAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, long timeout, TimeUnit unit,
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
-            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
-        return thenTupleMApplyMostSuccessAsync(cfThis, ASYNC_POOL, timeout, unit, fn1, fn2, fn3, fn4);
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5, fn6);
+
+        return cfThis.thenCompose(v -> mostSuccessTupleOf0(executor, timeout, unit, wrapFunctions(executor, v, fns)));
     }
 
     /**
@@ -2970,40 +6480,20 @@ public final class CompletableFutureUtils {
      * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3, U4> CompletableFuture<Tuple4<U1, U2, U3, U4>> thenTupleMApplyMostSuccessAsync(
+    public static <T, U1, U2, U3, U4, U5, U6, U7> CompletableFuture<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyMostSuccessAsync(
             CompletableFuture<? extends T> cfThis, Executor executor, long timeout, TimeUnit unit,
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
-            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4) {
+            Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
         requireNonNull(unit, "unit is null");
-        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4);
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5, fn6, fn7);
 
         return cfThis.thenCompose(v -> mostSuccessTupleOf0(executor, timeout, unit, wrapFunctions(executor, v, fns)));
     }
 
-    /**
-     * Returns a new CompletableFuture that, when the given stage completes normally,
-     * is executed using the CompletableFuture's default asynchronous execution facility,
-     * with the most values obtained by calling the given Functions
-     * (with the given stage's result as the argument to the given functions)
-     * in the given time({@code timeout}, aka as many results as possible in the given time)
-     * in the <strong>same order</strong> of the given Functions arguments.
-     * <p>
-     * If the given function is successful in the given time, the return result is the completed value;
-     * Otherwise the given valueIfNotSuccess.
-     *
-     * @param timeout how long to wait in units of {@code unit}
-     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
-     * @return the new CompletableFuture
-     */
-    public static <T, U1, U2, U3, U4, U5> CompletableFuture<Tuple5<U1, U2, U3, U4, U5>> thenTupleMApplyMostSuccessAsync(
-            CompletableFuture<? extends T> cfThis, long timeout, TimeUnit unit, Function<? super T, ? extends U1> fn1,
-            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
-            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5) {
-        return thenTupleMApplyMostSuccessAsync(cfThis, ASYNC_POOL, timeout, unit, fn1, fn2, fn3, fn4, fn5);
-    }
-
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
      * is executed using the given Executor,
@@ -3020,19 +6510,40 @@ public final class CompletableFutureUtils {
      * @param unit     a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
      * @return the new CompletableFuture
      */
-    public static <T, U1, U2, U3, U4, U5> CompletableFuture<Tuple5<U1, U2, U3, U4, U5>> thenTupleMApplyMostSuccessAsync(
+    public static <T, U1, U2, U3, U4, U5, U6, U7, U8> CompletableFuture<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyMostSuccessAsync(
             CompletableFuture<? extends T> cfThis, Executor executor, long timeout, TimeUnit unit,
             Function<? super T, ? extends U1> fn1, Function<? super T, ? extends U2> fn2,
             Function<? super T, ? extends U3> fn3, Function<? super T, ? extends U4> fn4,
-            Function<? super T, ? extends U5> fn5) {
+            Function<? super T, ? extends U5> fn5, Function<? super T, ? extends U6> fn6,
+            Function<? super T, ? extends U7> fn7, Function<? super T, ? extends U8> fn8) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executor, "executor is null");
         requireNonNull(unit, "unit is null");
-        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5);
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8);
 
         return cfThis.thenCompose(v -> mostSuccessTupleOf0(executor, timeout, unit, wrapFunctions(executor, v, fns)));
     }
 
+    /**
+     * The implementation of the thenTupleMApplyMostSuccessAsync methods, with the given timer of the timeout;
+     * the builtin timer if the timer is {@code null}.
+     *
+     * @param fns MUST contain 2 ~ 8 functions, the tuple of the same arity is the result
+     * @param <R> the tuple type of the same arity
+     */
+    @SafeVarargs
+    static <T, R> CompletableFuture<R> thenTupleMApplyMostSuccessAsync0(
+            @Nullable DelayTimer timer, CompletableFuture<? extends T> cfThis, Executor executor,
+            long timeout, TimeUnit unit, Function<? super T, ?>... fns) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        requireNonNull(unit, "unit is null");
+        requireArrayAndEleNonNull("fn", fns);
+
+        return cfThis.thenCompose(v -> mostSuccessTupleOf0(
+                timer, false, executor, timeout, unit, wrapFunctions(executor, v, fns)));
+    }
+
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
      * is executed using the CompletableFuture's default asynchronous execution facility,
@@ -3153,6 +6664,58 @@ public final class CompletableFutureUtils {
         return thenTupleMApplyAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5);
     }
 
+    /**
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @return the new CompletableFuture
+     */
+    public static <T, U1, U2, U3, U4, U5, U6> CompletableFuture<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6) {
+        return thenTupleMApplyAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5, fn6);
+    }
+
+    /**
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @return the new CompletableFuture
+     */
+    public static <T, U1, U2, U3, U4, U5, U6, U7> CompletableFuture<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7) {
+        return thenTupleMApplyAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5, fn6, fn7);
+    }
+
+    /**
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the CompletableFuture's default asynchronous execution facility,
+     * with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @return the new CompletableFuture
+     */
+    public static <T, U1, U2, U3, U4, U5, U6, U7, U8> CompletableFuture<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyAsync(
+            CompletableFuture<? extends T> cfThis, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7,
+            Function<? super T, ? extends U8> fn8) {
+        return thenTupleMApplyAsync(cfThis, ASYNC_POOL, fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8);
+    }
+
     /**
      * Returns a new CompletableFuture that, when the given stage completes normally,
      * is executed using the given Executor, with the values obtained by calling the given Functions
@@ -3173,6 +6736,70 @@ public final class CompletableFutureUtils {
         return cfThis.thenCompose(v -> allTupleOf0(false, wrapFunctions(executor, v, fns)));
     }
 
+    /**
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     */
+    public static <T, U1, U2, U3, U4, U5, U6> CompletableFuture<Tuple6<U1, U2, U3, U4, U5, U6>> thenTupleMApplyAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5, fn6);
+
+        return cfThis.thenCompose(v -> allTupleOf0(false, wrapFunctions(executor, v, fns)));
+    }
+
+    /**
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     */
+    public static <T, U1, U2, U3, U4, U5, U6, U7> CompletableFuture<Tuple7<U1, U2, U3, U4, U5, U6, U7>> thenTupleMApplyAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5, fn6, fn7);
+
+        return cfThis.thenCompose(v -> allTupleOf0(false, wrapFunctions(executor, v, fns)));
+    }
+
+    /**
+     * Returns a new CompletableFuture that, when the given stage completes normally,
+     * is executed using the given Executor, with the values obtained by calling the given Functions
+     * (with the given stage's result as the argument to the given functions)
+     * in the <strong>same order</strong> of the given Functions arguments.
+     *
+     * @param executor the executor to use for asynchronous execution
+     * @return the new CompletableFuture
+     */
+    public static <T, U1, U2, U3, U4, U5, U6, U7, U8> CompletableFuture<Tuple8<U1, U2, U3, U4, U5, U6, U7, U8>> thenTupleMApplyAsync(
+            CompletableFuture<? extends T> cfThis, Executor executor, Function<? super T, ? extends U1> fn1,
+            Function<? super T, ? extends U2> fn2, Function<? super T, ? extends U3> fn3,
+            Function<? super T, ? extends U4> fn4, Function<? super T, ? extends U5> fn5,
+            Function<? super T, ? extends U6> fn6, Function<? super T, ? extends U7> fn7,
+            Function<? super T, ? extends U8> fn8) {
+        requireNonNull(cfThis, "cfThis is null");
+        requireNonNull(executor, "executor is null");
+        Function<? super T, ?>[] fns = requireArrayAndEleNonNull("fn", fn1, fn2, fn3, fn4, fn5, fn6, fn7, fn8);
+
+        return cfThis.thenCompose(v -> allTupleOf0(false, wrapFunctions(executor, v, fns)));
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////
     // region## thenBoth* Methods(binary input) with fast-fail support
@@ -3249,20 +6876,9 @@ public final class CompletableFutureUtils {
      * Implementation Note: Calling this method is necessary to keep the runtime type(including `minimal-stage`) of
      * return same as `cfThis`, because `Cffu` internal use type `CompletableFuture` to represent `minimal-stage`(NOT type safe)
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T1, T2> CompletableFuture<Tuple2<T1, T2>> bothFastFail0(
             CompletableFuture<? extends T1> cfThis, CompletionStage<? extends T2> other) {
-        final CompletableFuture incomplete = new CompletableFuture();
-
-        CompletableFuture thisSuccessOrBeIncomplete = exceptionallyCompose(cfThis, ex -> incomplete);
-        CompletionStage otherSuccessOrBeIncomplete = exceptionallyCompose(other, ex -> incomplete);
-        CompletableFuture cfValue = thisSuccessOrBeIncomplete.thenCombine(otherSuccessOrBeIncomplete, Tuple2::of);
-
-        CompletableFuture thisFailedOrBeIncomplete = cfThis.thenCompose(v -> incomplete);
-        CompletionStage otherFailedOrBeIncomplete = other.thenCompose(v -> incomplete);
-        CompletableFuture cfEx = thisFailedOrBeIncomplete.applyToEither(otherFailedOrBeIncomplete, v -> null);
-
-        return cfValue.applyToEither(cfEx, x -> x);
+        return toSameStageType(cfThis, TwoInputCompleter.bothFastFail(cfThis, other));
     }
 
     /**
@@ -3435,20 +7051,9 @@ public final class CompletableFutureUtils {
      * Implementation Note: Calling this method is necessary to keep the runtime type(including `minimal-stage`) of
      * return same as `cfThis`, because `Cffu` internal use type `CompletableFuture` to represent `minimal-stage`(NOT type safe)
      */
-    @SuppressWarnings({"unchecked", "rawtypes"})
     private static <T> CompletableFuture<T> eitherSuccess0(
             CompletableFuture<? extends T> cfThis, CompletionStage<? extends T> other) {
-        final CompletableFuture incomplete = new CompletableFuture();
-
-        CompletableFuture thisSuccessOrBeIncomplete = exceptionallyCompose(cfThis, ex -> incomplete);
-        CompletionStage otherSuccessOrBeIncomplete = exceptionallyCompose(other, ex -> incomplete);
-        CompletableFuture cfValue = thisSuccessOrBeIncomplete.applyToEither(otherSuccessOrBeIncomplete, x -> x);
-
-        CompletableFuture thisFailedOrBeIncomplete = cfThis.thenCompose(v -> incomplete);
-        CompletionStage otherFailedOrBeIncomplete = other.thenCompose(v -> incomplete);
-        CompletableFuture cfEx = thisFailedOrBeIncomplete.thenCombine(otherFailedOrBeIncomplete, (v1, v2) -> null);
-
-        return cfValue.applyToEither(cfEx, x -> x);
+        return toSameStageType(cfThis, TwoInputCompleter.eitherSuccess(cfThis, other));
     }
 
     /**
@@ -3624,11 +7229,20 @@ public final class CompletableFutureUtils {
      */
     public static <C extends CompletableFuture<?>> C cffuOrTimeout(
             C cfThis, Executor executorWhenTimeout, long timeout, TimeUnit unit) {
+        return cffuOrTimeout(null, cfThis, executorWhenTimeout, timeout, unit);
+    }
+
+    /**
+     * The same as {@link #cffuOrTimeout(CompletableFuture, Executor, long, TimeUnit)}, with the given timer;
+     * the builtin timer if the timer is {@code null}.
+     */
+    static <C extends CompletableFuture<?>> C cffuOrTimeout(
+            @Nullable DelayTimer timer, C cfThis, Executor executorWhenTimeout, long timeout, TimeUnit unit) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
         requireNonNull(unit, "unit is null");
 
-        return hopExecutorIfAtCfDelayerThread(orTimeout(cfThis, timeout, unit), executorWhenTimeout);
+        return hopExecutorIfAtCfDelayerThread(timer, orTimeout0(timer, cfThis, timeout, unit), executorWhenTimeout);
     }
 
     /**
@@ -3658,15 +7272,29 @@ public final class CompletableFutureUtils {
      */
     @Contract("_, _, _ -> param1")
     public static <C extends CompletableFuture<?>> C orTimeout(C cfThis, long timeout, TimeUnit unit) {
+        return orTimeout(null, cfThis, timeout, unit);
+    }
+
+    /**
+     * The same as {@link #orTimeout(CompletableFuture, long, TimeUnit)}, with the given timer;
+     * the builtin timer if the timer is {@code null}.
+     */
+    @Contract("_, _, _, _ -> param2")
+    static <C extends CompletableFuture<?>> C orTimeout(@Nullable DelayTimer timer, C cfThis, long timeout, TimeUnit unit) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(unit, "unit is null");
+        return orTimeout0(timer, cfThis, timeout, unit);
+    }
+
+    private static <C extends CompletableFuture<?>> C orTimeout0(
+            @Nullable DelayTimer timer, C cfThis, long timeout, TimeUnit unit) {
         // NOTE: No need check minimal stage, since checked at cf.orTimeout() / cf.isDone()
-        if (IS_JAVA9_PLUS) {
+        if (useJdkDelayer(timer)) {
             cfThis.orTimeout(timeout, unit);
         } else {
             // below code is copied from CompletableFuture#orTimeout with small adoption
             if (!cfThis.isDone()) {
-                ScheduledFuture<?> f = Delayer.delayToTimoutCf(cfThis, timeout, unit);
+                Future<?> f = timerOrBuiltin(timer).schedule(new CfTimeout(cfThis), timeout, unit);
                 cfThis.whenComplete(new FutureCanceller(f));
             }
         }
@@ -3700,11 +7328,22 @@ public final class CompletableFutureUtils {
      */
     public static <T, C extends CompletableFuture<? super T>>
     C cffuCompleteOnTimeout(C cfThis, @Nullable T value, Executor executorWhenTimeout, long timeout, TimeUnit unit) {
+        return cffuCompleteOnTimeout(null, cfThis, value, executorWhenTimeout, timeout, unit);
+    }
+
+    /**
+     * The same as {@link #cffuCompleteOnTimeout(CompletableFuture, Object, Executor, long, TimeUnit)},
+     * with the given timer; the builtin timer if the timer is {@code null}.
+     */
+    static <T, C extends CompletableFuture<? super T>> C cffuCompleteOnTimeout(
+            @Nullable DelayTimer timer, C cfThis, @Nullable T value, Executor executorWhenTimeout,
+            long timeout, TimeUnit unit) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(executorWhenTimeout, "executorWhenTimeout is null");
         requireNonNull(unit, "unit is null");
 
-        return hopExecutorIfAtCfDelayerThread(completeOnTimeout(cfThis, value, timeout, unit), executorWhenTimeout);
+        return hopExecutorIfAtCfDelayerThread(timer,
+                completeOnTimeout0(timer, cfThis, value, timeout, unit), executorWhenTimeout);
     }
 
     /**
@@ -3735,46 +7374,54 @@ public final class CompletableFutureUtils {
     @Contract("_, _, _, _ -> param1")
     public static <T, C extends CompletableFuture<? super T>>
     C completeOnTimeout(C cfThis, @Nullable T value, long timeout, TimeUnit unit) {
+        return completeOnTimeout(null, cfThis, value, timeout, unit);
+    }
+
+    /**
+     * The same as {@link #completeOnTimeout(CompletableFuture, Object, long, TimeUnit)}, with the given timer;
+     * the builtin timer if the timer is {@code null}.
+     */
+    @Contract("_, _, _, _, _ -> param2")
+    static <T, C extends CompletableFuture<? super T>>
+    C completeOnTimeout(@Nullable DelayTimer timer, C cfThis, @Nullable T value, long timeout, TimeUnit unit) {
         requireNonNull(cfThis, "cfThis is null");
         requireNonNull(unit, "unit is null");
+        return completeOnTimeout0(timer, cfThis, value, timeout, unit);
+    }
+
+    private static <T, C extends CompletableFuture<? super T>>
+    C completeOnTimeout0(@Nullable DelayTimer timer, C cfThis, @Nullable T value, long timeout, TimeUnit unit) {
         // NOTE: No need check minimal stage, since checked at cf.completeOnTimeout() / cf.isDone()
-        if (IS_JAVA9_PLUS) {
+        if (useJdkDelayer(timer)) {
             cfThis.completeOnTimeout(value, timeout, unit);
         } else {
             // below code is copied from CompletableFuture#completeOnTimeout with small adoption
             if (!cfThis.isDone()) {
-                ScheduledFuture<?> f = Delayer.delayToCompleteCf(cfThis, value, timeout, unit);
+                Future<?> f = timerOrBuiltin(timer).schedule(new CfCompleter<>(cfThis, value), timeout, unit);
                 cfThis.whenComplete(new FutureCanceller(f));
             }
         }
         return cfThis;
     }
 
-    @SuppressWarnings("unchecked")
-    private static <C extends CompletableFuture<?>> C hopExecutorIfAtCfDelayerThread(C cf, Executor asyncExecutor) {
-        CompletableFuture<Object> ret = newIncompleteFuture(cf);
-
-        cf.handle((v, ex) -> {
-            if (!atCfDelayerThread()) completeCf(ret, v, ex);
-            else delayedExecutor(0, TimeUnit.SECONDS, asyncExecutor)
-                    .execute(() -> completeCf(ret, v, ex));
-            // use `cf.handle` method(instead of `whenComplete`) and return null,
-            // in order to prevent below `exceptionally` reporting the handled argument exception in this action
-            return null;
-        }).exceptionally(ex -> reportException("Exception occurred in handle of executor hop", ex));
+    /**
+     * Uses the delayer of CompletableFuture on {@code Java 9+}, unless the timer is given
+     * or the cffu delayer is sharded({@link Delayer#SHARD_COUNT}).
+     */
+    private static boolean useJdkDelayer(@Nullable DelayTimer timer) {
+        return timer == null && IS_JAVA9_PLUS && Delayer.SHARD_COUNT == 1;
+    }
 
-        return (C) ret;
+    private static DelayTimer timerOrBuiltin(@Nullable DelayTimer timer) {
+        return timer == null ? Delayer.BUILTIN : timer;
     }
 
-    private static void completeCf(CompletableFuture<Object> cf, Object value, @Nullable Throwable ex) {
-        try {
-            if (ex == null) cf.complete(value);
-            else cf.completeExceptionally(ex);
-        } catch (Throwable t) {
-            if (ex != null) t.addSuppressed(ex);
-            reportException("Exception occurred in completeCf", t);
-            throw t; // rethrow exception, report to caller
-        }
+    @SuppressWarnings("unchecked")
+    private static <C extends CompletableFuture<?>> C hopExecutorIfAtCfDelayerThread(
+            @Nullable DelayTimer timer, C cf, Executor asyncExecutor) {
+        CompletableFuture<Object> ret = newIncompleteFuture(cf);
+        cf.handle(new CfExecutorHop(ret, asyncExecutor, timer));
+        return (C) ret;
     }
 
     // endregion
@@ -3937,13 +7584,17 @@ public final class CompletableFutureUtils {
      * <p>
      * {@code result = CompletableFutureUtils.join(cf, timeout, unit);}
      * <p>
-     * is the same as:
+     * has the same result as:
      *
      * <pre>{@code result = cf.copy() // defensive copy to avoid writing this cf unexpectedly
      *     .orTimeout(timeout, unit)
      *     .join();
      * }</pre>
      *
+     * but waits in the caller thread by the timed {@link CompletableFuture#get(long, TimeUnit)} of the given cf,
+     * without the copy and the timer task. Like {@link CompletableFuture#join()}, the wait is not interruptible;
+     * the interrupt status of the caller thread is restored before return.
+     * <p>
      * <strong>CAUTION:<br></strong>
      * if the wait timed out, this method throws an (unchecked) {@link CompletionException}
      * with the {@link TimeoutException} as its cause;
@@ -3965,8 +7616,28 @@ public final class CompletableFutureUtils {
         requireNonNull(unit, "unit is null");
 
         if (cfThis.isDone()) return cfThis.join();
-        // defensive copy input cf to avoid writing it by `orTimeout`
-        return orTimeout(copy(cfThis), timeout, unit).join();
+
+        long nanos = unit.toNanos(timeout);
+        // the overflow of the deadline is fine, since only the difference to the deadline is used
+        final long deadline = System.nanoTime() + nanos;
+        boolean interrupted = false;
+        try {
+            for (; ; ) {
+                try {
+                    return cfThis.get(nanos, TimeUnit.NANOSECONDS);
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                    nanos = deadline - System.nanoTime();
+                } catch (ExecutionException | CancellationException e) {
+                    // the cf is done, rethrow the exception of join, e.g. the original CompletionException
+                    return cfThis.join();
+                } catch (TimeoutException e) {
+                    throw new CompletionException(e);
+                }
+            }
+        } finally {
+            if (interrupted) Thread.currentThread().interrupt();
+        }
     }
 
     /**
@@ -0,0 +1,99 @@
+package io.foldright.cffu;
+
+import org.jetbrains.annotations.Contract;
+
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * An absolute point in time(based on {@link System#nanoTime()}) by which the work of a request should be done,
+ * aka. the time budget of the request.
+ * <p>
+ * Attach the deadline to the Cffu chain by {@link Cffu#withDeadline(Deadline)} or
+ * {@link CffuFactory#withDeadline(Deadline)}; the deadline is inherited by the Cffus created from
+ * the chain(e.g. {@code thenApplyAsync}/{@code thenCompose}/{@code thenMApply*Async}, and {@code mSupply*Async}
+ * of {@link Cffu#cffuFactory()}), and the timeout methods of the chain use at most the remaining budget.
+ *
+ * @see Cffu#withDeadline(Deadline)
+ * @see CffuFactory#withDeadline(Deadline)
+ */
+public final class Deadline {
+    private final long deadlineNanos;
+
+    /**
+     * Returns the deadline after the given timeout from now.
+     *
+     * @param timeout the time budget, in units of {@code unit}
+     * @param unit    a {@code TimeUnit} determining how to interpret the {@code timeout} parameter
+     */
+    @Contract(pure = true)
+    public static Deadline after(long timeout, TimeUnit unit) {
+        requireNonNull(unit, "unit is null");
+        final long now = System.nanoTime();
+        final long timeoutNanos = unit.toNanos(timeout);
+        // saturate the huge timeout(e.g. Long.MAX_VALUE days), instead of the overflow to the past
+        if (timeoutNanos > 0 && now + timeoutNanos < now) return new Deadline(now + Long.MAX_VALUE);
+        return new Deadline(now + timeoutNanos);
+    }
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    /**
+     * Returns the remaining time budget in nanoseconds, zero or negative if expired.
+     */
+    public long remainingNanos() {
+        return deadlineNanos - System.nanoTime();
+    }
+
+    /**
+     * Returns the remaining time budget in the given unit, zero or negative if expired.
+     */
+    public long remaining(TimeUnit unit) {
+        requireNonNull(unit, "unit is null");
+        return unit.convert(remainingNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Checks whether the deadline has passed.
+     */
+    public boolean isExpired() {
+        return remainingNanos() <= 0;
+    }
+
+    /**
+     * Returns the earlier one of this deadline and the given deadline.
+     */
+    @Contract(pure = true)
+    public Deadline min(Deadline other) {
+        requireNonNull(other, "other is null");
+        return deadlineNanos - other.deadlineNanos <= 0 ? this : other;
+    }
+
+    /**
+     * Returns the given timeout(in nanoseconds) capped by the remaining budget of this deadline.
+     */
+    long capNanos(long timeout, TimeUnit unit) {
+        return Math.min(unit.toNanos(timeout), remainingNanos());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return deadlineNanos == ((Deadline) o).deadlineNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(deadlineNanos);
+    }
+
+    @Override
+    public String toString() {
+        return "Deadline(remaining " + remainingNanos() + "ns)";
+    }
+}
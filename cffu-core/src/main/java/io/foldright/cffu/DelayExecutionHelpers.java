@@ -8,57 +8,86 @@ package io.foldright.cffu;
 
 import edu.umd.cs.findbugs.annotations.Nullable;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.foldright.cffu.spi.DelayTimer;
 
 import java.util.concurrent.*;
 import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
+import static io.foldright.cffu.ExceptionReporter.reportException;
 import static java.util.Objects.requireNonNull;
 
 
 /**
  * Singleton delay scheduler, used only for starting and cancelling tasks
  * <p>
+ * The scheduler is striped into {@link #SHARD_COUNT} single thread shards(configured by the system property
+ * {@value #SHARD_COUNT_PROPERTY}, default 1); each delayed task goes to the shard picked by the calling thread,
+ * so under the timeout storms the schedule/cancel lock and the thread running the timeout callbacks
+ * are not shared by all the callers.
+ * <p>
  * code is copied from {@link CompletableFuture.Delayer} with small adoption.
  */
 @SuppressWarnings("JavadocReference")
 final class Delayer {
+    /**
+     * The builtin {@link DelayTimer} of cffu, backed by the single thread {@link ScheduledThreadPoolExecutor};
+     * its thread is detected by {@link #atCfDelayerThread()}.
+     */
+    static final DelayTimer BUILTIN = Delayer::delay;
+
     /**
      * @return a Future that can be used to cancel the delayed task
      * @see FutureCanceller
      * @see DelayedExecutor#execute(Runnable)
      */
     static ScheduledFuture<?> delay(Runnable command, long delay, TimeUnit unit) {
-        return DelayerHolder.delayer.schedule(command, delay, unit);
+        final ScheduledThreadPoolExecutor[] delayers = DelayerHolder.delayers;
+        // pick the shard by the calling thread, so the tasks of one thread go to the same shard, and run
+        // in the schedule order for the same deadline, as without sharding; the thread ids are sequential,
+        // so the callers spread evenly over the shards
+        final ScheduledThreadPoolExecutor delayer = delayers.length == 1
+                ? delayers[0] : delayers[(int) (Thread.currentThread().getId() % delayers.length)];
+        return delayer.schedule(command, delay, unit);
     }
 
     /**
-     * @return a Future can be used to cancel the delayed task(timeout CF)
-     * @see FutureCanceller
+     * Checks whether execution is at the thread of CompletableFuture/Cffu delayer(any shard).
+     * <p>
+     * The constant {@code "CompletableFutureDelayScheduler"} is defined
+     * at {@link CompletableFuture.Delayer.DaemonThreadFactory}.
      */
-    static ScheduledFuture<?> delayToTimoutCf(CompletableFuture<?> cf, long delay, TimeUnit unit) {
-        return delay(new CfTimeout(cf), delay, unit);
+    @SuppressWarnings("JavadocReference")
+    static boolean atCfDelayerThread() {
+        final Thread thread = Thread.currentThread();
+        if (thread instanceof DelayerThread || thread instanceof HashedWheelTimer.WheelThread) return true;
+        return "CompletableFutureDelayScheduler".equals(thread.getName());
     }
 
-    /**
-     * @return a Future can be used to cancel the delayed task(complete CF)
-     * @see FutureCanceller
-     */
-    static <T> ScheduledFuture<?> delayToCompleteCf(
-            CompletableFuture<? super T> cf, @Nullable T value, long delay, TimeUnit unit) {
-        return delay(new CfCompleter<>(cf, value), delay, unit);
-    }
+    static final String SHARD_COUNT_PROPERTY = "cffu.delayer.shards";
 
     /**
-     * Checks whether execution is at the thread of CompletableFuture/Cffu delayer.
+     * The shard count of the cffu delayer, read from the system property {@value #SHARD_COUNT_PROPERTY}.
      * <p>
-     * The constant {@code "CompletableFutureDelayScheduler"} is defined
-     * at {@link CompletableFuture.Delayer.DaemonThreadFactory}.
+     * With more than one shard, the timeout methods use the sharded cffu delayer instead of
+     * the single thread delayer of CompletableFuture on {@code Java 9+}.
+     * <p>
+     * <strong>CAUTION:</strong> the property is read only ONCE, when this class is initialized by the first
+     * timeout/delay method call; so set it by the JVM option({@code -Dcffu.delayer.shards=4}), or by
+     * {@link System#setProperty(String, String)} at the application startup before any timeout/delay method call,
+     * the later changes are ignored. The shard count is JVM-wide, shared by all cffu factories.
      */
-    @SuppressWarnings("JavadocReference")
-    static boolean atCfDelayerThread() {
-        final String name = Thread.currentThread().getName();
-        return "CompletableFutureDelayScheduler".equals(name) || THREAD_NAME_OF_CFFU_DELAY_SCHEDULER.equals(name);
+    static final int SHARD_COUNT = shardCountOf(System.getProperty(SHARD_COUNT_PROPERTY));
+
+    static int shardCountOf(@Nullable String property) {
+        if (property == null) return 1;
+        try {
+            return Math.max(1, Integer.parseInt(property.trim()));
+        } catch (NumberFormatException e) {
+            reportException("Invalid value of system property " + SHARD_COUNT_PROPERTY + ": " + property, e);
+            return 1;
+        }
     }
 
     private static final String THREAD_NAME_OF_CFFU_DELAY_SCHEDULER = "CffuBuiltinDelayScheduler";
@@ -70,24 +99,47 @@ final class Delayer {
      * class {@link Delayer} is used on {@code Java 9+}.
      */
     private static class DelayerHolder {
-        static final ScheduledThreadPoolExecutor delayer;
+        static final ScheduledThreadPoolExecutor[] delayers = newDelayers(SHARD_COUNT);
+    }
 
-        static {
-            delayer = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory());
-            delayer.setRemoveOnCancelPolicy(true);
+    /**
+     * Creates the single thread delayer shards; the thread of a sole shard is named without the shard index.
+     */
+    static ScheduledThreadPoolExecutor[] newDelayers(int shardCount) {
+        final ScheduledThreadPoolExecutor[] delayers = new ScheduledThreadPoolExecutor[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            final String name = shardCount == 1
+                    ? THREAD_NAME_OF_CFFU_DELAY_SCHEDULER : THREAD_NAME_OF_CFFU_DELAY_SCHEDULER + "-" + i;
+            delayers[i] = new ScheduledThreadPoolExecutor(1, new DaemonThreadFactory(name));
+            delayers[i].setRemoveOnCancelPolicy(true);
         }
+        return delayers;
     }
 
     private static final class DaemonThreadFactory implements ThreadFactory {
+        private final String name;
+
+        DaemonThreadFactory(String name) {
+            this.name = name;
+        }
+
         @Override
         public Thread newThread(Runnable r) {
-            Thread t = new Thread(r);
+            Thread t = new DelayerThread(r, name);
             t.setDaemon(true);
-            t.setName(THREAD_NAME_OF_CFFU_DELAY_SCHEDULER);
             return t;
         }
     }
 
+    /**
+     * The thread type of the delayer shards, so {@link #atCfDelayerThread()} detects all shards by one type check.
+     */
+    private static final class DelayerThread extends Thread {
+        DelayerThread(Runnable r, String name) {
+            super(r, name);
+        }
+    }
+
     private Delayer() {
     }
 }
@@ -99,11 +151,13 @@ final class Delayer {
  */
 @SuppressWarnings("JavadocReference")
 final class DelayedExecutor implements Executor {
+    private final DelayTimer timer;
     private final long delay;
     private final TimeUnit unit;
     private final Executor executor;
 
-    DelayedExecutor(long delay, TimeUnit unit, Executor executor) {
+    DelayedExecutor(DelayTimer timer, long delay, TimeUnit unit, Executor executor) {
+        this.timer = timer;
         this.delay = delay;
         this.unit = unit;
         this.executor = executor;
@@ -111,7 +165,7 @@ final class DelayedExecutor implements Executor {
 
     @Override
     public void execute(Runnable r) {
-        Delayer.delay(new TaskSubmitter(executor, requireNonNull(r, "runnable is null")), delay, unit);
+        timer.schedule(new TaskSubmitter(executor, requireNonNull(r, "runnable is null")), delay, unit);
     }
 }
 
@@ -187,9 +241,7 @@ final class CfCompleter<T> implements Runnable {
  * <p>
  * code is copied from {@link CompletableFuture.Canceller} with small adoption.
  *
- * @see Delayer#delay(Runnable, long, TimeUnit)
- * @see Delayer#delayToTimoutCf(CompletableFuture, long, TimeUnit)
- * @see Delayer#delayToCompleteCf(CompletableFuture, Object, long, TimeUnit)
+ * @see DelayTimer#schedule(Runnable, long, TimeUnit)
  */
 @SuppressWarnings("JavadocReference")
 final class FutureCanceller implements BiConsumer<Object, Throwable> {
@@ -207,6 +259,66 @@ final class FutureCanceller implements BiConsumer<Object, Throwable> {
     }
 }
 
+/**
+ * Action to complete the result cf with the result of the input cf, hopping to the async executor
+ * if the input cf is completed at the delayer/timer thread(e.g. triggered by timeout),
+ * so the dependents of the result cf do not run in the delayer/timer thread.
+ * <p>
+ * The hop submits this action to the executor directly(instead of a zero-delay task of the delayer),
+ * so no more work is put on the delayer thread. Used by {@code cf.handle} and returns {@code null},
+ * instead of {@code cf.whenComplete} that wraps the exception of the input cf by a new CompletionException.
+ *
+ * @see CompletableFutureUtils#cffuOrTimeout(CompletableFuture, Executor, long, TimeUnit)
+ */
+final class CfExecutorHop implements BiFunction<Object, Throwable, Void>, Runnable {
+    private final CompletableFuture<Object> ret;
+    private final Executor asyncExecutor;
+    @Nullable
+    private final DelayTimer timer;
+
+    @Nullable
+    private Object value;
+    @Nullable
+    private Throwable ex;
+
+    CfExecutorHop(CompletableFuture<Object> ret, Executor asyncExecutor, @Nullable DelayTimer timer) {
+        this.ret = ret;
+        this.asyncExecutor = asyncExecutor;
+        this.timer = timer;
+    }
+
+    @Nullable
+    @Override
+    public Void apply(@Nullable Object v, @Nullable Throwable ex) {
+        this.value = v;
+        this.ex = ex;
+        if (!Delayer.atCfDelayerThread() && (timer == null || !timer.atTimerThread())) {
+            run();
+            return null;
+        }
+        try {
+            asyncExecutor.execute(this);
+        } catch (Throwable t) {
+            // complete in the current thread rather than leave the result cf incomplete forever
+            reportException("Exception occurred in executor hop, complete in the delayer thread", t);
+            run();
+        }
+        return null;
+    }
+
+    @Override
+    public void run() {
+        try {
+            if (ex == null) ret.complete(value);
+            else ret.completeExceptionally(ex);
+        } catch (Throwable t) {
+            if (ex != null) t.addSuppressed(ex);
+            reportException("Exception occurred in completeCf", t);
+            throw t; // rethrow exception, report to caller
+        }
+    }
+}
+
 /**
  * code is copied from {@code CompletableFuture.AsyncSupply} with small adoption.
  */
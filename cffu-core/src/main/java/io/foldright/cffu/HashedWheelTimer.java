@@ -0,0 +1,350 @@
+package io.foldright.cffu;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.foldright.cffu.spi.DelayTimer;
+
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.locks.LockSupport;
+
+import static io.foldright.cffu.ExceptionReporter.reportException;
+import static java.util.Objects.requireNonNull;
+
+
+/**
+ * The hashed timing wheel {@link DelayTimer}, with O(1) schedule and cancel.
+ * <p>
+ * The {@link Delayer} ({@link java.util.concurrent.ScheduledThreadPoolExecutor}) pays the O(log n) heap
+ * insertion and removal under a single lock for each schedule and cancel; under the high rate of timeouts
+ * that are mostly cancelled(the calls succeed before the timeout), the lock becomes the hot spot.
+ * The wheel instead:
+ * <ul>
+ * <li>schedule: appends the task to the lock-free pending queue, the worker thread moves it into
+ *     the bucket of its deadline tick on the next tick.
+ * <li>cancel: CASes the state of the task and drops the task reference immediately; the worker thread
+ *     unlinks the cancelled task from its bucket on the next tick.
+ * </ul>
+ * The cost is the precision: the tasks run on the tick after their deadlines, so late by up to one tick
+ * ({@link #DEFAULT_TICK_NANOS}). The worker thread wakes up every tick only while any task is in the wheel
+ * or pending; otherwise it parks until the next schedule.
+ * <p>
+ * The tasks run in the worker thread({@link WheelThread} named {@link #THREAD_NAME},
+ * detected by {@link Delayer#atCfDelayerThread()}), so MUST be short and non-blocking,
+ * the same as the tasks of {@link Delayer}.
+ * <p>
+ * <strong>Experimental:</strong> enabled only by the system property
+ * {@value CffuFactoryBuilder#HASHED_WHEEL_TIMER_PROPERTY}; the measurements so far(single core)
+ * show it slower than the builtin timer, the lock-free path is yet to be measured on multiple cores.
+ *
+ * @see CffuFactoryBuilder#timer(DelayTimer)
+ */
+final class HashedWheelTimer implements DelayTimer {
+    static final String THREAD_NAME = "CffuHashedWheelTimer";
+
+    static final long DEFAULT_TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+    static final int DEFAULT_WHEEL_SIZE = 1024;
+
+    /**
+     * Limits the pending tasks moved into the wheel per tick, so a schedule storm does not stall the ticks.
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    /**
+     * The base of the deadlines, so the deadlines are the nanos relative to the start of the timer.
+     */
+    private final long startNanos;
+
+    private final Queue<TimerTask> pending = new ConcurrentLinkedQueue<>();
+    private final Queue<TimerTask> cancelled = new ConcurrentLinkedQueue<>();
+
+    private final WheelThread worker;
+    /**
+     * Whether the worker thread is parked(or about to park) for no task, then {@link #schedule} unparks it.
+     */
+    private volatile boolean idle;
+
+    /**
+     * The current tick, accessed only by the worker thread.
+     */
+    private long tick;
+    /**
+     * The count of the tasks in the wheel buckets, accessed only by the worker thread.
+     */
+    private int wheelTaskCount;
+
+    HashedWheelTimer(long tickNanos, int wheelSize) {
+        if (tickNanos <= 0) throw new IllegalArgumentException("tickNanos(" + tickNanos + ") is not positive");
+        if (wheelSize <= 0) throw new IllegalArgumentException("wheelSize(" + wheelSize + ") is not positive");
+
+        this.tickNanos = tickNanos;
+        // round up to the power of 2, so the bucket index is computed by mask
+        int size = 1;
+        while (size < wheelSize) size <<= 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) wheel[i] = new Bucket();
+        this.mask = size - 1;
+        this.startNanos = System.nanoTime();
+
+        worker = new WheelThread(this::runWorker);
+        worker.start();
+    }
+
+    /**
+     * Returns the shared wheel timer, the worker thread is started only when first used.
+     */
+    static HashedWheelTimer shared() {
+        return SharedHolder.timer;
+    }
+
+    private static class SharedHolder {
+        static final HashedWheelTimer timer = new HashedWheelTimer(DEFAULT_TICK_NANOS, DEFAULT_WHEEL_SIZE);
+    }
+
+    @Override
+    public Future<?> schedule(Runnable task, long delay, TimeUnit unit) {
+        requireNonNull(task, "task is null");
+        requireNonNull(unit, "unit is null");
+
+        final long delayNanos = Math.max(0, unit.toNanos(delay));
+        final long now = System.nanoTime() - startNanos;
+        // guard the overflow of the huge delay(e.g. Long.MAX_VALUE days), the task never runs in practice
+        final long deadline = delayNanos > Long.MAX_VALUE - now ? Long.MAX_VALUE : now + delayNanos;
+        final TimerTask timerTask = new TimerTask(this, task, deadline);
+        pending.add(timerTask);
+        if (idle) LockSupport.unpark(worker);
+        return timerTask;
+    }
+
+    @Override
+    public boolean atTimerThread() {
+        return Thread.currentThread() == worker;
+    }
+
+    private void runWorker() {
+        for (; ; ) {
+            final long tickDeadline = waitForNextTick();
+            unlinkCancelled();
+            transferPending();
+            wheelTaskCount -= wheel[(int) (tick & mask)].expire(tickDeadline);
+            tick++;
+            parkIfIdle();
+        }
+    }
+
+    /**
+     * Parks the worker thread until the next schedule if no task is in the wheel or pending,
+     * instead of waking up every tick for nothing.
+     */
+    private void parkIfIdle() {
+        if (wheelTaskCount > 0 || !pending.isEmpty()) return;
+        // the cancelled tasks are all unlinked from the wheel already, drop them before parking
+        cancelled.clear();
+
+        idle = true;
+        // check the pending tasks after publishing idle: either the schedule sees idle and unparks,
+        // or the added task is seen here; so no wakeup is lost
+        while (pending.isEmpty()) LockSupport.park(this);
+        idle = false;
+        // skip the ticks passed while parked, the wheel is empty so no bucket is missed
+        tick = Math.max(tick, (System.nanoTime() - startNanos) / tickNanos);
+    }
+
+    /**
+     * @return the deadline of the current tick, relative to {@link #startNanos}
+     */
+    private long waitForNextTick() {
+        final long tickDeadline = tickNanos * (tick + 1);
+        for (; ; ) {
+            final long sleepNanos = tickDeadline - (System.nanoTime() - startNanos);
+            if (sleepNanos <= 0) return tickDeadline;
+            LockSupport.parkNanos(this, sleepNanos);
+        }
+    }
+
+    private void unlinkCancelled() {
+        for (TimerTask task; (task = cancelled.poll()) != null; ) {
+            final Bucket bucket = task.bucket;
+            if (bucket != null && bucket.remove(task)) wheelTaskCount--;
+        }
+    }
+
+    private void transferPending() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            final TimerTask task = pending.poll();
+            if (task == null) return;
+            if (task.state != TimerTask.ST_INIT) continue;
+
+            final long deadlineTick = task.deadline / tickNanos;
+            task.remainingRounds = (deadlineTick - tick) / wheel.length;
+            // the task whose deadline passed already goes to the current bucket, runs in this tick
+            wheel[(int) (Math.max(deadlineTick, tick) & mask)].add(task);
+            wheelTaskCount++;
+        }
+    }
+
+    /**
+     * The worker thread of the wheel, so the wheel thread is detected by type instead of thread name.
+     */
+    static final class WheelThread extends Thread {
+        WheelThread(Runnable r) {
+            super(r, THREAD_NAME);
+            setDaemon(true);
+        }
+    }
+
+    /**
+     * The doubly-linked list of the tasks in the same bucket, accessed only by the worker thread.
+     */
+    private static final class Bucket {
+        @Nullable
+        private TimerTask head, tail;
+
+        void add(TimerTask task) {
+            task.bucket = this;
+            if (head == null) {
+                head = tail = task;
+            } else {
+                tail.next = task;
+                task.prev = tail;
+                tail = task;
+            }
+        }
+
+        /**
+         * @return the count of the tasks removed from this bucket
+         */
+        int expire(long tickDeadline) {
+            int removed = 0;
+            TimerTask task = head;
+            while (task != null) {
+                final TimerTask next = task.next;
+                if (task.state != TimerTask.ST_INIT) {
+                    remove(task);
+                    removed++;
+                } else if (task.remainingRounds <= 0 && task.deadline <= tickDeadline) {
+                    remove(task);
+                    removed++;
+                    task.expire();
+                } else {
+                    task.remainingRounds--;
+                }
+                task = next;
+            }
+            return removed;
+        }
+
+        /**
+         * @return {@code false} if the task is not in this bucket
+         */
+        boolean remove(TimerTask task) {
+            // removed already, e.g. expired then unlinked by the cancelled queue
+            if (task.bucket != this) return false;
+
+            final TimerTask prev = task.prev, next = task.next;
+            if (prev == null) head = next;
+            else prev.next = next;
+            if (next == null) tail = prev;
+            else next.prev = prev;
+            task.prev = task.next = null;
+            task.bucket = null;
+            return true;
+        }
+    }
+
+    /**
+     * The scheduled task of the wheel, also the Future to cancel it.
+     * <p>
+     * {@link #get()} polls the state at the tick granularity, since the Future is used for cancellation;
+     * the result is always {@code null}.
+     */
+    private static final class TimerTask implements Future<Void> {
+        static final int ST_INIT = 0, ST_CANCELLED = 1, ST_EXPIRED = 2;
+
+        private static final AtomicIntegerFieldUpdater<TimerTask> STATE =
+                AtomicIntegerFieldUpdater.newUpdater(TimerTask.class, "state");
+
+        private final HashedWheelTimer timer;
+        private final long deadline;
+        @Nullable
+        private volatile Runnable command;
+        volatile int state = ST_INIT;
+
+        // below fields are accessed only by the worker thread
+        long remainingRounds;
+        @Nullable
+        Bucket bucket;
+        @Nullable
+        TimerTask prev, next;
+
+        TimerTask(HashedWheelTimer timer, Runnable command, long deadline) {
+            this.timer = timer;
+            this.command = command;
+            this.deadline = deadline;
+        }
+
+        @SuppressWarnings("DataFlowIssue")
+        void expire() {
+            if (!STATE.compareAndSet(this, ST_INIT, ST_EXPIRED)) return;
+
+            final Runnable c = command;
+            command = null;
+            try {
+                c.run();
+            } catch (Throwable ex) {
+                reportException("Exception occurred in the task of " + THREAD_NAME, ex);
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            if (!STATE.compareAndSet(this, ST_INIT, ST_CANCELLED)) return false;
+            // release the command(and the cf it references) immediately, the task is unlinked on the next tick
+            command = null;
+            timer.cancelled.add(this);
+            return true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state == ST_CANCELLED;
+        }
+
+        @Override
+        public boolean isDone() {
+            return state != ST_INIT;
+        }
+
+        @Nullable
+        @Override
+        public Void get() throws InterruptedException {
+            while (!isDone()) sleepTick();
+            if (isCancelled()) throw new CancellationException();
+            return null;
+        }
+
+        @Nullable
+        @Override
+        public Void get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            final long deadline = System.nanoTime() + unit.toNanos(timeout);
+            while (!isDone()) {
+                if (System.nanoTime() - deadline >= 0) throw new TimeoutException();
+                sleepTick();
+            }
+            if (isCancelled()) throw new CancellationException();
+            return null;
+        }
+
+        private void sleepTick() throws InterruptedException {
+            TimeUnit.NANOSECONDS.sleep(timer.tickNanos);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.foldright.cffu;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+
+/**
+ * The executor marking the multi-actions methods({@code mSupply*Async}/{@code mRun*Async}/
+ * {@code thenMApply*Async}/{@code thenMAccept*Async}/{@code thenMRun*Async}) to run ONE of the actions
+ * in the current thread, after the other actions are submitted to the delegate executor; so each fan-out saves
+ * one context switch and one queue round-trip, and the current thread does not sit idle while the actions run.
+ * <p>
+ * As a plain executor(e.g. the single-action methods {@code supplyAsync}/{@code thenApplyAsync}),
+ * the tasks are submitted to the delegate executor, the same as without the marker.
+ *
+ * @see CompletableFutureUtils#inlineFirstExecutor(Executor)
+ */
+final class InlineFirstExecutor implements Executor {
+    private final Executor delegate;
+
+    InlineFirstExecutor(Executor delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(command);
+    }
+
+    @Override
+    public String toString() {
+        return "InlineFirstExecutor(" + delegate + ")";
+    }
+
+    /**
+     * Returns the delegate executor if the given executor is the inline-first marker, otherwise {@code null}.
+     */
+    @Nullable
+    static Executor delegateOfInlineFirst(Executor executor) {
+        return executor instanceof InlineFirstExecutor ? ((InlineFirstExecutor) executor).delegate : null;
+    }
+
+    /**
+     * Unwraps the inline-first marker, for the checks of the executor type(e.g. {@code ForkJoinPool}).
+     */
+    static Executor unwrap(Executor executor) {
+        final Executor delegate = delegateOfInlineFirst(executor);
+        return delegate == null ? executor : delegate;
+    }
+
+    /**
+     * Runs the supplier in the current thread; the exception is wrapped the same as {@code supplyAsync}.
+     */
+    static <T> CompletableFuture<T> supplyInline(Supplier<? extends T> supplier) {
+        final CompletableFuture<T> cf = new CompletableFuture<>();
+        try {
+            cf.complete(supplier.get());
+        } catch (Throwable ex) {
+            cf.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(ex));
+        }
+        return cf;
+    }
+}
@@ -0,0 +1,1570 @@
+package io.foldright.cffu;
+
+////////////////////////////////////////////////////////////////////////////////
+//# multi-cf completion helper classes
+//
+//  dedicated completers for the multi-cf combinators of CompletableFutureUtils,
+//  each input cf writes into ONE shared completer object directly,
+//  instead of building a tree of helper cfs(e.g. `CompletableFuture.allOf` relay nodes).
+//
+//  the combinators that may be decided before all inputs complete(fast-fail/any-success)
+//  release the dependents on the losing inputs when decided, see `UntilDecidedListener`.
+////////////////////////////////////////////////////////////////////////////////
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.foldright.cffu.spi.DelayTimer;
+import io.foldright.cffu.tuple.Tuple2;
+import io.foldright.cffu.tuple.Tuple3;
+import io.foldright.cffu.tuple.Tuple4;
+import io.foldright.cffu.tuple.Tuple5;
+import io.foldright.cffu.tuple.Tuple6;
+import io.foldright.cffu.tuple.Tuple7;
+import io.foldright.cffu.tuple.Tuple8;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Supplier;
+
+
+/**
+ * Completer of the all-results combinators({@code allResultsOf}/{@code allTupleOf}
+ * and their fast-fail variants {@code allFastFailOf}/{@code allResultsFastFailOf}/{@code allTupleFastFailOf}).
+ * <p>
+ * Each input cf stores its result into the completer by index, the completer counts down
+ * the remaining inputs, and completes the result cf <strong>exactly once</strong> when the countdown reaches zero.
+ * If any input cf completed exceptionally:
+ * <ul>
+ * <li>not fast-fail: the result cf completes exceptionally with the exception of
+ *     the <strong>first given</strong> failed input cf, the same behavior as {@link CompletableFuture#allOf}.
+ * <li>fast-fail: the <strong>first failed</strong> input cf completes the result cf exceptionally immediately,
+ *     the CAS of the result cf decides the winner, the later results are ignored.
+ * </ul>
+ * The results are stored by the subclasses: {@link ArrayResults} into the result array,
+ * {@link TupleResults} into the per-arity fields that are read into the tuple directly.
+ *
+ * @param <R> the result type of the result cf
+ */
+abstract class AllResultsCompleter<R> {
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+    private final boolean fastFail;
+    private final AtomicInteger remaining;
+    /**
+     * Written before the countdown of {@link #remaining}, so visible to the thread that counts down to zero.
+     */
+    private boolean hasFailed;
+
+    private AllResultsCompleter(int size, boolean fastFail) {
+        this.fastFail = fastFail;
+        this.remaining = new AtomicInteger(size);
+    }
+
+    /**
+     * Stores the result(or the {@link FailedResult} marker) of the input cf of the given index.
+     */
+    abstract void store(int index, @Nullable Object value);
+
+    @Nullable
+    abstract Object load(int index);
+
+    abstract int size();
+
+    /**
+     * Builds the value of the result cf from the stored results, called once when all inputs succeed.
+     */
+    abstract R build();
+
+    /**
+     * @param css      MUST be non-empty; the elements are null-checked before registering
+     * @param fastFail whether to complete the result cf exceptionally when the first input cf fails
+     * @param finisher converts the result array(in the same order of the given stages) to the value of the result cf
+     */
+    static <R> CompletableFuture<R> allOf(Collection<? extends CompletionStage<?>> css,
+                                          boolean fastFail, Function<Object[], ? extends R> finisher) {
+        return allOf(css, fastFail, false, finisher);
+    }
+
+    /**
+     * @param cancelInputs whether to cancel the input cfs not completed yet when the result cf is decided
+     */
+    static <R> CompletableFuture<R> allOf(Collection<? extends CompletionStage<?>> css, boolean fastFail,
+                                          boolean cancelInputs, Function<Object[], ? extends R> finisher) {
+        return listen(new ArrayResults<>(css.size(), fastFail, finisher), css, cancelInputs);
+    }
+
+    /**
+     * Combines the given stages to the tuple of the same arity, without the intermediate result array.
+     *
+     * @param css MUST contain 2 ~ 8 stages; the elements are null-checked before registering
+     * @param <T> the tuple type of the same arity
+     */
+    static <T> CompletableFuture<T> allTupleOf(Collection<? extends CompletionStage<?>> css, boolean fastFail) {
+        return listen(new TupleResults<>(css.size(), fastFail), css, false);
+    }
+
+    private static <R> CompletableFuture<R> listen(AllResultsCompleter<R> completer,
+                                                   Collection<? extends CompletionStage<?>> css, boolean cancelInputs) {
+        MultiCfCompletionHelpers.requireCfsNonNull(css);
+        final int size = css.size();
+        @Nullable final CompletableFuture<?>[] inputs = cancelInputs ? new CompletableFuture[size] : null;
+        // not fast-fail: never decided before all inputs complete, no losing inputs to release
+        @Nullable final UntilDecidedListener listener = completer.fastFail ? new UntilDecidedListener(completer.result, size) : null;
+        int i = 0;
+        int successNowCount = 0;
+        for (CompletionStage<?> s : css) {
+            final CompletableFuture<?> cf = CompletableFutureUtils.f_toCf(MultiCfCompletionHelpers.requireCfNonNull(s, i, size));
+            if (inputs != null) inputs[i] = cf;
+            // fast path: read the result of the successful completed input directly, without registering dependents
+            if (MultiCfCompletionHelpers.isSuccessNow(cf)) {
+                completer.store(i++, cf.join());
+                successNowCount++;
+                continue;
+            }
+            final IndexedSetter setter = new IndexedSetter(completer, i++);
+            if (listener != null) listener.listen(cf, setter);
+            else cf.whenComplete(setter);
+        }
+        MultiCfCompletionHelpers.checkSize(i, size);
+        if (listener != null) listener.releaseWhenDecided();
+        // count down the successful completed inputs at once, after the registered inputs can not reach zero early;
+        // so the result cf is completed synchronously here if all inputs are successful completed
+        if (successNowCount > 0 && completer.remaining.addAndGet(-successNowCount) == 0) completer.finish();
+        if (inputs != null) MultiCfCompletionHelpers.cancelInputsWhenDecided(completer.result, inputs);
+        return completer.result;
+    }
+
+    private void set(int index, @Nullable Object value, @Nullable Throwable ex) {
+        // decided already(fast-fail), the call may be from the released gate, see UntilDecidedListener
+        if (fastFail && result.isDone()) return;
+
+        if (ex == null) store(index, value);
+        else if (fastFail) {
+            // the failed input never counts down, so the countdown only reaches zero when all inputs succeed
+            result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(ex));
+            return;
+        } else {
+            store(index, new FailedResult(ex));
+            hasFailed = true;
+        }
+        if (remaining.decrementAndGet() == 0) finish();
+    }
+
+    private void finish() {
+        if (hasFailed) {
+            for (int i = 0, size = size(); i < size; i++) {
+                final Object v = load(i);
+                if (v instanceof FailedResult) {
+                    result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(((FailedResult) v).ex));
+                    return;
+                }
+            }
+        }
+        try {
+            result.complete(build());
+        } catch (Throwable t) {
+            result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(t));
+        }
+    }
+
+    private static final class ArrayResults<R> extends AllResultsCompleter<R> {
+        private final Object[] values;
+        private final Function<Object[], ? extends R> finisher;
+
+        ArrayResults(int size, boolean fastFail, Function<Object[], ? extends R> finisher) {
+            super(size, fastFail);
+            this.values = new Object[size];
+            this.finisher = finisher;
+        }
+
+        @Override
+        void store(int index, @Nullable Object value) {
+            values[index] = value;
+        }
+
+        @Nullable
+        @Override
+        Object load(int index) {
+            return values[index];
+        }
+
+        @Override
+        int size() {
+            return values.length;
+        }
+
+        @Override
+        R build() {
+            return finisher.apply(values);
+        }
+    }
+
+    /**
+     * Stores the results in the fields of the arity, so the tuple is built from the fields directly;
+     * one completer object instead of the completer plus the result array per combination.
+     */
+    @SuppressWarnings("unchecked")
+    private static final class TupleResults<T> extends AllResultsCompleter<T> {
+        private final int arity;
+        @Nullable
+        private Object v1, v2, v3, v4, v5, v6, v7, v8;
+
+        TupleResults(int arity, boolean fastFail) {
+            super(arity, fastFail);
+            if (arity < 2 || arity > 8) throw new IllegalArgumentException("unsupported tuple arity: " + arity);
+            this.arity = arity;
+        }
+
+        @Override
+        void store(int index, @Nullable Object value) {
+            switch (index) {
+                case 0: v1 = value; break;
+                case 1: v2 = value; break;
+                case 2: v3 = value; break;
+                case 3: v4 = value; break;
+                case 4: v5 = value; break;
+                case 5: v6 = value; break;
+                case 6: v7 = value; break;
+                case 7: v8 = value; break;
+                default: throw new IndexOutOfBoundsException("index: " + index);
+            }
+        }
+
+        @Nullable
+        @Override
+        Object load(int index) {
+            switch (index) {
+                case 0: return v1;
+                case 1: return v2;
+                case 2: return v3;
+                case 3: return v4;
+                case 4: return v5;
+                case 5: return v6;
+                case 6: return v7;
+                case 7: return v8;
+                default: throw new IndexOutOfBoundsException("index: " + index);
+            }
+        }
+
+        @Override
+        int size() {
+            return arity;
+        }
+
+        @Override
+        T build() {
+            switch (arity) {
+                case 2: return (T) Tuple2.of(v1, v2);
+                case 3: return (T) Tuple3.of(v1, v2, v3);
+                case 4: return (T) Tuple4.of(v1, v2, v3, v4);
+                case 5: return (T) Tuple5.of(v1, v2, v3, v4, v5);
+                case 6: return (T) Tuple6.of(v1, v2, v3, v4, v5, v6);
+                case 7: return (T) Tuple7.of(v1, v2, v3, v4, v5, v6, v7);
+                default: return (T) Tuple8.of(v1, v2, v3, v4, v5, v6, v7, v8);
+            }
+        }
+    }
+
+    private static final class IndexedSetter implements BiConsumer<Object, Throwable> {
+        private final AllResultsCompleter<?> completer;
+        private final int index;
+
+        IndexedSetter(AllResultsCompleter<?> completer, int index) {
+            this.completer = completer;
+            this.index = index;
+        }
+
+        @Override
+        public void accept(@Nullable Object value, @Nullable Throwable ex) {
+            completer.set(index, value, ex);
+        }
+    }
+
+    /**
+     * Marker of failed input in the result array, only allocated for the failed input.
+     */
+    private static final class FailedResult {
+        final Throwable ex;
+
+        FailedResult(Throwable ex) {
+            this.ex = ex;
+        }
+    }
+}
+
+/**
+ * Completer of the any-of combinators({@code anyOf}/{@code anySuccessOf}).
+ * <p>
+ * The <strong>first completed</strong>(any-of) or the <strong>first successful</strong>(any-success) input cf
+ * completes the result cf immediately, the CAS of the result cf decides the winner, the later results are ignored.
+ * In any-success mode, the failed input cfs record their exceptions by index and count down the remaining inputs;
+ * if all input cfs failed, the result cf completes exceptionally with the exception of
+ * the <strong>first given</strong> failed input cf.
+ *
+ * @param <T> the result type of the result cf
+ */
+final class AnyOfCompleter<T> {
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final boolean successOnly;
+    @Nullable
+    private final Throwable[] exceptions;
+    @Nullable
+    private final AtomicInteger remaining;
+
+    private AnyOfCompleter(int size, boolean successOnly) {
+        this.successOnly = successOnly;
+        this.exceptions = successOnly ? new Throwable[size] : null;
+        this.remaining = successOnly ? new AtomicInteger(size) : null;
+    }
+
+    /**
+     * @param css MUST be non-empty; the elements are null-checked before registering
+     */
+    static <T> CompletableFuture<T> anyOf(Collection<? extends CompletionStage<? extends T>> css) {
+        return listenAll(new AnyOfCompleter<>(css.size(), false), css, false);
+    }
+
+    /**
+     * @param css MUST be non-empty; the elements are null-checked before registering
+     */
+    static <T> CompletableFuture<T> anySuccessOf(Collection<? extends CompletionStage<? extends T>> css) {
+        return anySuccessOf(css, false);
+    }
+
+    /**
+     * @param css          MUST be non-empty; the elements are null-checked before registering
+     * @param cancelInputs whether to cancel the input cfs not completed yet when the result cf is decided
+     */
+    @SuppressWarnings("unchecked")
+    static <T> CompletableFuture<T> anySuccessOf(Collection<? extends CompletionStage<? extends T>> css,
+                                                 boolean cancelInputs) {
+        // no fast path, all inputs are collected while listening, to cancel the losing inputs when decided
+        if (cancelInputs) return listenAll(new AnyOfCompleter<>(css.size(), true), css, true);
+
+        // fast path: the first successful completed input decides the result, without registering dependents;
+        // stops at the input not readable without copying(e.g. minimal-stage), which may be the first successful one
+        final int size = css.size();
+        int i = 0;
+        CompletableFuture<?> successNow = null;
+        boolean fastPath = true;
+        for (CompletionStage<?> s : css) {
+            MultiCfCompletionHelpers.requireCfNonNull(s, i++, size);
+            if (successNow != null || !fastPath) continue;
+            final CompletableFuture<?> cf = MultiCfCompletionHelpers.readableCf(s);
+            if (cf == null) fastPath = false;
+            else if (MultiCfCompletionHelpers.isSuccessNow(cf)) successNow = cf;
+        }
+        MultiCfCompletionHelpers.checkSize(i, size);
+        if (successNow != null) return CompletableFuture.completedFuture((T) successNow.join());
+
+        return listenAll(new AnyOfCompleter<>(size, true), css, false);
+    }
+
+    private static <T> CompletableFuture<T> listenAll(AnyOfCompleter<T> completer,
+                                                      Collection<? extends CompletionStage<? extends T>> css,
+                                                      boolean cancelInputs) {
+        MultiCfCompletionHelpers.requireCfsNonNull(css);
+        final int size = css.size();
+        @Nullable final CompletableFuture<?>[] inputs = cancelInputs ? new CompletableFuture[size] : null;
+        final UntilDecidedListener listener = new UntilDecidedListener(completer.result, size);
+        int i = 0;
+        for (CompletionStage<?> s : css) {
+            final CompletableFuture<?> cf = CompletableFutureUtils.f_toCf(MultiCfCompletionHelpers.requireCfNonNull(s, i, size));
+            if (inputs != null) inputs[i] = cf;
+            listener.listen(cf, new IndexedSetter(completer, i++));
+        }
+        MultiCfCompletionHelpers.checkSize(i, size);
+        listener.releaseWhenDecided();
+        if (inputs != null) MultiCfCompletionHelpers.cancelInputsWhenDecided(completer.result, inputs);
+        return completer.result;
+    }
+
+    @SuppressWarnings({"unchecked", "DataFlowIssue"})
+    private void set(int index, @Nullable Object value, @Nullable Throwable ex) {
+        // decided already, the call may be from the released gate, see UntilDecidedListener
+        if (result.isDone()) return;
+
+        if (ex == null) {
+            result.complete((T) value);
+            return;
+        }
+        if (!successOnly) {
+            result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(ex));
+            return;
+        }
+        exceptions[index] = ex;
+        // the succeeded input never counts down, so the countdown only reaches zero when all inputs fail
+        if (remaining.decrementAndGet() == 0) {
+            result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(exceptions[0]));
+        }
+    }
+
+    private static final class IndexedSetter implements BiConsumer<Object, Throwable> {
+        private final AnyOfCompleter<?> completer;
+        private final int index;
+
+        IndexedSetter(AnyOfCompleter<?> completer, int index) {
+            this.completer = completer;
+            this.index = index;
+        }
+
+        @Override
+        public void accept(@Nullable Object value, @Nullable Throwable ex) {
+            completer.set(index, value, ex);
+        }
+    }
+}
+
+/**
+ * Completer of the two-input combinators({@code thenCombineFastFail}/{@code thenAcceptBothFastFail}/
+ * {@code runAfterBothFastFail} and {@code applyToEitherSuccess}/{@code acceptEitherSuccess}/
+ * {@code runAfterEitherSuccess}), the hot path of {@link Cffu}.
+ * <p>
+ * The same behavior as the fast-fail {@link AllResultsCompleter} and the any-success {@link AnyOfCompleter}
+ * on two inputs, with less allocation: instead of one {@code anyOf} relay per input
+ * (see {@link UntilDecidedListener}) plus the index setters and the countdown,
+ * the completer listens ONE {@code anyOf(input1, input2)} relay, then reads the states of the inputs directly;
+ * if the completed input does not decide the result, the completer listens the other input
+ * that decides the result alone. The result cf is the only state, no result fields, no counter.
+ * <p>
+ * The dependent on the losing input is released when the other input decides the result,
+ * the same as {@code UntilDecidedListener}. Only for the readable(non-minimal-stage) inputs;
+ * the minimal-stage inputs fall back to the general completers.
+ *
+ * @param <R> the result type of the result cf
+ */
+final class TwoInputCompleter<R> implements BiConsumer<Object, Throwable> {
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+    private final CompletableFuture<?> cf1;
+    private final CompletableFuture<?> cf2;
+    /**
+     * {@code false}: both-fast-fail, {@code true}: either-success.
+     */
+    private final boolean either;
+
+    private TwoInputCompleter(CompletableFuture<?> cf1, CompletableFuture<?> cf2, boolean either) {
+        this.cf1 = cf1;
+        this.cf2 = cf2;
+        this.either = either;
+    }
+
+    static <T1, T2> CompletableFuture<Tuple2<T1, T2>> bothFastFail(
+            CompletableFuture<? extends T1> cf1, CompletionStage<? extends T2> s2) {
+        final CompletableFuture<? extends T2> cf2 = CompletableFutureUtils.f_toCf(s2);
+        if (CompletableFutureUtils.isMinStageCf(cf1) || CompletableFutureUtils.isMinStageCf(cf2)) {
+            return AllResultsCompleter.allTupleOf(Arrays.asList(cf1, cf2), true);
+        }
+        return new TwoInputCompleter<Tuple2<T1, T2>>(cf1, cf2, false).listen();
+    }
+
+    static <T> CompletableFuture<T> eitherSuccess(
+            CompletableFuture<? extends T> cf1, CompletionStage<? extends T> s2) {
+        final CompletableFuture<? extends T> cf2 = CompletableFutureUtils.f_toCf(s2);
+        if (CompletableFutureUtils.isMinStageCf(cf1) || CompletableFutureUtils.isMinStageCf(cf2)) {
+            return AnyOfCompleter.anySuccessOf(Arrays.asList(cf1, cf2));
+        }
+        return new TwoInputCompleter<T>(cf1, cf2, true).listen();
+    }
+
+    private CompletableFuture<R> listen() {
+        // fast path: decide(or listen the other input) directly, without the relay
+        if (cf1.isDone() || cf2.isDone()) onInputCompleted();
+        else CompletableFuture.anyOf(cf1, cf2).whenComplete(this);
+        return result;
+    }
+
+    /**
+     * Called when the relay or the other input completes; the args are ignored, the states of inputs are read.
+     */
+    @Override
+    public void accept(@Nullable Object value, @Nullable Throwable ex) {
+        onInputCompleted();
+    }
+
+    /**
+     * At least one input is completed when called.
+     */
+    @SuppressWarnings("unchecked")
+    private void onInputCompleted() {
+        final boolean done1 = cf1.isDone(), done2 = cf2.isDone();
+        final boolean failed1 = done1 && cf1.isCompletedExceptionally();
+        final boolean failed2 = done2 && cf2.isCompletedExceptionally();
+        if (either) {
+            if (done1 && !failed1) result.complete((R) cf1.join());
+            else if (done2 && !failed2) result.complete((R) cf2.join());
+            // both failed, completes with the exception of the first given input
+            else if (done1 && done2) completeWithExceptionOf(cf1);
+            else listenRemaining(done1);
+        } else {
+            if (failed1) completeWithExceptionOf(cf1);
+            else if (failed2) completeWithExceptionOf(cf2);
+            else if (done1 && done2) result.complete((R) Tuple2.of(cf1.join(), cf2.join()));
+            else listenRemaining(done1);
+        }
+    }
+
+    /**
+     * The completed input does not decide the result, the remaining input decides the result alone;
+     * so listen it by plain {@code whenComplete}, no relay is needed to release the dependent early.
+     */
+    private void listenRemaining(boolean done1) {
+        (done1 ? cf2 : cf1).whenComplete(this);
+    }
+
+    private void completeWithExceptionOf(CompletableFuture<?> cf) {
+        try {
+            cf.join();
+        } catch (Throwable ex) {
+            // the same exception as the dependents of the input cf receive
+            result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(ex));
+        }
+    }
+}
+
+/**
+ * Completer of the quorum combinator({@code nSuccessOf}).
+ * <p>
+ * Each successful input cf claims the next slot of the result array by an atomic counter,
+ * the result cf completes when the first {@code n} successful results are written;
+ * so the results are in the <strong>success order</strong> of the input cfs.
+ * Once the failed input cfs are more than {@code size - n}, the n successes are impossible,
+ * and the failed input cf making the n successes impossible completes the result cf exceptionally
+ * <strong>without</strong> waiting the other input cfs.
+ * <p>
+ * If {@code cancelStragglers} is enabled, the input cfs not completed yet are cancelled
+ * when the result cf is decided(completed, including cancelled by the caller).
+ *
+ * @param <R> the result type of the result cf
+ */
+final class QuorumCompleter<R> implements BiConsumer<Object, Throwable> {
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+    private final Object[] values;
+    private final Function<Object[], ? extends R> finisher;
+    private final int maxFailures;
+    private final AtomicInteger claimed = new AtomicInteger();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private QuorumCompleter(int n, int size, Function<Object[], ? extends R> finisher) {
+        this.values = new Object[n];
+        this.finisher = finisher;
+        this.maxFailures = size - n;
+    }
+
+    /**
+     * @param n   MUST be in range {@code [1, css.size()]}
+     * @param css the elements are null-checked before registering
+     */
+    static <R> CompletableFuture<R> nSuccessOf(int n, boolean cancelStragglers,
+                                               Collection<? extends CompletionStage<?>> css,
+                                               Function<Object[], ? extends R> finisher) {
+        MultiCfCompletionHelpers.requireCfsNonNull(css);
+        final int size = css.size();
+        final QuorumCompleter<R> completer = new QuorumCompleter<>(n, size, finisher);
+        @Nullable final CompletableFuture<?>[] inputs = cancelStragglers ? new CompletableFuture[size] : null;
+        final UntilDecidedListener listener = new UntilDecidedListener(completer.result, size);
+        int i = 0;
+        for (CompletionStage<?> s : css) {
+            final CompletableFuture<?> cf = CompletableFutureUtils.f_toCf(MultiCfCompletionHelpers.requireCfNonNull(s, i, size));
+            if (inputs != null) inputs[i] = cf;
+            i++;
+            listener.listen(cf, completer);
+        }
+        MultiCfCompletionHelpers.checkSize(i, size);
+        listener.releaseWhenDecided();
+        if (inputs != null) MultiCfCompletionHelpers.cancelInputsWhenDecided(completer.result, inputs);
+        return completer.result;
+    }
+
+    @Override
+    public void accept(@Nullable Object value, @Nullable Throwable ex) {
+        // decided already, the call may be from the released gate, see UntilDecidedListener
+        if (result.isDone()) return;
+
+        if (ex != null) {
+            // only the failure making the n successes impossible completes the result cf
+            if (failures.incrementAndGet() == maxFailures + 1) {
+                result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(ex));
+            }
+            return;
+        }
+        final int index = claimed.getAndIncrement();
+        if (index >= values.length) return;
+        values[index] = value;
+        // the earlier claimers may not finish writing yet, so count the written slots instead of the claimed ones;
+        // the atomic increment also publishes the written value to the thread completing the result cf
+        if (written.incrementAndGet() == values.length) {
+            try {
+                result.complete(finisher.apply(values));
+            } catch (Throwable t) {
+                result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(t));
+            }
+        }
+    }
+}
+
+/**
+ * Completer of the completion-order combinator({@code completionOrder}).
+ * <p>
+ * Each completed input cf claims the next output cf by an atomic counter, and completes it with its result;
+ * so the output cfs are completed in the <strong>completion order</strong> of the input cfs:
+ * the first output cf is completed by the first completed input cf, and so on.
+ *
+ * @param <T> the result type of the input/output cfs
+ */
+final class CompletionOrderCompleter<T> implements BiConsumer<T, Throwable> {
+    private final CompletableFuture<T>[] outputs;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private CompletionOrderCompleter(CompletableFuture<T>[] outputs) {
+        this.outputs = outputs;
+    }
+
+    /**
+     * @param css MAY be empty; the elements are null-checked before registering
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<CompletableFuture<T>> completionOrder(Collection<? extends CompletionStage<? extends T>> css) {
+        MultiCfCompletionHelpers.requireCfsNonNull(css);
+        final int size = css.size();
+        final CompletableFuture<T>[] outputs = new CompletableFuture[size];
+        for (int i = 0; i < size; i++) outputs[i] = new CompletableFuture<>();
+
+        final CompletionOrderCompleter<T> completer = new CompletionOrderCompleter<>(outputs);
+        int i = 0;
+        for (CompletionStage<? extends T> s : css) {
+            CompletableFutureUtils.<T>f_toCf(MultiCfCompletionHelpers.requireCfNonNull(s, i++, size))
+                    .whenComplete(completer);
+        }
+        MultiCfCompletionHelpers.checkSize(i, size);
+        return Collections.unmodifiableList(Arrays.asList(outputs));
+    }
+
+    @Override
+    public void accept(@Nullable T value, @Nullable Throwable ex) {
+        final CompletableFuture<T> output = outputs[next.getAndIncrement()];
+        if (ex == null) output.complete(value);
+        else output.completeExceptionally(ex);
+    }
+}
+
+/**
+ * Launcher of the multi-actions with bounded concurrency({@code mSupply*}/{@code mRun*} with {@code maxConcurrency},
+ * and {@code map*Async} with {@code parallelism}).
+ * <p>
+ * Keeps at most {@code maxConcurrency} tasks in flight(aka a sliding window): starts the first
+ * {@code maxConcurrency} tasks, and starts the next task when the cf of a started task completes and frees its slot.
+ * The returned cfs are in the <strong>same order</strong> of the given actions, so the multi-cf combinators
+ * applied on them keep their result order and fast-fail/most-success semantics.
+ * <p>
+ * The starts are drained by a work-in-progress counter instead of recursion, so a direct executor
+ * (running the task in the starting thread) does not deepen the call stack.
+ */
+final class BoundedConcurrencyLauncher implements BiConsumer<Object, Throwable> {
+    private final CompletableFuture<?>[] cfs;
+    private final IntConsumer starter;
+    private final AtomicInteger wip = new AtomicInteger();
+    // accessed only in the drain loop, which is serialized by wip
+    private int next;
+    private volatile boolean stopped;
+
+    /**
+     * @param starter starts the task of the given index, which completes the cf of the same index
+     */
+    private BoundedConcurrencyLauncher(CompletableFuture<?>[] cfs, IntConsumer starter) {
+        this.cfs = cfs;
+        this.starter = starter;
+    }
+
+    /**
+     * Supplies with at most {@code maxConcurrency} tasks in flight.
+     * <p>
+     * The suppliers not started yet are cancelled and never started once the result cf of the combinator
+     * completes(e.g. fast-fail, most-success timeout, or cancelled by the caller).
+     *
+     * @param combinator combines the supplied cfs in the same order of the suppliers to the result cf
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R> CompletableFuture<R> supply(
+            Executor executor, int maxConcurrency, Supplier<? extends T>[] suppliers,
+            Function<CompletableFuture<? extends T>[], CompletableFuture<R>> combinator) {
+        final CompletableFuture<T>[] cfs = new CompletableFuture[suppliers.length];
+        for (int i = 0; i < suppliers.length; i++) cfs[i] = new CompletableFuture<>();
+        return new BoundedConcurrencyLauncher(cfs, i -> executor.execute(new CfCompleterBySupplier<>(cfs[i], suppliers[i])))
+                .startUntilDone(combinator.apply(cfs), maxConcurrency);
+    }
+
+    /**
+     * The same as {@link #supply(Executor, int, Supplier[], Function)}, except that the thread running the supplier
+     * is interrupted when its cf is cancelled.
+     *
+     * @see InterruptibleSupplyTask
+     */
+    @SuppressWarnings("unchecked")
+    static <T, R> CompletableFuture<R> supplyInterruptibly(
+            Executor executor, int maxConcurrency, Supplier<? extends T>[] suppliers,
+            Function<CompletableFuture<? extends T>[], CompletableFuture<R>> combinator) {
+        final CompletableFuture<T>[] cfs = new CompletableFuture[suppliers.length];
+        for (int i = 0; i < suppliers.length; i++) cfs[i] = new CompletableFuture<>();
+        return new BoundedConcurrencyLauncher(cfs, i -> InterruptibleSupplyTask.start(executor, cfs[i], suppliers[i]))
+                .startUntilDone(combinator.apply(cfs), maxConcurrency);
+    }
+
+    /**
+     * The same as {@link #supply(Executor, int, Supplier[], Function)}, for the actions.
+     */
+    @SuppressWarnings("unchecked")
+    static <R> CompletableFuture<R> run(Executor executor, int maxConcurrency, Runnable[] actions,
+                                        Function<CompletableFuture<Void>[], CompletableFuture<R>> combinator) {
+        final CompletableFuture<Void>[] cfs = new CompletableFuture[actions.length];
+        for (int i = 0; i < actions.length; i++) cfs[i] = new CompletableFuture<>();
+        return new BoundedConcurrencyLauncher(cfs, i -> executor.execute(new CfCompleterBySupplier<>(cfs[i], () -> {
+            actions[i].run();
+            return null;
+        }))).startUntilDone(combinator.apply(cfs), maxConcurrency);
+    }
+
+    /**
+     * Maps the items by the async function with at most {@code parallelism} stages in flight;
+     * the function is called in the given executor, and the slot is freed when the returned stage completes.
+     * <p>
+     * The items not started yet are cancelled and never started once the result cf of the combinator
+     * completes(e.g. fast-fail, most-success timeout, or cancelled by the caller).
+     *
+     * @param combinator combines the mapped cfs in the same order of the items to the result cf
+     */
+    @SuppressWarnings("unchecked")
+    static <T, U, R> CompletableFuture<R> mapAsync(
+            Collection<? extends T> items, Function<? super T, ? extends CompletionStage<? extends U>> fn,
+            int parallelism, Executor executor, Function<CompletableFuture<U>[], CompletableFuture<R>> combinator) {
+        final Object[] itemArray = items.toArray();
+        final CompletableFuture<U>[] cfs = new CompletableFuture[itemArray.length];
+        for (int i = 0; i < itemArray.length; i++) cfs[i] = new CompletableFuture<>();
+        return new BoundedConcurrencyLauncher(cfs, i -> executor.execute(new MappingTask<>(cfs[i], (T) itemArray[i], fn)))
+                .startUntilDone(combinator.apply(cfs), parallelism);
+    }
+
+    /**
+     * Starts the tasks after hooking the result cf, so no task is started once the result cf completes.
+     */
+    private <R> CompletableFuture<R> startUntilDone(CompletableFuture<R> result, int maxConcurrency) {
+        result.whenComplete((v, ex) -> {
+            stopped = true;
+            // drain to cancel the tasks not started yet
+            releaseSlot();
+        });
+        start(maxConcurrency);
+        return result;
+    }
+
+    private void start(int maxConcurrency) {
+        // the slots more than the tasks start nothing, do not spin on them(e.g. Integer.MAX_VALUE)
+        final int slots = Math.min(maxConcurrency, cfs.length);
+        for (int i = 0; i < slots; i++) releaseSlot();
+    }
+
+    /**
+     * Frees the slot of the completed cf.
+     */
+    @Override
+    public void accept(@Nullable Object ignore, @Nullable Throwable ex) {
+        releaseSlot();
+    }
+
+    /**
+     * Each released slot starts exactly one next task, if any.
+     */
+    private void releaseSlot() {
+        if (wip.getAndIncrement() != 0) return;
+        do {
+            if (stopped) {
+                for (; next < cfs.length; next++) cfs[next].cancel(false);
+            } else if (next < cfs.length) {
+                startTask(next++);
+            }
+        } while (wip.decrementAndGet() != 0);
+    }
+
+    private void startTask(int index) {
+        final CompletableFuture<?> cf = cfs[index];
+        cf.whenComplete(this);
+        // cancelled before started(e.g. the stragglers when most-success timeout), do not submit a no-op task
+        if (cf.isDone()) return;
+        try {
+            starter.accept(index);
+        } catch (Throwable ex) {
+            // the rejected task never runs, so complete its cf to free its slot
+            cf.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Calls the async function in the executor, and relays the returned stage to the cf.
+     */
+    private static final class MappingTask<T, U> implements Runnable, CompletableFuture.AsynchronousCompletionTask {
+        private final CompletableFuture<U> cf;
+        @Nullable
+        private final T item;
+        private final Function<? super T, ? extends CompletionStage<? extends U>> fn;
+
+        MappingTask(CompletableFuture<U> cf, @Nullable T item,
+                    Function<? super T, ? extends CompletionStage<? extends U>> fn) {
+            this.cf = cf;
+            this.item = item;
+            this.fn = fn;
+        }
+
+        @Override
+        public void run() {
+            // cancelled before started
+            if (cf.isDone()) return;
+            try {
+                fn.apply(item).whenComplete((v, ex) -> {
+                    if (ex == null) cf.complete(v);
+                    else cf.completeExceptionally(ex);
+                });
+            } catch (Throwable ex) {
+                cf.completeExceptionally(ex);
+            }
+        }
+    }
+}
+
+/**
+ * The task completing the cf by the supplier, which interrupts the thread running the supplier
+ * when the cf is cancelled(e.g. the stragglers of {@code mSupplyMostSuccessWithCancellationAsync} when timeout);
+ * {@link CompletableFuture#cancel(boolean)} never interrupts, since the cf does not know the task completing it.
+ * <p>
+ * If the cf is cancelled before the task starts, the supplier is never called.
+ * The interrupt is delivered only while the supplier is running, and the interrupt status set by this task
+ * is cleared when the supplier returns, so it never leaks to the next task of the pooled thread.
+ */
+final class InterruptibleSupplyTask<T> implements Runnable, CompletableFuture.AsynchronousCompletionTask,
+        BiConsumer<Object, Throwable> {
+    private final CompletableFuture<T> cf;
+    private final Supplier<? extends T> supplier;
+    // guarded by this
+    @Nullable
+    private Thread runner;
+    // guarded by this
+    private boolean interrupted;
+
+    private InterruptibleSupplyTask(CompletableFuture<T> cf, Supplier<? extends T> supplier) {
+        this.cf = cf;
+        this.supplier = supplier;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> CompletableFuture<? extends T>[] supply(Executor executor, Supplier<? extends T>[] suppliers) {
+        final CompletableFuture<T>[] cfs = new CompletableFuture[suppliers.length];
+        for (int i = 0; i < suppliers.length; i++) {
+            cfs[i] = new CompletableFuture<>();
+            start(executor, cfs[i], suppliers[i]);
+        }
+        return cfs;
+    }
+
+    static <T> void start(Executor executor, CompletableFuture<T> cf, Supplier<? extends T> supplier) {
+        final InterruptibleSupplyTask<T> task = new InterruptibleSupplyTask<>(cf, supplier);
+        cf.whenComplete(task);
+        executor.execute(task);
+    }
+
+    @Override
+    public void run() {
+        synchronized (this) {
+            // cancelled before started
+            if (cf.isDone()) return;
+            runner = Thread.currentThread();
+        }
+        try {
+            cf.complete(supplier.get());
+        } catch (Throwable ex) {
+            cf.completeExceptionally(ex);
+        } finally {
+            final boolean clearInterrupt;
+            synchronized (this) {
+                runner = null;
+                clearInterrupt = interrupted;
+            }
+            if (clearInterrupt) Thread.interrupted();
+        }
+    }
+
+    /**
+     * Interrupts the running supplier when the cf is cancelled.
+     */
+    @Override
+    public void accept(@Nullable Object ignore, @Nullable Throwable ex) {
+        if (!cf.isCancelled()) return;
+        synchronized (this) {
+            if (runner == null) return;
+            interrupted = true;
+            runner.interrupt();
+        }
+    }
+}
+
+/**
+ * Completer of the multi-actions with chunked submission({@code mSupplyChunkedAsync}/{@code thenMApplyChunkedAsync}).
+ * <p>
+ * Groups the actions into chunks of consecutive indexes, and runs each chunk as ONE executor task,
+ * which computes its actions in order and writes the results into the result array by index;
+ * so there is no cf or executor queue operation per action. The result cf completes when all chunks complete;
+ * if any action failed, the result cf completes exceptionally with the exception of the
+ * <strong>first given</strong> failed action, the same behavior as {@code allResultsOf}.
+ *
+ * @param <R> the result type of the result cf
+ */
+final class ChunkedSupplyCompleter<R> {
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+    private final Object[] values;
+    private final IntFunction<?> action;
+    private final Function<Object[], ? extends R> finisher;
+    private final int chunkSize;
+    // the first exception of each chunk, the chunk runs its actions in index order
+    private final Throwable[] chunkExceptions;
+    private final AtomicInteger remaining;
+
+    private ChunkedSupplyCompleter(int size, int chunkSize, IntFunction<?> action,
+                                   Function<Object[], ? extends R> finisher) {
+        this.values = new Object[size];
+        this.action = action;
+        this.finisher = finisher;
+        this.chunkSize = chunkSize;
+        final int chunks = (int) ((size + (long) chunkSize - 1) / chunkSize);
+        this.chunkExceptions = new Throwable[chunks];
+        this.remaining = new AtomicInteger(chunks);
+    }
+
+    /**
+     * @param size      the count of actions
+     * @param chunkSize MUST be positive
+     * @param action    computes the result of the action of the given index
+     */
+    static <R> CompletableFuture<R> supplyChunked(Executor executor, int size, int chunkSize, IntFunction<?> action,
+                                                  Function<Object[], ? extends R> finisher) {
+        final ChunkedSupplyCompleter<R> completer = new ChunkedSupplyCompleter<>(size, chunkSize, action, finisher);
+        if (size == 0) completer.finish();
+        else for (int c = 0; c < completer.chunkExceptions.length; c++) executor.execute(completer.new Chunk(c));
+        return completer.result;
+    }
+
+    /**
+     * Sizes the chunks automatically from the parallelism of the executor: splits the actions into
+     * 4 times the parallelism chunks(instead of exactly parallelism chunks) for load balancing between workers.
+     */
+    static int autoChunkSize(Executor executor, int size) {
+        executor = InlineFirstExecutor.unwrap(executor);
+        final int parallelism = executor instanceof ForkJoinPool
+                ? ((ForkJoinPool) executor).getParallelism() : Runtime.getRuntime().availableProcessors();
+        final int chunks = Math.max(1, parallelism) * 4;
+        return Math.max(1, (size + chunks - 1) / chunks);
+    }
+
+    private void finish() {
+        for (Throwable ex : chunkExceptions) {
+            if (ex != null) {
+                result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(ex));
+                return;
+            }
+        }
+        try {
+            result.complete(finisher.apply(values));
+        } catch (Throwable t) {
+            result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(t));
+        }
+    }
+
+    private final class Chunk implements Runnable, CompletableFuture.AsynchronousCompletionTask {
+        private final int chunkIndex;
+
+        Chunk(int chunkIndex) {
+            this.chunkIndex = chunkIndex;
+        }
+
+        @Override
+        public void run() {
+            final int from = chunkIndex * chunkSize;
+            final int to = (int) Math.min(values.length, (long) from + chunkSize);
+            for (int i = from; i < to; i++) {
+                try {
+                    values[i] = action.apply(i);
+                } catch (Throwable ex) {
+                    if (chunkExceptions[chunkIndex] == null) chunkExceptions[chunkIndex] = ex;
+                }
+            }
+            // the atomic countdown also publishes the written values to the thread finishing the result cf
+            if (remaining.decrementAndGet() == 0) finish();
+        }
+    }
+}
+
+/**
+ * Completer of the primitive-specialized all-results combinators
+ * ({@code allIntResultsOf}/{@code allLongResultsOf}/{@code allDoubleResultsOf} and {@code mSupplyIntAsync} etc.).
+ * <p>
+ * Each input cf(or supplier task) writes its result into the primitive result array by index directly,
+ * so no boxed result list is built and copied; the completer counts down the remaining inputs,
+ * and completes the result cf with the array when the countdown reaches zero.
+ * If any input failed, the result cf completes exceptionally with the exception of the
+ * <strong>first given</strong> failed input, the same behavior as {@code allResultsOf}.
+ *
+ * @param <A> the primitive array type of the result cf
+ */
+final class PrimitiveResultsCompleter<A> {
+    private final CompletableFuture<A> result = new CompletableFuture<>();
+    private final A array;
+    private final AtomicInteger remaining;
+    // the first given failed input, guarded by this; only touched by the failed inputs
+    private int failedIndex = Integer.MAX_VALUE;
+    @Nullable
+    private Throwable failedEx;
+
+    private PrimitiveResultsCompleter(A array, int size) {
+        this.array = array;
+        this.remaining = new AtomicInteger(size);
+    }
+
+    /**
+     * @param css    MUST be non-empty and the same size as the array; the elements are null-checked before registering
+     * @param array  the primitive result array
+     * @param setter writes the (boxed) result of the input of the given index into the array,
+     *               e.g. throws NullPointerException for the {@code null} result
+     */
+    static <A> CompletableFuture<A> allOf(Collection<? extends CompletionStage<?>> css, A array,
+                                          ObjIntConsumer<Object> setter) {
+        MultiCfCompletionHelpers.requireCfsNonNull(css);
+        final int size = css.size();
+        final PrimitiveResultsCompleter<A> completer = new PrimitiveResultsCompleter<>(array, size);
+        int i = 0;
+        for (CompletionStage<?> s : css) {
+            final CompletableFuture<?> cf = CompletableFutureUtils.f_toCf(MultiCfCompletionHelpers.requireCfNonNull(s, i, size));
+            final int index = i++;
+            cf.whenComplete((v, ex) -> {
+                if (ex == null) {
+                    try {
+                        setter.accept(v, index);
+                    } catch (Throwable t) {
+                        ex = t;
+                    }
+                }
+                completer.done(index, ex);
+            });
+        }
+        MultiCfCompletionHelpers.checkSize(i, size);
+        return completer.result;
+    }
+
+    /**
+     * @param size   MUST be positive and the same size as the array
+     * @param array  the primitive result array
+     * @param action computes the result of the action of the given index, and writes it into the array
+     */
+    static <A> CompletableFuture<A> supply(Executor executor, int size, A array, IntConsumer action) {
+        final PrimitiveResultsCompleter<A> completer = new PrimitiveResultsCompleter<>(array, size);
+        for (int i = 0; i < size; i++) executor.execute(completer.new Task(i, action));
+        return completer.result;
+    }
+
+    private void done(int index, @Nullable Throwable ex) {
+        if (ex != null) {
+            synchronized (this) {
+                if (index < failedIndex) {
+                    failedIndex = index;
+                    failedEx = ex;
+                }
+            }
+        }
+        // the atomic countdown also publishes the written values to the thread completing the result cf
+        if (remaining.decrementAndGet() != 0) return;
+
+        final Throwable t;
+        synchronized (this) {
+            t = failedEx;
+        }
+        if (t == null) result.complete(array);
+        else result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(t));
+    }
+
+    private final class Task implements Runnable, CompletableFuture.AsynchronousCompletionTask {
+        private final int index;
+        private final IntConsumer action;
+
+        Task(int index, IntConsumer action) {
+            this.index = index;
+            this.action = action;
+        }
+
+        @Override
+        public void run() {
+            Throwable ex = null;
+            try {
+                action.accept(index);
+            } catch (Throwable t) {
+                ex = t;
+            }
+            done(index, ex);
+        }
+    }
+}
+
+/**
+ * Completer of the folding all-results combinators({@code allResultsReduceOf}/{@code allResultsCollectOf}).
+ * <p>
+ * Each input cf maps its result outside the lock, then folds the mapped value into the accumulation
+ * under the lock of the completer as it arrives; so the results are folded in the <strong>completion order</strong>,
+ * and no result is kept after folded. The completer counts down the remaining inputs, and completes the
+ * result cf with the finished accumulation when the countdown reaches zero.
+ * If any input failed(or the mapping/folding of its result threw), the later results are not folded any more,
+ * and the result cf completes exceptionally with the exception of the <strong>first given</strong> failed input,
+ * the same behavior as {@code allResultsOf}.
+ *
+ * @param <A> the accumulation type
+ * @param <R> the result type of the result cf
+ */
+final class FoldingCompleter<A, R> {
+    private final CompletableFuture<R> result = new CompletableFuture<>();
+    private final Function<Object, ?> mapper;
+    private final BiFunction<A, Object, A> folder;
+    private final Function<A, ? extends R> finisher;
+    private final AtomicInteger remaining;
+    // guarded by this
+    private A accumulation;
+    private int failedIndex = Integer.MAX_VALUE;
+    // written under the lock, volatile for skipping the mapping of the later results without the lock
+    @Nullable
+    private volatile Throwable failedEx;
+
+    private FoldingCompleter(int size, Function<Object, ?> mapper, A initial, BiFunction<A, Object, A> folder,
+                             Function<A, ? extends R> finisher) {
+        this.mapper = mapper;
+        this.folder = folder;
+        this.finisher = finisher;
+        this.remaining = new AtomicInteger(size);
+        this.accumulation = initial;
+    }
+
+    /**
+     * @param css    MUST be non-empty; the elements are null-checked before registering
+     * @param mapper maps the result of the input outside the lock, may run concurrently
+     * @param folder folds the mapped value into the accumulation under the lock
+     */
+    static <A, R> CompletableFuture<R> fold(Collection<? extends CompletionStage<?>> css,
+                                            Function<Object, ?> mapper, A initial, BiFunction<A, Object, A> folder,
+                                            Function<A, ? extends R> finisher) {
+        MultiCfCompletionHelpers.requireCfsNonNull(css);
+        final int size = css.size();
+        final FoldingCompleter<A, R> completer = new FoldingCompleter<>(size, mapper, initial, folder, finisher);
+        int i = 0;
+        for (CompletionStage<?> s : css) {
+            final CompletableFuture<?> cf = CompletableFutureUtils.f_toCf(MultiCfCompletionHelpers.requireCfNonNull(s, i, size));
+            final int index = i++;
+            cf.whenComplete((v, ex) -> completer.accept(index, v, ex));
+        }
+        MultiCfCompletionHelpers.checkSize(i, size);
+        return completer.result;
+    }
+
+    private void accept(int index, @Nullable Object value, @Nullable Throwable ex) {
+        if (ex == null && failedEx == null) {
+            try {
+                final Object mapped = mapper.apply(value);
+                synchronized (this) {
+                    if (failedEx == null) accumulation = folder.apply(accumulation, mapped);
+                }
+            } catch (Throwable t) {
+                ex = t;
+            }
+        }
+        if (ex != null) {
+            synchronized (this) {
+                if (index < failedIndex) {
+                    failedIndex = index;
+                    failedEx = ex;
+                }
+            }
+        }
+        if (remaining.decrementAndGet() != 0) return;
+
+        final Throwable t;
+        final A a;
+        synchronized (this) {
+            t = failedEx;
+            a = accumulation;
+        }
+        if (t != null) {
+            result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(t));
+            return;
+        }
+        try {
+            result.complete(finisher.apply(a));
+        } catch (Throwable e) {
+            result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(e));
+        }
+    }
+}
+
+/**
+ * The result list of the multi-cf combinators, a <strong>copy-on-write</strong> view of the result array.
+ * <p>
+ * Reads go to the result array directly, so the combinators hand over their result array
+ * without copying it into a new list; the first mutation copies the elements into an {@link ArrayList}
+ * and switches to it, so the list is still a normal modifiable list for application code.
+ * The result array MUST NOT be written after handed over.
+ *
+ * @param <T> the element type
+ */
+final class ResultArrayList<T> extends AbstractList<T> implements RandomAccess, Serializable {
+    private static final long serialVersionUID = 1L;
+
+    @Nullable
+    private Object[] array;
+    @Nullable
+    private ArrayList<T> copy;
+
+    ResultArrayList(Object[] array) {
+        this.array = array;
+    }
+
+    @Override
+    public int size() {
+        return array != null ? array.length : copy.size();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        return array != null ? (T) array[index] : copy.get(index);
+    }
+
+    @Override
+    public T set(int index, T element) {
+        return copy().set(index, element);
+    }
+
+    @Override
+    public void add(int index, T element) {
+        copy().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public T remove(int index) {
+        final T ret = copy().remove(index);
+        modCount++;
+        return ret;
+    }
+
+    @Override
+    public void clear() {
+        // drop the array instead of copying it, avoid the per-element removal of AbstractList#clear
+        if (copy == null) {
+            copy = new ArrayList<>();
+            array = null;
+        } else {
+            copy.clear();
+        }
+        modCount++;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        // one bulk removal(used by subList().clear()), instead of the per-element removal of AbstractList
+        copy().subList(fromIndex, toIndex).clear();
+        modCount++;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return array != null ? array.clone() : copy.toArray();
+    }
+
+    @SuppressWarnings("unchecked")
+    private ArrayList<T> copy() {
+        if (copy == null) {
+            copy = new ArrayList<>((List<T>) Arrays.asList(array));
+            array = null;
+        }
+        return copy;
+    }
+
+    /**
+     * Serialized as a normal {@link ArrayList}.
+     */
+    private Object writeReplace() {
+        return new ArrayList<>(this);
+    }
+}
+
+/**
+ * Completer of the hedged request({@code hedgedSupplyAsync}).
+ * <p>
+ * Starts the first attempt immediately, and launches another attempt each time {@code hedgeDelay} passes
+ * without a successful result, up to {@code maxHedges} extra attempts; a failed attempt launches the next attempt
+ * right away instead of waiting for the hedge delay. Each attempt is claimed by an atomic counter, so the timer
+ * of an attempt launched by a failure already does nothing when fired. The first successful attempt completes
+ * the result cf; when the result cf completes(including cancelled or completed by the caller),
+ * the pending timers and the remaining attempts are cancelled.
+ * If all attempts fail, the result cf completes exceptionally with the exception of the last failed attempt.
+ *
+ * @param <T> the result type of the result cf
+ */
+final class HedgedSupplyCompleter<T> implements BiConsumer<T, Throwable> {
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private final DelayTimer timer;
+    private final Supplier<? extends T> supplier;
+    private final long hedgeDelay;
+    private final TimeUnit unit;
+    private final int attempts;
+    private final Executor executor;
+    private final AtomicInteger launched = new AtomicInteger();
+    private final AtomicInteger failures = new AtomicInteger();
+
+    private HedgedSupplyCompleter(DelayTimer timer, Supplier<? extends T> supplier, long hedgeDelay, TimeUnit unit,
+                                  int maxHedges, Executor executor) {
+        this.timer = timer;
+        this.supplier = supplier;
+        this.hedgeDelay = hedgeDelay;
+        this.unit = unit;
+        this.attempts = maxHedges + 1;
+        this.executor = executor;
+    }
+
+    static <T> CompletableFuture<T> hedgedSupplyAsync(DelayTimer timer, Supplier<? extends T> supplier,
+                                                      long hedgeDelay, TimeUnit unit, int maxHedges, Executor executor) {
+        final HedgedSupplyCompleter<T> completer =
+                new HedgedSupplyCompleter<>(timer, supplier, hedgeDelay, unit, maxHedges, executor);
+        completer.launch(0);
+        return completer.result;
+    }
+
+    /**
+     * Launches the attempt of the given index if not launched yet; called by the caller thread(the first attempt)
+     * and the timer scheduled in the previous launch.
+     */
+    private void launch(int index) {
+        if (result.isDone() || !launched.compareAndSet(index, index + 1)) return;
+        start(index);
+    }
+
+    /**
+     * Launches the next attempt not launched yet, if any; called by the failed attempt.
+     */
+    private void launchNext() {
+        for (int index; (index = launched.get()) < attempts; ) {
+            if (result.isDone()) return;
+            if (launched.compareAndSet(index, index + 1)) {
+                start(index);
+                return;
+            }
+        }
+    }
+
+    private void start(int index) {
+        // schedule before the attempt starts, the attempt may fail and launch the next attempt at once
+        if (index + 1 < attempts) {
+            final Future<?> hedgeTimer = timer.schedule(() -> launch(index + 1), hedgeDelay, unit);
+            // cancel the pending timer on any completion of the result cf, not only on success
+            result.whenComplete((v, ex) -> hedgeTimer.cancel(false));
+        }
+
+        final CompletableFuture<? extends T> attempt;
+        try {
+            attempt = CompletableFuture.supplyAsync(supplier, executor);
+        } catch (Throwable ex) {
+            // the attempt rejected by the executor is counted as a failed attempt, otherwise the result cf
+            // never completes, since the launched attempt never fails; when launched by the timer,
+            // the exception would only be reported by the timer
+            accept(null, ex);
+            return;
+        }
+        // cancel the remaining attempt when decided, the task of the attempt not started yet will never run;
+        // if decided already, the attempt is cancelled immediately
+        result.whenComplete((v, ex) -> attempt.cancel(false));
+        attempt.whenComplete(this);
+    }
+
+    @Override
+    public void accept(@Nullable T value, @Nullable Throwable ex) {
+        // decided already, include the cancelled attempts by the decision
+        if (result.isDone()) return;
+
+        if (ex == null) result.complete(value);
+        else if (failures.incrementAndGet() == attempts) {
+            result.completeExceptionally(MultiCfCompletionHelpers.wrapCompletionException(ex));
+        } else {
+            // start the next attempt right away instead of waiting for the hedge delay
+            launchNext();
+        }
+    }
+}
+
+/**
+ * Listener of the input cfs of a combinator which may be decided before all inputs complete
+ * (fast-fail/any-success/quorum), until the result cf is decided(completed).
+ * <p>
+ * A plain {@code input.whenComplete(setter)} dependent stays on the stack of the input cf until the input completes;
+ * if the input cf is long-lived(e.g. a shared warm-up cf), the dependents of the decided combinators
+ * (and all the objects reachable from them) accumulate without bound. And the JDK offers no public way
+ * to unlink a live dependent, or to make it dead afterward.
+ * <p>
+ * So each incomplete input is listened via a {@code CompletableFuture.anyOf(input, gate)} relay with its own gate cf,
+ * and the gates are completed in one pass when the result cf is decided: the relay node on the losing input
+ * becomes dead, and is unlinked from the stack of the input by {@code CompletableFuture#cleanStack()},
+ * which {@code anyOf} triggers on the other input when one input completes.
+ * The gate is per input instead of the result cf shared by all relays: when an input completes first,
+ * the other relay source(the gate) is cleaned, and a shared source holding the N relay nodes
+ * would make the cleaning O(N) per input, O(N^2) in all.
+ * <p>
+ * The relay costs about 2x the time of a plain {@code whenComplete} dependent, and 160 more bytes
+ * per incomplete input(see {@code ListenUntilDecidedBenchmark}); with the result cf as the shared source,
+ * it was 6x the time for 256 inputs. So the relay is skipped when it is not needed: the completed inputs are
+ * listened by a plain {@code whenComplete} which fires at once and leaves nothing on the stack,
+ * and nothing is listened any more once the result cf is decided.
+ * <p>
+ * <strong>CAUTION:</strong> the setter is also called with {@code null} value and exception when the gate completes,
+ * after the result cf is decided; so the setter MUST ignore the call if the result cf is done.
+ * The exception passed to setter may be wrapped as {@link CompletionException} or not.
+ */
+final class UntilDecidedListener implements BiConsumer<Object, Throwable> {
+    private final CompletableFuture<?> result;
+    private final CompletableFuture<?>[] gates;
+    // accessed only in the listening thread, and in the releasing after listened all inputs
+    private int gateCount;
+
+    /**
+     * @param size the count of the inputs to listen
+     */
+    UntilDecidedListener(CompletableFuture<?> result, int size) {
+        this.result = result;
+        this.gates = new CompletableFuture[size];
+    }
+
+    void listen(CompletableFuture<?> input, BiConsumer<Object, Throwable> setter) {
+        // decided already(e.g. by a completed input listened before), the setter would ignore the call anyway
+        if (result.isDone()) return;
+        // the minimal-stage cf throws UnsupportedOperationException from isDone
+        if (!CompletableFutureUtils.isMinStageCf(input) && input.isDone()) {
+            input.whenComplete(setter);
+            return;
+        }
+        final CompletableFuture<Void> gate = new CompletableFuture<>();
+        gates[gateCount++] = gate;
+        CompletableFuture.anyOf(input, gate).whenComplete(setter);
+    }
+
+    /**
+     * Releases the relays when the result cf is decided; MUST be called after all inputs are listened.
+     */
+    void releaseWhenDecided() {
+        if (gateCount > 0) result.whenComplete(this);
+    }
+
+    @Override
+    public void accept(@Nullable Object value, @Nullable Throwable ex) {
+        for (int i = 0; i < gateCount; i++) gates[i].complete(null);
+    }
+}
+
+/**
+ * Utility methods shared by the multi-cf completers.
+ */
+final class MultiCfCompletionHelpers {
+    /**
+     * Cancels the input cfs not completed yet when the result cf is decided(completed, including cancelled),
+     * so the stragglers whose results are not needed any more stop consuming resources
+     * (e.g. the tasks of {@code supplyAsync} not started yet will never run).
+     * <p>
+     * The minimal-stage input cfs are skipped, since they are not cancellable.
+     */
+    static void cancelInputsWhenDecided(CompletableFuture<?> result, CompletableFuture<?>[] inputs) {
+        result.whenComplete((v, ex) -> {
+            // cancel in reverse order: the bounded-concurrency tasks start in index order, so the tasks not started
+            // yet are cancelled before the slot freed by a cancelled running task could start them
+            for (int i = inputs.length - 1; i >= 0; i--) {
+                final CompletableFuture<?> cf = inputs[i];
+                if (!cf.isDone() && !CompletableFutureUtils.isMinStageCf(cf)) cf.cancel(false);
+            }
+        });
+    }
+
+    /**
+     * Whether the given cf is completed successfully, so its result can be read by {@code join} without blocking.
+     */
+    static boolean isSuccessNow(CompletableFuture<?> cf) {
+        // the minimal-stage cf throws UnsupportedOperationException from the read methods
+        return !CompletableFutureUtils.isMinStageCf(cf) && cf.isDone() && !cf.isCompletedExceptionally();
+    }
+
+    /**
+     * Returns the cf of the given stage if its result can be read without copying(non-minimal-stage
+     * CompletableFuture/Cffu), otherwise {@code null}.
+     */
+    @Nullable
+    static CompletableFuture<?> readableCf(CompletionStage<?> s) {
+        if (!(s instanceof CompletableFuture) && !(s instanceof Cffu)) return null;
+        final CompletableFuture<?> cf = CompletableFutureUtils.f_toCf(s);
+        return CompletableFutureUtils.isMinStageCf(cf) ? null : cf;
+    }
+
+    /**
+     * Null-checks all the input stages of the collection before any dependent is registered on them,
+     * so a null element found partway does not leave the dependents registered on the earlier inputs.
+     * The collection is iterated again to register, without a copy to array.
+     */
+    static void requireCfsNonNull(Collection<? extends CompletionStage<?>> css) {
+        final int size = css.size();
+        int i = 0;
+        for (CompletionStage<?> s : css) requireCfNonNull(s, i++, size);
+        checkSize(i, size);
+    }
+
+    /**
+     * Null-checks the input stage of the given index while iterating the input collection;
+     * also detects the concurrent modification of the input collection with {@link #checkSize}.
+     */
+    static <S extends CompletionStage<?>> S requireCfNonNull(@Nullable S s, int index, int size) {
+        // build the message only when failed, avoid the string concatenation per element
+        if (s == null) throw new NullPointerException("cf" + (index + 1) + " is null");
+        if (index >= size) throw new ConcurrentModificationException("the input collection is modified");
+        return s;
+    }
+
+    static void checkSize(int iteratedCount, int size) {
+        if (iteratedCount != size) throw new ConcurrentModificationException("the input collection is modified");
+    }
+
+    /**
+     * Wraps the exception as {@link CompletionException} if not already,
+     * the same behavior as the exception propagation of {@link CompletableFuture} dependents.
+     * <p>
+     * code is copied from {@code CompletableFuture#encodeThrowable(Throwable)} with small adoption.
+     */
+    @SuppressWarnings("JavadocReference")
+    static Throwable wrapCompletionException(Throwable ex) {
+        return (ex instanceof CompletionException) ? ex : new CompletionException(ex);
+    }
+
+    private MultiCfCompletionHelpers() {
+    }
+}
@@ -0,0 +1,45 @@
+package io.foldright.cffu.spi;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import io.foldright.cffu.CffuFactoryBuilder;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * The timer of the timeout and delay methods of {@link io.foldright.cffu.CffuFactory CffuFactory}/
+ * {@link io.foldright.cffu.Cffu Cffu}(e.g. {@code orTimeout}/{@code completeOnTimeout}/{@code delayedExecutor}),
+ * used only for starting and cancelling the delayed tasks.
+ * <p>
+ * The delayed tasks given to the timer are short and non-blocking(e.g. completing a cf with TimeoutException),
+ * so they can run in the timer thread directly. When the timeout fires, the safe timeout methods
+ * (e.g. {@code Cffu#orTimeout}) hop the subsequent actions off the timer thread detected by
+ * {@link #atTimerThread()}, so the timer thread is not blocked by the subsequent actions.
+ * <p>
+ * Implement it to share the timer of the application(e.g. the timer of an event loop),
+ * or to supply a virtual-time timer for the deterministic tests.
+ *
+ * @see CffuFactoryBuilder#timer(DelayTimer)
+ * @see TimerProvider
+ */
+@FunctionalInterface
+public interface DelayTimer {
+    /**
+     * Schedules the task to run once after the given delay(or no delay if non-positive).
+     *
+     * @return a Future that can be used to cancel the delayed task
+     */
+    @NonNull
+    Future<?> schedule(@NonNull Runnable task, long delay, @NonNull TimeUnit unit);
+
+    /**
+     * Checks whether execution is at the thread of this timer running the delayed tasks.
+     * <p>
+     * Default returns {@code false}, then the safe timeout methods do not hop off the timer thread;
+     * implement it if the delayed tasks run in the dedicated timer thread.
+     */
+    default boolean atTimerThread() {
+        return false;
+    }
+}
@@ -0,0 +1,28 @@
+package io.foldright.cffu.spi;
+
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.foldright.cffu.CffuFactory;
+import io.foldright.cffu.CffuFactoryBuilder;
+
+import java.util.concurrent.Executor;
+
+
+/**
+ * An SPI for providing the {@link DelayTimer} when {@link CffuFactoryBuilder}
+ * {@link CffuFactoryBuilder#build() build} {@link CffuFactory}.
+ * <p>
+ * The providers are loaded by {@link java.util.ServiceLoader}; the first non-null timer of the providers is used,
+ * unless the timer is set by {@link CffuFactoryBuilder#timer(DelayTimer)}.
+ *
+ * @see CffuFactory#builder(Executor)
+ * @see CffuFactoryBuilder#build()
+ */
+@FunctionalInterface
+public interface TimerProvider {
+    /**
+     * Returns the timer of the built {@link CffuFactory}, or {@code null} to leave the choice
+     * to the next provider(the builtin timer if none).
+     */
+    @Nullable
+    DelayTimer timer();
+}
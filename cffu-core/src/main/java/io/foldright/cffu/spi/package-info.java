@@ -2,5 +2,7 @@
  * Cffu {@code SPI} interfaces.
  *
  * @see io.foldright.cffu.spi.ExecutorWrapperProvider
+ * @see io.foldright.cffu.spi.TimerProvider
+ * @see io.foldright.cffu.spi.DelayTimer
  */
 package io.foldright.cffu.spi;
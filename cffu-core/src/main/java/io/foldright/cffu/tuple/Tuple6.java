@@ -0,0 +1,51 @@
+package io.foldright.cffu.tuple;
+
+import java.util.Objects;
+
+
+/**
+ * Tuple6, contains 6 elements.
+ *
+ * @author Jerry Lee (oldratlee at gmail dot com)
+ */
+public final class Tuple6<T1, T2, T3, T4, T5, T6> {
+    public final T1 _1;
+    public final T2 _2;
+    public final T3 _3;
+    public final T4 _4;
+    public final T5 _5;
+    public final T6 _6;
+
+    public static <T1, T2, T3, T4, T5, T6> Tuple6<T1, T2, T3, T4, T5, T6> of(T1 _1, T2 _2, T3 _3, T4 _4, T5 _5, T6 _6) {
+        return new Tuple6<>(_1, _2, _3, _4, _5, _6);
+    }
+
+    private Tuple6(T1 _1, T2 _2, T3 _3, T4 _4, T5 _5, T6 _6) {
+        this._1 = _1;
+        this._2 = _2;
+        this._3 = _3;
+        this._4 = _4;
+        this._5 = _5;
+        this._6 = _6;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Tuple6<?, ?, ?, ?, ?, ?> tuple6 = (Tuple6<?, ?, ?, ?, ?, ?>) o;
+        return Objects.equals(_1, tuple6._1) && Objects.equals(_2, tuple6._2)
+                && Objects.equals(_3, tuple6._3) && Objects.equals(_4, tuple6._4)
+                && Objects.equals(_5, tuple6._5) && Objects.equals(_6, tuple6._6);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(_1, _2, _3, _4, _5, _6);
+    }
+
+    @Override
+    public String toString() {
+        return "Tuple6(" + _1 + ", " + _2 + ", " + _3 + ", " + _4 + ", " + _5 + ", " + _6 + ')';
+    }
+}
@@ -6,5 +6,8 @@
  * @see io.foldright.cffu.tuple.Tuple3
  * @see io.foldright.cffu.tuple.Tuple4
  * @see io.foldright.cffu.tuple.Tuple5
+ * @see io.foldright.cffu.tuple.Tuple6
+ * @see io.foldright.cffu.tuple.Tuple7
+ * @see io.foldright.cffu.tuple.Tuple8
  */
 package io.foldright.cffu.tuple;
@@ -1,9 +1,13 @@
 package io.foldright.cffu;
 
+import io.foldright.cffu.spi.DelayTimer;
 import io.foldright.cffu.tuple.Tuple2;
 import io.foldright.cffu.tuple.Tuple3;
 import io.foldright.cffu.tuple.Tuple4;
 import io.foldright.cffu.tuple.Tuple5;
+import io.foldright.cffu.tuple.Tuple6;
+import io.foldright.cffu.tuple.Tuple7;
+import io.foldright.cffu.tuple.Tuple8;
 import io.foldright.test_utils.TestThreadPoolManager;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
@@ -11,11 +15,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.EnabledForJreRange;
 import org.junit.jupiter.api.condition.JRE;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.*;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import static io.foldright.cffu.CompletableFutureUtils.failedFuture;
 import static io.foldright.cffu.CompletableFutureUtils.toCompletableFutureArray;
@@ -111,6 +118,22 @@ class CffuFactoryTest {
         }
     }
 
+    @Test
+    void test_mapAsync() throws Exception {
+        final List<Integer> items = Arrays.asList(1, 2, 3);
+        final Function<Integer, CompletableFuture<Integer>> fn = i -> CompletableFuture.supplyAsync(() -> i * 10);
+        final List<Integer> expected = Arrays.asList(10, 20, 30);
+
+        assertEquals(expected, cffuFactory.mapAsync(items, fn, 2).get());
+        assertEquals(expected, cffuFactory.mapAsync(items, fn, 2, commonPool()).get());
+        assertEquals(expected, cffuFactory.mapFastFailAsync(items, fn, 2).get());
+        assertEquals(expected, cffuFactory.mapFastFailAsync(items, fn, 2, commonPool()).get());
+        assertEquals(expected, cffuFactory.mapAllSuccessAsync(null, items, fn, 2).get());
+        assertEquals(expected, cffuFactory.mapAllSuccessAsync(null, items, fn, 2, commonPool()).get());
+        assertEquals(expected, cffuFactory.mapMostSuccessAsync(null, 1, TimeUnit.SECONDS, items, fn, 2).get());
+        assertEquals(expected, cffuFactory.mapMostSuccessAsync(null, 1, TimeUnit.SECONDS, items, fn, 2, commonPool()).get());
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////
     // region## Tuple-Multi-Actions(tupleM*) Methods(create by actions)
@@ -166,6 +189,13 @@ class CffuFactoryTest {
         assertEquals(Tuple4.of(n, s, d, anotherN), cffuFactory.tupleMSupplyAsync(executorService, supplier_n, supplier_s, supplier_d, supplier_an).get());
         assertEquals(Tuple5.of(n, s, d, anotherN, n + n), cffuFactory.tupleMSupplyAsync(supplier_n, supplier_s, supplier_d, supplier_an, supplier_nn).get());
         assertEquals(Tuple5.of(n, s, d, anotherN, n + n), cffuFactory.tupleMSupplyAsync(executorService, supplier_n, supplier_s, supplier_d, supplier_an, supplier_nn).get());
+        assertEquals(Tuple6.of(n, s, d, anotherN, n + n, n), cffuFactory.tupleMSupplyAsync(supplier_n, supplier_s, supplier_d, supplier_an, supplier_nn, supplier_n).get());
+        assertEquals(Tuple7.of(n, s, d, anotherN, n + n, n, s), cffuFactory.tupleMSupplyFastFailAsync(executorService, supplier_n, supplier_s, supplier_d, supplier_an, supplier_nn, supplier_n, supplier_s).get());
+        assertEquals(Tuple8.of(n, s, d, anotherN, n + n, n, s, d), cffuFactory.tupleMSupplyAllSuccessAsync(supplier_n, supplier_s, supplier_d, supplier_an, supplier_nn, supplier_n, supplier_s, supplier_d).get());
+        assertEquals(Tuple8.of(n, s, d, anotherN, n + n, n, s, d), cffuFactory.allTupleOf(
+                completedFuture(n), completedFuture(s), completedFuture(d), completedFuture(anotherN),
+                completedFuture(n + n), completedFuture(n), completedFuture(s), cffuFactory.completedFuture(d)
+        ).get());
     }
 
     @Test
@@ -287,6 +317,221 @@ class CffuFactoryTest {
         cffuFactory.allFastFailOf(cffuFactory.completedFuture(anotherN)).get();
     }
 
+    @Test
+    void test_allOf_anyOf_collection() throws Exception {
+        final List<Cffu<Integer>> cffus = Arrays.asList(cffuFactory.completedFuture(n), cffuFactory.completedFuture(anotherN));
+
+        assertEquals(Arrays.asList(n, anotherN), cffuFactory.allResultsOf(cffus).get());
+        assertEquals(Arrays.asList(n, anotherN), cffuFactory.allResultsFastFailOf(cffus).get());
+        assertEquals(Arrays.asList(n, anotherN), cffuFactory.allSuccessResultsOf(null, cffus).get());
+        assertEquals(Arrays.asList(n, anotherN), cffuFactory.mostSuccessResultsOf(null, 10, TimeUnit.MILLISECONDS, cffus).get());
+        assertNull(cffuFactory.allOf(cffus).get());
+        assertNull(cffuFactory.allFastFailOf(cffus).get());
+        assertEquals(n, cffuFactory.anySuccessOf(cffus).get());
+        assertEquals(n, cffuFactory.anyOf(cffus).get());
+    }
+
+    @Test
+    void test_mSupply_mRun_maxConcurrency() throws Exception {
+        assertEquals(Arrays.asList(n, anotherN, n), cffuFactory.mSupplyAsync(commonPool(), 2, () -> n, () -> anotherN, () -> n).get());
+        assertEquals(Arrays.asList(n, anotherN), cffuFactory.mSupplyFastFailAsync(commonPool(), 1, () -> n, () -> anotherN).get());
+        assertEquals(Arrays.asList(n, anotherN), cffuFactory.mSupplyAllSuccessAsync(null, commonPool(), 1, () -> n, () -> anotherN).get());
+        assertEquals(Arrays.asList(n, anotherN), cffuFactory.mSupplyMostSuccessAsync(
+                null, commonPool(), 1, 1, TimeUnit.SECONDS, () -> n, () -> anotherN).get());
+        assertNull(cffuFactory.mRunAsync(commonPool(), 1, () -> {}, () -> {}).get());
+        assertNull(cffuFactory.mRunFastFailAsync(commonPool(), 1, () -> {}, () -> {}).get());
+    }
+
+    @Test
+    void test_mSupplyChunkedAsync() throws Exception {
+        assertEquals(Arrays.asList(n, anotherN, n), cffuFactory.mSupplyChunkedAsync(() -> n, () -> anotherN, () -> n).get());
+        assertEquals(Arrays.asList(n, anotherN), cffuFactory.mSupplyChunkedAsync(commonPool(), () -> n, () -> anotherN).get());
+        assertEquals(Arrays.asList(n, anotherN), cffuFactory.mSupplyChunkedAsync(commonPool(), 2, () -> n, () -> anotherN).get());
+    }
+
+    @Test
+    void test_primitiveResults() throws Exception {
+        assertArrayEquals(new int[]{n, anotherN}, cffuFactory.mSupplyIntAsync(() -> n, () -> anotherN).get());
+        assertArrayEquals(new int[]{n}, cffuFactory.mSupplyIntAsync(commonPool(), () -> n).get());
+        assertArrayEquals(new long[]{1, 2}, cffuFactory.mSupplyLongAsync(() -> 1, () -> 2).get());
+        assertArrayEquals(new long[]{1}, cffuFactory.mSupplyLongAsync(commonPool(), () -> 1).get());
+        assertArrayEquals(new double[]{0.5}, cffuFactory.mSupplyDoubleAsync(() -> 0.5).get());
+        assertArrayEquals(new double[]{0.5}, cffuFactory.mSupplyDoubleAsync(commonPool(), () -> 0.5).get());
+
+        assertArrayEquals(new int[]{n, anotherN}, cffuFactory.allIntResultsOf(completedFuture(n), cffuFactory.completedFuture(anotherN)).get());
+        assertArrayEquals(new int[]{n}, cffuFactory.allIntResultsOf(Collections.singletonList(completedFuture(n))).get());
+        assertArrayEquals(new long[]{1}, cffuFactory.allLongResultsOf(completedFuture(1L)).get());
+        assertArrayEquals(new long[]{1}, cffuFactory.allLongResultsOf(Collections.singletonList(completedFuture(1L))).get());
+        assertArrayEquals(new double[]{0.5}, cffuFactory.allDoubleResultsOf(completedFuture(0.5)).get());
+        assertArrayEquals(new double[]{0.5}, cffuFactory.allDoubleResultsOf(Collections.singletonList(completedFuture(0.5))).get());
+    }
+
+    @Test
+    void test_allResultsReduceOf_allResultsCollectOf() throws Exception {
+        assertEquals(n + anotherN, cffuFactory.allResultsReduceOf(0, Integer::sum, Integer::sum,
+                completedFuture(n), cffuFactory.completedFuture(anotherN)).get());
+        assertEquals(n, cffuFactory.allResultsReduceOf(0, Integer::sum, Integer::sum,
+                Collections.singletonList(completedFuture(n))).get());
+        assertEquals(Arrays.asList(n, anotherN), cffuFactory.allResultsCollectOf(Collectors.toList(),
+                completedFuture(n), cffuFactory.completedFuture(anotherN)).get());
+        assertEquals(Collections.singletonList(n), cffuFactory.allResultsCollectOf(Collectors.toList(),
+                Collections.singletonList(completedFuture(n))).get());
+    }
+
+    @Test
+    void test_hedgedSupplyAsync() throws Exception {
+        final Cffu<Integer> cf = cffuFactory.hedgedSupplyAsync(() -> n, 10, TimeUnit.MILLISECONDS, 1);
+        assertEquals(n, cf.get());
+        assertSame(cffuFactory, cf.cffuFactory());
+    }
+
+    @Test
+    void test_nSuccessOf() throws Exception {
+        final CompletableFuture<Integer> straggler = new CompletableFuture<>();
+        assertEquals(Collections.singletonList(n), cffuFactory.nSuccessOf(1, straggler, cffuFactory.completedFuture(n)).get());
+        assertFalse(straggler.isDone());
+        assertEquals(Collections.singletonList(n), cffuFactory.nSuccessOfWithCancellation(1, Arrays.asList(straggler, completedFuture(n))).get());
+        assertTrue(straggler.isCancelled());
+
+        assertEquals(Arrays.asList(n, n), cffuFactory.mSupplyQuorumAsync(2, () -> n, () -> n, () -> n).get());
+        assertEquals(Arrays.asList(n, n), cffuFactory.mSupplyQuorumWithCancellationAsync(2, () -> n, () -> n).get());
+    }
+
+    @Test
+    void test_propagateCancellation() throws Exception {
+        assertFalse(cffuFactory.propagateCancellation());
+        CompletableFuture<Integer> straggler = new CompletableFuture<>();
+        assertEquals(n, cffuFactory.anySuccessOf(straggler, completedFuture(n)).get());
+        assertFalse(straggler.isDone());
+        assertEquals(n, cffuFactory.anySuccessOfWithCancellation(straggler, completedFuture(n)).get());
+        assertTrue(straggler.isCancelled());
+
+        final CffuFactory factory = CffuFactory.builder(cffuFactory.defaultExecutor()).propagateCancellation(true).build();
+        assertTrue(factory.propagateCancellation());
+
+        straggler = new CompletableFuture<>();
+        assertEquals(n, factory.anySuccessOf(Arrays.asList(straggler, completedFuture(n))).get());
+        assertTrue(straggler.isCancelled());
+
+        straggler = new CompletableFuture<>();
+        final Cffu<List<Integer>> fastFail = factory.allResultsFastFailOf(straggler, failedFuture(rte));
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, fastFail::get).getCause());
+        assertTrue(straggler.isCancelled());
+
+        straggler = new CompletableFuture<>();
+        final Cffu<List<Integer>> most = factory.mostSuccessResultsOf(null, 1, TimeUnit.DAYS, straggler, completedFuture(n));
+        most.cancel(false);
+        assertTrue(straggler.isCancelled());
+
+        final CompletableFuture<Integer> blocker = new CompletableFuture<>();
+        assertEquals(Arrays.asList(n, null), factory.mSupplyMostSuccessAsync(
+                null, 10, TimeUnit.MILLISECONDS, () -> n, blocker::join).get());
+        assertEquals(Tuple2.of(n, null), factory.tupleMSupplyMostSuccessAsync(
+                10, TimeUnit.MILLISECONDS, () -> n, blocker::join).get());
+        assertEquals(Arrays.asList(n, null), cffuFactory.mSupplyMostSuccessWithCancellationAsync(
+                null, 10, TimeUnit.MILLISECONDS, () -> n, blocker::join).get());
+        blocker.complete(n);
+
+        assertEquals(Arrays.asList(n, anotherN), factory.mSupplyFastFailAsync(() -> n, () -> anotherN).get());
+        assertEquals(Arrays.asList(n, anotherN), cffuFactory.mSupplyFastFailWithCancellationAsync(() -> n, () -> anotherN).get());
+        assertEquals(Collections.singletonList(n), cffuFactory.allResultsFastFailOfWithCancellation(
+                Collections.singletonList(completedFuture(n))).get());
+        assertEquals(Collections.singletonList(n), cffuFactory.mostSuccessResultsOfWithCancellation(
+                null, 1, TimeUnit.SECONDS, Collections.singletonList(completedFuture(n))).get());
+    }
+
+    @Test
+    void test_inlineFirst() throws Exception {
+        final CffuFactory factory = CffuFactory.builder(cffuFactory.defaultExecutor()).inlineFirst(true).build();
+        final Thread caller = Thread.currentThread();
+
+        final List<Thread> threads = factory.mSupplyAsync(Thread::currentThread, Thread::currentThread).get();
+        assertSame(caller, threads.get(0));
+        assertNotSame(caller, threads.get(1));
+        assertNotSame(caller, factory.supplyAsync(Thread::currentThread).get());
+
+        final List<Thread> notInline = cffuFactory.mSupplyAsync(Thread::currentThread, Thread::currentThread).get();
+        assertNotSame(caller, notInline.get(0));
+        // the explicit executor is not affected
+        assertNotSame(caller, factory.mSupplyAsync(executorService, Thread::currentThread, Thread::currentThread).get().get(0));
+
+        // the default executor is still the given executor, not the inline-first marker
+        assertTrue(factory.inlineFirst());
+        assertFalse(cffuFactory.inlineFirst());
+        assertSame(cffuFactory.defaultExecutor(), factory.defaultExecutor());
+        // no nested marker when built from the marker
+        final Executor marker = CompletableFutureUtils.inlineFirstExecutor(executorService);
+        assertSame(marker, CffuFactory.builder(marker).inlineFirst(true).build().multiActionsExecutor());
+    }
+
+    @Test
+    void test_hashedWheelTimer() throws Exception {
+        assertNull(cffuFactory.timer());
+        final CffuFactory factory = CffuFactory.builder(cffuFactory.defaultExecutor()).timer(HashedWheelTimer.shared()).build();
+        assertSame(HashedWheelTimer.shared(), factory.timer());
+
+        assertEquals(HashedWheelTimer.THREAD_NAME, factory.newIncompleteCffu().unsafeOrTimeout(100, TimeUnit.MILLISECONDS)
+                .handle((v, ex) -> Thread.currentThread().getName()).get());
+
+        assertInstanceOf(TimeoutException.class, assertThrowsExactly(ExecutionException.class, () ->
+                factory.newIncompleteCffu().orTimeout(1, TimeUnit.MILLISECONDS).get()).getCause());
+        assertEquals(n, factory.<Integer>newIncompleteCffu().completeOnTimeout(n, 1, TimeUnit.MILLISECONDS).get());
+        assertEquals(n, factory.<Integer>newIncompleteCffu().unsafeCompleteOnTimeout(n, 1, TimeUnit.MILLISECONDS).get());
+        assertEquals(n, factory.runAsync(() -> {
+        }, factory.delayedExecutor(1, TimeUnit.MILLISECONDS)).thenApply(v -> n).get());
+        assertEquals(n, factory.hedgedSupplyAsync(() -> n, 1, TimeUnit.MILLISECONDS, 1).get());
+    }
+
+    @Test
+    void test_mostSuccess_timer() throws Exception {
+        // the manual timer fires the timeouts only when advanced
+        final List<FutureTask<Void>> pending = new CopyOnWriteArrayList<>();
+        final DelayTimer manualTimer = (task, delay, unit) -> {
+            final FutureTask<Void> f = new FutureTask<>(task, null);
+            pending.add(f);
+            return f;
+        };
+        final Runnable advance = () -> {
+            for (FutureTask<Void> f : pending) f.run();
+            pending.clear();
+        };
+        final CffuFactory factory = CffuFactory.builder(cffuFactory.defaultExecutor()).timer(manualTimer).build();
+
+        final Cffu<List<Integer>> results = factory.mostSuccessResultsOf(
+                anotherN, 1, TimeUnit.DAYS, completedFuture(n), new CompletableFuture<Integer>());
+        final Cffu<Tuple2<Integer, String>> tuple = factory.mostSuccessTupleOf(
+                1, TimeUnit.DAYS, completedFuture(n), new CompletableFuture<String>());
+        final CompletableFuture<Integer> blocker = new CompletableFuture<>();
+        final Cffu<List<Integer>> supplied = factory.mSupplyMostSuccessAsync(
+                anotherN, 1, TimeUnit.DAYS, () -> n, blocker::join);
+        assertEquals(3, pending.size());
+        sleep(100);
+        assertFalse(results.isDone());
+        assertFalse(tuple.isDone());
+        assertFalse(supplied.isDone());
+
+        advance.run();
+        assertEquals(Arrays.asList(n, anotherN), results.get());
+        assertEquals(Tuple2.of(n, null), tuple.get());
+        assertEquals(Arrays.asList(n, anotherN), supplied.get());
+        blocker.complete(n);
+    }
+
+    @Test
+    void test_completionOrder() throws Exception {
+        final CompletableFuture<Integer> incomplete = new CompletableFuture<>();
+        final List<Cffu<Integer>> ordered = cffuFactory.completionOrder(incomplete, cffuFactory.completedFuture(n));
+        assertEquals(n, ordered.get(0).get());
+        assertSame(cffuFactory, ordered.get(0).cffuFactory());
+        incomplete.complete(anotherN);
+        assertEquals(anotherN, ordered.get(1).get());
+
+        final List<Integer> delivered = new ArrayList<>();
+        assertNull(cffuFactory.forEachInCompletionOrder((Integer r, Throwable ex) -> delivered.add(r),
+                Arrays.asList(completedFuture(n), completedFuture(anotherN))).get());
+        assertEquals(Arrays.asList(n, anotherN), delivered);
+    }
+
     @Test
     void test_allOf_exceptionally() throws Exception {
         assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
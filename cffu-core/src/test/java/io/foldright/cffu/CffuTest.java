@@ -70,7 +70,10 @@ class CffuTest {
                 completed.thenMApplyMostSuccessAsync(100, 500, TimeUnit.MILLISECONDS, function_n, function_n),
                 completed.thenMApplyMostSuccessAsync(100, executorService, 500, TimeUnit.MILLISECONDS, function_n, function_n),
                 completed.thenMApplyAsync(function_n, function_n),
-                completed.thenMApplyAsync(executorService, function_n, function_n)
+                completed.thenMApplyAsync(executorService, function_n, function_n),
+                completed.thenMApplyChunkedAsync(function_n, function_n),
+                completed.thenMApplyChunkedAsync(executorService, function_n, function_n),
+                completed.thenMApplyChunkedAsync(executorService, 2, function_n, function_n)
         };
 
         assertTrue(System.currentTimeMillis() - tick < 50);
@@ -334,6 +337,52 @@ class CffuTest {
                 anotherN, 1, TimeUnit.MILLISECONDS).get());
     }
 
+    @Test
+    void test_deadline() throws Exception {
+        assertNull(cffuFactory.deadline());
+        final Cffu<Integer> noDeadline = cffuFactory.newIncompleteCffu();
+        assertNull(noDeadline.deadline());
+        assertSame(noDeadline, noDeadline.orDeadline());
+
+        // the deadline is inherited by the dependent cffus and the factory of them, and never extended
+        final Deadline deadline = Deadline.after(100, TimeUnit.MILLISECONDS);
+        final Cffu<Integer> cf = cffuFactory.<Integer>newIncompleteCffu().withDeadline(deadline);
+        assertSame(deadline, cf.deadline());
+        assertSame(deadline, cf.thenApplyAsync(identity()).deadline());
+        assertSame(deadline, cf.thenCompose(v -> cffuFactory.completedFuture(v)).deadline());
+        assertSame(deadline, cf.thenMApplyFastFailAsync(identity()).deadline());
+        assertSame(deadline, cf.cffuFactory().mSupplyAsync(() -> n).deadline());
+        assertSame(deadline, cf.withDeadline(1, TimeUnit.DAYS).deadline());
+        assertSame(cf.cffuFactory(), cf.cffuFactory().withDeadline(1, TimeUnit.DAYS));
+        final Deadline earlier = Deadline.after(-1, TimeUnit.MILLISECONDS);
+        assertSame(earlier, cf.withDeadline(earlier).deadline());
+        assertSame(cffuFactory.defaultExecutor(), cf.cffuFactory().defaultExecutor());
+
+        // the timeout methods use the remaining budget(on the copies, since the timeout methods complete the input)
+        final long start = System.nanoTime();
+        assertInstanceOf(TimeoutException.class, assertThrowsExactly(ExecutionException.class, () ->
+                cf.copy().orTimeout(1, TimeUnit.DAYS).get()).getCause());
+        assertTrue(System.nanoTime() - start < TimeUnit.DAYS.toNanos(1));
+        assertInstanceOf(TimeoutException.class, assertThrowsExactly(ExecutionException.class, () ->
+                cf.thenApplyAsync(identity()).orDeadline().get()).getCause());
+        assertInstanceOf(TimeoutException.class, assertThrowsExactly(CompletionException.class, () ->
+                cf.join(1, TimeUnit.DAYS)).getCause());
+        assertThrowsExactly(TimeoutException.class, () -> cf.get(1, TimeUnit.DAYS));
+        assertEquals(n, cf.copy().completeOnTimeout(n, 1, TimeUnit.DAYS).get());
+        assertEquals(Arrays.asList(null, n), cf.cffuFactory().mostSuccessResultsOf(
+                null, 1, TimeUnit.DAYS, cf, cffuFactory.completedFuture(n)).get());
+        assertEquals(Arrays.asList(n, null), cffuFactory.completedFuture(n).withDeadline(deadline)
+                .thenMApplyMostSuccessAsync(null, 1, TimeUnit.DAYS, identity(), v -> cf.join()).get());
+
+        cf.complete(anotherN);
+        assertEquals(anotherN, cf.orDeadline().get());
+        assertTrue(deadline.isExpired());
+        assertTrue(deadline.remaining(TimeUnit.MILLISECONDS) <= 0);
+        assertFalse(Deadline.after(Long.MAX_VALUE, TimeUnit.DAYS).isExpired());
+        assertSame(earlier, deadline.min(earlier));
+        assertSame(earlier, earlier.min(deadline));
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////////////////////////
     // region# Advanced Methods(compose* and handle-like methods)
@@ -1,25 +1,41 @@
 package io.foldright.cffu;
 
+import io.foldright.cffu.spi.DelayTimer;
 import io.foldright.cffu.tuple.Tuple2;
 import io.foldright.cffu.tuple.Tuple3;
 import io.foldright.cffu.tuple.Tuple4;
 import io.foldright.cffu.tuple.Tuple5;
+import io.foldright.cffu.tuple.Tuple6;
+import io.foldright.cffu.tuple.Tuple7;
+import io.foldright.cffu.tuple.Tuple8;
 import io.foldright.test_utils.TestThreadPoolManager;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.LongSupplier;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import static io.foldright.cffu.CompletableFutureUtils.*;
 import static io.foldright.test_utils.TestUtils.*;
@@ -59,6 +75,13 @@ class CompletableFutureUtilsTest {
                 mSupplyMostSuccessAsync(anotherN, executorService, 500, TimeUnit.MILLISECONDS, supplier, supplier),
                 mSupplyAsync(supplier, supplier),
                 mSupplyAsync(executorService, supplier, supplier),
+                mSupplyChunkedAsync(supplier, supplier),
+                mSupplyChunkedAsync(executorService, supplier, supplier),
+                mSupplyChunkedAsync(executorService, 2, supplier, supplier),
+                mSupplyQuorumAsync(2, supplier, supplier, supplier),
+                mSupplyQuorumAsync(2, executorService, supplier, supplier, supplier),
+                mSupplyQuorumWithCancellationAsync(2, supplier, supplier, supplier),
+                mSupplyQuorumWithCancellationAsync(2, executorService, supplier, supplier, supplier),
         };
 
         assertTrue(System.currentTimeMillis() - tick < 50);
@@ -82,6 +105,341 @@ class CompletableFutureUtilsTest {
         }
     }
 
+    @Test
+    void test_mSupplyQuorumWithCancellationAsync() throws Exception {
+        final ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        try {
+            final AtomicReference<Boolean> stragglerRun = new AtomicReference<>(false);
+            // hold the executor thread until all tasks are registered
+            final CountDownLatch latch = new CountDownLatch(1);
+            singleThread.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            // the quorum is decided in the executor thread when the second task completes,
+            // so the third task is cancelled before the executor thread picks it up
+            final CompletableFuture<List<Integer>> quorum = mSupplyQuorumWithCancellationAsync(2, singleThread,
+                    () -> n, () -> anotherN, () -> stragglerRun.getAndSet(true) ? n : anotherN);
+            latch.countDown();
+            assertEquals(Arrays.asList(n, anotherN), quorum.get());
+            assertEquals(n, singleThread.submit(() -> n).get());
+            assertFalse(stragglerRun.get());
+
+            assertThrowsExactly(IllegalArgumentException.class, () -> mSupplyQuorumAsync(3, singleThread, () -> n, () -> n));
+        } finally {
+            singleThread.shutdown();
+        }
+    }
+
+    @Test
+    void test_inlineFirstExecutor() throws Exception {
+        final Executor inlineFirst = inlineFirstExecutor(executorService);
+        assertSame(inlineFirst, inlineFirstExecutor(inlineFirst));
+
+        final Thread caller = currentThread();
+        final Set<Thread> inlineThreads = ConcurrentHashMap.newKeySet();
+        final AtomicInteger inlineCount = new AtomicInteger();
+        final Supplier<Thread> recordThread = () -> {
+            if (currentThread() == caller) inlineCount.incrementAndGet();
+            return currentThread();
+        };
+        final List<Thread> threads = mSupplyAsync(inlineFirst, recordThread, recordThread, recordThread).get();
+        assertSame(caller, threads.get(0));
+        assertNotSame(caller, threads.get(1));
+        assertNotSame(caller, threads.get(2));
+        assertEquals(1, inlineCount.get());
+
+        assertEquals(Arrays.asList(n, anotherN), mSupplyFastFailAsync(inlineFirst, () -> n, () -> anotherN).get());
+        assertEquals(Tuple2.of(n, s), tupleMSupplyAsync(inlineFirst, () -> n, () -> s).get());
+
+        // the function/consumer inline runs in the thread completing the input cf
+        final CompletableFuture<Integer> input = new CompletableFuture<>();
+        final CompletableFuture<List<Thread>> applied = thenMApplyAsync(input, inlineFirst,
+                v -> currentThread(), v -> currentThread());
+        final CompletableFuture<Void> accepted = thenMAcceptAsync(input, inlineFirst,
+                v -> inlineThreads.add(currentThread()));
+        input.complete(n);
+        assertSame(caller, applied.get().get(0));
+        assertNotSame(caller, applied.get().get(1));
+        accepted.get();
+        assertEquals(Collections.singleton(caller), inlineThreads);
+
+        final AtomicInteger ran = new AtomicInteger();
+        mRunAsync(inlineFirst, ran::incrementAndGet, ran::incrementAndGet).get();
+        assertEquals(2, ran.get());
+
+        // the exception of the inline action is wrapped the same as supplyAsync
+        final CompletableFuture<List<Integer>> failed = mSupplyFastFailAsync(inlineFirst, () -> {
+            throw rte;
+        }, () -> n);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, failed::get).getCause());
+        final CompletableFuture<Void> failedRun = mRunAsync(inlineFirst, () -> {
+            throw rte;
+        });
+        assertSame(rte, assertThrowsExactly(CompletionException.class, failedRun::join).getCause());
+
+        // the single-action methods just run in the delegate executor
+        assertNotSame(caller, CompletableFuture.supplyAsync(Thread::currentThread, inlineFirst).get());
+    }
+
+    @Test
+    void test_mSupplyMostSuccessWithCancellationAsync() throws Exception {
+        final CountDownLatch interrupted = new CountDownLatch(2);
+        final Supplier<Integer> straggler = () -> {
+            try {
+                Thread.sleep(60_000);
+                return anotherN;
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new RuntimeException(e);
+            }
+        };
+        assertEquals(Arrays.asList(n, null), mSupplyMostSuccessWithCancellationAsync(
+                null, executorService, 100, TimeUnit.MILLISECONDS, () -> n, straggler).get());
+        assertEquals(Tuple2.of(n, null), tupleMSupplyMostSuccessWithCancellationAsync(
+                executorService, 100, TimeUnit.MILLISECONDS, () -> n, straggler).get());
+        // the threads running the stragglers are interrupted when the timeout fires
+        assertTrue(interrupted.await(1, TimeUnit.SECONDS));
+
+        // the stragglers not started yet never run
+        final AtomicInteger started = new AtomicInteger();
+        final CountDownLatch interruptedByMaxConcurrency = new CountDownLatch(1);
+        assertEquals(Arrays.asList(null, null, null), mSupplyMostSuccessWithCancellationAsync(
+                null, executorService, 1, 100, TimeUnit.MILLISECONDS,
+                () -> {
+                    started.incrementAndGet();
+                    try {
+                        Thread.sleep(60_000);
+                    } catch (InterruptedException e) {
+                        interruptedByMaxConcurrency.countDown();
+                    }
+                    return n;
+                },
+                () -> started.incrementAndGet(), () -> started.incrementAndGet()).get());
+        assertTrue(interruptedByMaxConcurrency.await(1, TimeUnit.SECONDS));
+        sleep(100);
+        assertEquals(1, started.get());
+
+        // the plain variant leaves the late input running
+        final CompletableFuture<Integer> late = new CompletableFuture<>();
+        assertEquals(Arrays.asList(n, null), mostSuccessResultsOf(
+                null, 10, TimeUnit.MILLISECONDS, completedFuture(n), late).get());
+        assertFalse(late.isDone());
+        assertEquals(Arrays.asList(n, null), mostSuccessResultsOfWithCancellation(
+                null, 10, TimeUnit.MILLISECONDS, completedFuture(n), late).get());
+        assertTrue(late.isCancelled());
+
+        assertEquals(Arrays.asList(n, anotherN), mSupplyMostSuccessWithCancellationAsync(
+                null, 1, TimeUnit.SECONDS, () -> n, () -> anotherN).get());
+    }
+
+    @Test
+    void test_mSupplyAndMRun__maxConcurrency() throws Exception {
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final int count = 20;
+        @SuppressWarnings("unchecked")
+        final Supplier<Integer>[] suppliers = new Supplier[count];
+        for (int i = 0; i < count; i++) {
+            final int idx = i;
+            suppliers[i] = () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(10);
+                running.decrementAndGet();
+                return idx;
+            };
+        }
+        final List<Integer> expected = IntStream.range(0, count).boxed().collect(Collectors.toList());
+
+        assertEquals(expected, mSupplyAsync(executorService, 3, suppliers).get());
+        assertEquals(expected, mSupplyFastFailAsync(executorService, 3, suppliers).get());
+        assertEquals(expected, mSupplyAllSuccessAsync(anotherN, executorService, 3, suppliers).get());
+        assertEquals(expected, mSupplyMostSuccessAsync(anotherN, executorService, 3, 5, TimeUnit.SECONDS, suppliers).get());
+        final Runnable[] actions = Arrays.stream(suppliers).map(s -> (Runnable) s::get).toArray(Runnable[]::new);
+        assertNull(mRunAsync(executorService, 3, actions).get());
+        assertNull(mRunFastFailAsync(executorService, 3, actions).get());
+        assertTrue(maxRunning.get() <= 3);
+
+        // the suppliers not started in the given time get the valueIfNotSuccess
+        final List<Integer> mostSuccess = mSupplyMostSuccessAsync(anotherN, executorService, 1, 100, TimeUnit.MILLISECONDS, suppliers).get();
+        assertEquals(0, mostSuccess.get(0));
+        assertEquals(anotherN, mostSuccess.get(count - 1));
+
+        // fast-fail
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> mSupplyFastFailAsync(executorService, 2,
+                () -> n, () -> {
+                    throw rte;
+                }, () -> n).get()).getCause());
+
+        // fast-fail, the suppliers/actions not started yet are never started
+        final AtomicInteger started = new AtomicInteger();
+        @SuppressWarnings("unchecked")
+        final Supplier<Integer>[] failAt3 = IntStream.range(0, 100).mapToObj(i -> (Supplier<Integer>) () -> {
+            started.incrementAndGet();
+            if (i == 3) throw rte;
+            return i;
+        }).toArray(Supplier[]::new);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                mSupplyFastFailAsync(Runnable::run, 2, failAt3).get()).getCause());
+        assertEquals(4, started.get());
+        started.set(0);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                mSupplyFastFailWithCancellationAsync(Runnable::run, 2, failAt3).get()).getCause());
+        assertEquals(4, started.get());
+        started.set(0);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> mRunFastFailAsync(Runnable::run, 2,
+                Arrays.stream(failAt3).map(s -> (Runnable) s::get).toArray(Runnable[]::new)).get()).getCause());
+        assertEquals(4, started.get());
+
+        // the direct executor does not deepen the call stack
+        @SuppressWarnings("unchecked")
+        final Supplier<Integer>[] many = IntStream.range(0, 100_000).mapToObj(i -> (Supplier<Integer>) () -> i).toArray(Supplier[]::new);
+        assertEquals(100_000, mSupplyAsync(Runnable::run, 2, many).get().size());
+
+        assertThrowsExactly(IllegalArgumentException.class, () -> mSupplyAsync(executorService, 0, () -> n));
+    }
+
+    @Test
+    void test_mSupplyChunkedAsync() throws Exception {
+        final int count = 10_000;
+        @SuppressWarnings("unchecked")
+        final Supplier<Integer>[] suppliers = IntStream.range(0, count).mapToObj(i -> (Supplier<Integer>) () -> i).toArray(Supplier[]::new);
+        final List<Integer> expected = IntStream.range(0, count).boxed().collect(Collectors.toList());
+
+        assertEquals(expected, mSupplyChunkedAsync(suppliers).get());
+        assertEquals(expected, mSupplyChunkedAsync(executorService, suppliers).get());
+        assertEquals(expected, mSupplyChunkedAsync(executorService, 7, suppliers).get());
+        assertEquals(expected, mSupplyChunkedAsync(executorService, count * 2, suppliers).get());
+        assertEquals(expected, thenMApplyChunkedAsync(completedFuture(0), executorService, 3,
+                IntStream.range(0, count).mapToObj(i -> (Function<Integer, Integer>) x -> x + i).toArray(Function[]::new)).get());
+
+        // the first given failed supplier wins, the same as allResultsOf
+        final Supplier<Integer> slowFail = () -> {
+            sleep(100);
+            throw rte;
+        };
+        final Supplier<Integer> fastFail = () -> {
+            throw anotherRte;
+        };
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                mSupplyChunkedAsync(executorService, 1, () -> n, slowFail, fastFail).get()).getCause());
+
+        assertEquals(Collections.emptyList(), mSupplyChunkedAsync(executorService).get());
+        assertThrowsExactly(IllegalArgumentException.class, () -> mSupplyChunkedAsync(executorService, 0, () -> n));
+    }
+
+    @Test
+    void test_mSupplyPrimitiveAsync() throws Exception {
+        final int count = 1000;
+        final IntSupplier[] intSuppliers = IntStream.range(0, count).mapToObj(i -> (IntSupplier) () -> i).toArray(IntSupplier[]::new);
+        final LongSupplier[] longSuppliers = IntStream.range(0, count).mapToObj(i -> (LongSupplier) () -> i).toArray(LongSupplier[]::new);
+
+        assertArrayEquals(IntStream.range(0, count).toArray(), mSupplyIntAsync(intSuppliers).get());
+        assertArrayEquals(IntStream.range(0, count).toArray(), mSupplyIntAsync(executorService, intSuppliers).get());
+        assertArrayEquals(LongStream.range(0, count).toArray(), mSupplyLongAsync(longSuppliers).get());
+        assertArrayEquals(LongStream.range(0, count).toArray(), mSupplyLongAsync(executorService, longSuppliers).get());
+        assertArrayEquals(new double[]{0.5, 1.5}, mSupplyDoubleAsync(() -> 0.5, () -> 1.5).get());
+        assertArrayEquals(new double[]{0.5, 1.5}, mSupplyDoubleAsync(executorService, () -> 0.5, () -> 1.5).get());
+
+        // the first given failed supplier wins, the same as mSupplyAsync
+        final IntSupplier slowFail = () -> {
+            sleep(100);
+            throw rte;
+        };
+        final IntSupplier fastFail = () -> {
+            throw anotherRte;
+        };
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                mSupplyIntAsync(executorService, () -> n, slowFail, fastFail).get()).getCause());
+
+        assertEquals(0, mSupplyIntAsync().get().length);
+        assertEquals(0, mSupplyLongAsync(executorService).get().length);
+    }
+
+    @Test
+    void test_hedgedSupplyAsync() throws Exception {
+        // the first attempt is slow, the hedged attempt wins
+        final AtomicInteger calls = new AtomicInteger();
+        final long tick = System.currentTimeMillis();
+        assertEquals(anotherN, hedgedSupplyAsync(() -> {
+            if (calls.incrementAndGet() == 1) {
+                sleep(1000);
+                return n;
+            }
+            return anotherN;
+        }, 50, TimeUnit.MILLISECONDS, 2, executorService).get());
+        assertTrue(System.currentTimeMillis() - tick < 500);
+        // the pending hedge timer is cancelled after the success
+        sleep(200);
+        assertEquals(2, calls.get());
+
+        // the fast first attempt, no hedging
+        final AtomicInteger fastCalls = new AtomicInteger();
+        assertEquals(n, hedgedSupplyAsync(() -> {
+            fastCalls.incrementAndGet();
+            return n;
+        }, 100, TimeUnit.MILLISECONDS, 3).get());
+        sleep(200);
+        assertEquals(1, fastCalls.get());
+
+        // all attempts fail
+        final AtomicInteger failedCalls = new AtomicInteger();
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> hedgedSupplyAsync(() -> {
+            failedCalls.incrementAndGet();
+            throw rte;
+        }, 10, TimeUnit.MILLISECONDS, 2, executorService).get()).getCause());
+        assertEquals(3, failedCalls.get());
+
+        // the failed first attempt launches the hedge right away, without waiting for the hedge delay
+        final AtomicInteger failFirstCalls = new AtomicInteger();
+        final long failFirstTick = System.currentTimeMillis();
+        assertEquals(anotherN, hedgedSupplyAsync(() -> {
+            if (failFirstCalls.incrementAndGet() == 1) throw rte;
+            return anotherN;
+        }, 5, TimeUnit.SECONDS, 1, executorService).get());
+        assertTrue(System.currentTimeMillis() - failFirstTick < 1000);
+        assertEquals(2, failFirstCalls.get());
+
+        // the pending hedge timer is cancelled when the caller cancels or fails the result
+        final List<Future<?>> hedgeTimers = new CopyOnWriteArrayList<>();
+        final DelayTimer recordingTimer = (task, delay, unit) -> {
+            final Future<?> f = HashedWheelTimer.shared().schedule(task, delay, unit);
+            hedgeTimers.add(f);
+            return f;
+        };
+        final CompletableFuture<Integer> blocker = new CompletableFuture<>();
+        final CompletableFuture<Integer> cancelled = hedgedSupplyAsync(recordingTimer, blocker::join, 5, TimeUnit.SECONDS, 2, executorService);
+        assertTrue(cancelled.cancel(false));
+        final CompletableFuture<Integer> failed = hedgedSupplyAsync(recordingTimer, blocker::join, 5, TimeUnit.SECONDS, 2, executorService);
+        assertTrue(failed.completeExceptionally(rte));
+        assertEquals(2, hedgeTimers.size());
+        for (Future<?> hedgeTimer : hedgeTimers) assertTrue(hedgeTimer.isCancelled());
+        blocker.complete(n);
+
+        // the attempt rejected by the executor counts as a failed attempt, in the timer thread or the failed attempt
+        final AtomicInteger submitted = new AtomicInteger();
+        final Executor rejectAfterFirst = r -> {
+            if (submitted.incrementAndGet() > 1) throw new RejectedExecutionException();
+            executorService.execute(r);
+        };
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> hedgedSupplyAsync(() -> {
+            sleep(100);
+            throw rte;
+        }, 10, TimeUnit.MILLISECONDS, 1, rejectAfterFirst).get(5, TimeUnit.SECONDS)).getCause());
+        submitted.set(0);
+        assertInstanceOf(RejectedExecutionException.class, assertThrowsExactly(ExecutionException.class, () ->
+                hedgedSupplyAsync(() -> {
+                    throw rte;
+                }, 5, TimeUnit.SECONDS, 1, rejectAfterFirst).get(5, TimeUnit.SECONDS)).getCause());
+
+        assertEquals(n, hedgedSupplyAsync(() -> n, 10, TimeUnit.MILLISECONDS, 0).get());
+        assertThrowsExactly(IllegalArgumentException.class, () ->
+                hedgedSupplyAsync(() -> n, 10, TimeUnit.MILLISECONDS, -1));
+    }
+
     @Test
     void test_mRun() throws Exception {
         final Runnable runnable = () -> sleep(100);
@@ -105,6 +463,98 @@ class CompletableFutureUtilsTest {
         }
     }
 
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## map*Async Methods(create by async mapping function)
+    ////////////////////////////////////////////////////////////
+
+    @Test
+    void test_mapAsync() throws Exception {
+        final List<Integer> items = IntStream.range(0, 50).boxed().collect(Collectors.toList());
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger maxInFlight = new AtomicInteger();
+        final Function<Integer, CompletableFuture<Integer>> fn = i -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                sleep(i % 3);
+                inFlight.decrementAndGet();
+                return i * 2;
+            }, executorService);
+        };
+        final List<Integer> expected = items.stream().map(i -> i * 2).collect(Collectors.toList());
+
+        assertEquals(expected, mapAsync(items, fn, 3).get());
+        assertEquals(expected, mapAsync(items, fn, 3, executorService).get());
+        assertEquals(expected, mapFastFailAsync(items, fn, 3).get());
+        assertEquals(expected, mapFastFailAsync(items, fn, 3, executorService).get());
+        assertEquals(expected, mapAllSuccessAsync(anotherN, items, fn, 3).get());
+        assertEquals(expected, mapAllSuccessAsync(anotherN, items, fn, 3, executorService).get());
+        assertEquals(expected, mapMostSuccessAsync(anotherN, 10, TimeUnit.SECONDS, items, fn, 3).get());
+        assertEquals(expected, mapMostSuccessAsync(anotherN, 10, TimeUnit.SECONDS, items, fn, 3, executorService).get());
+        assertTrue(maxInFlight.get() <= 3);
+
+        // the direct executor and the completed stages do not deepen the call stack
+        final List<Integer> manyItems = IntStream.range(0, 100_000).boxed().collect(Collectors.toList());
+        assertEquals(manyItems, mapAsync(manyItems, CompletableFuture::completedFuture, 2, Runnable::run).get());
+
+        // the parallelism more than the items starts only the items, and completes promptly
+        final List<Integer> three = Arrays.asList(0, 1, 2);
+        assertEquals(Arrays.asList(0, 1, 2), mapAsync(three, CompletableFuture::completedFuture, Integer.MAX_VALUE, Runnable::run)
+                .get(1, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(0, 1, 2), mapFastFailAsync(three, CompletableFuture::completedFuture, Integer.MAX_VALUE)
+                .get(1, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(n, anotherN), mSupplyAsync(executorService, Integer.MAX_VALUE, () -> n, () -> anotherN)
+                .get(1, TimeUnit.SECONDS));
+
+        assertEquals(Collections.emptyList(), mapAsync(Collections.<Integer>emptyList(), fn, 3).get());
+        assertThrowsExactly(IllegalArgumentException.class, () -> mapAsync(items, fn, 0));
+    }
+
+    @Test
+    void test_mapAsync__exceptionally() throws Exception {
+        final List<Integer> items = IntStream.range(0, 100).boxed().collect(Collectors.toList());
+        final AtomicInteger started = new AtomicInteger();
+        final Function<Integer, CompletionStage<Integer>> failAt3 = i -> {
+            started.incrementAndGet();
+            return i == 3 ? failedFuture(rte) : completedFuture(i);
+        };
+
+        // fast-fail, the items not started yet are never mapped
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                mapFastFailAsync(items, failAt3, 2, Runnable::run).get()).getCause());
+        assertEquals(4, started.get());
+
+        // wait all, the exception of the first failed item
+        started.set(0);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                mapAsync(items, failAt3, 2, Runnable::run).get()).getCause());
+        assertEquals(100, started.get());
+
+        final List<Integer> allSuccess = mapAllSuccessAsync(anotherN, items, failAt3, 2).get();
+        assertEquals(anotherN, allSuccess.get(3));
+        assertEquals(4, allSuccess.get(4));
+
+        // the function throws
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> mapAsync(items, i -> {
+            if (i == 5) throw rte;
+            return completedFuture(i);
+        }, 2).get()).getCause());
+
+        // most-success: the stage never completed and the items not started in time get valueIfNotSuccess
+        final List<Integer> mostSuccess = mapMostSuccessAsync(anotherN, 100, TimeUnit.MILLISECONDS,
+                Arrays.asList(0, 1, 2), i -> i == 1 ? new CompletableFuture<>() : completedFuture(i), 1).get();
+        assertEquals(Arrays.asList(0, anotherN, anotherN), mostSuccess);
+
+        // cancelled by the caller, the items not started yet are never mapped
+        started.set(0);
+        final CompletableFuture<List<Integer>> cancelled = mapAsync(items, i -> {
+            started.incrementAndGet();
+            return new CompletableFuture<>();
+        }, 2, Runnable::run);
+        cancelled.cancel(false);
+        assertEquals(2, started.get());
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////
     // region## Tuple-Multi-Actions(tupleM*) Methods(create by actions)
@@ -276,6 +726,59 @@ class CompletableFutureUtilsTest {
         ).forEach(f -> assertNull(f.join()));
     }
 
+    @Test
+    void test_multiCfMethods__collection_overloads() throws Exception {
+        final List<CompletableFuture<Integer>> cfs = Arrays.asList(completedFuture(n), completedFuture(n + 1), failedFuture(rte));
+        final List<CompletableFuture<Integer>> successCfs = cfs.subList(0, 2);
+        final List<Integer> emptyList = Collections.emptyList();
+
+        assertEquals(Arrays.asList(n, n + 1), allResultsOf(successCfs).get());
+        assertEquals(Arrays.asList(n, n + 1), allResultsFastFailOf(successCfs).get());
+        assertEquals(Arrays.asList(n, n + 1, anotherN), allSuccessResultsOf(anotherN, cfs).get());
+        assertEquals(Arrays.asList(n, n + 1, anotherN), mostSuccessResultsOf(anotherN, 10, TimeUnit.MILLISECONDS, cfs).get());
+        assertNull(allOf(successCfs).get());
+        assertNull(allFastFailOf(successCfs).get());
+        assertEquals(n, anySuccessOf(cfs).get());
+        assertEquals(n, anyOf(cfs).get());
+
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> allResultsOf(cfs).get()).getCause());
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> allFastFailOf(cfs).get()).getCause());
+
+        // single input
+        assertEquals(Collections.singletonList(n), allResultsOf(Collections.singletonList(completedStage(n))).get());
+        assertEquals(n, anySuccessOf(Collections.singleton(completedStage(n))).get());
+
+        // empty input
+        assertEquals(emptyList, allResultsOf(Collections.<CompletableFuture<Integer>>emptyList()).get());
+        assertNull(allFastFailOf(Collections.emptySet()).get());
+        assertInstanceOf(NoCfsProvidedException.class, assertThrowsExactly(ExecutionException.class, () ->
+                anySuccessOf(Collections.emptyList()).get()).getCause());
+        assertFalse(anyOf(Collections.emptyList()).isDone());
+
+        // null element
+        final List<CompletableFuture<Integer>> hasNull = Arrays.asList(completedFuture(n), null);
+        assertEquals("cf2 is null", assertThrowsExactly(NullPointerException.class, () -> allResultsOf(hasNull)).getMessage());
+        assertEquals("cf2 is null", assertThrowsExactly(NullPointerException.class, () -> anySuccessOf(hasNull)).getMessage());
+        assertEquals("cf2 is null", assertThrowsExactly(NullPointerException.class, () -> allOf(hasNull)).getMessage());
+
+        // the null element is found before registering the dependents on the earlier inputs
+        final CompletableFuture<Integer> incomplete = createIncompleteFuture();
+        final List<CompletableFuture<Integer>> incompleteThenNull = Arrays.asList(incomplete, null);
+        final List<Executable> calls = Arrays.asList(
+                () -> allResultsOf(incompleteThenNull),
+                () -> allIntResultsOf(incompleteThenNull),
+                () -> allFastFailOf(incompleteThenNull),
+                () -> anySuccessOf(incompleteThenNull),
+                () -> anyOf(incompleteThenNull),
+                () -> nSuccessOf(1, incompleteThenNull),
+                () -> completionOrder(incompleteThenNull),
+                () -> allSuccessResultsOf(n, incompleteThenNull));
+        for (Executable call : calls) {
+            assertEquals("cf2 is null", assertThrowsExactly(NullPointerException.class, call).getMessage());
+        }
+        assertEquals(0, incomplete.getNumberOfDependents());
+    }
+
     @Test
     void test_allOf__exceptionally() throws Exception {
         final RuntimeException ex1 = new RuntimeException("ex1");
@@ -518,6 +1021,334 @@ class CompletableFutureUtilsTest {
         );
     }
 
+    @Test
+    void test_allResultsOf__wide_fan_out_concurrent() throws Exception {
+        final int size = 5000;
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Integer>[] cfs = IntStream.range(0, size)
+                .mapToObj(i -> new CompletableFuture<Integer>()).toArray(CompletableFuture[]::new);
+
+        final CompletableFuture<List<Integer>> success = allResultsOf(cfs);
+        final CompletableFuture<Tuple2<Integer, Integer>> tuple = allTupleOf(cfs[size - 1], cfs[0]);
+        // complete in random order concurrently
+        final List<Integer> indexes = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        Collections.shuffle(indexes);
+        indexes.parallelStream().forEach(i -> cfs[i].complete(i));
+
+        assertEquals(indexes.stream().sorted().collect(Collectors.toList()), success.get());
+        assertEquals(Tuple2.of(size - 1, 0), tuple.get());
+
+        // the exception of the first given failed input cf wins, even if it fails later
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Integer>[] cfs2 = IntStream.range(0, size)
+                .mapToObj(i -> new CompletableFuture<Integer>()).toArray(CompletableFuture[]::new);
+        final CompletableFuture<List<Integer>> failed = allResultsOf(cfs2);
+        Collections.shuffle(indexes);
+        indexes.parallelStream().forEach(i -> {
+            if (i == 1) cfs2[i].completeExceptionally(rte);
+            else if (i == size - 1) cfs2[i].completeExceptionally(anotherRte);
+            else cfs2[i].complete(i);
+        });
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, failed::get).getCause());
+    }
+
+    @Test
+    void test_allResultsOf__result_list_is_modifiable() throws Exception {
+        final List<Integer> results = allResultsOf(completedFuture(n), completedFuture(anotherN)).get();
+        final List<Integer> sameResults = allResultsOf(completedFuture(n), completedFuture(anotherN)).get();
+        assertEquals(Arrays.asList(n, anotherN), results);
+        assertEquals(results.hashCode(), sameResults.hashCode());
+        assertArrayEquals(new Object[]{n, anotherN}, results.toArray());
+
+        // copy on the first write
+        results.add(n);
+        results.set(0, anotherN);
+        results.remove(1);
+        assertEquals(Arrays.asList(anotherN, n), results);
+        assertEquals(Arrays.asList(n, anotherN), sameResults);
+        results.clear();
+        assertTrue(results.isEmpty());
+
+        // serialized as a normal ArrayList
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(sameResults);
+        }
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            final Object deserialized = in.readObject();
+            assertEquals(ArrayList.class, deserialized.getClass());
+            assertEquals(sameResults, deserialized);
+        }
+
+        final List<Integer> mSupplyResults = mSupplyAsync(() -> n, () -> anotherN).get();
+        mSupplyResults.add(n);
+        assertEquals(Arrays.asList(n, anotherN, n), mSupplyResults);
+
+        // bulk removals of the view
+        final CompletableFuture<Integer>[] cfs = IntStream.range(0, 1000)
+                .mapToObj(CompletableFuture::completedFuture).toArray(CompletableFuture[]::new);
+        final List<Integer> large = allResultsOf(cfs).get();
+        large.subList(10, 1000).clear();
+        assertEquals(IntStream.range(0, 10).boxed().collect(Collectors.toList()), large);
+        large.clear();
+        assertTrue(large.isEmpty());
+        final List<Integer> uncopied = allResultsOf(cfs).get();
+        uncopied.clear();
+        assertTrue(uncopied.isEmpty());
+        uncopied.add(n);
+        assertEquals(Collections.singletonList(n), uncopied);
+    }
+
+    @Test
+    void test_multiCfMethods__pre_completed_inputs() throws Exception {
+        final CompletableFuture<Integer> incomplete = new CompletableFuture<>();
+
+        // completed synchronously, without registering dependents on the completed inputs
+        final CompletableFuture<List<Integer>> all = allResultsOf(completedFuture(n), completedFuture(anotherN));
+        assertTrue(all.isDone());
+        assertEquals(Arrays.asList(n, anotherN), all.get());
+        assertEquals(Arrays.asList(n, anotherN), allResultsFastFailOf(completedFuture(n), completedFuture(anotherN)).getNow(null));
+        assertEquals(Tuple2.of(n, s), allTupleOf(completedFuture(n), completedFuture(s)).getNow(null));
+        assertEquals(Arrays.asList(n, anotherN), mostSuccessResultsOf(
+                anotherN, 10, TimeUnit.SECONDS, completedFuture(n), failedFuture(rte)).getNow(null));
+        assertEquals(Collections.singletonList(n), mostSuccessResultsOf(
+                anotherN, 10, TimeUnit.SECONDS, completedFuture(n)).getNow(null));
+        assertEquals(Tuple2.of(n, null), mostSuccessTupleOf(
+                10, TimeUnit.SECONDS, completedFuture(n), failedFuture(rte)).getNow(null));
+
+        // the successful completed input decides the any-success, the incomplete input is never listened
+        assertEquals(n, anySuccessOf(failedFuture(rte), incomplete, completedFuture(n), completedFuture(anotherN)).getNow(null));
+        assertEquals(0, incomplete.getNumberOfDependents());
+        assertThrowsExactly(NullPointerException.class, () -> anySuccessOf(completedFuture(n), null));
+
+        // only the incomplete inputs are listened
+        final CompletableFuture<List<Integer>> partial = allResultsOf(completedFuture(n), incomplete, completedStage(s.length()));
+        final CompletableFuture<List<Integer>> partialFastFail = allResultsFastFailOf(completedFuture(n), incomplete);
+        assertFalse(partial.isDone());
+        assertFalse(partialFastFail.isDone());
+        incomplete.complete(anotherN);
+        assertEquals(Arrays.asList(n, anotherN, s.length()), partial.get());
+        assertEquals(Arrays.asList(n, anotherN), partialFastFail.get());
+
+        // the failed input still fails fast
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                allResultsFastFailOf(completedFuture(n), new CompletableFuture<>(), failedFuture(rte)).get()).getCause());
+    }
+
+    @Test
+    void test_allPrimitiveResultsOf() throws Exception {
+        final int size = 5000;
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Integer>[] cfs = IntStream.range(0, size)
+                .mapToObj(i -> new CompletableFuture<Integer>()).toArray(CompletableFuture[]::new);
+        final CompletableFuture<int[]> ints = allIntResultsOf(cfs);
+        final List<Integer> indexes = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        Collections.shuffle(indexes);
+        indexes.parallelStream().forEach(i -> cfs[i].complete(i));
+        assertArrayEquals(IntStream.range(0, size).toArray(), ints.get());
+        assertArrayEquals(IntStream.range(0, size).toArray(), allIntResultsOf(Arrays.asList(cfs)).get());
+
+        assertArrayEquals(new long[]{1, 2}, allLongResultsOf(completedFuture(1L), completedStage(2L)).get());
+        assertArrayEquals(new long[]{1, 2}, allLongResultsOf(Arrays.asList(completedFuture(1L), completedStage(2L))).get());
+        assertArrayEquals(new double[]{0.5}, allDoubleResultsOf(completedFuture(0.5)).get());
+        assertArrayEquals(new double[]{0.5}, allDoubleResultsOf(Collections.singletonList(completedFuture(0.5))).get());
+        assertEquals(0, allIntResultsOf().get().length);
+        assertEquals(0, allDoubleResultsOf(Collections.emptyList()).get().length);
+
+        // the exception of the first given failed input cf wins, even if it fails later
+        final CompletableFuture<Integer> slowFail = new CompletableFuture<>();
+        final CompletableFuture<int[]> failed = allIntResultsOf(completedFuture(n), slowFail, failedFuture(anotherRte));
+        assertFalse(failed.isDone());
+        slowFail.completeExceptionally(rte);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, failed::get).getCause());
+
+        // the null result can not be written into the primitive array
+        assertInstanceOf(NullPointerException.class, assertThrowsExactly(ExecutionException.class, () ->
+                allLongResultsOf(completedFuture(1L), completedFuture(null)).get()).getCause());
+    }
+
+    @Test
+    void test_allResultsReduceOf_allResultsCollectOf() throws Exception {
+        final int size = 5000;
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Integer>[] cfs = IntStream.range(0, size)
+                .mapToObj(i -> new CompletableFuture<Integer>()).toArray(CompletableFuture[]::new);
+        final CompletableFuture<Long> sum = allResultsReduceOf(0L, (acc, v) -> acc + v, Long::sum, cfs);
+        final CompletableFuture<Long> sumOfCollection = allResultsReduceOf(0L, (acc, v) -> acc + v, Long::sum, Arrays.asList(cfs));
+        final CompletableFuture<Set<Integer>> set = allResultsCollectOf(Collectors.toSet(), cfs);
+        final CompletableFuture<Integer> count = allResultsCollectOf(Collectors.summingInt(v -> 1), Arrays.asList(cfs));
+        // fold concurrently in random order
+        final List<Integer> indexes = IntStream.range(0, size).boxed().collect(Collectors.toList());
+        Collections.shuffle(indexes);
+        indexes.parallelStream().forEach(i -> cfs[i].complete(i));
+
+        final long expectedSum = (long) size * (size - 1) / 2;
+        assertEquals(expectedSum, sum.get());
+        assertEquals(expectedSum, sumOfCollection.get());
+        assertEquals(new HashSet<>(indexes), set.get());
+        assertEquals(size, count.get());
+
+        assertEquals(n, allResultsReduceOf(n, (Integer acc, Integer v) -> acc + v, Integer::sum).get());
+        assertEquals(Collections.emptyList(), allResultsCollectOf(Collectors.toList(), Collections.<CompletableFuture<Integer>>emptyList()).get());
+        assertEquals(Arrays.asList(n, anotherN), allResultsCollectOf(Collectors.toList(), completedFuture(n), completedStage(anotherN)).get());
+
+        // the exception of the first given failed input cf wins, the same as allResultsOf
+        final CompletableFuture<Integer> slowFail = new CompletableFuture<>();
+        final CompletableFuture<Integer> failed = allResultsReduceOf(0, Integer::sum, Integer::sum,
+                completedFuture(n), slowFail, failedFuture(anotherRte));
+        assertFalse(failed.isDone());
+        slowFail.completeExceptionally(rte);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, failed::get).getCause());
+        // the accumulator threw
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> allResultsReduceOf(0, (Integer acc, Integer v) -> {
+            throw rte;
+        }, Integer::sum, completedFuture(n)).get()).getCause());
+    }
+
+    @Test
+    void test_fastFail_anySuccess__wide_fan_out_concurrent() throws Exception {
+        final int size = 5000;
+        @SuppressWarnings("unchecked")
+        final CompletableFuture<Integer>[] cfs = IntStream.range(0, size)
+                .mapToObj(i -> new CompletableFuture<Integer>()).toArray(CompletableFuture[]::new);
+
+        final CompletableFuture<List<Integer>> fastFail = allResultsFastFailOf(cfs);
+        final CompletableFuture<Void> allFastFail = allFastFailOf(cfs);
+        final CompletableFuture<Integer> anySuccess = anySuccessOf(cfs);
+        // fail all inputs except the last one, in random order concurrently
+        final List<Integer> indexes = IntStream.range(0, size - 1).boxed().collect(Collectors.toList());
+        Collections.shuffle(indexes);
+        indexes.parallelStream().forEach(i -> cfs[i].completeExceptionally(i == 0 ? rte : anotherRte));
+
+        // fast-fail: do not wait the incomplete last input
+        assertInstanceOf(RuntimeException.class, assertThrowsExactly(ExecutionException.class, fastFail::get).getCause());
+        assertInstanceOf(RuntimeException.class, assertThrowsExactly(ExecutionException.class, allFastFail::get).getCause());
+        // any-success: wait the last input
+        assertFalse(anySuccess.isDone());
+        cfs[size - 1].complete(n);
+        assertEquals(n, anySuccess.get());
+
+        // any-success: the ex of first given cf wins when all inputs fail
+        cfs[size - 1] = failedFuture(anotherRte);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, anySuccessOf(cfs)::get).getCause());
+    }
+
+    @Test
+    void test_multiCfMethods__withCancellation() throws Exception {
+        // fast fail cancels the incomplete inputs
+        CompletableFuture<Integer> straggler = new CompletableFuture<>();
+        final CompletableFuture<List<Integer>> fastFail = allResultsFastFailOfWithCancellation(
+                straggler, failedFuture(rte));
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, fastFail::get).getCause());
+        assertTrue(straggler.isCancelled());
+
+        // any success cancels the losing inputs
+        straggler = new CompletableFuture<>();
+        assertEquals(n, anySuccessOfWithCancellation(Arrays.asList(straggler, completedFuture(n))).get());
+        assertTrue(straggler.isCancelled());
+
+        // the non-cancellation variants leave the inputs alone
+        straggler = new CompletableFuture<>();
+        assertEquals(n, anySuccessOf(straggler, completedFuture(n)).get());
+        assertFalse(straggler.isDone());
+
+        // cancelling the aggregate cancels the incomplete inputs
+        final CompletableFuture<Integer> done = completedFuture(n);
+        final List<Function<CompletableFuture<Integer>, CompletableFuture<?>>> aggregates = Arrays.asList(
+                cf -> allResultsFastFailOfWithCancellation(cf, done),
+                cf -> anySuccessOfWithCancellation(Arrays.asList(cf, new CompletableFuture<>())),
+                cf -> mostSuccessResultsOfWithCancellation(null, 1, TimeUnit.DAYS, cf, done),
+                cf -> mostSuccessResultsOfWithCancellation(null, executorService, 1, TimeUnit.DAYS, Arrays.asList(cf, done))
+        );
+        for (Function<CompletableFuture<Integer>, CompletableFuture<?>> aggregate : aggregates) {
+            final CompletableFuture<Integer> input = new CompletableFuture<>();
+            final CompletableFuture<?> ret = aggregate.apply(input);
+            assertFalse(input.isDone());
+            ret.cancel(false);
+            assertTrue(input.isCancelled());
+            assertEquals(n, done.get());
+        }
+
+        // the successful result is not affected
+        assertEquals(Arrays.asList(n, anotherN), allResultsFastFailOfWithCancellation(
+                Arrays.asList(completedFuture(n), completedFuture(anotherN))).get());
+        assertEquals(Arrays.asList(n, anotherN), mostSuccessResultsOfWithCancellation(
+                null, 1, TimeUnit.SECONDS, completedFuture(n), completedFuture(anotherN)).get());
+    }
+
+    @Test
+    void test_mSupplyFastFailWithCancellationAsync() throws Exception {
+        final ExecutorService singleThread = Executors.newSingleThreadExecutor();
+        try {
+            final AtomicReference<Boolean> stragglerRun = new AtomicReference<>(false);
+            // hold the executor thread until all tasks are registered
+            final CountDownLatch latch = new CountDownLatch(1);
+            singleThread.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            // the result is decided in the executor thread when the first task fails,
+            // so the second task is cancelled before the executor thread picks it up
+            final CompletableFuture<List<Integer>> cf = mSupplyFastFailWithCancellationAsync(singleThread,
+                    () -> {
+                        throw rte;
+                    },
+                    () -> stragglerRun.getAndSet(true) ? n : anotherN);
+            latch.countDown();
+            assertSame(rte, assertThrowsExactly(ExecutionException.class, cf::get).getCause());
+            assertEquals(n, singleThread.submit(() -> n).get());
+            assertFalse(stragglerRun.get());
+        } finally {
+            singleThread.shutdown();
+        }
+
+        assertEquals(Arrays.asList(n, anotherN), mSupplyFastFailWithCancellationAsync(() -> n, () -> anotherN).get());
+        assertEquals(Arrays.asList(n, anotherN), mSupplyFastFailWithCancellationAsync(
+                executorService, 1, () -> n, () -> anotherN).get());
+    }
+
+    /**
+     * the dependents on the losing long-lived input MUST be released when the result is decided,
+     * otherwise the heap grows without bound.
+     */
+    @Test
+    void test_decidedCombinators_releaseDependentsOfLosingInput() throws Exception {
+        final CompletableFuture<Integer> longLived = createIncompleteFuture();
+
+        // without the release, each iteration leaves 5 dependents on the long-lived input(50_000 in all)
+        for (int i = 0; i < 10_000; i++) {
+            final CompletableFuture<Integer> winner = new CompletableFuture<>();
+            final CompletableFuture<Integer> anyOf = anyOf(longLived, winner);
+            final CompletableFuture<Integer> anySuccess = anySuccessOf(longLived, winner);
+            final CompletableFuture<Integer> eitherSuccess = applyToEitherSuccess(longLived, winner, x -> x);
+            winner.complete(i);
+            assertEquals(i, anyOf.join());
+            assertEquals(i, anySuccess.join());
+            assertEquals(i, eitherSuccess.join());
+
+            final CompletableFuture<Integer> failed = new CompletableFuture<>();
+            final CompletableFuture<Void> allFastFail = allFastFailOf(longLived, failed);
+            final CompletableFuture<Integer> bothFastFail = thenCombineFastFail(longLived, failed, Integer::sum);
+            failed.completeExceptionally(rte);
+            assertTrue(allFastFail.isCompletedExceptionally());
+            assertTrue(bothFastFail.isCompletedExceptionally());
+        }
+
+        assertTrue(longLived.getNumberOfDependents() < 100, "dependents of long-lived input: " + longLived.getNumberOfDependents());
+
+        // the result cf holds no dependent per input, only the one releasing the losing inputs
+        final List<CompletableFuture<Integer>> inputs = IntStream.range(0, 100)
+                .mapToObj(i -> new CompletableFuture<Integer>()).collect(Collectors.toList());
+        final CompletableFuture<Integer> anySuccess = anySuccessOf(inputs);
+        assertEquals(1, anySuccess.getNumberOfDependents());
+        inputs.get(50).complete(n);
+        assertEquals(n, anySuccess.get());
+        for (CompletableFuture<Integer> input : inputs) assertEquals(0, input.getNumberOfDependents());
+    }
+
     @Test
     void test_mostOf() throws Exception {
         final CompletableFuture<Integer> completed = completedFuture(n);
@@ -802,6 +1633,133 @@ class CompletableFutureUtilsTest {
         ).get());
     }
 
+    @Test
+    void test_nSuccessOf() throws Exception {
+        // success order
+        final CompletableFuture<Integer> cf1 = new CompletableFuture<>();
+        final CompletableFuture<Integer> cf2 = new CompletableFuture<>();
+        final CompletableFuture<Integer> cf3 = new CompletableFuture<>();
+        final CompletableFuture<List<Integer>> quorum = nSuccessOf(2, cf1, cf2, cf3);
+        cf3.complete(n + 3);
+        cf2.completeExceptionally(rte);
+        assertFalse(quorum.isDone());
+        cf1.complete(n + 1);
+        assertEquals(Arrays.asList(n + 3, n + 1), quorum.get());
+
+        assertEquals(Collections.singletonList(n), nSuccessOf(1, failedFuture(rte), completedFuture(n)).get());
+        assertEquals(Arrays.asList(n, anotherN), nSuccessOf(2, Arrays.asList(completedFuture(n), completedStage(anotherN))).get());
+
+        // fail fast once the n successes are impossible
+        final CompletableFuture<Integer> incomplete = new CompletableFuture<>();
+        final CompletableFuture<List<Integer>> failed = nSuccessOf(2, failedFuture(rte), incomplete, failedFuture(anotherRte));
+        assertSame(anotherRte, assertThrowsExactly(ExecutionException.class, failed::get).getCause());
+        assertFalse(incomplete.isDone());
+
+        // cancel the stragglers
+        final CompletableFuture<Integer> straggler = new CompletableFuture<>();
+        assertEquals(Collections.singletonList(n), nSuccessOfWithCancellation(1, completedFuture(n), straggler).get());
+        assertTrue(straggler.isCancelled());
+
+        // cancelled by the caller
+        final CompletableFuture<Integer> straggler3 = new CompletableFuture<>();
+        final CompletableFuture<Integer> straggler4 = new CompletableFuture<>();
+        final CompletableFuture<List<Integer>> toCancel = nSuccessOfWithCancellation(1, Arrays.asList(straggler3, straggler4));
+        toCancel.cancel(false);
+        assertTrue(straggler3.isCancelled());
+        assertTrue(straggler4.isCancelled());
+
+        // illegal n
+        assertThrowsExactly(IllegalArgumentException.class, () -> nSuccessOf(0, completedFuture(n)));
+        assertThrowsExactly(IllegalArgumentException.class, () -> nSuccessOf(2, completedFuture(n)));
+        assertThrowsExactly(IllegalArgumentException.class, () -> nSuccessOf(1));
+        assertEquals("cf2 is null", assertThrowsExactly(NullPointerException.class, () ->
+                nSuccessOf(1, completedFuture(n), null)).getMessage());
+    }
+
+    // endregion
+    ////////////////////////////////////////////////////////////
+    // region## completionOrder* Methods
+    ////////////////////////////////////////////////////////////
+
+    @Test
+    void test_completionOrder() throws Exception {
+        final CompletableFuture<Integer> cf1 = new CompletableFuture<>();
+        final CompletableFuture<Integer> cf2 = new CompletableFuture<>();
+        final CompletableFuture<Integer> cf3 = new CompletableFuture<>();
+        final List<CompletableFuture<Integer>> ordered = completionOrder(cf1, cf2, cf3);
+        assertEquals(3, ordered.size());
+        assertThrowsExactly(UnsupportedOperationException.class, () -> ordered.set(0, cf1));
+        ordered.forEach(cf -> assertFalse(cf.isDone()));
+
+        cf3.complete(n + 3);
+        assertEquals(n + 3, ordered.get(0).get());
+        assertFalse(ordered.get(1).isDone());
+
+        cf1.completeExceptionally(rte);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () -> ordered.get(1).get()).getCause());
+        assertFalse(ordered.get(2).isDone());
+
+        cf2.complete(n + 2);
+        assertEquals(n + 2, ordered.get(2).get());
+
+        // blocking stream consuming
+        final List<CompletableFuture<Integer>> cfs = IntStream.range(0, 100).mapToObj(i ->
+                CompletableFuture.supplyAsync(() -> {
+                    sleep(100 - i);
+                    return i;
+                }, executorService)).collect(Collectors.toList());
+        final List<Integer> results = completionOrder(cfs).stream().map(CompletableFuture::join).collect(Collectors.toList());
+        assertEquals(IntStream.range(0, 100).boxed().collect(Collectors.toSet()), new HashSet<>(results));
+
+        assertTrue(completionOrder().isEmpty());
+        assertEquals("cf2 is null", assertThrowsExactly(NullPointerException.class, () ->
+                completionOrder(cf1, null)).getMessage());
+    }
+
+    @Test
+    void test_forEachInCompletionOrder() throws Exception {
+        final CompletableFuture<Integer> cf1 = new CompletableFuture<>();
+        final CompletableFuture<Integer> cf2 = new CompletableFuture<>();
+        final CompletableFuture<Integer> cf3 = new CompletableFuture<>();
+        final List<Object> delivered = new ArrayList<>();
+        final CompletableFuture<Void> done = forEachInCompletionOrder((r, ex) -> delivered.add(ex == null ? r : ex), cf1, cf2, cf3);
+
+        cf2.complete(n);
+        assertEquals(Collections.singletonList(n), delivered);
+        cf3.completeExceptionally(rte);
+        assertEquals(Arrays.asList(n, rte), delivered);
+        assertFalse(done.isDone());
+        cf1.complete(anotherN);
+        assertNull(done.get());
+        assertEquals(Arrays.asList(n, rte, anotherN), delivered);
+
+        // the action invocations are serialized, and the long chain of already completed inputs is fine
+        final List<CompletableFuture<Integer>> cfs = IntStream.range(0, 100_000)
+                .mapToObj(CompletableFuture::completedFuture).collect(Collectors.toList());
+        final int[] sum = {0};
+        forEachInCompletionOrder((r, ex) -> sum[0] += r, cfs).get();
+        assertEquals(IntStream.range(0, 100_000).sum(), sum[0]);
+
+        final List<CompletableFuture<Integer>> incompleteCfs = IntStream.range(0, 100_000)
+                .mapToObj(i -> new CompletableFuture<Integer>()).collect(Collectors.toList());
+        final int[] count = {0};
+        final CompletableFuture<Void> countDone = forEachInCompletionOrder((r, ex) -> count[0]++, incompleteCfs);
+        incompleteCfs.forEach(cf -> cf.complete(n));
+        assertNull(countDone.get());
+        assertEquals(100_000, count[0]);
+
+        // the action throws
+        final List<Integer> seen = new ArrayList<>();
+        final CompletableFuture<Void> failed = forEachInCompletionOrder((r, ex) -> {
+            seen.add(r);
+            if (r == n) throw rte;
+        }, completedFuture(n), completedFuture(anotherN));
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, failed::get).getCause());
+        assertEquals(Collections.singletonList(n), seen);
+
+        assertNull(forEachInCompletionOrder((r, ex) -> fail()).get());
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////
     // region## allTupleOf*/mostSuccessTupleOf Methods
@@ -826,6 +1784,47 @@ class CompletableFutureUtilsTest {
 
         assertEquals(Tuple5.of(n, s, d, anotherN, n + n), allTupleOf(cf_n, cf_s, cf_d, cf_an, cf_nn).get());
         assertEquals(Tuple5.of(n, s, d, anotherN, n + n), allTupleFastFailOf(cf_n, cf_s, cf_d, cf_an, cf_nn).get());
+
+        assertEquals(Tuple6.of(n, s, d, anotherN, n + n, s), allTupleOf(cf_n, cf_s, cf_d, cf_an, cf_nn, cf_s).get());
+        assertEquals(Tuple6.of(n, s, d, anotherN, n + n, s), allTupleFastFailOf(cf_n, cf_s, cf_d, cf_an, cf_nn, cf_s).get());
+
+        assertEquals(Tuple7.of(n, s, d, anotherN, n + n, s, d),
+                allTupleOf(cf_n, cf_s, cf_d, cf_an, cf_nn, cf_s, cf_d).get());
+        assertEquals(Tuple7.of(n, s, d, anotherN, n + n, s, d),
+                allSuccessTupleOf(cf_n, cf_s, cf_d, cf_an, cf_nn, cf_s, cf_d).get());
+
+        assertEquals(Tuple8.of(n, s, d, anotherN, n + n, s, d, n),
+                allTupleOf(cf_n, cf_s, cf_d, cf_an, cf_nn, cf_s, cf_d, cf_n).get());
+        assertEquals(Tuple8.of(n, s, d, anotherN, n + n, s, d, n),
+                mostSuccessTupleOf(10, TimeUnit.MILLISECONDS, cf_n, cf_s, cf_d, cf_an, cf_nn, cf_s, cf_d, cf_n).get());
+        // not completed inputs, not the pre-completed fast path
+        final CompletableFuture<Integer> incomplete = new CompletableFuture<>();
+        final CompletableFuture<Tuple8<Integer, String, Double, Integer, Integer, String, Double, Integer>> tuple8 =
+                allTupleFastFailOf(cf_n, cf_s, cf_d, cf_an, cf_nn, cf_s, cf_d, incomplete);
+        assertFalse(tuple8.isDone());
+        incomplete.complete(anotherN);
+        assertEquals(Tuple8.of(n, s, d, anotherN, n + n, s, d, anotherN), tuple8.get());
+
+        assertEquals(Tuple6.of(n, s, d, anotherN, n + n, s), tupleMSupplyAsync(
+                () -> n, () -> s, () -> d, () -> anotherN, () -> n + n, () -> s).get());
+        assertEquals(Tuple7.of(n, s, d, anotherN, n + n, s, d), tupleMSupplyFastFailAsync(
+                () -> n, () -> s, () -> d, () -> anotherN, () -> n + n, () -> s, () -> d).get());
+        assertEquals(Tuple8.of(n, s, d, anotherN, n + n, s, d, null), tupleMSupplyMostSuccessAsync(
+                1, TimeUnit.SECONDS, () -> n, () -> s, () -> d, () -> anotherN, () -> n + n, () -> s, () -> d,
+                () -> {
+                    throw rte;
+                }).get());
+        assertEquals(Tuple8.of(n, s, d, anotherN, n + n, s, d, null), tupleMSupplyAllSuccessAsync(
+                () -> n, () -> s, () -> d, () -> anotherN, () -> n + n, () -> s, () -> d,
+                () -> {
+                    throw rte;
+                }).get());
+        assertEquals(Tuple6.of(n, n + 1, n + 2, n + 3, n + 4, n + 5), thenTupleMApplyAsync(cf_n,
+                x -> x, x -> x + 1, x -> x + 2, x -> x + 3, x -> x + 4, x -> x + 5).get());
+
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, () ->
+                allTupleOf(cf_n, cf_s, cf_d, cf_an, cf_nn, cf_s, failedFuture(rte), cf_n).get()
+        ).getCause());
     }
 
     @Test
@@ -996,6 +1995,9 @@ class CompletableFutureUtilsTest {
                 thenMApplyMostSuccessAsync(completed, anotherN, executorService, 500, TimeUnit.MILLISECONDS, supplier, supplier),
                 thenMApplyAsync(completed, supplier, supplier),
                 thenMApplyAsync(completed, executorService, supplier, supplier),
+                thenMApplyChunkedAsync(completed, supplier, supplier),
+                thenMApplyChunkedAsync(completed, executorService, supplier, supplier),
+                thenMApplyChunkedAsync(completed, executorService, 2, supplier, supplier),
         };
 
         assertTrue(System.currentTimeMillis() - tick < 50);
@@ -1409,6 +2411,51 @@ class CompletableFutureUtilsTest {
         ).getCause());
     }
 
+    @Test
+    void test_bothAndEither_incompleteInputs() throws Exception {
+        // the inputs complete after listened, in the reverse order
+        CompletableFuture<Integer> cf1 = new CompletableFuture<>();
+        CompletableFuture<Integer> cf2 = new CompletableFuture<>();
+        CompletableFuture<Integer> combined = thenCombineFastFail(cf1, cf2, Integer::sum);
+        cf2.complete(anotherN);
+        assertFalse(combined.isDone());
+        cf1.complete(n);
+        assertEquals(n + anotherN, combined.get());
+
+        cf1 = new CompletableFuture<>();
+        cf2 = new CompletableFuture<>();
+        combined = thenCombineFastFail(cf1, cf2, Integer::sum);
+        cf2.completeExceptionally(rte);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, combined::get).getCause());
+        cf1.complete(n);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, combined::get).getCause());
+
+        // the null results are kept
+        assertNull(thenCombineFastFail(completedFuture(null), completedFuture(null), (a, b) -> a).get());
+
+        cf1 = new CompletableFuture<>();
+        cf2 = new CompletableFuture<>();
+        CompletableFuture<Integer> either = applyToEitherSuccess(cf1, cf2, identity());
+        cf1.completeExceptionally(rte);
+        assertFalse(either.isDone());
+        cf2.complete(anotherN);
+        assertEquals(anotherN, either.get());
+
+        // both failed, the exception of the first given input is used even if it fails later
+        cf1 = new CompletableFuture<>();
+        cf2 = new CompletableFuture<>();
+        either = applyToEitherSuccess(cf1, cf2, identity());
+        cf2.completeExceptionally(anotherRte);
+        assertFalse(either.isDone());
+        cf1.completeExceptionally(rte);
+        assertSame(rte, assertThrowsExactly(ExecutionException.class, either::get).getCause());
+
+        // the minimal-stage input is listened, and the result keeps the minimal-stage type of cfThis
+        final CompletableFuture<Integer> minStage = (CompletableFuture<Integer>) completedFuture(n).minimalCompletionStage();
+        assertEquals(n + anotherN, thenCombineFastFail(completedFuture(n), minStage, (a, b) -> a + anotherN).get());
+        assertTrue(isMinStageCf(applyToEitherSuccess(minStage, new CompletableFuture<>(), identity())));
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////
     // region## Error Handling Methods of CompletionStage
@@ -1521,6 +2568,124 @@ class CompletableFutureUtilsTest {
         ).collect(Collectors.toList()).stream().map(CompletableFuture::join).collect(Collectors.toList()));
     }
 
+    @Test
+    void test_hashedWheelTimer() throws Exception {
+        final HashedWheelTimer timer = HashedWheelTimer.shared();
+        assertSame(timer, HashedWheelTimer.shared());
+
+        // the timeouts fire in the wheel thread, the safe variants hop to the executor
+        assertTrue(orTimeout(timer, createIncompleteFuture(), 100, TimeUnit.MILLISECONDS).handle((v, ex) -> {
+            assertInstanceOf(TimeoutException.class, ex);
+            assertEquals(HashedWheelTimer.THREAD_NAME, currentThread().getName());
+            return Delayer.atCfDelayerThread();
+        }).get());
+        assertTrue(cffuOrTimeout(timer, createIncompleteFuture(), executorService, 100, TimeUnit.MILLISECONDS).handle((v, ex) -> {
+            assertInstanceOf(TimeoutException.class, ex);
+            return TestThreadPoolManager.isRunInExecutor(executorService);
+        }).get());
+        assertEquals(n, completeOnTimeout(timer, createIncompleteFuture(), n, 1, TimeUnit.MILLISECONDS).get());
+        assertEquals(n, cffuCompleteOnTimeout(timer, createIncompleteFuture(), n, executorService, 1, TimeUnit.MILLISECONDS).get());
+        assertEquals(n, cffuCompleteOnTimeout(timer, completedFuture(n), anotherN, executorService, 1, TimeUnit.MILLISECONDS).get());
+
+        // the tasks run in the deadline order, across the rounds of the wheel
+        final HashedWheelTimer smallWheel = new HashedWheelTimer(TimeUnit.MILLISECONDS.toNanos(1), 4);
+        final List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+        final CountDownLatch latch = new CountDownLatch(3);
+        smallWheel.schedule(() -> { order.add(2); latch.countDown(); }, 30, TimeUnit.MILLISECONDS);
+        smallWheel.schedule(() -> { order.add(1); latch.countDown(); }, 10, TimeUnit.MILLISECONDS);
+        smallWheel.schedule(() -> { order.add(0); latch.countDown(); }, -1, TimeUnit.MILLISECONDS);
+        assertTrue(latch.await(1, TimeUnit.SECONDS));
+        assertEquals(Arrays.asList(0, 1, 2), order);
+
+        // the worker thread parks when no task is pending, and is woken up by the next schedule
+        final AtomicReference<Thread> wheelThread = new AtomicReference<>();
+        final CompletableFuture<Boolean> atTimerThread = new CompletableFuture<>();
+        smallWheel.schedule(() -> {
+            wheelThread.set(currentThread());
+            atTimerThread.complete(smallWheel.atTimerThread() && !timer.atTimerThread());
+        }, 1, TimeUnit.MILLISECONDS);
+        assertTrue(atTimerThread.get());
+        assertInstanceOf(HashedWheelTimer.WheelThread.class, wheelThread.get());
+        final long parkDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (wheelThread.get().getState() != Thread.State.WAITING) {
+            assertTrue(System.nanoTime() < parkDeadline, "wheel thread not parked: " + wheelThread.get().getState());
+            sleep(1);
+        }
+        sleep(20);
+        final CompletableFuture<Integer> afterIdle = new CompletableFuture<>();
+        smallWheel.schedule(() -> afterIdle.complete(n), 10, TimeUnit.MILLISECONDS);
+        assertEquals(n, afterIdle.get(1, TimeUnit.SECONDS));
+
+        // the cancelled task never runs
+        final AtomicInteger ran = new AtomicInteger();
+        final Future<?> cancelled = timer.schedule(ran::incrementAndGet, 10, TimeUnit.MILLISECONDS);
+        assertTrue(cancelled.cancel(false));
+        assertTrue(cancelled.isCancelled());
+        assertTrue(cancelled.isDone());
+        assertFalse(cancelled.cancel(false));
+        assertThrowsExactly(CancellationException.class, cancelled::get);
+        final Future<?> expired = timer.schedule(ran::incrementAndGet, 20, TimeUnit.MILLISECONDS);
+        assertThrowsExactly(TimeoutException.class, () -> expired.get(1, TimeUnit.MILLISECONDS));
+        assertNull(expired.get());
+        assertFalse(expired.cancel(false));
+        assertEquals(1, ran.get());
+
+        // the delayed executor and the hedge timers
+        final long start = System.nanoTime();
+        assertEquals(n, CompletableFuture.supplyAsync(() -> n,
+                delayedExecutor(timer, 10, TimeUnit.MILLISECONDS, executorService)).get());
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(10));
+        final CompletableFuture<Integer> blocker = new CompletableFuture<>();
+        final AtomicInteger attempts = new AtomicInteger();
+        assertEquals(n, hedgedSupplyAsync(timer, () -> attempts.incrementAndGet() == 1 ? blocker.join() : n,
+                1, TimeUnit.MILLISECONDS, 1, executorService).get());
+        blocker.complete(anotherN);
+    }
+
+    @Test
+    void test_cffuOrTimeout_hopToExecutor() throws Exception {
+        // hop to the executor directly when the timeout fires in the delayer thread;
+        // the timeout is long enough to register the handle before fired, otherwise the handle runs in the caller thread
+        assertTrue(cffuOrTimeout(createIncompleteFuture(), executorService, 50, TimeUnit.MILLISECONDS).handle((v, ex) -> {
+            assertInstanceOf(TimeoutException.class, ex);
+            return TestThreadPoolManager.isRunInExecutor(executorService);
+        }).get());
+        // complete in the delayer thread if the executor rejects the hop, instead of leaving the result incomplete
+        final Executor rejecting = r -> {
+            throw new RejectedExecutionException();
+        };
+        assertInstanceOf(TimeoutException.class, assertThrowsExactly(ExecutionException.class, () ->
+                cffuOrTimeout(createIncompleteFuture(), rejecting, 1, TimeUnit.MILLISECONDS).get()
+        ).getCause());
+        // no hop when not completed in the delayer thread
+        assertEquals(n, cffuOrTimeout(completedFuture(n), rejecting, 1, TimeUnit.MILLISECONDS).get());
+    }
+
+    @Test
+    void test_shardedDelayer() throws Exception {
+        assertEquals(1, Delayer.shardCountOf(null));
+        assertEquals(4, Delayer.shardCountOf(" 4 "));
+        assertEquals(1, Delayer.shardCountOf("0"));
+        assertEquals(1, Delayer.shardCountOf("not a number"));
+
+        // the threads of all shards are detected as the delayer threads
+        final ScheduledThreadPoolExecutor[] delayers = Delayer.newDelayers(3);
+        try {
+            final Set<String> names = new HashSet<>();
+            for (ScheduledThreadPoolExecutor delayer : delayers) {
+                assertTrue(delayer.schedule(Delayer::atCfDelayerThread, 1, TimeUnit.MILLISECONDS).get());
+                names.add(delayer.schedule(() -> currentThread().getName(), 0, TimeUnit.MILLISECONDS).get());
+            }
+            assertEquals(3, names.size());
+        } finally {
+            for (ScheduledThreadPoolExecutor delayer : delayers) delayer.shutdown();
+        }
+        assertFalse(Delayer.atCfDelayerThread());
+
+        // the long delay so the cancel always wins the race against the task
+        assertTrue(Delayer.delay(() -> {}, 1, TimeUnit.DAYS).cancel(false));
+    }
+
     // endregion
     ////////////////////////////////////////////////////////////
     // region## Advanced Methods of CompletionStage(compose* and handle-like methods)
@@ -1687,6 +2852,54 @@ class CompletableFutureUtilsTest {
         assertEquals(n, join(later, 3, TimeUnit.SECONDS));
     }
 
+    @Test
+    void test_timedJoin_waitsInCallerThread() throws Exception {
+        // the input completed during the wait, the same exceptions as join
+        final CompletableFuture<Integer> failLater = createIncompleteFuture();
+        delayedExecutor(10, TimeUnit.MILLISECONDS).execute(() -> failLater.completeExceptionally(rte));
+        assertSame(rte, assertThrowsExactly(CompletionException.class, () ->
+                join(failLater, 1, TimeUnit.SECONDS)
+        ).getCause());
+        final CompletionException ce = new CompletionException(rte);
+        final CompletableFuture<Integer> failLaterWithCe = createIncompleteFuture();
+        delayedExecutor(10, TimeUnit.MILLISECONDS).execute(() -> failLaterWithCe.completeExceptionally(ce));
+        assertSame(ce, assertThrowsExactly(CompletionException.class, () ->
+                join(failLaterWithCe, 1, TimeUnit.SECONDS)
+        ));
+        final CompletableFuture<Integer> cancelLater = createIncompleteFuture();
+        delayedExecutor(10, TimeUnit.MILLISECONDS).execute(() -> cancelLater.cancel(false));
+        assertThrowsExactly(CancellationException.class, () -> join(cancelLater, 1, TimeUnit.SECONDS));
+
+        // the timeout does not write the input, and no dependent is registered on the input
+        final CompletableFuture<Integer> incomplete = createIncompleteFuture();
+        assertInstanceOf(TimeoutException.class, assertThrowsExactly(CompletionException.class, () ->
+                join(incomplete, 1, TimeUnit.MILLISECONDS)
+        ).getCause());
+        assertFalse(incomplete.isDone());
+        assertEquals(0, incomplete.getNumberOfDependents());
+
+        // the wait is not interruptible, and the interrupt status is kept
+        final CompletableFuture<Integer> completeLater = createIncompleteFuture();
+        delayedExecutor(50, TimeUnit.MILLISECONDS).execute(() -> completeLater.complete(n));
+        final Thread caller = currentThread();
+        delayedExecutor(10, TimeUnit.MILLISECONDS).execute(caller::interrupt);
+        try {
+            assertEquals(n, join(completeLater, 1, TimeUnit.SECONDS));
+            assertTrue(currentThread().isInterrupted());
+        } finally {
+            // clear the interrupt status
+            assertTrue(Thread.interrupted());
+        }
+        currentThread().interrupt();
+        try {
+            assertInstanceOf(TimeoutException.class, assertThrowsExactly(CompletionException.class, () ->
+                    join(incomplete, 10, TimeUnit.MILLISECONDS)
+            ).getCause());
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+    }
+
     @Test
     void test_write() throws Exception {
         assertEquals(n, completeAsync(createIncompleteFuture(), () -> n).get());
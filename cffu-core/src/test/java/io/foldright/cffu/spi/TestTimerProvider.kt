@@ -0,0 +1,35 @@
+package io.foldright.cffu.spi
+
+import java.util.concurrent.Future
+import java.util.concurrent.ScheduledThreadPoolExecutor
+import java.util.concurrent.TimeUnit
+
+
+class TestTimerProvider : TimerProvider {
+    override fun timer(): DelayTimer? = if (isTestTimerEnabled()) testTimer else null
+}
+
+const val TEST_TIMER_THREAD_NAME = "CffuTestTimer"
+
+object testTimer : DelayTimer {
+    private val scheduler = ScheduledThreadPoolExecutor(1) { r ->
+        Thread(r, TEST_TIMER_THREAD_NAME).apply { isDaemon = true }
+    }.apply { removeOnCancelPolicy = true }
+
+    override fun schedule(task: Runnable, delay: Long, unit: TimeUnit): Future<*> =
+        scheduler.schedule(task, delay, unit)
+
+    override fun atTimerThread(): Boolean = TEST_TIMER_THREAD_NAME == Thread.currentThread().name
+}
+
+private const val PROPERTY_NAME = "cffu.test.timer"
+
+fun enableTestTimer() {
+    System.setProperty(PROPERTY_NAME, "true")
+}
+
+fun disableTestTimer() {
+    System.clearProperty(PROPERTY_NAME)
+}
+
+private fun isTestTimerEnabled(): Boolean = "true" == System.getProperty(PROPERTY_NAME)
@@ -0,0 +1,57 @@
+package io.foldright.cffu.spi
+
+import io.foldright.cffu.CffuFactory
+import io.foldright.test_utils.testThreadPoolExecutor
+import io.kotest.assertions.throwables.shouldThrow
+import io.kotest.core.spec.style.FunSpec
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.kotest.matchers.types.shouldBeInstanceOf
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import java.util.concurrent.CompletionException
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.TimeoutException
+
+class TimerProviderTest : FunSpec({
+    test("disable TestTimerProvider") {
+        val factory = CffuFactory.builder(testThreadPoolExecutor).build()
+        factory.timer().shouldBeNull()
+    }
+
+    test("enable TestTimerProvider") {
+        enableTestTimer()
+
+        val factory = CffuFactory.builder(testThreadPoolExecutor).build()
+        factory.timer().shouldBeSameInstanceAs(testTimer)
+
+        val threadName = factory.newIncompleteCffu<Int>()
+            .orTimeout(10, TimeUnit.MILLISECONDS)
+            .handle { _, ex ->
+                ex.shouldBeInstanceOf<TimeoutException>()
+                Thread.currentThread().name
+            }.join()
+        // the safe orTimeout hops the subsequent actions off the timer thread
+        threadName shouldNotBe TEST_TIMER_THREAD_NAME
+
+        shouldThrow<CompletionException> {
+            factory.newIncompleteCffu<Int>().unsafeOrTimeout(10, TimeUnit.MILLISECONDS).join()
+        }.cause.shouldBeInstanceOf<TimeoutException>()
+    }
+
+    test("the timer set by builder takes precedence over TimerProvider") {
+        enableTestTimer()
+
+        val timer = DelayTimer { _, _, _ -> throw UnsupportedOperationException() }
+        CffuFactory.builder(testThreadPoolExecutor).timer(timer).build().timer().shouldBeSameInstanceAs(timer)
+        CffuFactory.builder(testThreadPoolExecutor).timer(null).build().timer() shouldBe testTimer
+    }
+
+    beforeTest {
+        disableTestTimer()
+    }
+
+    afterTest {
+        disableTestTimer()
+    }
+})
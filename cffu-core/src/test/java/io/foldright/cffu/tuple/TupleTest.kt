@@ -83,4 +83,28 @@ class TupleTest : FunSpec({
         mapOf(tuple5 to value, pair2)[tuple5] shouldBe value
         tuple5.toString() shouldBe "Tuple5(1, 2, 3.14, 4, 5)"
     }
+
+    test("tuple 6 ~ 8") {
+        val tuple6 = Tuple6.of(e1, e2, e3, e4, e5, e1)
+        tuple6._6 shouldBe e1
+        tuple6 shouldBe Tuple6.of(e1, e2, e3, e4, e5, e1)
+        tuple6 shouldNotBe Tuple6.of(e1, e2, e3, e4, e5, e4)
+        mapOf(tuple6 to value, pair2)[tuple6] shouldBe value
+        tuple6.toString() shouldBe "Tuple6(1, 2, 3.14, 4, 5, 1)"
+
+        val tuple7 = Tuple7.of(e1, e2, e3, e4, e5, e1, e2)
+        tuple7._7 shouldBe e2
+        tuple7 shouldBe Tuple7.of(e1, e2, e3, e4, e5, e1, e2)
+        tuple7 shouldNotBe Tuple7.of(e1, e2, e3, e4, e5, e1, e2 + "X")
+        tuple7.toString() shouldBe "Tuple7(1, 2, 3.14, 4, 5, 1, 2)"
+
+        val tuple8 = Tuple8.of(e1, e2, e3, e4, e5, e1, e2, e3)
+        tuple8._1 shouldBe e1
+        tuple8._8 shouldBe e3
+        tuple8 shouldBe Tuple8.of(e1, e2, e3, e4, e5, e1, e2, e3)
+        tuple8 shouldNotBe Tuple8.of(e1, e2, e3, e4, e5, e1, e2, e3 + 1.0)
+        tuple8 shouldNotBe null
+        tuple8.hashCode() shouldBe Tuple8.of(e1, e2, e3, e4, e5, e1, e2, e3).hashCode()
+        tuple8.toString() shouldBe "Tuple8(1, 2, 3.14, 4, 5, 1, 2, 3.14)"
+    }
 })
@@ -82,7 +82,7 @@ private const val ERROR_MSG_FOR_ARRAY = "no cffuFactory argument provided when t
 fun <T> Collection<Cffu<out T>>.allResultsFastFailOfCffu(cffuFactory: CffuFactory = ABSENT): Cffu<List<T>> {
     val factory: CffuFactory = if (cffuFactory !== ABSENT) cffuFactory
     else firstOrNull()?.cffuFactory() ?: throw IllegalArgumentException(ERROR_MSG_FOR_COLL)
-    return factory.allResultsFastFailOf(*toTypedArray())
+    return factory.allResultsFastFailOf(this)
 }
 
 /**
@@ -126,7 +126,7 @@ fun <T> Array<out Cffu<out T>>.allResultsFastFailOfCffu(cffuFactory: CffuFactory
  */
 @JvmName("allResultsFastFailOfCffuCs")
 fun <T> Collection<CompletionStage<out T>>.allResultsFastFailOfCffu(cffuFactory: CffuFactory): Cffu<List<T>> =
-    cffuFactory.allResultsFastFailOf(*toTypedArray())
+    cffuFactory.allResultsFastFailOf(this)
 
 /**
  * Returns a new Cffu with the results in the **same order** of the given stages arguments,
@@ -164,7 +164,7 @@ fun <T> Collection<Cffu<out T>>.mostSuccessResultsOfCffu(
 ): Cffu<List<T>> {
     val factory: CffuFactory = if (cffuFactory !== ABSENT) cffuFactory
     else firstOrNull()?.cffuFactory() ?: throw IllegalArgumentException(ERROR_MSG_FOR_COLL)
-    return factory.mostSuccessResultsOf(valueIfNotSuccess, timeout, unit, *toTypedArray())
+    return factory.mostSuccessResultsOf(valueIfNotSuccess, timeout, unit, this)
 }
 
 /**
@@ -205,7 +205,7 @@ fun <T> Array<out Cffu<out T>>.mostSuccessResultsOfCffu(
 fun <T> Collection<CompletionStage<out T>>.mostSuccessResultsOfCffu(
     valueIfNotSuccess: T, timeout: Long, unit: TimeUnit, cffuFactory: CffuFactory
 ): Cffu<List<T>> =
-    cffuFactory.mostSuccessResultsOf(valueIfNotSuccess, timeout, unit, *toTypedArray())
+    cffuFactory.mostSuccessResultsOf(valueIfNotSuccess, timeout, unit, this)
 
 /**
  * Returns a new Cffu with the most results in the **same order** of
@@ -246,7 +246,7 @@ fun <T> Array<out CompletionStage<out T>>.mostSuccessResultsOfCffu(
 fun <T> Collection<Cffu<out T>>.allResultsOfCffu(cffuFactory: CffuFactory = ABSENT): Cffu<List<T>> {
     val factory: CffuFactory = if (cffuFactory !== ABSENT) cffuFactory
     else firstOrNull()?.cffuFactory() ?: throw IllegalArgumentException(ERROR_MSG_FOR_COLL)
-    return factory.allResultsOf(*toTypedArray())
+    return factory.allResultsOf(this)
 }
 
 /**
@@ -288,7 +288,7 @@ fun <T> Array<out Cffu<out T>>.allResultsOfCffu(cffuFactory: CffuFactory = ABSEN
  */
 @JvmName("allResultsOfCffuCs")
 fun <T> Collection<CompletionStage<out T>>.allResultsOfCffu(cffuFactory: CffuFactory): Cffu<List<T>> =
-    cffuFactory.allResultsOf(*toTypedArray())
+    cffuFactory.allResultsOf(this)
 
 /**
  * Returns a new Cffu with the results in the **same order** of the given stages arguments,
@@ -327,7 +327,7 @@ fun <T> Array<out CompletionStage<out T>>.allResultsOfCffu(cffuFactory: CffuFact
 fun Collection<Cffu<*>>.allFastFailOfCffu(cffuFactory: CffuFactory = ABSENT): Cffu<Void> {
     val factory: CffuFactory = if (cffuFactory !== ABSENT) cffuFactory
     else firstOrNull()?.cffuFactory() ?: throw IllegalArgumentException(ERROR_MSG_FOR_COLL)
-    return factory.allFastFailOf(*toTypedArray())
+    return factory.allFastFailOf(this)
 }
 
 /**
@@ -369,7 +369,7 @@ fun Array<out Cffu<*>>.allFastFailOfCffu(cffuFactory: CffuFactory = ABSENT): Cff
  */
 @JvmName("allFastFailOfCffuCs")
 fun Collection<CompletionStage<*>>.allFastFailOfCffu(cffuFactory: CffuFactory): Cffu<Void> =
-    cffuFactory.allFastFailOf(*toTypedArray())
+    cffuFactory.allFastFailOf(this)
 
 /**
  * Returns a new Cffu that is successful when all the given stages success,
@@ -407,7 +407,7 @@ fun Array<out CompletionStage<*>>.allFastFailOfCffu(cffuFactory: CffuFactory): C
 fun Collection<Cffu<*>>.allOfCffu(cffuFactory: CffuFactory = ABSENT): Cffu<Void> {
     val factory: CffuFactory = if (cffuFactory !== ABSENT) cffuFactory
     else firstOrNull()?.cffuFactory() ?: throw IllegalArgumentException(ERROR_MSG_FOR_COLL)
-    return factory.allOf(*toTypedArray())
+    return factory.allOf(this)
 }
 
 /**
@@ -448,7 +448,7 @@ fun Array<out Cffu<*>>.allOfCffu(cffuFactory: CffuFactory = ABSENT): Cffu<Void>
  */
 @JvmName("allOfCffuCs")
 fun Collection<CompletionStage<*>>.allOfCffu(cffuFactory: CffuFactory): Cffu<Void> =
-    cffuFactory.allOf(*toTypedArray())
+    cffuFactory.allOf(this)
 
 /**
  * Returns a new Cffu that is completed when all the given stages complete.
@@ -490,7 +490,7 @@ fun Array<out CompletionStage<*>>.allOfCffu(cffuFactory: CffuFactory): Cffu<Void
 fun <T> Collection<Cffu<out T>>.anySuccessOfCffu(cffuFactory: CffuFactory = ABSENT): Cffu<T> {
     val factory: CffuFactory = if (cffuFactory !== ABSENT) cffuFactory
     else firstOrNull()?.cffuFactory() ?: throw IllegalArgumentException(ERROR_MSG_FOR_COLL)
-    return factory.anySuccessOf(*toTypedArray())
+    return factory.anySuccessOf(this)
 }
 
 /**
@@ -530,7 +530,7 @@ fun <T> Array<out Cffu<out T>>.anySuccessOfCffu(cffuFactory: CffuFactory = ABSEN
  */
 @JvmName("anySuccessOfCffuCs")
 fun <T> Collection<CompletionStage<out T>>.anySuccessOfCffu(cffuFactory: CffuFactory): Cffu<T> =
-    cffuFactory.anySuccessOf(*toTypedArray())
+    cffuFactory.anySuccessOf(this)
 
 /**
  * Returns a new Cffu that is successful when any of the given stages success,
@@ -561,7 +561,7 @@ fun <T> Array<out CompletionStage<out T>>.anySuccessOfCffu(cffuFactory: CffuFact
 fun <T> Collection<Cffu<out T>>.anyOfCffu(cffuFactory: CffuFactory = ABSENT): Cffu<T> {
     val factory: CffuFactory = if (cffuFactory !== ABSENT) cffuFactory
     else firstOrNull()?.cffuFactory() ?: throw IllegalArgumentException(ERROR_MSG_FOR_COLL)
-    return factory.anyOf(*toTypedArray())
+    return factory.anyOf(this)
 }
 
 /**
@@ -589,7 +589,7 @@ fun <T> Array<out Cffu<out T>>.anyOfCffu(cffuFactory: CffuFactory = ABSENT): Cff
  */
 @JvmName("anyOfCffuCs")
 fun <T> Collection<CompletionStage<out T>>.anyOfCffu(cffuFactory: CffuFactory): Cffu<T> =
-    cffuFactory.anyOf(*toTypedArray())
+    cffuFactory.anyOf(this)
 
 /**
  * Returns a new Cffu that is completed when any of the given stages complete, with the same result.
@@ -4,6 +4,9 @@ import io.foldright.cffu.tuple.Tuple2
 import io.foldright.cffu.tuple.Tuple3
 import io.foldright.cffu.tuple.Tuple4
 import io.foldright.cffu.tuple.Tuple5
+import io.foldright.cffu.tuple.Tuple6
+import io.foldright.cffu.tuple.Tuple7
+import io.foldright.cffu.tuple.Tuple8
 
 
 /*
@@ -29,3 +32,27 @@ operator fun <T2> Tuple5<*, T2, *, *, *>.component2(): T2 = _2
 operator fun <T3> Tuple5<*, *, T3, *, *>.component3(): T3 = _3
 operator fun <T4> Tuple5<*, *, *, T4, *>.component4(): T4 = _4
 operator fun <T5> Tuple5<*, *, *, *, T5>.component5(): T5 = _5
+
+operator fun <T1> Tuple6<T1, *, *, *, *, *>.component1(): T1 = _1
+operator fun <T2> Tuple6<*, T2, *, *, *, *>.component2(): T2 = _2
+operator fun <T3> Tuple6<*, *, T3, *, *, *>.component3(): T3 = _3
+operator fun <T4> Tuple6<*, *, *, T4, *, *>.component4(): T4 = _4
+operator fun <T5> Tuple6<*, *, *, *, T5, *>.component5(): T5 = _5
+operator fun <T6> Tuple6<*, *, *, *, *, T6>.component6(): T6 = _6
+
+operator fun <T1> Tuple7<T1, *, *, *, *, *, *>.component1(): T1 = _1
+operator fun <T2> Tuple7<*, T2, *, *, *, *, *>.component2(): T2 = _2
+operator fun <T3> Tuple7<*, *, T3, *, *, *, *>.component3(): T3 = _3
+operator fun <T4> Tuple7<*, *, *, T4, *, *, *>.component4(): T4 = _4
+operator fun <T5> Tuple7<*, *, *, *, T5, *, *>.component5(): T5 = _5
+operator fun <T6> Tuple7<*, *, *, *, *, T6, *>.component6(): T6 = _6
+operator fun <T7> Tuple7<*, *, *, *, *, *, T7>.component7(): T7 = _7
+
+operator fun <T1> Tuple8<T1, *, *, *, *, *, *, *>.component1(): T1 = _1
+operator fun <T2> Tuple8<*, T2, *, *, *, *, *, *>.component2(): T2 = _2
+operator fun <T3> Tuple8<*, *, T3, *, *, *, *, *>.component3(): T3 = _3
+operator fun <T4> Tuple8<*, *, *, T4, *, *, *, *>.component4(): T4 = _4
+operator fun <T5> Tuple8<*, *, *, *, T5, *, *, *>.component5(): T5 = _5
+operator fun <T6> Tuple8<*, *, *, *, *, T6, *, *>.component6(): T6 = _6
+operator fun <T7> Tuple8<*, *, *, *, *, *, T7, *>.component7(): T7 = _7
+operator fun <T8> Tuple8<*, *, *, *, *, *, *, T8>.component8(): T8 = _8
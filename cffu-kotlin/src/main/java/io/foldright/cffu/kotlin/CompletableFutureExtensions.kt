@@ -40,7 +40,7 @@ import java.util.function.Function
  * @see allFastFailOfCompletableFuture
  */
 fun <T> Collection<CompletionStage<out T>>.allResultsFastFailOfCompletableFuture(): CompletableFuture<List<T>> =
-    CompletableFutureUtils.allResultsFastFailOf(*toTypedArray())
+    CompletableFutureUtils.allResultsFastFailOf(this)
 
 /**
  * Returns a new CompletableFuture with the results in the **same order** of all the given
@@ -75,7 +75,7 @@ fun <T> Array<out CompletionStage<out T>>.allResultsFastFailOfCompletableFuture(
 fun <T> Collection<CompletionStage<out T>>.mostSuccessResultsOfCompletableFuture(
     valueIfNotSuccess: T, timeout: Long, unit: TimeUnit
 ): CompletableFuture<List<T>> =
-    CompletableFutureUtils.mostSuccessResultsOf(valueIfNotSuccess, timeout, unit, *toTypedArray())
+    CompletableFutureUtils.mostSuccessResultsOf(valueIfNotSuccess, timeout, unit, this)
 
 /**
  * Returns a new CompletableFuture with the most results in the **same order** of
@@ -109,7 +109,7 @@ fun <T> Collection<CompletionStage<out T>>.mostSuccessResultsOfCompletableFuture
     valueIfNotSuccess: T, executorWhenTimeout: Executor, timeout: Long, unit: TimeUnit
 ): CompletableFuture<List<T>> =
     CompletableFutureUtils.mostSuccessResultsOf(
-        valueIfNotSuccess, executorWhenTimeout, timeout, unit, *toTypedArray()
+        valueIfNotSuccess, executorWhenTimeout, timeout, unit, this
     )
 
 /**
@@ -145,7 +145,7 @@ fun <T> Array<out CompletionStage<out T>>.mostSuccessResultsOfCompletableFuture(
  * @see allOfCompletableFuture
  */
 fun <T> Collection<CompletionStage<out T>>.allResultsOfCompletableFuture(): CompletableFuture<List<T>> =
-    CompletableFutureUtils.allResultsOf(*toTypedArray())
+    CompletableFutureUtils.allResultsOf(this)
 
 /**
  * Returns a new CompletableFuture with the results in the **same order** of all the given
@@ -184,7 +184,7 @@ fun <T> Array<out CompletionStage<out T>>.allResultsOfCompletableFuture(): Compl
  * @see allResultsFastFailOfCompletableFuture
  */
 fun Collection<CompletionStage<*>>.allFastFailOfCompletableFuture(): CompletableFuture<Void> =
-    CompletableFutureUtils.allFastFailOf(*toTypedArray())
+    CompletableFutureUtils.allFastFailOf(this)
 
 /**
  * Returns a new CompletableFuture that is successful when all the given CompletableFutures success,
@@ -224,7 +224,7 @@ fun Array<out CompletionStage<*>>.allFastFailOfCompletableFuture(): CompletableF
  * @see allResultsOfCompletableFuture
  */
 fun Collection<CompletionStage<*>>.allOfCompletableFuture(): CompletableFuture<Void> =
-    CompletableFutureUtils.allOf(*toTypedArray())
+    CompletableFutureUtils.allOf(this)
 
 /**
  * Returns a new CompletableFuture that is completed when all the given stages complete.
@@ -264,7 +264,7 @@ fun Array<out CompletionStage<*>>.allOfCompletableFuture(): CompletableFuture<Vo
  * @see anyOfCompletableFuture
  */
 fun <T> Collection<CompletionStage<out T>>.anySuccessOfCompletableFuture(): CompletableFuture<T> =
-    CompletableFutureUtils.anySuccessOf(*toTypedArray())
+    CompletableFutureUtils.anySuccessOf(this)
 
 /**
  * Returns a new CompletableFuture that is successful when any of the given CompletableFutures success,
@@ -294,7 +294,7 @@ fun <T> Array<out CompletionStage<out T>>.anySuccessOfCompletableFuture(): Compl
  * @see anySuccessOfCompletableFuture
  */
 fun <T> Collection<CompletionStage<out T>>.anyOfCompletableFuture(): CompletableFuture<T> =
-    CompletableFutureUtils.anyOf(*toTypedArray())
+    CompletableFutureUtils.anyOf(this)
 
 /**
  * Returns a new CompletableFuture that is completed
@@ -5,6 +5,9 @@ import io.foldright.cffu.tuple.Tuple2
 import io.foldright.cffu.tuple.Tuple3
 import io.foldright.cffu.tuple.Tuple4
 import io.foldright.cffu.tuple.Tuple5
+import io.foldright.cffu.tuple.Tuple6
+import io.foldright.cffu.tuple.Tuple7
+import io.foldright.cffu.tuple.Tuple8
 import io.kotest.core.spec.style.FunSpec
 import io.kotest.matchers.shouldBe
 
@@ -38,4 +41,37 @@ class CffuTupleExtensionsTest : FunSpec({
         i4 shouldBe 4
         s5 shouldBe "5"
     }
+
+    test("destructuring declarations, Tuple6") {
+        val (i, s, d, i4, s5, d6) = Tuple6.of(1, "2", 3.0, 4, "5", 6.0)
+        i shouldBe 1
+        s shouldBe "2"
+        d shouldBe 3.0
+        i4 shouldBe 4
+        s5 shouldBe "5"
+        d6 shouldBe 6.0
+    }
+
+    test("destructuring declarations, Tuple7") {
+        val (i, s, d, i4, s5, d6, i7) = Tuple7.of(1, "2", 3.0, 4, "5", 6.0, 7)
+        i shouldBe 1
+        s shouldBe "2"
+        d shouldBe 3.0
+        i4 shouldBe 4
+        s5 shouldBe "5"
+        d6 shouldBe 6.0
+        i7 shouldBe 7
+    }
+
+    test("destructuring declarations, Tuple8") {
+        val (i, s, d, i4, s5, d6, i7, s8) = Tuple8.of(1, "2", 3.0, 4, "5", 6.0, 7, "8")
+        i shouldBe 1
+        s shouldBe "2"
+        d shouldBe 3.0
+        i4 shouldBe 4
+        s5 shouldBe "5"
+        d6 shouldBe 6.0
+        i7 shouldBe 7
+        s8 shouldBe "8"
+    }
 })